@@ -75,6 +75,16 @@ class Assignment implements Comparable<Assignment>, Cloneable {
 		return (Date) this.date.clone();
 	}
 	
+	/**
+	 * Accessor method used to get the due date
+	 * as milliseconds since the epoch, without
+	 * copying the underlying Date.
+	 * @return long value containing the due date.
+	 */
+	long getDueTime() {
+		return this.date.getTime();
+	}
+	
 	/**
 	 * Accessor method designed to get whether the
 	 * current assignement is past due.
@@ -117,7 +127,8 @@ class Assignment implements Comparable<Assignment>, Cloneable {
 	 */
 	@Override
 	public int compareTo(Assignment obj) {
-		return this.date.compareTo(obj.getDate());
+		//compare the raw times, as getDate would copy the Date on every call
+		return Long.compare(this.date.getTime(), obj.getDueTime());
 	}
 	
 	/**
@@ -0,0 +1,276 @@
+package chapter_two.project_one;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Columnar storage of assignments sorted by due
+ * date. Due dates are kept as epoch milliseconds in
+ * a contiguous long array, with each assignment in a
+ * parallel array at the same position, so a search,
+ * count or range query by due date reads only the
+ * primitive column and touches an Assignment or Date
+ * object only for the rows it returns. Assignments
+ * with the same due date are kept in insertion order.
+ * Instances are owned by a HomeworkList.
+ * @author Noah Teshima
+ *
+ */
+class AssignmentColumns implements Iterable<Assignment> {
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private long[] dueTimes;
+	private Assignment[] rows;
+	private int size;
+
+	/**
+	 * Default constructor used to create
+	 * empty columns.
+	 */
+	AssignmentColumns() {
+		this.dueTimes = new long[AssignmentColumns.DEFAULT_CAPACITY];
+		this.rows = new Assignment[AssignmentColumns.DEFAULT_CAPACITY];
+		this.size = 0;
+	}
+
+	/**
+	 * Private method used to make room for at
+	 * least the given number of rows.
+	 * @param capacity integer value containing the
+	 * number of rows needed.
+	 */
+	private void ensureCapacity(int capacity) {
+		if(capacity > this.dueTimes.length) {
+			int length = Math.max(capacity, this.dueTimes.length * 2);
+			this.dueTimes = Arrays.copyOf(this.dueTimes, length);
+			this.rows = Arrays.copyOf(this.rows, length);
+		}
+	}
+
+	/**
+	 * Mutator method designed to add an assignment
+	 * after every row due at or before it.
+	 * @param assignment Assignment reference to add.
+	 * @return integer value containing the position
+	 * the assignment was added at.
+	 */
+	int add(Assignment assignment) {
+		long dueTime = assignment.getDueTime();
+		int position = this.upperBound(dueTime);
+		this.ensureCapacity(this.size + 1);
+		System.arraycopy(this.dueTimes, position, this.dueTimes, position + 1, this.size - position);
+		System.arraycopy(this.rows, position, this.rows, position + 1, this.size - position);
+		this.dueTimes[position] = dueTime;
+		this.rows[position] = assignment;
+		this.size++;
+		return position;
+	}
+
+	/**
+	 * Mutator method designed to merge a batch of
+	 * assignments already sorted by due date. The
+	 * columns are grown once and merged from the back,
+	 * so every row moves at most one time.
+	 * @param batch Array of assignments sorted by due
+	 * date, with equal due dates in insertion order.
+	 */
+	void addAll(Assignment[] batch) {
+		this.ensureCapacity(this.size + batch.length);
+		int existing = this.size - 1;
+		int added = batch.length - 1;
+		for(int target = this.size + batch.length - 1; added >= 0; target--) {
+			//existing rows win ties so the batch lands after them
+			if(existing >= 0 && this.dueTimes[existing] > batch[added].getDueTime()) {
+				this.dueTimes[target] = this.dueTimes[existing];
+				this.rows[target] = this.rows[existing--];
+			}else {
+				this.dueTimes[target] = batch[added].getDueTime();
+				this.rows[target] = batch[added--];
+			}
+		}
+		this.size += batch.length;
+	}
+
+	/**
+	 * Mutator method designed to remove the row
+	 * at the given position.
+	 * @param position integer value containing the
+	 * position of the row.
+	 * @return Assignment object that was removed.
+	 */
+	Assignment remove(int position) {
+		Assignment removed = this.rows[position];
+		int moved = this.size - position - 1;
+		System.arraycopy(this.dueTimes, position + 1, this.dueTimes, position, moved);
+		System.arraycopy(this.rows, position + 1, this.rows, position, moved);
+		this.rows[--this.size] = null;
+		return removed;
+	}
+
+	/**
+	 * Accessor method used to get the assignment
+	 * at the given position.
+	 * @param position integer value containing the
+	 * position of the row.
+	 * @return Assignment object at the position.
+	 */
+	Assignment get(int position) {
+		return this.rows[position];
+	}
+
+	/**
+	 * Accessor method used to get the due date at
+	 * the given position without reading the row.
+	 * @param position integer value containing the
+	 * position of the row.
+	 * @return long value containing the due date.
+	 */
+	long getDueTime(int position) {
+		return this.dueTimes[position];
+	}
+
+	/**
+	 * Accessor method used to get the number of rows.
+	 * @return integer value containing the size.
+	 */
+	int size() {
+		return this.size;
+	}
+
+	/**
+	 * Method designed to find the first row due at
+	 * or after the given time, by binary search over
+	 * the due date column.
+	 * @param dueTime long value containing the time.
+	 * @return integer value containing the position,
+	 * or the size if every row is due earlier.
+	 */
+	int lowerBound(long dueTime) {
+		int low = 0;
+		int high = this.size;
+		while(low < high) {
+			int middle = (low + high) >>> 1;
+			if(this.dueTimes[middle] < dueTime) {
+				low = middle + 1;
+			}else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Method designed to find the first row due
+	 * strictly after the given time, by binary search
+	 * over the due date column.
+	 * @param dueTime long value containing the time.
+	 * @return integer value containing the position,
+	 * or the size if no row is due later.
+	 */
+	int upperBound(long dueTime) {
+		int low = 0;
+		int high = this.size;
+		while(low < high) {
+			int middle = (low + high) >>> 1;
+			if(this.dueTimes[middle] <= dueTime) {
+				low = middle + 1;
+			}else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Private inner class designed to iterate
+	 * over the rows by due date, in either direction.
+	 * @author Noah Teshima
+	 *
+	 */
+	private class ColumnIterator implements Iterator<Assignment> {
+		private final int step;
+		private int position;
+
+		/**
+		 * Constructor used to place the iterator
+		 * before the first row it will visit.
+		 * @param descending boolean value determining
+		 * whether the rows are visited last first.
+		 */
+		public ColumnIterator(boolean descending) {
+			this.step = (descending) ? -1 : 1;
+			this.position = (descending) ? AssignmentColumns.this.size - 1 : 0;
+		}
+
+		/**
+		 * Overridden method stub from Iterator
+		 * interface. Determines whether any row
+		 * is left.
+		 * @return boolean value determining whether
+		 * there is a next row.
+		 */
+		@Override
+		public boolean hasNext() {
+			return (this.position >= 0 && this.position < AssignmentColumns.this.size);
+		}
+
+		/**
+		 * Accessor method designed to move to the
+		 * next row.
+		 * @return Assignment object of the row
+		 * iterated over.
+		 * @throws NoSuchElementException if every row
+		 * has been iterated over.
+		 */
+		@Override
+		public Assignment next() throws NoSuchElementException {
+			if(!this.hasNext()) {
+				throw new NoSuchElementException();
+			}
+			Assignment row = AssignmentColumns.this.rows[this.position];
+			this.position += this.step;
+			return row;
+		}
+	}
+
+	/**
+	 * Accessor method designed to get an Iterator
+	 * over each row by due date. The iterator does
+	 * not support removal.
+	 * @return Iterator object with base type Assignment.
+	 */
+	@Override
+	public Iterator<Assignment> iterator() {
+		return new ColumnIterator(false);
+	}
+
+	/**
+	 * Accessor method designed to get an Iterator
+	 * over each row by descending due date, with rows
+	 * of the same due date last added first. The
+	 * iterator does not support removal.
+	 * @return Iterator object with base type Assignment.
+	 */
+	public Iterator<Assignment> descendingIterator() {
+		return new ColumnIterator(true);
+	}
+
+	/**
+	 * Overridden method from Object class.
+	 * Used to list the rows in the same form as
+	 * the Collections framework.
+	 * @return String object containing each row.
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("[");
+		for(int position = 0; position < this.size; position++) {
+			if(position > 0) {
+				builder.append(", ");
+			}
+			builder.append(this.rows[position]);
+		}
+		return builder.append(']').toString();
+	}
+}
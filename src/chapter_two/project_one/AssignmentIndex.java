@@ -0,0 +1,366 @@
+package chapter_two.project_one;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Inverted index over assignment descriptions.
+ * Descriptions are split into lower case terms
+ * of letters and digits, and each term maps to
+ * its postings ordered by due date, so every query
+ * returns hits in due date order without sorting.
+ * Instances are kept up to date by the owning
+ * HomeworkList.
+ * @author Noah Teshima
+ *
+ */
+public class AssignmentIndex {
+
+	/**
+	 * Private static inner class used to hold a
+	 * single indexed assignment. Postings are ordered
+	 * by due date, then by insertion sequence, so equal
+	 * assignments are kept apart.
+	 * @author Noah Teshima
+	 */
+	private static class Posting {
+		private final Assignment assignment;
+		private final long dueTime;
+		private final long sequence;
+		private final String[] terms;
+
+		/**
+		 * Constructor used to set the posting's
+		 * assignment, sequence and terms.
+		 * @param assignment Assignment reference indexed.
+		 * @param sequence long value containing the
+		 * insertion order of the posting.
+		 * @param terms Array of distinct terms found in
+		 * the description.
+		 */
+		public Posting(Assignment assignment, long sequence, String[] terms) {
+			this.assignment = assignment;
+			this.dueTime = assignment.getDueTime();
+			this.sequence = sequence;
+			this.terms = terms;
+		}
+	}
+
+	/**
+	 * Private static inner class used to walk one
+	 * set of postings during a merge.
+	 * @author Noah Teshima
+	 */
+	private static class Cursor {
+		private final Iterator<Posting> iterator;
+		private Posting current;
+
+		/**
+		 * Constructor used to wrap an iterator over
+		 * a set of postings.
+		 * @param iterator Iterator reference over the set.
+		 */
+		public Cursor(Iterator<Posting> iterator) {
+			this.iterator = iterator;
+		}
+
+		/**
+		 * Method designed to move to the next posting.
+		 * @return boolean value determining whether a
+		 * posting is left.
+		 */
+		public boolean advance() {
+			if(!this.iterator.hasNext()) {
+				return false;
+			}
+			this.current = this.iterator.next();
+			return true;
+		}
+	}
+
+	private static final Comparator<Posting> ORDER =
+			Comparator.<Posting>comparingLong(posting -> posting.dueTime)
+			.thenComparingLong(posting -> posting.sequence);
+
+	private final TreeMap<String, TreeSet<Posting>> terms;
+	private final IdentityHashMap<Assignment, List<Posting>> postings;
+	private long sequence;
+
+	/**
+	 * Package-private constructor used to create
+	 * an empty index. Indexes are obtained through
+	 * HomeworkList.getIndex().
+	 */
+	AssignmentIndex() {
+		this.terms = new TreeMap<>();
+		this.postings = new IdentityHashMap<>();
+		this.sequence = 0;
+	}
+
+	/**
+	 * Mutator method designed to index the
+	 * given assignment.
+	 * @param assignment Assignment reference to index.
+	 */
+	void add(Assignment assignment) {
+		Set<String> distinct = AssignmentIndex.tokenize(assignment.getAssignment());
+		Posting posting = new Posting(assignment, this.sequence++,
+				distinct.toArray(new String[0]));
+
+		for(String term : posting.terms) {
+			this.terms.computeIfAbsent(term, key -> new TreeSet<>(AssignmentIndex.ORDER))
+				.add(posting);
+		}
+		//the same instance may be added more than once
+		this.postings.computeIfAbsent(assignment, key -> new ArrayList<>(1)).add(posting);
+	}
+
+	/**
+	 * Mutator method designed to remove the given
+	 * assignment instance from the index.
+	 * @param assignment Assignment reference removed
+	 * from the owning list.
+	 */
+	void remove(Assignment assignment) {
+		List<Posting> instances = this.postings.get(assignment);
+		if(instances == null) {
+			return;
+		}
+		Posting posting = instances.remove(instances.size() - 1);
+		if(instances.isEmpty()) {
+			this.postings.remove(assignment);
+		}
+		for(String term : posting.terms) {
+			TreeSet<Posting> set = this.terms.get(term);
+			set.remove(posting);
+			if(set.isEmpty()) {
+				this.terms.remove(term);
+			}
+		}
+	}
+
+	/**
+	 * Accessor method used to get the assignments
+	 * whose descriptions contain every given term.
+	 * Queries are split into terms the same way as
+	 * descriptions, so "Foo-bar" asks for both "foo"
+	 * and "bar".
+	 * @param terms Array of terms to match.
+	 * @return List object containing the matching
+	 * assignments by due date.
+	 */
+	public List<Assignment> searchAll(String... terms) {
+		List<Assignment> hits = new ArrayList<>();
+		List<TreeSet<Posting>> sets = this.postingsOf(AssignmentIndex.queryTerms(terms));
+		if(sets == null || sets.isEmpty()) {
+			return hits;
+		}
+		//walk the shortest postings and probe the rest
+		TreeSet<Posting> shortest = sets.get(0);
+		for(TreeSet<Posting> set : sets) {
+			if(set.size() < shortest.size()) {
+				shortest = set;
+			}
+		}
+		for(Posting posting : shortest) {
+			if(AssignmentIndex.containedInAll(sets, posting)) {
+				hits.add(posting.assignment);
+			}
+		}
+		return hits;
+	}
+
+	/**
+	 * Accessor method used to get the assignments
+	 * whose descriptions contain any given term.
+	 * Queries are split into terms the same way as
+	 * descriptions.
+	 * @param terms Array of terms to match.
+	 * @return List object containing the matching
+	 * assignments by due date.
+	 */
+	public List<Assignment> searchAny(String... terms) {
+		List<TreeSet<Posting>> sets = new ArrayList<>(terms.length);
+		for(String term : AssignmentIndex.queryTerms(terms)) {
+			TreeSet<Posting> set = this.terms.get(term);
+			if(set != null) {
+				sets.add(set);
+			}
+		}
+		return AssignmentIndex.union(sets, new ArrayList<>(0));
+	}
+
+	/**
+	 * Accessor method used to get the assignments
+	 * with any term starting with the given prefix.
+	 * The prefix is split into terms the same way as
+	 * descriptions: the last one is matched as a prefix
+	 * and any before it as whole terms, so "foo-ba"
+	 * matches "Foo-bar". A prefix without letters or
+	 * digits matches every assignment.
+	 * @param prefix String reference containing the
+	 * prefix to match.
+	 * @return List object containing the matching
+	 * assignments by due date.
+	 */
+	public List<Assignment> searchPrefix(String prefix) {
+		List<String> words = AssignmentIndex.queryTerms(prefix);
+		if(words.isEmpty()) {
+			return AssignmentIndex.union(new ArrayList<>(this.terms.values()), new ArrayList<>(0));
+		}
+		String last = words.remove(words.size() - 1);
+		List<TreeSet<Posting>> required = this.postingsOf(words);
+		if(required == null) {
+			return new ArrayList<>(0);
+		}
+		NavigableMap<String, TreeSet<Posting>> range =
+				this.terms.subMap(last, true, last + Character.MAX_VALUE, false);
+		return AssignmentIndex.union(new ArrayList<>(range.values()), required);
+	}
+
+	/**
+	 * Accessor method used to get the number of
+	 * distinct terms in the index.
+	 * @return integer value containing the number
+	 * of distinct terms.
+	 */
+	public int getTermCount() {
+		return this.terms.size();
+	}
+
+	/**
+	 * Private method used to get the postings of
+	 * each of the given terms.
+	 * @param words List of normalized terms.
+	 * @return List object containing the postings of
+	 * each term, or null if any term is not indexed.
+	 */
+	private List<TreeSet<Posting>> postingsOf(List<String> words) {
+		List<TreeSet<Posting>> sets = new ArrayList<>(words.size());
+		for(String word : words) {
+			TreeSet<Posting> set = this.terms.get(word);
+			if(set == null) {
+				return null;
+			}
+			sets.add(set);
+		}
+		return sets;
+	}
+
+	/**
+	 * Private static method used to check whether a
+	 * posting is in every one of the given sets.
+	 * @param sets List of postings to probe.
+	 * @param posting Posting reference to look for.
+	 * @return boolean value determining whether every
+	 * set holds the posting.
+	 */
+	private static boolean containedInAll(List<TreeSet<Posting>> sets, Posting posting) {
+		for(TreeSet<Posting> set : sets) {
+			if(!set.contains(posting)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Private static method used to merge postings
+	 * into a single list by due date. The sets are
+	 * already in due date order, so they are merged
+	 * k ways through a heap of their heads, in
+	 * O(P log k) time for P postings in k sets and
+	 * without copying the postings.
+	 * @param sets List of postings to merge.
+	 * @param required List of postings a hit must
+	 * also be in.
+	 * @return List object containing each assignment
+	 * once, by due date.
+	 */
+	private static List<Assignment> union(List<TreeSet<Posting>> sets, List<TreeSet<Posting>> required) {
+		List<Assignment> hits = new ArrayList<>();
+		PriorityQueue<Cursor> heads = new PriorityQueue<>(Math.max(1, sets.size()),
+				(first, second) -> AssignmentIndex.ORDER.compare(first.current, second.current));
+		for(TreeSet<Posting> set : sets) {
+			Cursor cursor = new Cursor(set.iterator());
+			if(cursor.advance()) {
+				heads.add(cursor);
+			}
+		}
+		Posting previous = null;
+		while(!heads.isEmpty()) {
+			Cursor cursor = heads.poll();
+			Posting posting = cursor.current;
+			//the order is total, so a posting in several sets comes out back to back
+			if(posting != previous && AssignmentIndex.containedInAll(required, posting)) {
+				hits.add(posting.assignment);
+			}
+			previous = posting;
+			if(cursor.advance()) {
+				heads.add(cursor);
+			}
+		}
+		return hits;
+	}
+
+	/**
+	 * Static method designed to split a description
+	 * into distinct lower case terms of letters and
+	 * digits.
+	 * @param description String reference to split.
+	 * @return Set object containing the distinct terms.
+	 */
+	static Set<String> tokenize(String description) {
+		Set<String> distinct = new HashSet<>();
+		AssignmentIndex.split(description, distinct);
+		return distinct;
+	}
+
+	/**
+	 * Private static method used to split query terms
+	 * into lower case terms, in the order given, the
+	 * same way as descriptions.
+	 * @param terms Array of query terms to split.
+	 * @return List object containing the terms.
+	 */
+	private static List<String> queryTerms(String... terms) {
+		List<String> words = new ArrayList<>(terms.length);
+		for(String term : terms) {
+			AssignmentIndex.split(term, words);
+		}
+		return words;
+	}
+
+	/**
+	 * Private static method used to add each lower
+	 * case run of letters and digits in a text to
+	 * the given collection, in order.
+	 * @param text String reference to split.
+	 * @param words Collection reference receiving
+	 * the terms.
+	 */
+	private static void split(String text, Collection<String> words) {
+		int start = -1;
+		for(int index = 0; index <= text.length(); index++) {
+			boolean wordCharacter = index < text.length()
+					&& Character.isLetterOrDigit(text.charAt(index));
+			if(wordCharacter && start == -1) {
+				start = index;
+			}else if(!wordCharacter && start != -1) {
+				words.add(text.substring(start, index).toLowerCase(Locale.ROOT));
+				start = -1;
+			}
+		}
+	}
+}
@@ -0,0 +1,136 @@
+package chapter_two.project_one;
+
+import java.util.Arrays;
+import java.util.Date;
+
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+
+/**
+ * @author Noah Teshima
+ * Test suite for AssignmentIndex class
+ */
+public class AssignmentIndexTest {
+
+	/**
+	 * Private static method used to create an
+	 * assignment due the given number of seconds
+	 * after the epoch.
+	 * @param name String containing the description.
+	 * @param seconds long value containing the due date.
+	 * @return Assignment object that was created.
+	 */
+	private static Assignment due(String name, long seconds) {
+		return new Assignment(name, new Date(seconds * 1000));
+	}
+
+	/**
+	 * Private static method used to fill a list, adding
+	 * assignments out of due date order.
+	 * @param columnar boolean value determining whether
+	 * the list uses columnar storage.
+	 * @return HomeworkList object that was filled.
+	 */
+	private static HomeworkList fill(boolean columnar) {
+		HomeworkList list = new HomeworkList();
+		list.setColumnar(columnar);
+		list.add(AssignmentIndexTest.due("Physics lab report", 5));
+		list.add(AssignmentIndexTest.due("Math problem set 3", 2));
+		list.add(AssignmentIndexTest.due("physics problem set", 9));
+		list.add(AssignmentIndexTest.due("History essay draft", 1));
+		list.add(AssignmentIndexTest.due("Math-physics reading", 7));
+		return list;
+	}
+
+	/**
+	 * Test method for {@link chapter_two.project_one.AssignmentIndex#searchAll(java.lang.String[])}.
+	 */
+	@Test
+	public void searchAllTest() {
+		AssignmentIndex index = AssignmentIndexTest.fill(false).getIndex();
+
+		Assertions.assertEquals(Arrays.asList(AssignmentIndexTest.due("Math problem set 3", 2),
+				AssignmentIndexTest.due("physics problem set", 9)), index.searchAll("problem", "SET"));
+		Assertions.assertEquals(Arrays.asList(AssignmentIndexTest.due("Math-physics reading", 7)),
+				index.searchAll("math", "physics"));
+		//queries are split like descriptions
+		Assertions.assertEquals(Arrays.asList(AssignmentIndexTest.due("Math-physics reading", 7)),
+				index.searchAll("Math-Physics"));
+		Assertions.assertEquals(Arrays.asList(AssignmentIndexTest.due("Math problem set 3", 2)),
+				index.searchAll(" problem  3 "));
+		Assertions.assertTrue(index.searchAll("physics", "essay").isEmpty());
+		Assertions.assertTrue(index.searchAll("chemistry").isEmpty());
+		Assertions.assertTrue(index.searchAll().isEmpty());
+		Assertions.assertTrue(index.searchAll("--").isEmpty());
+	}
+
+	/**
+	 * Test method for {@link chapter_two.project_one.AssignmentIndex#searchAny(java.lang.String[])}.
+	 */
+	@Test
+	public void searchAnyTest() {
+		AssignmentIndex index = AssignmentIndexTest.fill(false).getIndex();
+
+		//hits come back by due date, each once, whatever the term order
+		Assertions.assertEquals(Arrays.asList(AssignmentIndexTest.due("History essay draft", 1),
+				AssignmentIndexTest.due("Math problem set 3", 2), AssignmentIndexTest.due("Physics lab report", 5),
+				AssignmentIndexTest.due("Math-physics reading", 7), AssignmentIndexTest.due("physics problem set", 9)),
+				index.searchAny("physics", "essay", "math", "chemistry"));
+		Assertions.assertEquals(Arrays.asList(AssignmentIndexTest.due("History essay draft", 1),
+				AssignmentIndexTest.due("Physics lab report", 5)), index.searchAny("Lab/Essay"));
+		Assertions.assertTrue(index.searchAny("chemistry", "biology").isEmpty());
+		Assertions.assertTrue(index.searchAny().isEmpty());
+	}
+
+	/**
+	 * Test method for {@link chapter_two.project_one.AssignmentIndex#searchPrefix(java.lang.String)}.
+	 */
+	@Test
+	public void searchPrefixTest() {
+		AssignmentIndex index = AssignmentIndexTest.fill(false).getIndex();
+
+		Assertions.assertEquals(Arrays.asList(AssignmentIndexTest.due("Math problem set 3", 2),
+				AssignmentIndexTest.due("Physics lab report", 5), AssignmentIndexTest.due("Math-physics reading", 7),
+				AssignmentIndexTest.due("physics problem set", 9)), index.searchPrefix("P"));
+		Assertions.assertEquals(Arrays.asList(AssignmentIndexTest.due("Math-physics reading", 7)),
+				index.searchPrefix("math-ph"));
+		Assertions.assertEquals(Arrays.asList(AssignmentIndexTest.due("History essay draft", 1)),
+				index.searchPrefix("dr"));
+		Assertions.assertEquals(5, index.searchPrefix("").size());
+		Assertions.assertTrue(index.searchPrefix("x").isEmpty());
+		Assertions.assertTrue(index.searchPrefix("history r").isEmpty());
+	}
+
+	/**
+	 * Test method for {@link chapter_two.project_one.HomeworkList#getIndex()}.
+	 */
+	@Test
+	public void upkeepTest() {
+		for(boolean columnar : new boolean[] {false, true}) {
+			HomeworkList list = AssignmentIndexTest.fill(columnar);
+			AssignmentIndex index = list.getIndex();
+			int termCount = index.getTermCount();
+
+			list.add(AssignmentIndexTest.due("Chemistry lab", 3));
+			list.addAll(Arrays.asList(AssignmentIndexTest.due("Chemistry quiz", 8),
+					AssignmentIndexTest.due("Math problem set 3", 2), AssignmentIndexTest.due("Lab safety", 0)));
+			Assertions.assertEquals(Arrays.asList(AssignmentIndexTest.due("Lab safety", 0),
+					AssignmentIndexTest.due("Chemistry lab", 3), AssignmentIndexTest.due("Physics lab report", 5)),
+					index.searchAny("lab"));
+			Assertions.assertEquals(2, index.searchAll("chemistry").size());
+			Assertions.assertEquals(2, index.searchAll("problem", "3").size());
+
+			//removing drops every equal assignment, and terms left without postings
+			list.remove(AssignmentIndexTest.due("Math problem set 3", 2));
+			list.remove(AssignmentIndexTest.due("Chemistry lab", 3));
+			list.remove(AssignmentIndexTest.due("Chemistry quiz", 8));
+			list.remove(AssignmentIndexTest.due("Lab safety", 0));
+			Assertions.assertTrue(index.searchAll("problem", "3").isEmpty());
+			Assertions.assertTrue(index.searchPrefix("chem").isEmpty());
+			Assertions.assertEquals(Arrays.asList(AssignmentIndexTest.due("Physics lab report", 5)),
+					index.searchAny("lab"));
+			Assertions.assertEquals(termCount - 1, index.getTermCount());
+			Assertions.assertEquals(list.getSize(), index.searchPrefix("").size());
+		}
+	}
+}
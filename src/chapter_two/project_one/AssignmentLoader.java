@@ -0,0 +1,263 @@
+package chapter_two.project_one;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Loader used to read assignment files
+ * concurrently. Each file holds one assignment
+ * per line in the form
+ * <code>epochMillis,description</code>.
+ * Worker threads parse files into their own
+ * buffers, which are merged into the target
+ * HomeworkList once every file has been read.
+ * @author Noah Teshima
+ *
+ */
+public class AssignmentLoader {
+
+	/**
+	 * Static inner class used to report the
+	 * outcome of a load.
+	 * @author Noah Teshima
+	 */
+	public static class Result {
+		private final int loaded;
+		private final Map<Path, Exception> errors;
+
+		/**
+		 * Constructor used to set the number of
+		 * loaded assignments and per-file errors.
+		 * @param loaded integer value containing the
+		 * number of assignments added.
+		 * @param errors Map reference containing the
+		 * error raised for each file that failed.
+		 */
+		public Result(int loaded, Map<Path, Exception> errors) {
+			this.loaded = loaded;
+			this.errors = Collections.unmodifiableMap(errors);
+		}
+
+		/**
+		 * Accessor method used to get the number
+		 * of assignments added.
+		 * @return integer value containing the
+		 * number of assignments added.
+		 */
+		public int getLoaded() {
+			return this.loaded;
+		}
+
+		/**
+		 * Accessor method used to get the errors
+		 * raised while reading files. Assignments
+		 * from a failed file are not added.
+		 * @return Map object containing the error
+		 * for each failed file.
+		 */
+		public Map<Path, Exception> getErrors() {
+			return this.errors;
+		}
+	}
+
+	private static final Path END = Path.of("");
+	private static final int DEFAULT_QUEUE_CAPACITY = 256;
+
+	private final int parallelism;
+	private final int queueCapacity;
+	private final ThreadFactory threadFactory;
+
+	/**
+	 * Constructor used to set the number of
+	 * files read at once.
+	 * @param parallelism integer value containing
+	 * the number of worker threads.
+	 */
+	public AssignmentLoader(int parallelism) {
+		this(parallelism, AssignmentLoader.DEFAULT_QUEUE_CAPACITY, Thread::new);
+	}
+
+	/**
+	 * Constructor used to set the number of files
+	 * read at once, the number of files queued ahead
+	 * of the workers, and the factory for worker
+	 * threads. On runtimes with virtual threads, a
+	 * virtual thread factory may be given here.
+	 * @param parallelism integer value containing
+	 * the number of worker threads.
+	 * @param queueCapacity integer value containing
+	 * the number of paths queued before the producer
+	 * blocks.
+	 * @param threadFactory ThreadFactory reference used
+	 * to create worker threads.
+	 * @throws IllegalArgumentException if parallelism or
+	 * queueCapacity are not positive.
+	 */
+	public AssignmentLoader(int parallelism, int queueCapacity, ThreadFactory threadFactory)
+			throws IllegalArgumentException {
+		if(parallelism <= 0 || queueCapacity <= 0) {
+			throw new IllegalArgumentException();
+		}
+		this.parallelism = parallelism;
+		this.queueCapacity = queueCapacity;
+		this.threadFactory = threadFactory;
+	}
+
+	/**
+	 * Method designed to load every regular file
+	 * inside of the given directory.
+	 * @param directory Path reference containing the
+	 * directory to load.
+	 * @param target HomeworkList reference to add the
+	 * assignments to.
+	 * @return Result object containing the number of
+	 * assignments added and per-file errors.
+	 * @throws IOException if the directory cannot be
+	 * listed.
+	 * @throws InterruptedException if interrupted while
+	 * waiting for workers.
+	 */
+	public Result loadDirectory(Path directory, HomeworkList target)
+			throws IOException, InterruptedException {
+		try(DirectoryStream<Path> stream = Files.newDirectoryStream(directory, Files::isRegularFile)) {
+			return this.load(stream, target);
+		}
+	}
+
+	/**
+	 * Method designed to load the given files.
+	 * Paths are handed to the workers through a
+	 * bounded queue, so the caller blocks once the
+	 * workers fall behind.
+	 * @param files Iterable of paths to load.
+	 * @param target HomeworkList reference to add the
+	 * assignments to.
+	 * @return Result object containing the number of
+	 * assignments added and per-file errors.
+	 * @throws InterruptedException if interrupted while
+	 * waiting for workers.
+	 * @throws NullPointerException if a path is null.
+	 */
+	public Result load(Iterable<Path> files, HomeworkList target)
+			throws InterruptedException {
+		BlockingQueue<Path> queue = new ArrayBlockingQueue<>(this.queueCapacity);
+		Map<Path, Exception> errors = new ConcurrentHashMap<>();
+		List<List<Assignment>> buffers = new ArrayList<>();
+		Thread[] workers = new Thread[this.parallelism];
+
+		for(int index = 0; index < workers.length; index++) {
+			List<Assignment> buffer = new ArrayList<>();
+			buffers.add(buffer);
+			workers[index] = this.threadFactory.newThread(() -> work(queue, buffer, errors));
+			workers[index].start();
+		}
+
+		boolean finished = false;
+		try {
+			for(Path file : files) {
+				queue.put(file);
+			}
+			for(int index = 0; index < workers.length; index++) {
+				queue.put(AssignmentLoader.END);
+			}
+			for(Thread worker : workers) {
+				worker.join();
+			}
+			finished = true;
+		}finally {
+			if(!finished) {
+				//stop the workers rather than leaving them blocked on the queue
+				for(Thread worker : workers) {
+					worker.interrupt();
+				}
+			}
+		}
+
+		//merge every buffer into the list at once
+		List<Assignment> merged = new ArrayList<>();
+		for(List<Assignment> buffer : buffers) {
+			merged.addAll(buffer);
+		}
+		target.addAll(merged);
+
+		return new Result(merged.size(), errors);
+	}
+
+	/**
+	 * Private static method run by each worker.
+	 * Files are parsed whole before being added to
+	 * the worker's buffer, so a failed file adds
+	 * nothing.
+	 * @param queue BlockingQueue reference containing
+	 * the paths to read.
+	 * @param buffer List reference owned by the worker.
+	 * @param errors Map reference used to record failures.
+	 */
+	private static void work(BlockingQueue<Path> queue, List<Assignment> buffer,
+			Map<Path, Exception> errors) {
+		List<Assignment> parsed = new ArrayList<>();
+		try {
+			for(Path file = queue.take(); file != AssignmentLoader.END; file = queue.take()) {
+				parsed.clear();
+				try {
+					AssignmentLoader.parse(file, parsed);
+					buffer.addAll(parsed);
+				}catch(IOException | RuntimeException e) {
+					errors.put(file, e);
+				}
+			}
+		}catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Static method designed to parse a single
+	 * assignment file.
+	 * @param file Path reference containing the file
+	 * to read.
+	 * @param assignments List reference to add the
+	 * parsed assignments to.
+	 * @throws IOException if the file cannot be read.
+	 * @throws IllegalArgumentException if a line is not
+	 * in the form <code>epochMillis,description</code>.
+	 */
+	static void parse(Path file, List<Assignment> assignments)
+			throws IOException, IllegalArgumentException {
+		try(BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			int lineNumber = 0;
+			for(String line = reader.readLine(); line != null; line = reader.readLine()) {
+				lineNumber++;
+				if(line.isEmpty()) {
+					continue;
+				}
+				int comma = line.indexOf(',');
+				if(comma <= 0) {
+					throw new IllegalArgumentException(
+							String.format("%s:%d: missing due date", file, lineNumber));
+				}
+				long dueTime;
+				try {
+					dueTime = Long.parseLong(line, 0, comma, 10);
+				}catch(NumberFormatException e) {
+					throw new IllegalArgumentException(
+							String.format("%s:%d: invalid due date", file, lineNumber), e);
+				}
+				assignments.add(new Assignment(line.substring(comma + 1), new Date(dueTime)));
+			}
+		}
+	}
+}
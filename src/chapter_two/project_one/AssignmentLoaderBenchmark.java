@@ -0,0 +1,75 @@
+package chapter_two.project_one;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark for AssignmentLoader. A temporary
+ * directory of small synthetic per-course files
+ * is written, then loaded at several levels of
+ * parallelism.
+ * @author Noah Teshima
+ *
+ */
+public class AssignmentLoaderBenchmark {
+	private static final int FILES = 2_000;
+	private static final int ASSIGNMENTS_PER_FILE = 20;
+	private static final int[] PARALLELISM = {1, 4, 16, 64};
+
+	/**
+	 * Entry point of the benchmark.
+	 * @param args unused command line arguments.
+	 * @throws IOException if the synthetic files cannot
+	 * be written.
+	 * @throws InterruptedException if interrupted while
+	 * loading.
+	 */
+	public static void main(String[] args) throws IOException, InterruptedException {
+		Path directory = Files.createTempDirectory("assignments");
+		try {
+			writeFiles(directory);
+			System.out.printf("%12s %12s %12s%n", "parallelism", "millis", "loaded");
+			for(int parallelism : PARALLELISM) {
+				HomeworkList list = new HomeworkList();
+				long begin = System.nanoTime();
+				AssignmentLoader.Result result = new AssignmentLoader(parallelism)
+						.loadDirectory(directory, list);
+				long elapsed = System.nanoTime() - begin;
+				System.out.printf("%12d %12d %12d%n", parallelism,
+						elapsed / 1_000_000, result.getLoaded());
+			}
+		}finally {
+			try(Stream<Path> paths = Files.walk(directory)) {
+				paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+			}
+		}
+	}
+
+	/**
+	 * Private static method used to write the
+	 * synthetic course files.
+	 * @param directory Path reference containing the
+	 * directory to write to.
+	 * @throws IOException if a file cannot be written.
+	 */
+	private static void writeFiles(Path directory) throws IOException {
+		Random random = new Random(42);
+		long now = System.currentTimeMillis();
+		for(int file = 0; file < FILES; file++) {
+			Path path = directory.resolve("course-" + file + ".txt");
+			try(BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+				for(int line = 0; line < ASSIGNMENTS_PER_FILE; line++) {
+					writer.write(Long.toString(now + random.nextInt(1_000_000_000)));
+					writer.write(",Course " + file + " homework " + line);
+					writer.newLine();
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,103 @@
+package chapter_two.project_one;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadFactory;
+
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+
+/**
+ * @author Noah Teshima
+ * Test suite for AssignmentLoader class
+ */
+public class AssignmentLoaderTest {
+	private final List<Thread> workers = new CopyOnWriteArrayList<>();
+	private final ThreadFactory factory = (runnable) -> {
+		Thread thread = new Thread(runnable);
+		this.workers.add(thread);
+		return thread;
+	};
+
+	/**
+	 * Private method used to check that every worker
+	 * has stopped.
+	 * @throws InterruptedException if interrupted while
+	 * waiting for a worker.
+	 */
+	private void assertWorkersStopped() throws InterruptedException {
+		Assertions.assertFalse(this.workers.isEmpty(), "No workers were started");
+		for(Thread worker : this.workers) {
+			worker.join(5000);
+			Assertions.assertFalse(worker.isAlive(), "Worker was left running");
+		}
+	}
+
+	/**
+	 * Test method for {@link chapter_two.project_one.AssignmentLoader#load(java.lang.Iterable, chapter_two.project_one.HomeworkList)}.
+	 */
+	@Test
+	public void loadTest() throws IOException, InterruptedException {
+		Path directory = Files.createTempDirectory("assignments");
+		Path first = Files.writeString(directory.resolve("first"), "2000,b\n1000,a\n");
+		Path second = Files.writeString(directory.resolve("second"), "3000,c\n");
+		Path broken = Files.writeString(directory.resolve("broken"), "soon,d\n");
+		HomeworkList list = new HomeworkList();
+
+		AssignmentLoader.Result result;
+		try {
+			result = new AssignmentLoader(2, 1, this.factory)
+					.load(Arrays.asList(first, second, broken), list);
+		}finally {
+			for(Path file : Arrays.asList(first, second, broken, directory)) {
+				Files.delete(file);
+			}
+		}
+
+		Assertions.assertEquals(3, result.getLoaded());
+		Assertions.assertEquals(3, list.getSize());
+		Assertions.assertEquals("a", list.getEarliestAssignment().getAssignment());
+		Assertions.assertTrue(result.getErrors().containsKey(broken), "Broken file was not reported");
+		this.assertWorkersStopped();
+	}
+
+	/**
+	 * Test method for {@link chapter_two.project_one.AssignmentLoader#load(java.lang.Iterable, chapter_two.project_one.HomeworkList)}.
+	 */
+	@Test(expected=IllegalStateException.class)
+	public void failingIterableTest() throws InterruptedException {
+		Iterable<Path> files = () -> new Iterator<Path>() {
+			@Override
+			public boolean hasNext() {
+				return true;
+			}
+
+			@Override
+			public Path next() {
+				throw new IllegalStateException("listing failed");
+			}
+		};
+		try {
+			new AssignmentLoader(2, 4, this.factory).load(files, new HomeworkList());
+		}finally {
+			this.assertWorkersStopped();
+		}
+	}
+
+	/**
+	 * Test method for {@link chapter_two.project_one.AssignmentLoader#load(java.lang.Iterable, chapter_two.project_one.HomeworkList)}.
+	 */
+	@Test(expected=NullPointerException.class)
+	public void nullPathTest() throws InterruptedException {
+		try {
+			new AssignmentLoader(2, 4, this.factory).load(Arrays.asList((Path) null), new HomeworkList());
+		}finally {
+			this.assertWorkersStopped();
+		}
+	}
+}
@@ -0,0 +1,701 @@
+package chapter_two.project_one;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
+
+/**
+ * Write-ahead log making a HomeworkList durable.
+ * Every add and remove appends a compact binary
+ * record to an in-memory buffer, and the buffer is
+ * written through a FileChannel by whichever waiting
+ * writer gets there first, on behalf of every record
+ * appended so far. Writers that arrive while a write
+ * is in progress wait for the next one, so a single
+ * fsync commits a whole group of concurrent writers.
+ * A commit delay lets the first writer wait for more
+ * to join, trading latency for fewer fsyncs, and the
+ * durability setting chooses what a writer waits for.
+ * <p>
+ * After a short header, each record has the form
+ * <code>type due length description crc</code>, with
+ * the due date as epoch milliseconds, the description
+ * in UTF-8 and a CRC32C of the rest of the record. On
+ * open the log is replayed into the list, runs of adds
+ * being merged in as one batch, and a torn or corrupt
+ * tail left by a crash is cut off.
+ * @author Noah Teshima
+ *
+ */
+public final class AssignmentLog implements Closeable {
+
+	/**
+	 * Public enum used to choose what a writer waits
+	 * for before add or remove returns.
+	 * @author Noah Teshima
+	 */
+	public enum Durability {
+		/**
+		 * Wait until the record is forced to disk, so
+		 * it survives a power failure.
+		 */
+		SYNC,
+		/**
+		 * Wait until the record is written to the
+		 * operating system, so it survives a crash of
+		 * the process. Forced every sync interval.
+		 */
+		WRITE,
+		/**
+		 * Do not wait. Written and forced every sync
+		 * interval, so at most one interval is lost.
+		 */
+		ASYNC
+	}
+
+	static final byte ADD = 1;
+	static final byte REMOVE = 2;
+	private static final int MAGIC = 0x48574C31;
+	private static final int HEADER_SIZE = 4;
+	private static final int RECORD_HEADER_SIZE = 1 + 8 + 4;
+	private static final int RECORD_OVERHEAD = AssignmentLog.RECORD_HEADER_SIZE + 4;
+	private static final int BUFFER_SIZE = 1 << 16;
+	private static final Duration DEFAULT_SYNC_INTERVAL = Duration.ofMillis(100);
+
+	private final Path file;
+	private final HomeworkList list;
+	private final Durability durability;
+	private final long commitDelay;
+	private final long syncInterval;
+	private final long recoveredCount;
+	private final ReentrantLock lock;
+	private final Condition flushed;
+	private final CRC32C checksum;
+	private FileChannel channel;
+	private ByteBuffer pending;
+	private ByteBuffer spare;
+	private long appended;
+	private long written;
+	private long synced;
+	private long syncCount;
+	private boolean flushing;
+	private IOException failure;
+	private Thread flusher;
+	private volatile boolean closed;
+
+	/**
+	 * Private constructor used to set up a log over
+	 * an open channel positioned after the last record.
+	 * @param file Path reference of the log.
+	 * @param list HomeworkList reference the log is for.
+	 * @param channel FileChannel reference to append to.
+	 * @param durability Durability of each commit.
+	 * @param commitDelay Duration a writer waits for
+	 * others to join its group.
+	 * @param syncInterval Duration between background
+	 * syncs for WRITE and ASYNC.
+	 * @param recoveredCount long value containing the
+	 * number of records replayed.
+	 */
+	private AssignmentLog(Path file, HomeworkList list, FileChannel channel, Durability durability,
+			Duration commitDelay, Duration syncInterval, long recoveredCount) {
+		this.file = file;
+		this.list = list;
+		this.channel = channel;
+		this.durability = durability;
+		this.commitDelay = commitDelay.toNanos();
+		this.syncInterval = syncInterval.toNanos();
+		this.recoveredCount = recoveredCount;
+		this.lock = new ReentrantLock();
+		this.flushed = this.lock.newCondition();
+		this.checksum = new CRC32C();
+		this.pending = ByteBuffer.allocateDirect(AssignmentLog.BUFFER_SIZE);
+		this.spare = ByteBuffer.allocateDirect(AssignmentLog.BUFFER_SIZE);
+	}
+
+	/**
+	 * Static method designed to open a log with no
+	 * commit delay and the default sync interval.
+	 * @param file Path reference of the log, created
+	 * if it does not exist.
+	 * @param list empty HomeworkList reference to
+	 * recover into and make durable.
+	 * @param durability Durability of each commit.
+	 * @return AssignmentLog object attached to the list.
+	 * @throws IOException if the log cannot be read
+	 * or is not an assignment log.
+	 */
+	public static AssignmentLog open(Path file, HomeworkList list, Durability durability)
+			throws IOException {
+		return AssignmentLog.open(file, list, durability, Duration.ZERO,
+				AssignmentLog.DEFAULT_SYNC_INTERVAL);
+	}
+
+	/**
+	 * Static method designed to open a log, replay
+	 * it into the given list and attach it, so that
+	 * later changes to the list are logged.
+	 * @param file Path reference of the log, created
+	 * if it does not exist.
+	 * @param list empty HomeworkList reference to
+	 * recover into and make durable.
+	 * @param durability Durability of each commit.
+	 * @param commitDelay Duration the first writer of a
+	 * group waits for others to join before writing.
+	 * @param syncInterval Duration between background
+	 * syncs for WRITE and ASYNC.
+	 * @return AssignmentLog object attached to the list.
+	 * @throws IOException if the log cannot be read
+	 * or is not an assignment log.
+	 * @throws IllegalStateException if the list
+	 * already has a log.
+	 */
+	public static AssignmentLog open(Path file, HomeworkList list, Durability durability,
+			Duration commitDelay, Duration syncInterval) throws IOException, IllegalStateException {
+		if(list.getLog() != null) {
+			throw new IllegalStateException("list already has a log");
+		}
+		FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+				StandardOpenOption.READ, StandardOpenOption.WRITE);
+		long recovered;
+		try {
+			recovered = AssignmentLog.recover(channel, list);
+		}catch(IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+
+		AssignmentLog log = new AssignmentLog(file, list, channel, durability,
+				commitDelay, syncInterval, recovered);
+		if(durability != Durability.SYNC) {
+			log.startFlusher();
+		}
+		list.setLog(log);
+		return log;
+	}
+
+	/**
+	 * Private static method used to replay every valid
+	 * record into the list and cut off whatever follows
+	 * them. Adds are collected and merged as one batch
+	 * until a remove needs them in place.
+	 * @param channel FileChannel reference of the log.
+	 * @param list HomeworkList reference to replay into.
+	 * @return long value containing the number of
+	 * records replayed.
+	 * @throws IOException if the channel fails or the
+	 * header is wrong.
+	 */
+	private static long recover(FileChannel channel, HomeworkList list) throws IOException {
+		if(channel.size() < AssignmentLog.HEADER_SIZE) {
+			ByteBuffer header = ByteBuffer.allocate(AssignmentLog.HEADER_SIZE).putInt(AssignmentLog.MAGIC);
+			header.flip();
+			channel.truncate(0);
+			while(header.hasRemaining()) {
+				channel.write(header, header.position());
+			}
+			channel.force(true);
+			channel.position(AssignmentLog.HEADER_SIZE);
+			return 0;
+		}
+
+		channel.position(0);
+		ByteBuffer buffer = ByteBuffer.allocate(AssignmentLog.BUFFER_SIZE);
+		buffer.flip();
+		buffer = AssignmentLog.fill(channel, buffer, AssignmentLog.HEADER_SIZE);
+		if(buffer.getInt() != AssignmentLog.MAGIC) {
+			throw new IOException("not an assignment log");
+		}
+
+		CRC32C checksum = new CRC32C();
+		List<Assignment> batch = new ArrayList<>();
+		long valid = AssignmentLog.HEADER_SIZE;
+		long count = 0;
+		while(true) {
+			buffer = AssignmentLog.fill(channel, buffer, AssignmentLog.RECORD_HEADER_SIZE);
+			if(buffer.remaining() < AssignmentLog.RECORD_HEADER_SIZE) {
+				break;
+			}
+			int start = buffer.position();
+			byte type = buffer.get(start);
+			int length = buffer.getInt(start + 9);
+			//a length running past the end of the file can only be garbage
+			if((type != AssignmentLog.ADD && type != AssignmentLog.REMOVE) || length < 0
+					|| length > channel.size() - valid - AssignmentLog.RECORD_OVERHEAD) {
+				break;
+			}
+			buffer = AssignmentLog.fill(channel, buffer, AssignmentLog.RECORD_OVERHEAD + length);
+			if(buffer.remaining() < AssignmentLog.RECORD_OVERHEAD + length) {
+				break;
+			}
+			//fill may have moved the record to the front of a new buffer
+			start = buffer.position();
+			checksum.reset();
+			checksum.update(buffer.array(), buffer.arrayOffset() + start,
+					AssignmentLog.RECORD_HEADER_SIZE + length);
+			if((int) checksum.getValue() != buffer.getInt(start + AssignmentLog.RECORD_HEADER_SIZE + length)) {
+				break;
+			}
+			Assignment assignment = new Assignment(
+					new String(buffer.array(), buffer.arrayOffset() + start + AssignmentLog.RECORD_HEADER_SIZE,
+							length, StandardCharsets.UTF_8),
+					new Date(buffer.getLong(start + 1)));
+			if(type == AssignmentLog.ADD) {
+				batch.add(assignment);
+			}else {
+				if(!batch.isEmpty()) {
+					list.addAll(batch);
+					batch.clear();
+				}
+				list.remove(assignment);
+			}
+			buffer.position(start + AssignmentLog.RECORD_OVERHEAD + length);
+			valid += AssignmentLog.RECORD_OVERHEAD + length;
+			count++;
+		}
+		if(!batch.isEmpty()) {
+			list.addAll(batch);
+		}
+
+		//drop a record torn by a crash, so new records follow the last good one
+		if(valid < channel.size()) {
+			channel.truncate(valid);
+			channel.force(true);
+		}
+		channel.position(valid);
+		return count;
+	}
+
+	/**
+	 * Private static method used to make sure the
+	 * buffer holds at least the given number of bytes,
+	 * reading more from the channel if needed.
+	 * @param channel FileChannel reference to read from.
+	 * @param buffer ByteBuffer reference in read mode.
+	 * @param needed integer value containing the number
+	 * of bytes needed.
+	 * @return ByteBuffer object in read mode, which holds
+	 * fewer bytes than needed only at the end of the file.
+	 * @throws IOException if the channel fails.
+	 */
+	private static ByteBuffer fill(FileChannel channel, ByteBuffer buffer, int needed)
+			throws IOException {
+		if(buffer.remaining() >= needed) {
+			return buffer;
+		}
+		if(buffer.capacity() < needed) {
+			ByteBuffer larger = ByteBuffer.allocate(Math.max(needed, buffer.capacity() * 2));
+			larger.put(buffer);
+			buffer = larger;
+		}else {
+			buffer.compact();
+		}
+		while(buffer.hasRemaining() && channel.read(buffer) >= 0) {
+		}
+		buffer.flip();
+		return buffer;
+	}
+
+	/**
+	 * Private method used to start the thread that
+	 * writes and forces the log every sync interval.
+	 */
+	private void startFlusher() {
+		this.flusher = new Thread(() -> {
+			while(!this.closed) {
+				LockSupport.parkNanos(this.syncInterval);
+				try {
+					this.sync();
+				}catch(IOException e) {
+					//kept as the log's failure, and reported to the next writer
+					return;
+				}
+			}
+		}, "assignment-log-sync");
+		this.flusher.setDaemon(true);
+		this.flusher.start();
+	}
+
+	/**
+	 * Method designed to append a record to the
+	 * buffer. Called by the list holding its monitor,
+	 * so records are in the order changes were made.
+	 * @param type byte value containing ADD or REMOVE.
+	 * @param assignment Assignment reference changed.
+	 * @return long value containing the sequence number
+	 * of the record, to pass to commit.
+	 * @throws UncheckedIOException if the log has failed.
+	 * @throws IllegalStateException if the log is closed.
+	 */
+	long append(byte type, Assignment assignment) throws UncheckedIOException, IllegalStateException {
+		byte[] description = assignment.getAssignment().getBytes(StandardCharsets.UTF_8);
+		int length = AssignmentLog.RECORD_OVERHEAD + description.length;
+		this.lock.lock();
+		try {
+			if(this.closed) {
+				throw new IllegalStateException("log is closed");
+			}
+			if(this.failure != null) {
+				throw new UncheckedIOException(this.failure);
+			}
+			if(this.pending.remaining() < length) {
+				ByteBuffer larger = ByteBuffer.allocateDirect(
+						Math.max(this.pending.capacity() * 2, this.pending.position() + length));
+				this.pending.flip();
+				larger.put(this.pending);
+				this.pending = larger;
+			}
+			int start = this.pending.position();
+			this.pending.put(type)
+				.putLong(assignment.getDueTime())
+				.putInt(description.length)
+				.put(description);
+			ByteBuffer record = this.pending.duplicate();
+			record.position(start);
+			record.limit(this.pending.position());
+			this.checksum.reset();
+			this.checksum.update(record);
+			this.pending.putInt((int) this.checksum.getValue());
+			return ++this.appended;
+		}finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Method designed to wait until the record with
+	 * the given sequence number meets the durability
+	 * setting. Called by the list after releasing its
+	 * monitor, so other writers can append meanwhile
+	 * and share the same write.
+	 * @param sequence long value containing the
+	 * sequence number returned by append.
+	 * @throws UncheckedIOException if the log fails.
+	 */
+	void commit(long sequence) throws UncheckedIOException {
+		try {
+			switch(this.durability) {
+			case SYNC:
+				this.flush(sequence, true, true);
+				break;
+			case WRITE:
+				this.flush(sequence, false, true);
+				break;
+			case ASYNC:
+				break;
+			}
+		}catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Private method used to make sure every record up
+	 * to the given sequence number is written, and forced
+	 * if asked. If no write is in progress the caller
+	 * becomes the leader and writes every record appended
+	 * so far, otherwise it waits for the leader and
+	 * checks again.
+	 * @param sequence long value containing the last
+	 * sequence number needed.
+	 * @param force boolean value determining whether
+	 * the records must be forced to disk.
+	 * @param gather boolean value determining whether
+	 * a leader waits the commit delay first.
+	 * @throws IOException if the channel fails, now or
+	 * in an earlier write.
+	 */
+	private void flush(long sequence, boolean force, boolean gather) throws IOException {
+		ByteBuffer batch;
+		long upTo;
+		this.lock.lock();
+		try {
+			while(true) {
+				if(this.failure != null) {
+					throw new IOException("log failed", this.failure);
+				}
+				if((force ? this.synced : this.written) >= sequence) {
+					return;
+				}
+				if(!this.flushing) {
+					break;
+				}
+				this.flushed.awaitUninterruptibly();
+			}
+			this.flushing = true;
+			if(gather && this.commitDelay > 0) {
+				//let more writers append before the group is cut
+				long remaining = this.commitDelay;
+				try {
+					while(remaining > 0) {
+						remaining = this.flushed.awaitNanos(remaining);
+					}
+				}catch(InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			batch = this.pending;
+			this.pending = this.spare;
+			upTo = this.appended;
+		}finally {
+			this.lock.unlock();
+		}
+
+		IOException error = null;
+		try {
+			batch.flip();
+			while(batch.hasRemaining()) {
+				this.channel.write(batch);
+			}
+			if(force) {
+				this.channel.force(false);
+			}
+		}catch(IOException e) {
+			error = e;
+		}
+
+		this.lock.lock();
+		try {
+			if(error == null) {
+				this.written = upTo;
+				if(force) {
+					this.synced = upTo;
+					this.syncCount++;
+				}
+			}else {
+				this.failure = error;
+			}
+			batch.clear();
+			this.spare = batch;
+			this.flushing = false;
+			this.flushed.signalAll();
+		}finally {
+			this.lock.unlock();
+		}
+		if(error != null) {
+			throw error;
+		}
+	}
+
+	/**
+	 * Method designed to write and force every record
+	 * appended so far, whatever the durability setting.
+	 * @throws IOException if the channel fails.
+	 */
+	public void sync() throws IOException {
+		long sequence;
+		this.lock.lock();
+		try {
+			sequence = this.appended;
+		}finally {
+			this.lock.unlock();
+		}
+		this.flush(sequence, true, false);
+	}
+
+	/**
+	 * Method designed to replace the log with one add
+	 * record per assignment currently in the list, so
+	 * replay no longer pays for removed assignments.
+	 * The new log is written beside the old one and
+	 * moved over it, and the directory forced before
+	 * writers use it, so a crash leaves one or the other.
+	 * Writers wait while the log is compacted.
+	 * @throws IOException if the new log cannot be
+	 * written.
+	 */
+	public void compact() throws IOException {
+		synchronized(this.list) {
+			this.sync();
+			this.lock.lock();
+			try {
+				while(this.flushing) {
+					this.flushed.awaitUninterruptibly();
+				}
+				this.flushing = true;
+			}finally {
+				this.lock.unlock();
+			}
+
+			try {
+				Path temporary = this.file.resolveSibling(this.file.getFileName() + ".compact");
+				try(FileChannel out = FileChannel.open(temporary, StandardOpenOption.CREATE,
+						StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+					ByteBuffer buffer = ByteBuffer.allocateDirect(AssignmentLog.BUFFER_SIZE);
+					CRC32C checksum = new CRC32C();
+					buffer.putInt(AssignmentLog.MAGIC);
+					for(Assignment assignment : this.list) {
+						byte[] description = assignment.getAssignment().getBytes(StandardCharsets.UTF_8);
+						if(buffer.remaining() < AssignmentLog.RECORD_OVERHEAD + description.length) {
+							AssignmentLog.drain(buffer, out);
+							if(buffer.capacity() < AssignmentLog.RECORD_OVERHEAD + description.length) {
+								buffer = ByteBuffer.allocateDirect(AssignmentLog.RECORD_OVERHEAD + description.length);
+							}
+						}
+						int start = buffer.position();
+						buffer.put(AssignmentLog.ADD)
+							.putLong(assignment.getDueTime())
+							.putInt(description.length)
+							.put(description);
+						ByteBuffer record = buffer.duplicate();
+						record.position(start);
+						record.limit(buffer.position());
+						checksum.reset();
+						checksum.update(record);
+						buffer.putInt((int) checksum.getValue());
+					}
+					AssignmentLog.drain(buffer, out);
+					out.force(true);
+				}
+				Files.move(temporary, this.file, StandardCopyOption.REPLACE_EXISTING,
+						StandardCopyOption.ATOMIC_MOVE);
+				//the rename only survives a power failure once the directory is
+				//forced, and SYNC commits go to the new file from here on
+				AssignmentLog.forceDirectory(this.file.toAbsolutePath().getParent());
+
+				FileChannel replacement = FileChannel.open(this.file, StandardOpenOption.WRITE);
+				replacement.position(replacement.size());
+				this.channel.close();
+				this.channel = replacement;
+			}finally {
+				this.lock.lock();
+				try {
+					this.flushing = false;
+					this.flushed.signalAll();
+				}finally {
+					this.lock.unlock();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Private static method used to force a directory
+	 * to disk, so entries renamed in it survive a
+	 * power failure.
+	 * @param directory Path reference of the directory.
+	 * @throws IOException if the directory cannot be
+	 * opened or forced.
+	 */
+	private static void forceDirectory(Path directory) throws IOException {
+		try(FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+			channel.force(true);
+		}
+	}
+
+	/**
+	 * Private static method used to write out and
+	 * clear a buffer being filled.
+	 * @param buffer ByteBuffer reference in write mode.
+	 * @param channel FileChannel reference to write to.
+	 * @throws IOException if the channel fails.
+	 */
+	private static void drain(ByteBuffer buffer, FileChannel channel) throws IOException {
+		buffer.flip();
+		while(buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		buffer.clear();
+	}
+
+	/**
+	 * Method designed to force every record to disk,
+	 * detach the log from its list and close the file.
+	 * The list keeps its assignments but is no longer
+	 * durable.
+	 * @throws IOException if the last sync fails.
+	 */
+	@Override
+	public void close() throws IOException {
+		synchronized(this.list) {
+			if(this.closed) {
+				return;
+			}
+			this.closed = true;
+			this.list.setLog(null);
+		}
+		if(this.flusher != null) {
+			LockSupport.unpark(this.flusher);
+		}
+		try {
+			this.sync();
+		}finally {
+			this.channel.close();
+		}
+	}
+
+	/**
+	 * Accessor method used to get the number of records
+	 * replayed when the log was opened.
+	 * @return long value containing the record count.
+	 */
+	public long getRecoveredCount() {
+		return this.recoveredCount;
+	}
+
+	/**
+	 * Accessor method used to get the number of records
+	 * appended since the log was opened.
+	 * @return long value containing the record count.
+	 */
+	public long getAppendedCount() {
+		this.lock.lock();
+		try {
+			return this.appended;
+		}finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Accessor method used to get the number of times
+	 * the log was forced to disk. Fewer syncs than records
+	 * means writers were committed in groups.
+	 * @return long value containing the sync count.
+	 */
+	public long getSyncCount() {
+		this.lock.lock();
+		try {
+			return this.syncCount;
+		}finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Accessor method used to get the durability
+	 * setting of the log.
+	 * @return Durability of each commit.
+	 */
+	public Durability getDurability() {
+		return this.durability;
+	}
+
+	/**
+	 * Overridden method from Object class.
+	 * Used to describe the log and its counters.
+	 * @return String object describing the log.
+	 */
+	@Override
+	public String toString() {
+		return String.format("%s (%s, commit delay %d us): %d recovered, %d appended, %d syncs",
+				this.file, this.durability, TimeUnit.NANOSECONDS.toMicros(this.commitDelay),
+				this.recoveredCount, this.getAppendedCount(), this.getSyncCount());
+	}
+}
@@ -0,0 +1,256 @@
+package chapter_two.project_one;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+
+/**
+ * @author Noah Teshima
+ * Test suite for AssignmentLog class
+ */
+public class AssignmentLogTest {
+
+	/**
+	 * Private static method used to get the
+	 * assignments of a list in order.
+	 * @param list HomeworkList reference to read.
+	 * @return List object holding the assignments.
+	 */
+	private static List<Assignment> contents(HomeworkList list) {
+		List<Assignment> contents = new ArrayList<>();
+		for(Assignment assignment : list) {
+			contents.add(assignment);
+		}
+		return contents;
+	}
+
+	/**
+	 * Private static method used to create an empty
+	 * log file, deleted when the tests finish.
+	 * @return Path object of the file.
+	 * @throws IOException if the file cannot be created.
+	 */
+	private static Path newFile() throws IOException {
+		Path file = Files.createTempFile("assignments", ".log");
+		file.toFile().deleteOnExit();
+		return file;
+	}
+
+	/**
+	 * Private static method used to open a log over
+	 * a new list, read it back and close it again.
+	 * @param file Path reference of the log.
+	 * @return HomeworkList object holding the replayed
+	 * assignments.
+	 * @throws IOException if the log cannot be read.
+	 */
+	private static HomeworkList reopen(Path file) throws IOException {
+		HomeworkList list = new HomeworkList();
+		AssignmentLog.open(file, list, AssignmentLog.Durability.SYNC).close();
+		return list;
+	}
+
+	/**
+	 * Test method for {@link chapter_two.project_one.AssignmentLog#open(java.nio.file.Path, chapter_two.project_one.HomeworkList, chapter_two.project_one.AssignmentLog.Durability)}.
+	 */
+	@Test
+	public void replayTest() throws IOException {
+		Path file = AssignmentLogTest.newFile();
+		HomeworkList list = new HomeworkList();
+
+		try(AssignmentLog log = AssignmentLog.open(file, list, AssignmentLog.Durability.SYNC)) {
+			list.add(new Assignment("b", new Date(2000)));
+			list.addAll(Arrays.asList(new Assignment("c", new Date(3000)),
+					new Assignment("a", new Date(1000))));
+			list.remove(new Assignment("b", new Date(2000)));
+			list.add(new Assignment("d", new Date(500)));
+			Assertions.assertEquals(5, log.getAppendedCount());
+		}
+		HomeworkList recovered = new HomeworkList();
+		try(AssignmentLog log = AssignmentLog.open(file, recovered, AssignmentLog.Durability.SYNC)) {
+			Assertions.assertEquals(5, log.getRecoveredCount());
+		}
+
+		Assertions.assertEquals(AssignmentLogTest.contents(list), AssignmentLogTest.contents(recovered));
+		Assertions.assertEquals(3, recovered.getSize());
+		Assertions.assertNull(recovered.getLog(), "Closed log is still attached");
+	}
+
+	/**
+	 * Test method for {@link chapter_two.project_one.AssignmentLog#open(java.nio.file.Path, chapter_two.project_one.HomeworkList, chapter_two.project_one.AssignmentLog.Durability)}.
+	 */
+	@Test
+	public void tornTailTest() throws IOException {
+		Path file = AssignmentLogTest.newFile();
+		HomeworkList list = new HomeworkList();
+		try(AssignmentLog log = AssignmentLog.open(file, list, AssignmentLog.Durability.SYNC)) {
+			list.add(new Assignment("first", new Date(1000)));
+			list.add(new Assignment("second", new Date(2000)));
+		}
+		long size = Files.size(file);
+		//cut the last record short, as a crash mid-write would
+		try(RandomAccessFile raw = new RandomAccessFile(file.toFile(), "rw")) {
+			raw.setLength(size - 3);
+		}
+
+		HomeworkList recovered = new HomeworkList();
+		try(AssignmentLog log = AssignmentLog.open(file, recovered, AssignmentLog.Durability.SYNC)) {
+			Assertions.assertEquals(1, log.getRecoveredCount());
+			recovered.add(new Assignment("third", new Date(3000)));
+		}
+
+		List<Assignment> contents = AssignmentLogTest.contents(AssignmentLogTest.reopen(file));
+		Assertions.assertEquals(Arrays.asList(new Assignment("first", new Date(1000)),
+				new Assignment("third", new Date(3000))), contents);
+	}
+
+	/**
+	 * Test method for {@link chapter_two.project_one.AssignmentLog#open(java.nio.file.Path, chapter_two.project_one.HomeworkList, chapter_two.project_one.AssignmentLog.Durability)}.
+	 */
+	@Test
+	public void corruptRecordTest() throws IOException {
+		Path file = AssignmentLogTest.newFile();
+		HomeworkList list = new HomeworkList();
+		long firstEnd;
+		try(AssignmentLog log = AssignmentLog.open(file, list, AssignmentLog.Durability.SYNC)) {
+			list.add(new Assignment("first", new Date(1000)));
+			log.sync();
+			firstEnd = Files.size(file);
+			list.add(new Assignment("second", new Date(2000)));
+			list.add(new Assignment("third", new Date(3000)));
+		}
+		//flip a byte of the second description, so its checksum fails
+		try(RandomAccessFile raw = new RandomAccessFile(file.toFile(), "rw")) {
+			raw.seek(firstEnd + 14);
+			raw.write(raw.read() ^ 0xFF);
+		}
+
+		HomeworkList recovered = AssignmentLogTest.reopen(file);
+
+		Assertions.assertEquals(Arrays.asList(new Assignment("first", new Date(1000))),
+				AssignmentLogTest.contents(recovered));
+		Assertions.assertEquals(firstEnd, Files.size(file));
+	}
+
+	/**
+	 * Test method for {@link chapter_two.project_one.AssignmentLog#compact()}.
+	 */
+	@Test
+	public void compactTest() throws IOException {
+		Path file = AssignmentLogTest.newFile();
+		HomeworkList list = new HomeworkList();
+		try(AssignmentLog log = AssignmentLog.open(file, list, AssignmentLog.Durability.WRITE)) {
+			for(int index = 0; index < 100; index++) {
+				list.add(new Assignment("a" + index, new Date(index * 1000L)));
+			}
+			for(int index = 0; index < 90; index++) {
+				list.remove(new Assignment("a" + index, new Date(index * 1000L)));
+			}
+			long before = Files.size(file);
+			log.compact();
+			Assertions.assertTrue(Files.size(file) < before / 10, "Compacted log did not shrink");
+			list.add(new Assignment("late", new Date(500_000)));
+		}
+
+		HomeworkList recovered = new HomeworkList();
+		try(AssignmentLog log = AssignmentLog.open(file, recovered, AssignmentLog.Durability.SYNC)) {
+			Assertions.assertEquals(11, log.getRecoveredCount());
+		}
+		Assertions.assertEquals(AssignmentLogTest.contents(list), AssignmentLogTest.contents(recovered));
+	}
+
+	/**
+	 * Test method for {@link chapter_two.project_one.AssignmentLog#getSyncCount()}.
+	 */
+	@Test
+	public void groupCommitTest() throws IOException, InterruptedException {
+		Path file = AssignmentLogTest.newFile();
+		HomeworkList list = new HomeworkList();
+		Thread[] writers = new Thread[4];
+		try(AssignmentLog log = AssignmentLog.open(file, list, AssignmentLog.Durability.SYNC,
+				Duration.ofMillis(2), Duration.ofMillis(100))) {
+			for(int thread = 0; thread < writers.length; thread++) {
+				int writer = thread;
+				writers[thread] = new Thread(() -> {
+					for(int index = 0; index < 50; index++) {
+						list.add(new Assignment(writer + ":" + index, new Date(index * 1000L)));
+					}
+				});
+				writers[thread].start();
+			}
+			for(Thread writer : writers) {
+				writer.join();
+			}
+
+			Assertions.assertEquals(200, log.getAppendedCount());
+			Assertions.assertTrue(log.getSyncCount() < 200, "Writers were not committed in groups");
+		}
+
+		Assertions.assertEquals(200, AssignmentLogTest.reopen(file).getSize());
+	}
+
+	/**
+	 * Test method for {@link chapter_two.project_one.AssignmentLog#close()}.
+	 */
+	@Test
+	public void closeDetachesTest() throws IOException {
+		Path file = AssignmentLogTest.newFile();
+		HomeworkList list = new HomeworkList();
+		AssignmentLog log = AssignmentLog.open(file, list, AssignmentLog.Durability.ASYNC);
+
+		list.add(new Assignment("kept", new Date(1000)));
+		log.close();
+		list.add(new Assignment("memory only", new Date(2000)));
+		list.remove(new Assignment("kept", new Date(1000)));
+
+		Assertions.assertEquals(1, list.getSize());
+		Assertions.assertEquals(Arrays.asList(new Assignment("kept", new Date(1000))),
+				AssignmentLogTest.contents(AssignmentLogTest.reopen(file)));
+	}
+
+	/**
+	 * Test method for {@link chapter_two.project_one.HomeworkList#remove(chapter_two.project_one.Assignment)}.
+	 */
+	@Test
+	public void failedLogRemoveTest() throws IOException {
+		Path file = AssignmentLogTest.newFile();
+		HomeworkList list = new HomeworkList();
+		AssignmentLog log = AssignmentLog.open(file, list, AssignmentLog.Durability.SYNC);
+		list.add(new Assignment("kept", new Date(1000)));
+
+		//an interrupted write closes the channel, failing the log
+		Thread.currentThread().interrupt();
+		try {
+			list.add(new Assignment("failed", new Date(2000)));
+			Assertions.fail("Failed write was not reported");
+		}catch(UncheckedIOException e) {
+		}finally {
+			Thread.interrupted();
+		}
+		try {
+			list.remove(new Assignment("kept", new Date(1000)));
+			Assertions.fail("Removal was not refused by the failed log");
+		}catch(UncheckedIOException e) {
+		}
+		try {
+			log.close();
+		}catch(IOException e) {
+			//the failure is reported again on close
+		}
+
+		Assertions.assertTrue(AssignmentLogTest.contents(list).contains(new Assignment("kept", new Date(1000))),
+				"Removal the log refused was applied");
+		Assertions.assertEquals(Arrays.asList(new Assignment("kept", new Date(1000))),
+				AssignmentLogTest.contents(AssignmentLogTest.reopen(file)));
+	}
+}
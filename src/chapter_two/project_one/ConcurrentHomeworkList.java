@@ -0,0 +1,223 @@
+package chapter_two.project_one;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe assignment list ordered by
+ * due date. Sorted insertion is lock-free
+ * through a concurrent skip list, and the
+ * earliest assignment can be taken atomically
+ * by any number of worker threads. Every add
+ * releases a permit that wakes a waiting taker,
+ * which then looks at the list again; permits are
+ * only hints, so removing never has to reserve one
+ * and a poll never misses an assignment that is
+ * in the list.
+ * @author Noah Teshima
+ *
+ */
+public class ConcurrentHomeworkList {
+
+	/**
+	 * Private static inner class used to keep
+	 * assignments with the same due date apart
+	 * inside of the skip list. Entries are ordered
+	 * by due date, then by insertion sequence.
+	 * @author Noah Teshima
+	 */
+	private static class Entry {
+		private final Assignment assignment;
+		private final long dueTime;
+		private final long sequence;
+
+		/**
+		 * Constructor used to set the entry's
+		 * assignment and insertion sequence.
+		 * @param assignment Assignment reference
+		 * held by the entry.
+		 * @param sequence long value containing the
+		 * insertion order of the entry.
+		 */
+		public Entry(Assignment assignment, long sequence) {
+			this.assignment = assignment;
+			this.dueTime = assignment.getDate().getTime();
+			this.sequence = sequence;
+		}
+	}
+
+	private static final Comparator<Entry> ORDER =
+			Comparator.<Entry>comparingLong(entry -> entry.dueTime)
+			.thenComparingLong(entry -> entry.sequence);
+
+	private final ConcurrentSkipListSet<Entry> list;
+	private final Semaphore available;
+	private final AtomicLong sequence;
+	private final AtomicInteger size;
+
+	/**
+	 * Default constructor used to
+	 * instantiate an empty concurrent
+	 * list for assignments.
+	 */
+	public ConcurrentHomeworkList() {
+		this.list = new ConcurrentSkipListSet<>(ConcurrentHomeworkList.ORDER);
+		this.available = new Semaphore(0);
+		this.sequence = new AtomicLong();
+		this.size = new AtomicInteger();
+	}
+
+	/**
+	 * Mutator method designed to add a new
+	 * assignment by due date. Assignments
+	 * with the same due date are kept in
+	 * insertion order.
+	 * @param assignment Assignment reference
+	 * to add to the current list.
+	 */
+	public void add(Assignment assignment) {
+		this.list.add(new Entry(assignment, this.sequence.getAndIncrement()));
+		this.size.incrementAndGet();
+		//wake a taker only after the entry is visible to it
+		this.available.release();
+	}
+
+	/**
+	 * Mutator method designed to remove the
+	 * first assignment from the list equal
+	 * to the given assignment.
+	 * @param assignment Assignment reference
+	 * to remove from the list if equal in value
+	 * to any of the current assignments.
+	 * @return boolean value determining whether
+	 * an assignment was removed.
+	 */
+	public boolean remove(Assignment assignment) {
+		Iterator<Entry> iterator = this.list.iterator();
+		while(iterator.hasNext()) {
+			Entry entry = iterator.next();
+			if(entry.assignment.equals(assignment)
+					&& this.list.remove(entry)) {
+				this.removed(false);
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Mutator method designed to atomically
+	 * remove and return the earliest assignment.
+	 * @return Assignment object containing the
+	 * earliest assignment. If the list is empty,
+	 * null is returned.
+	 */
+	public Assignment pollEarliest() {
+		Entry entry = this.list.pollFirst();
+		if(entry == null) {
+			return null;
+		}
+		this.removed(false);
+		return entry.assignment;
+	}
+
+	/**
+	 * Mutator method designed to atomically
+	 * remove and return the earliest assignment,
+	 * waiting up to the given timeout for one to
+	 * be added if the list is empty.
+	 * @param timeout long value containing the
+	 * maximum time to wait.
+	 * @param unit TimeUnit reference containing
+	 * the unit of the timeout.
+	 * @return Assignment object containing the
+	 * earliest assignment. If the timeout elapses
+	 * before an assignment is available, null is
+	 * returned.
+	 * @throws InterruptedException if the current
+	 * thread is interrupted while waiting.
+	 */
+	public Assignment takeEarliest(long timeout, TimeUnit unit)
+			throws InterruptedException {
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+		boolean woken = false;
+		while(true) {
+			Entry entry = this.list.pollFirst();
+			if(entry != null) {
+				this.removed(woken);
+				return entry.assignment;
+			}
+			//a permit only means the list is worth another look
+			woken = this.available.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+			if(!woken) {
+				return null;
+			}
+		}
+	}
+
+	/**
+	 * Private mutator method designed to account
+	 * for an entry taken out of the list. The entry's
+	 * permit is consumed if the caller has not already
+	 * used one to wake up. When the adder has not
+	 * released it yet, it is left behind, and only
+	 * costs a taker one more look at the list.
+	 * @param woken boolean value determining whether
+	 * the caller already holds a permit.
+	 */
+	private void removed(boolean woken) {
+		this.size.decrementAndGet();
+		if(!woken) {
+			this.available.tryAcquire();
+		}
+	}
+
+	/**
+	 * Accessor method used to get the
+	 * earliest assignment without removing it.
+	 * @return Assignment object containing the
+	 * first assignment. If the list is empty,
+	 * null is returned.
+	 */
+	public Assignment getEarliestAssignment() {
+		//iterator is weakly consistent, so a concurrent poll cannot throw
+		Iterator<Entry> iterator = this.list.iterator();
+		return iterator.hasNext() ? iterator.next().assignment : null;
+	}
+
+	/**
+	 * Accessor method designed to get the size of the
+	 * list.
+	 * @return integer value containing the size of the
+	 * list.
+	 */
+	public int getSize() {
+		return this.size.get();
+	}
+
+	/**
+	 * Overridden method from Object class.
+	 * Used to get information about each assignment
+	 * and the total number of assignments.
+	 * @return String object containing information about
+	 * each assignment and the total number of assignments.
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("[");
+		String separator = "";
+		for(Entry entry : this.list) {
+			builder.append(separator).append(entry.assignment);
+			separator = ", ";
+		}
+		return builder.append("]\n")
+				.append("Size: ")
+				.append(this.size.get())
+				.toString();
+	}
+}
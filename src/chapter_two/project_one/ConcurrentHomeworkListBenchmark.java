@@ -0,0 +1,137 @@
+package chapter_two.project_one;
+
+import java.util.Date;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Contention benchmark for ConcurrentHomeworkList.
+ * Each thread alternates between adding an assignment
+ * and polling the earliest one, for thread counts from
+ * 1 to 64. A synchronized HomeworkList is measured
+ * alongside as a baseline.
+ * @author Noah Teshima
+ *
+ */
+public class ConcurrentHomeworkListBenchmark {
+	private static final int OPERATIONS_PER_THREAD = 5_000;
+	private static final int PREFILL = 1_000;
+	private static final int MAX_THREADS = 64;
+
+	/**
+	 * Private interface used to run the same workload
+	 * against both list implementations.
+	 * @author Noah Teshima
+	 */
+	private interface Workload {
+		/**
+		 * Abstract method used to add the given
+		 * assignment.
+		 * @param assignment Assignment reference to add.
+		 */
+		public void add(Assignment assignment);
+
+		/**
+		 * Abstract method used to take the earliest
+		 * assignment.
+		 * @return Assignment object removed, or null.
+		 */
+		public Assignment poll();
+	}
+
+	/**
+	 * Entry point of the benchmark.
+	 * @param args unused command line arguments.
+	 * @throws InterruptedException if interrupted while
+	 * waiting for worker threads.
+	 */
+	public static void main(String[] args) throws InterruptedException {
+		System.out.printf("%8s %20s %20s%n", "threads", "concurrent ops/s", "synchronized ops/s");
+		for(int threads = 1; threads <= MAX_THREADS; threads *= 2) {
+			ConcurrentHomeworkList concurrent = new ConcurrentHomeworkList();
+			HomeworkList baseline = new HomeworkList();
+			Object lock = new Object();
+
+			double concurrentRate = run(threads, new Workload() {
+				@Override
+				public void add(Assignment assignment) {
+					concurrent.add(assignment);
+				}
+
+				@Override
+				public Assignment poll() {
+					return concurrent.pollEarliest();
+				}
+			});
+			double baselineRate = run(threads, new Workload() {
+				@Override
+				public void add(Assignment assignment) {
+					synchronized(lock) {
+						baseline.add(assignment);
+					}
+				}
+
+				@Override
+				public Assignment poll() {
+					synchronized(lock) {
+						Assignment earliest = baseline.getEarliestAssignment();
+						if(earliest != null) {
+							baseline.remove(earliest);
+						}
+						return earliest;
+					}
+				}
+			});
+			System.out.printf("%8d %20.0f %20.0f%n", threads, concurrentRate, baselineRate);
+		}
+	}
+
+	/**
+	 * Private static method used to run the workload
+	 * on the given number of threads.
+	 * @param threads integer value containing the
+	 * number of threads.
+	 * @param workload Workload reference to run.
+	 * @return double value containing the number of
+	 * operations per second across all threads.
+	 * @throws InterruptedException if interrupted while
+	 * waiting for worker threads.
+	 */
+	private static double run(int threads, Workload workload) throws InterruptedException {
+		long now = System.currentTimeMillis();
+		for(int index = 0; index < PREFILL; index++) {
+			workload.add(new Assignment("prefill " + index,
+					new Date(now + ThreadLocalRandom.current().nextInt(1_000_000))));
+		}
+
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(threads);
+		for(int thread = 0; thread < threads; thread++) {
+			new Thread(() -> {
+				ThreadLocalRandom random = ThreadLocalRandom.current();
+				try {
+					start.await();
+				}catch(InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				for(int operation = 0; operation < OPERATIONS_PER_THREAD; operation++) {
+					if((operation & 1) == 0) {
+						workload.add(new Assignment("task " + operation,
+								new Date(now + random.nextInt(1_000_000))));
+					}else {
+						workload.poll();
+					}
+				}
+				done.countDown();
+			}).start();
+		}
+
+		long begin = System.nanoTime();
+		start.countDown();
+		done.await();
+		long elapsed = System.nanoTime() - begin;
+
+		return (threads * (double) OPERATIONS_PER_THREAD) / (elapsed / 1e9);
+	}
+}
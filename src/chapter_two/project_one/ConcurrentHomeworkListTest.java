@@ -0,0 +1,129 @@
+package chapter_two.project_one;
+
+import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+
+/**
+ * @author Noah Teshima
+ * Test suite for ConcurrentHomeworkList class
+ */
+public class ConcurrentHomeworkListTest {
+
+	/**
+	 * Test method for {@link chapter_two.project_one.ConcurrentHomeworkList#pollEarliest()}.
+	 */
+	@Test
+	public void pollOrderTest() {
+		ConcurrentHomeworkList list = new ConcurrentHomeworkList();
+
+		list.add(new Assignment("second", new Date(2000)));
+		list.add(new Assignment("first", new Date(1000)));
+		list.add(new Assignment("tied", new Date(2000)));
+
+		Assertions.assertEquals("first", list.pollEarliest().getAssignment());
+		Assertions.assertEquals("second", list.pollEarliest().getAssignment());
+		Assertions.assertTrue(list.remove(new Assignment("tied", new Date(2000))));
+		Assertions.assertNull(list.pollEarliest());
+		Assertions.assertEquals(0, list.getSize());
+	}
+
+	/**
+	 * Test method for {@link chapter_two.project_one.ConcurrentHomeworkList#remove(chapter_two.project_one.Assignment)}.
+	 */
+	@Test
+	public void pollDuringRemoveTest() throws InterruptedException {
+		ConcurrentHomeworkList list = new ConcurrentHomeworkList();
+		AtomicBoolean running = new AtomicBoolean(true);
+		for(int index = 0; index < 2000; index++) {
+			list.add(new Assignment("a" + index, new Date(index)));
+		}
+		Thread remover = new Thread(() -> {
+			Assignment absent = new Assignment("absent", new Date(-1));
+			while(running.get()) {
+				list.remove(absent);
+			}
+		});
+		remover.start();
+
+		try {
+			for(int index = 0; index < 2000; index++) {
+				Assertions.assertNotNull(list.pollEarliest(), "Poll missed an assignment in the list");
+			}
+		}finally {
+			running.set(false);
+			remover.join();
+		}
+	}
+
+	/**
+	 * Test method for {@link chapter_two.project_one.ConcurrentHomeworkList#takeEarliest(long, java.util.concurrent.TimeUnit)}.
+	 */
+	@Test
+	public void takeUnderContentionTest() throws InterruptedException {
+		ConcurrentHomeworkList list = new ConcurrentHomeworkList();
+		Set<String> taken = ConcurrentHashMap.newKeySet();
+		Thread[] threads = new Thread[6];
+
+		for(int thread = 0; thread < 3; thread++) {
+			int producer = thread;
+			threads[thread] = new Thread(() -> {
+				for(int index = 0; index < 1000; index++) {
+					list.add(new Assignment(producer + ":" + index, new Date(index)));
+					if(index % 10 == 0) {
+						list.remove(new Assignment("absent", new Date(index)));
+					}
+				}
+			});
+		}
+		for(int thread = 3; thread < 6; thread++) {
+			boolean polling = (thread == 3);
+			threads[thread] = new Thread(() -> {
+				try {
+					while(true) {
+						Assignment assignment = polling ? list.pollEarliest()
+								: list.takeEarliest(500, TimeUnit.MILLISECONDS);
+						if(assignment != null) {
+							Assertions.assertTrue(taken.add(assignment.getAssignment()), "Taken twice");
+						}else if(!polling) {
+							return;
+						}else if(taken.size() == 3000) {
+							return;
+						}
+					}
+				}catch(InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+		}
+		for(Thread thread : threads) {
+			thread.start();
+		}
+		for(Thread thread : threads) {
+			thread.join(30000);
+		}
+
+		Assertions.assertEquals(3000, taken.size());
+		Assertions.assertEquals(0, list.getSize());
+	}
+
+	/**
+	 * Test method for {@link chapter_two.project_one.ConcurrentHomeworkList#takeEarliest(long, java.util.concurrent.TimeUnit)}.
+	 */
+	@Test
+	public void takeTimeoutTest() throws InterruptedException {
+		ConcurrentHomeworkList list = new ConcurrentHomeworkList();
+		Assignment assignment = new Assignment("late", new Date(1000));
+
+		Assertions.assertNull(list.takeEarliest(10, TimeUnit.MILLISECONDS));
+		Thread adder = new Thread(() -> list.add(assignment));
+		adder.start();
+		Assertions.assertEquals(assignment, list.takeEarliest(5, TimeUnit.SECONDS));
+		adder.join();
+	}
+}
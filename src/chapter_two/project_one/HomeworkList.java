@@ -1,19 +1,70 @@
 package chapter_two.project_one;
 
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.ListIterator;
+import java.util.PriorityQueue;
+
+import structures.observable_list.ChangePublisher;
+import structures.observable_list.ListChange;
 
 /**
  * Assignment list implementation with
  * the Collections framework doubly linked list.
+ * In columnar mode the assignments are kept in
+ * AssignmentColumns instead, where searches, counts
+ * and range queries by due date run over a sorted
+ * array of due times. In durable mode every add
+ * and remove is first recorded in an AssignmentLog,
+ * and writers may then call from several threads,
+ * as each change is made holding the list's monitor.
+ * Readers sharing a durable list with writers must
+ * synchronize on the list as well. In observable mode
+ * every add and remove is published, with its position
+ * in due date order, to the subscribers of a
+ * ChangePublisher.
  * @author Noah Teshima
  *
  */
-public class HomeworkList {
+public class HomeworkList implements Iterable<Assignment> {
+
+	/**
+	 * Private static inner class used to hold a
+	 * candidate for a top-k query, along with its
+	 * position in the list so that ties keep list order.
+	 * @author Noah Teshima
+	 */
+	private static class Candidate {
+		private final Assignment assignment;
+		private final int position;
+
+		/**
+		 * Constructor used to set the candidate's
+		 * assignment and position.
+		 * @param assignment Assignment reference held.
+		 * @param position integer value containing the
+		 * position of the assignment in the list.
+		 */
+		public Candidate(Assignment assignment, int position) {
+			this.assignment = assignment;
+			this.position = position;
+		}
+	}
+
 	private LinkedList<Assignment> list;
+	private AssignmentColumns columns;
 	private int size;
+	private AssignmentIndex index;
+	private volatile AssignmentLog log;
+	private volatile ChangePublisher<Assignment> changes;
 	
 	/**
 	 * Default constructor used to
@@ -27,40 +78,246 @@ public class HomeworkList {
 	
 	/**
 	 * Mutator method designed to add a new
-	 * assignment by due date.
+	 * assignment by due date. In durable mode the
+	 * addition is logged first, and the method returns
+	 * once the log's durability setting is met.
 	 * @param assignment Assignment reference
 	 * to add to the current list.
+	 * @throws UncheckedIOException if the log fails.
 	 */
-	public void add(Assignment assignment) {
-		ListIterator<Assignment> iterator = this.list.listIterator();
-		while(iterator.hasNext()) {
-			if(assignment.compareTo(iterator.next()) < 0) {
-				iterator.previous();
-				iterator.add(assignment);
-				this.size++;
+	public void add(Assignment assignment) throws UncheckedIOException {
+		AssignmentLog log = this.log;
+		if(log == null) {
+			this.insert(assignment);
+			return;
+		}
+		long sequence;
+		synchronized(this) {
+			//the log may have been closed before the monitor was taken
+			log = this.log;
+			if(log == null) {
+				this.insert(assignment);
 				return;
 			}
+			sequence = log.append(AssignmentLog.ADD, assignment);
+			this.insert(assignment);
+		}
+		log.commit(sequence);
+	}
+
+	/**
+	 * Private method used to add an assignment
+	 * to the storage and the search index.
+	 * @param assignment Assignment reference to add.
+	 */
+	private void insert(Assignment assignment) {
+		int position;
+		if(this.columns != null) {
+			position = this.columns.add(assignment);
+		}else if(this.size == 0 || assignment.compareTo(this.list.getLast()) >= 0) {
+			//append directly when added in due date order
+			this.list.addLast(assignment);
+			position = this.size;
+		}else {
+			//a later assignment exists, so the search always stops
+			ListIterator<Assignment> iterator = this.list.listIterator();
+			while(assignment.compareTo(iterator.next()) >= 0) {
+			}
+			iterator.previous();
+			iterator.add(assignment);
+			position = iterator.previousIndex();
 		}
-		iterator.add(assignment);
 		this.size++;
+		if(this.index != null) {
+			this.index.add(assignment);
+		}
+		ChangePublisher<Assignment> changes = this.changes;
+		if(changes != null) {
+			changes.publish(ListChange.Type.ADD, position, assignment, null);
+		}
 	}
-	
+
+	/**
+	 * Mutator method designed to add a batch
+	 * of assignments by due date. The batch is
+	 * sorted once and merged into the list in a
+	 * single pass, rather than searching the list
+	 * for every assignment.
+	 * In durable mode the whole batch is logged and
+	 * committed together.
+	 * @param assignments Collection of assignments
+	 * to add to the current list.
+	 * @throws UncheckedIOException if the log fails.
+	 */
+	public void addAll(Collection<Assignment> assignments) throws UncheckedIOException {
+		Assignment[] batch = assignments.toArray(new Assignment[0]);
+		//stable sort keeps equal due dates in batch order
+		Arrays.sort(batch);
+
+		AssignmentLog log = this.log;
+		if(log == null) {
+			this.insertAll(batch);
+			return;
+		}
+		long sequence = 0;
+		synchronized(this) {
+			log = this.log;
+			if(log == null) {
+				this.insertAll(batch);
+				return;
+			}
+			for(Assignment assignment : batch) {
+				sequence = log.append(AssignmentLog.ADD, assignment);
+			}
+			this.insertAll(batch);
+		}
+		log.commit(sequence);
+	}
+
+	/**
+	 * Private method used to merge a sorted batch
+	 * into the storage and the search index.
+	 * @param batch Array of assignments sorted by
+	 * due date.
+	 */
+	private void insertAll(Assignment[] batch) {
+		ChangePublisher<Assignment> changes = this.changes;
+		if(this.columns != null) {
+			if(changes != null && changes.hasSubscribers()) {
+				//each row is published as it lands, so a RESET copy matches the changes before it
+				for(Assignment assignment : batch) {
+					this.insert(assignment);
+				}
+				return;
+			}
+			this.columns.addAll(batch);
+			this.size += batch.length;
+			if(this.index != null) {
+				for(Assignment assignment : batch) {
+					this.index.add(assignment);
+				}
+			}
+			return;
+		}
+		ListIterator<Assignment> iterator = this.list.listIterator();
+		for(Assignment assignment : batch) {
+			while(iterator.hasNext()) {
+				if(assignment.compareTo(iterator.next()) < 0) {
+					iterator.previous();
+					break;
+				}
+			}
+			iterator.add(assignment);
+			this.size++;
+			if(this.index != null) {
+				this.index.add(assignment);
+			}
+			if(changes != null) {
+				changes.publish(ListChange.Type.ADD, iterator.previousIndex(), assignment, null);
+			}
+		}
+	}
+
 	/**
 	 * Mutator method designed to remove the
 	 * first assignment from the list equal
-	 * to the given assignment.
+	 * to the given assignment. In durable mode the
+	 * removal is logged before the list changes.
 	 * @param assignment Assignment reference
 	 * to remove from the list if equal in value
 	 * to any of the current assignments.
+	 * @throws UncheckedIOException if the log fails.
+	 */
+	public void remove(Assignment assignment) throws UncheckedIOException {
+		AssignmentLog log = this.log;
+		if(log == null) {
+			this.delete(assignment);
+			return;
+		}
+		long sequence;
+		synchronized(this) {
+			//the log may have been closed before the monitor was taken
+			log = this.log;
+			if(log == null) {
+				this.delete(assignment);
+				return;
+			}
+			if(!this.holds(assignment)) {
+				return;
+			}
+			sequence = log.append(AssignmentLog.REMOVE, assignment);
+			this.delete(assignment);
+		}
+		log.commit(sequence);
+	}
+
+	/**
+	 * Private method used to determine whether an
+	 * assignment equal to the given one is stored,
+	 * without changing anything.
+	 * @param assignment Assignment reference to look for.
+	 * @return boolean value determining whether an
+	 * equal assignment is stored.
+	 */
+	private boolean holds(Assignment assignment) {
+		if(this.columns != null) {
+			//equal assignments share a due date, so only that run is searched
+			long dueTime = assignment.getDueTime();
+			int last = this.columns.upperBound(dueTime);
+			for(int position = this.columns.lowerBound(dueTime); position < last; position++) {
+				if(this.columns.get(position).equals(assignment)) {
+					return true;
+				}
+			}
+			return false;
+		}
+		return this.list.contains(assignment);
+	}
+
+	/**
+	 * Private method used to remove every assignment
+	 * equal to the given one from the storage and the
+	 * search index.
+	 * @param assignment Assignment reference to remove.
+	 * @return integer value containing the number of
+	 * assignments removed.
 	 */
-	public void remove(Assignment assignment) {
-		Iterator<Assignment> iterator = this.list.iterator();
+	private int delete(Assignment assignment) {
+		int before = this.size;
+		ChangePublisher<Assignment> changes = this.changes;
+		if(this.columns != null) {
+			//equal assignments share a due date, so only that run is searched
+			long dueTime = assignment.getDueTime();
+			int from = this.columns.lowerBound(dueTime);
+			for(int position = this.columns.upperBound(dueTime) - 1; position >= from; position--) {
+				if(this.columns.get(position).equals(assignment)) {
+					Assignment removed = this.columns.remove(position);
+					this.size--;
+					if(this.index != null) {
+						this.index.remove(removed);
+					}
+					if(changes != null) {
+						changes.publish(ListChange.Type.REMOVE, position, removed, null);
+					}
+				}
+			}
+			return before - this.size;
+		}
+		ListIterator<Assignment> iterator = this.list.listIterator();
 		while(iterator.hasNext()) {
-			if(iterator.next().equals(assignment)) {
+			Assignment current = iterator.next();
+			if(current.equals(assignment)) {
 				iterator.remove();
 				this.size--;
+				if(this.index != null) {
+					this.index.remove(current);
+				}
+				if(changes != null) {
+					changes.publish(ListChange.Type.REMOVE, iterator.nextIndex(), current, null);
+				}
 			}
 		}
+		return before - this.size;
 	}
 	
 	/**
@@ -71,7 +328,342 @@ public class HomeworkList {
 	 * empty, null is returned.
 	 */
 	public Assignment getEarliestAssignment() {
-		return (this.size > 0) ? this.list.getFirst() : null;
+		if(this.size == 0) {
+			return null;
+		}
+		return (this.columns != null) ? this.columns.get(0) : this.list.getFirst();
+	}
+
+	/**
+	 * Accessor method used to get the assignments
+	 * due first, earliest first. Only the first n
+	 * assignments are visited.
+	 * @param n integer value containing the most
+	 * assignments to return.
+	 * @return List object containing up to n
+	 * assignments by due date.
+	 * @throws IllegalArgumentException if n is negative.
+	 */
+	public List<Assignment> earliest(int n) throws IllegalArgumentException {
+		if(n < 0) {
+			throw new IllegalArgumentException();
+		}
+		int count = Math.min(n, this.size);
+		List<Assignment> earliest = new ArrayList<>(count);
+		Iterator<Assignment> iterator = this.iterator();
+		while(earliest.size() < count) {
+			earliest.add(iterator.next());
+		}
+		return earliest;
+	}
+
+	/**
+	 * Accessor method used to get the assignments
+	 * due last, latest first. Assignments with the
+	 * same due date keep list order, as in topK. Only
+	 * the last n assignments, and the rest of the
+	 * due date the last of them shares, are visited.
+	 * @param n integer value containing the most
+	 * assignments to return.
+	 * @return List object containing up to n
+	 * assignments by descending due date.
+	 * @throws IllegalArgumentException if n is negative.
+	 */
+	public List<Assignment> latest(int n) throws IllegalArgumentException {
+		if(n < 0) {
+			throw new IllegalArgumentException();
+		}
+		int count = Math.min(n, this.size);
+		List<Assignment> latest = new ArrayList<>(count);
+		Iterator<Assignment> iterator = (this.columns != null) ? this.columns.descendingIterator()
+				: this.list.descendingIterator();
+		int runStart = 0;
+		while(runStart < count) {
+			Assignment assignment = (iterator.hasNext()) ? iterator.next() : null;
+			if(assignment == null || (latest.size() > runStart
+					&& assignment.getDueTime() != latest.get(runStart).getDueTime())) {
+				//a run of equal due dates is met last first, so turn it back to list order
+				Collections.reverse(latest.subList(runStart, latest.size()));
+				runStart = latest.size();
+			}
+			if(assignment != null) {
+				latest.add(assignment);
+			}
+		}
+		latest.subList(count, latest.size()).clear();
+		return latest;
+	}
+
+	/**
+	 * Accessor method used to get the first n
+	 * assignments in the order of the given comparator.
+	 * Natural and reverse order are answered from the
+	 * list's own order, as earliest and latest. Any other
+	 * order makes a single pass that keeps the best n
+	 * seen so far in a bounded heap, so memory stays
+	 * proportional to n. Ties keep list order.
+	 * @param n integer value containing the most
+	 * assignments to return.
+	 * @param comparator Comparator reference ordering
+	 * the assignments, best first.
+	 * @return List object containing up to n
+	 * assignments in comparator order.
+	 * @throws IllegalArgumentException if n is negative.
+	 */
+	public List<Assignment> topK(int n, Comparator<? super Assignment> comparator)
+			throws IllegalArgumentException {
+		if(n < 0) {
+			throw new IllegalArgumentException();
+		}
+		if(comparator == Comparator.<Assignment>naturalOrder()) {
+			return this.earliest(n);
+		}else if(comparator == Comparator.<Assignment>reverseOrder()) {
+			return this.latest(n);
+		}
+		int count = Math.min(n, this.size);
+		if(count == 0) {
+			return new ArrayList<>(0);
+		}
+		Comparator<Candidate> order = (first, second) -> {
+			int compare = comparator.compare(first.assignment, second.assignment);
+			return (compare != 0) ? compare : Integer.compare(first.position, second.position);
+		};
+		//the head of the heap is the worst candidate kept
+		PriorityQueue<Candidate> heap = new PriorityQueue<>(count, order.reversed());
+		int position = 0;
+		for(Assignment assignment : this) {
+			if(heap.size() < count) {
+				heap.add(new Candidate(assignment, position));
+			}else if(comparator.compare(assignment, heap.peek().assignment) < 0) {
+				heap.poll();
+				heap.add(new Candidate(assignment, position));
+			}
+			position++;
+		}
+
+		Candidate[] best = heap.toArray(new Candidate[0]);
+		Arrays.sort(best, order);
+		List<Assignment> top = new ArrayList<>(best.length);
+		for(Candidate candidate : best) {
+			top.add(candidate.assignment);
+		}
+		return top;
+	}
+
+	/**
+	 * Accessor method used to count the assignments
+	 * due before the given date.
+	 * @param date Date reference containing the end
+	 * of the range, exclusive.
+	 * @return integer value containing the number of
+	 * assignments due before the date.
+	 */
+	public int countDueBefore(Date date) {
+		return this.countDueBetween(new Date(Long.MIN_VALUE), date);
+	}
+
+	/**
+	 * Accessor method used to count the assignments
+	 * due in the given range. In columnar mode this is
+	 * two binary searches, otherwise the list is walked
+	 * until the end of the range.
+	 * @param from Date reference containing the start
+	 * of the range, inclusive.
+	 * @param to Date reference containing the end of
+	 * the range, exclusive.
+	 * @return integer value containing the number of
+	 * assignments due in the range.
+	 */
+	public int countDueBetween(Date from, Date to) {
+		long start = from.getTime();
+		long end = to.getTime();
+		if(start >= end) {
+			return 0;
+		}
+		if(this.columns != null) {
+			return this.columns.lowerBound(end) - this.columns.lowerBound(start);
+		}
+		int count = 0;
+		for(Assignment assignment : this.list) {
+			long dueTime = assignment.getDueTime();
+			if(dueTime >= end) {
+				break;
+			}
+			if(dueTime >= start) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Accessor method used to get the assignments
+	 * due in the given range, by due date.
+	 * @param from Date reference containing the start
+	 * of the range, inclusive.
+	 * @param to Date reference containing the end of
+	 * the range, exclusive.
+	 * @return List object containing the assignments
+	 * due in the range.
+	 */
+	public List<Assignment> getDueBetween(Date from, Date to) {
+		long start = from.getTime();
+		long end = to.getTime();
+		List<Assignment> due = new ArrayList<>();
+		if(start >= end) {
+			return due;
+		}
+		if(this.columns != null) {
+			int last = this.columns.lowerBound(end);
+			for(int position = this.columns.lowerBound(start); position < last; position++) {
+				due.add(this.columns.get(position));
+			}
+			return due;
+		}
+		for(Assignment assignment : this.list) {
+			long dueTime = assignment.getDueTime();
+			if(dueTime >= end) {
+				break;
+			}
+			if(dueTime >= start) {
+				due.add(assignment);
+			}
+		}
+		return due;
+	}
+
+	/**
+	 * Mutator method used to switch between linked
+	 * and columnar storage. The assignments are moved
+	 * over in order, and every other method behaves
+	 * the same in both modes.
+	 * @param columnar boolean value determining whether
+	 * the list uses columnar storage.
+	 */
+	public void setColumnar(boolean columnar) {
+		if(columnar == this.isColumnar()) {
+			return;
+		}
+		if(columnar) {
+			this.columns = new AssignmentColumns();
+			this.columns.addAll(this.list.toArray(new Assignment[0]));
+			this.list = null;
+		}else {
+			this.list = new LinkedList<>();
+			for(Assignment assignment : this.columns) {
+				this.list.addLast(assignment);
+			}
+			this.columns = null;
+		}
+	}
+
+	/**
+	 * Accessor method used to get the write-ahead
+	 * log of a durable list.
+	 * @return AssignmentLog object, or null if the
+	 * list is not durable.
+	 */
+	public AssignmentLog getLog() {
+		return this.log;
+	}
+
+	/**
+	 * Mutator method used by AssignmentLog to attach
+	 * itself once recovery is done, or to detach on close.
+	 * @param log AssignmentLog reference, or null.
+	 */
+	void setLog(AssignmentLog log) {
+		this.log = log;
+	}
+
+	/**
+	 * Mutator method used to switch observable mode
+	 * on or off. Switching it on creates a publisher
+	 * with the default batch settings, and switching
+	 * it off closes the publisher, completing its
+	 * subscribers once their pending changes are
+	 * delivered.
+	 * @param observable boolean value determining
+	 * whether changes are published.
+	 */
+	public void setObservable(boolean observable) {
+		if(observable == this.isObservable()) {
+			return;
+		}
+		if(observable) {
+			ChangePublisher<Assignment> changes = new ChangePublisher<>();
+			changes.setSource(this);
+			this.changes = changes;
+		}else {
+			ChangePublisher<Assignment> changes = this.changes;
+			this.changes = null;
+			changes.close();
+		}
+	}
+
+	/**
+	 * Accessor method used to check whether the
+	 * list publishes its changes.
+	 * @return boolean value determining whether the
+	 * list is observable.
+	 */
+	public boolean isObservable() {
+		return (this.changes != null);
+	}
+
+	/**
+	 * Accessor method used to get the publisher of
+	 * the list's changes, to subscribe to. Each add
+	 * is published as an ADD and each removal as a
+	 * REMOVE, at the assignment's position by due date.
+	 * @return ChangePublisher object, or null if the
+	 * list is not observable.
+	 */
+	public ChangePublisher<Assignment> getChanges() {
+		return this.changes;
+	}
+
+	/**
+	 * Accessor method used to check whether the
+	 * list uses columnar storage.
+	 * @return boolean value determining whether the
+	 * list uses columnar storage.
+	 */
+	public boolean isColumnar() {
+		return (this.columns != null);
+	}
+	
+	/**
+	 * Accessor method used to get the search index
+	 * over assignment descriptions. The index is
+	 * built from the current assignments on first
+	 * use and kept up to date by every later add
+	 * and remove.
+	 * @return AssignmentIndex object for the list.
+	 */
+	public AssignmentIndex getIndex() {
+		if(this.index == null) {
+			AssignmentIndex index = new AssignmentIndex();
+			for(Assignment assignment : this) {
+				index.add(assignment);
+			}
+			this.index = index;
+		}
+		return this.index;
+	}
+	
+	/**
+	 * Accessor method designed to get an Iterator
+	 * over each assignment by due date. The iterator
+	 * does not support removal.
+	 * @return Iterator object with base type Assignment.
+	 */
+	@Override
+	public Iterator<Assignment> iterator() {
+		if(this.columns != null) {
+			return this.columns.iterator();
+		}
+		return Collections.unmodifiableList(this.list).iterator();
 	}
 	
 	/**
@@ -114,7 +706,7 @@ public class HomeworkList {
 	public String toString() {
 		return String.format("%s\n"
 				+ "Size: %d",
-				this.list,
+				(this.columns != null) ? this.columns : this.list,
 				this.size);
 	}
 }
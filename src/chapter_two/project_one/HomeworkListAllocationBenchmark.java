@@ -0,0 +1,81 @@
+package chapter_two.project_one;
+
+import java.io.IOException;
+import java.util.Date;
+
+import structures.benchmarks.AllocationHarness;
+
+/**
+ * Allocation and latency regression check for the
+ * hot paths of HomeworkList: adding in due date
+ * order, reading the earliest assignment, a full
+ * iteration and an add followed by a remove. Each
+ * operation has a budget of bytes per operation and
+ * of p99 latency, and the process fails if any is
+ * missed. A path may be given as the first argument
+ * to save the report for comparing against another
+ * version.
+ * @author Noah Teshima
+ *
+ */
+public class HomeworkListAllocationBenchmark {
+	private static final int LIST_SIZE = 64;
+	private static final int RESET_SIZE = 1 << 16;
+	private static final long LATENCY_BUDGET = 20_000;
+
+	/**
+	 * Entry point of the benchmark.
+	 * @param args optional path of the report file.
+	 * @throws IOException if the report cannot be written.
+	 */
+	public static void main(String[] args) throws IOException {
+		AllocationHarness harness = new AllocationHarness();
+		HomeworkListAllocationBenchmark.measureAll(harness);
+		harness.finish(args);
+	}
+
+	/**
+	 * Static method designed to measure the hot paths
+	 * of HomeworkList against their budgets, so the
+	 * unit tests can check the same byte budgets as
+	 * the command line.
+	 * @param harness AllocationHarness reference to measure with.
+	 */
+	public static void measureAll(AllocationHarness harness) {
+		long now = System.currentTimeMillis();
+
+		//assignments are built up front, so only the list is measured
+		Assignment[] ordered = new Assignment[RESET_SIZE];
+		for(int index = 0; index < ordered.length; index++) {
+			ordered[index] = new Assignment("assignment " + index, new Date(now + index * 60_000L));
+		}
+
+		HomeworkList[] growing = {new HomeworkList()};
+		harness.measure("HomeworkList.add(in order)", 40, LATENCY_BUDGET, iteration -> {
+			if(growing[0].getSize() == RESET_SIZE) {
+				growing[0] = new HomeworkList();
+			}
+			growing[0].add(ordered[growing[0].getSize()]);
+		});
+
+		HomeworkList list = new HomeworkList();
+		for(int index = 0; index < LIST_SIZE; index++) {
+			list.add(ordered[index]);
+		}
+		Object[] sink = new Object[1];
+		harness.measure("HomeworkList.getEarliestAssignment", 0, LATENCY_BUDGET,
+				iteration -> sink[0] = list.getEarliestAssignment());
+		//the list iterator and its unmodifiable wrapper
+		harness.measure("HomeworkList.iterate(" + LIST_SIZE + ")", 64, LATENCY_BUDGET, iteration -> {
+			for(Assignment assignment : list) {
+				sink[0] = assignment;
+			}
+		});
+		Assignment extra = ordered[LIST_SIZE];
+		//one node for the add, and a search iterator for each call
+		harness.measure("HomeworkList.add+remove", 144, LATENCY_BUDGET, iteration -> {
+			list.add(extra);
+			list.remove(extra);
+		});
+	}
+}
@@ -0,0 +1,29 @@
+package chapter_two.project_one;
+
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+
+import structures.benchmarks.AllocationHarness;
+
+/**
+ * @author Noah Teshima
+ * Test suite for HomeworkListAllocationBenchmark class
+ */
+public class HomeworkListAllocationBenchmarkTest {
+
+	/**
+	 * Test method for {@link chapter_two.project_one.HomeworkListAllocationBenchmark#measureAll(structures.benchmarks.AllocationHarness)}.
+	 */
+	@Test
+	public void byteBudgetTest() {
+		AllocationHarness harness = new AllocationHarness();
+
+		HomeworkListAllocationBenchmark.measureAll(harness);
+
+		//latency depends on the machine, so only the command line checks it
+		for(AllocationHarness.Result result : harness.getResults()) {
+			Assertions.assertTrue(result.withinByteBudget(), "Over its byte budget: " + result);
+		}
+		Assertions.assertEquals(4, harness.getResults().size());
+	}
+}
@@ -0,0 +1,113 @@
+package chapter_two.project_one;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Benchmark comparing linked and columnar storage
+ * in HomeworkList for due date queries: counting
+ * and fetching the assignments in random one day
+ * windows, and counting everything due before the
+ * last due date, which scans the whole list in
+ * linked mode.
+ * @author Noah Teshima
+ *
+ */
+public class HomeworkListColumnarBenchmark {
+	private static final int ASSIGNMENTS = 1_000_000;
+	private static final int QUERIES = 200;
+	private static final long DAY = 86_400_000L;
+	private static final long SPAN = 365 * DAY;
+
+	/**
+	 * Private interface used to run one query.
+	 * @author Noah Teshima
+	 */
+	private interface Query {
+		/**
+		 * Abstract method used to run the query.
+		 * @param list HomeworkList reference to query.
+		 * @param from Date reference containing the
+		 * start of the window.
+		 * @return integer value containing the number
+		 * of assignments found.
+		 */
+		public int run(HomeworkList list, Date from);
+	}
+
+	/**
+	 * Entry point of the benchmark.
+	 * @param args unused command line arguments.
+	 */
+	public static void main(String[] args) {
+		SplittableRandom random = new SplittableRandom(42);
+		long now = System.currentTimeMillis();
+		List<Assignment> assignments = new ArrayList<>(ASSIGNMENTS);
+		for(int index = 0; index < ASSIGNMENTS; index++) {
+			assignments.add(new Assignment("assignment " + index,
+					new Date(now + random.nextLong(SPAN))));
+		}
+
+		HomeworkList linked = new HomeworkList();
+		linked.addAll(assignments);
+		HomeworkList columnar = new HomeworkList();
+		columnar.setColumnar(true);
+		columnar.addAll(assignments);
+
+		Date[] windows = new Date[QUERIES];
+		for(int index = 0; index < QUERIES; index++) {
+			windows[index] = new Date(now + random.nextLong(SPAN - DAY));
+		}
+		Date end = new Date(now + SPAN);
+
+		System.out.printf("%22s %14s %14s%n", "query", "linked us/op", "columnar us/op");
+		compare("countDueBetween(day)", linked, columnar, windows,
+				(list, from) -> list.countDueBetween(from, new Date(from.getTime() + DAY)));
+		compare("getDueBetween(day)", linked, columnar, windows,
+				(list, from) -> list.getDueBetween(from, new Date(from.getTime() + DAY)).size());
+		compare("countDueBefore(end)", linked, columnar, windows,
+				(list, from) -> list.countDueBefore(end));
+	}
+
+	/**
+	 * Private static method used to time a query
+	 * against both lists and print one row.
+	 * @param name String object naming the query.
+	 * @param linked HomeworkList in linked mode.
+	 * @param columnar HomeworkList in columnar mode.
+	 * @param windows Array of window starts to query.
+	 * @param query Query reference to run.
+	 */
+	private static void compare(String name, HomeworkList linked, HomeworkList columnar,
+			Date[] windows, Query query) {
+		//one untimed pass so both paths are compiled
+		time(linked, windows, query);
+		time(columnar, windows, query);
+		System.out.printf("%22s %14.1f %14.1f%n", name,
+				time(linked, windows, query), time(columnar, windows, query));
+	}
+
+	/**
+	 * Private static method used to run a query for
+	 * every window and get the mean time.
+	 * @param list HomeworkList reference to query.
+	 * @param windows Array of window starts to query.
+	 * @param query Query reference to run.
+	 * @return double value containing the mean time
+	 * in microseconds.
+	 */
+	private static double time(HomeworkList list, Date[] windows, Query query) {
+		long found = 0;
+		long begin = System.nanoTime();
+		for(Date from : windows) {
+			found += query.run(list, from);
+		}
+		long elapsed = System.nanoTime() - begin;
+		if(found < 0) {
+			System.out.println(found);
+		}
+		return elapsed / 1e3 / windows.length;
+	}
+}
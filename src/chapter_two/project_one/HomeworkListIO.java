@@ -0,0 +1,505 @@
+package chapter_two.project_one;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Date;
+
+/**
+ * Utility class used to stream a HomeworkList
+ * to and from CSV and JSON Lines. Export writes
+ * each assignment straight to the given Writer in
+ * due date order, and import parses records one
+ * at a time through a fixed-size character buffer,
+ * so neither side builds the whole document in memory.
+ * <p>
+ * CSV records have the form <code>due,assignment</code>,
+ * preceded by that header line. JSON Lines records have
+ * the form <code>{"due":...,"assignment":"..."}</code>.
+ * In both formats the due date is in milliseconds
+ * since the epoch.
+ * @author Noah Teshima
+ *
+ */
+public final class HomeworkListIO {
+
+	/**
+	 * Private static inner class used to read characters
+	 * from a Reader through a reusable buffer.
+	 * @author Noah Teshima
+	 */
+	private static class Source {
+		private static final int BUFFER_SIZE = 8192;
+
+		private final Reader reader;
+		private final char[] buffer;
+		private final StringBuilder text;
+		private int position;
+		private int limit;
+		private int line;
+
+		/**
+		 * Constructor used to wrap the given Reader.
+		 * @param reader Reader reference to read from.
+		 */
+		public Source(Reader reader) {
+			this.reader = reader;
+			this.buffer = new char[Source.BUFFER_SIZE];
+			this.text = new StringBuilder();
+			this.line = 1;
+		}
+
+		/**
+		 * Method designed to look at the next character
+		 * without consuming it.
+		 * @return integer value containing the next
+		 * character, or -1 at the end of input.
+		 * @throws IOException if the Reader fails.
+		 */
+		public int peek() throws IOException {
+			if(this.position == this.limit) {
+				this.limit = this.reader.read(this.buffer, 0, this.buffer.length);
+				this.position = 0;
+				if(this.limit <= 0) {
+					this.limit = 0;
+					return -1;
+				}
+			}
+			return this.buffer[this.position];
+		}
+
+		/**
+		 * Method designed to consume the next character.
+		 * @return integer value containing the consumed
+		 * character, or -1 at the end of input.
+		 * @throws IOException if the Reader fails.
+		 */
+		public int read() throws IOException {
+			int character = this.peek();
+			if(character != -1) {
+				this.position++;
+				if(character == '\n') {
+					this.line++;
+				}
+			}
+			return character;
+		}
+
+		/**
+		 * Method designed to consume the given character.
+		 * @param expected character expected next.
+		 * @throws IOException if the next character differs.
+		 */
+		public void expect(char expected) throws IOException {
+			if(this.read() != expected) {
+				throw this.error("expected '" + expected + "'");
+			}
+		}
+
+		/**
+		 * Method designed to consume a line ending or
+		 * the end of input.
+		 * @throws IOException if anything else follows.
+		 */
+		public void endOfLine() throws IOException {
+			int character = this.read();
+			if(character == '\r') {
+				character = this.read();
+			}
+			if(character != '\n' && character != -1) {
+				throw this.error("expected end of line");
+			}
+		}
+
+		/**
+		 * Method designed to parse a decimal long value.
+		 * @return long value parsed.
+		 * @throws IOException if no digits are found or
+		 * the value does not fit in a long.
+		 */
+		public long readLong() throws IOException {
+			boolean negative = (this.peek() == '-');
+			if(negative) {
+				this.read();
+			}
+			//accumulate negatively, as Long.MIN_VALUE has no positive counterpart
+			long value = 0;
+			int digits = 0;
+			for(int character = this.peek(); character >= '0' && character <= '9';
+					character = this.peek()) {
+				int digit = this.read() - '0';
+				if(value < (Long.MIN_VALUE + digit) / 10) {
+					throw this.error("due date out of range");
+				}
+				value = value * 10 - digit;
+				digits++;
+			}
+			if(digits == 0) {
+				throw this.error("expected due date");
+			}
+			if(!negative && value == Long.MIN_VALUE) {
+				throw this.error("due date out of range");
+			}
+			return negative ? value : -value;
+		}
+
+		/**
+		 * Method designed to skip spaces and tabs.
+		 * @throws IOException if the Reader fails.
+		 */
+		public void skipBlanks() throws IOException {
+			for(int character = this.peek(); character == ' ' || character == '\t';
+					character = this.peek()) {
+				this.read();
+			}
+		}
+
+		/**
+		 * Method designed to skip blank lines.
+		 * @return boolean value determining whether
+		 * more input remains.
+		 * @throws IOException if the Reader fails.
+		 */
+		public boolean skipBlankLines() throws IOException {
+			for(int character = this.peek(); character != -1; character = this.peek()) {
+				if(character != '\r' && character != '\n'
+						&& character != ' ' && character != '\t') {
+					return true;
+				}
+				this.read();
+			}
+			return false;
+		}
+
+		/**
+		 * Method designed to create an error for the
+		 * current line.
+		 * @param message String reference describing the error.
+		 * @return IOException object to throw.
+		 */
+		public IOException error(String message) {
+			return new IOException(String.format("line %d: %s", this.line, message));
+		}
+	}
+
+	private static final String CSV_HEADER = "due,assignment";
+
+	/**
+	 * Private constructor, as the class
+	 * only has static methods.
+	 */
+	private HomeworkListIO() {
+	}
+
+	/**
+	 * Static method designed to write every assignment
+	 * of the given list as CSV, in due date order.
+	 * @param list HomeworkList reference to export.
+	 * @param writer Writer reference to write to. The
+	 * Writer is flushed but not closed.
+	 * @throws IOException if the Writer fails.
+	 */
+	public static void exportCsv(HomeworkList list, Writer writer) throws IOException {
+		writer.write(HomeworkListIO.CSV_HEADER);
+		writer.write('\n');
+		for(Assignment assignment : list) {
+			writer.write(Long.toString(assignment.getDueTime()));
+			writer.write(',');
+			HomeworkListIO.writeCsvField(assignment.getAssignment(), writer);
+			writer.write('\n');
+		}
+		writer.flush();
+	}
+
+	/**
+	 * Static method designed to read CSV records
+	 * into the given list. A leading header line
+	 * is skipped if present.
+	 * @param reader Reader reference to read from.
+	 * The Reader is not closed.
+	 * @param list HomeworkList reference to add the
+	 * assignments to.
+	 * @return integer value containing the number of
+	 * assignments read.
+	 * @throws IOException if the Reader fails or a
+	 * record is malformed.
+	 */
+	public static int importCsv(Reader reader, HomeworkList list) throws IOException {
+		Source source = new Source(reader);
+		int count = 0;
+
+		//skip the header if the first record does not start with a due date
+		int first = source.peek();
+		if(first != -1 && first != '-' && (first < '0' || first > '9')) {
+			for(int character = source.read(); character != '\n' && character != -1;
+					character = source.read()) {
+			}
+		}
+
+		while(source.skipBlankLines()) {
+			long due = source.readLong();
+			source.expect(',');
+			list.add(new Assignment(HomeworkListIO.readCsvField(source), new Date(due)));
+			source.endOfLine();
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Static method designed to write every assignment
+	 * of the given list as JSON Lines, in due date order.
+	 * @param list HomeworkList reference to export.
+	 * @param writer Writer reference to write to. The
+	 * Writer is flushed but not closed.
+	 * @throws IOException if the Writer fails.
+	 */
+	public static void exportJsonLines(HomeworkList list, Writer writer) throws IOException {
+		for(Assignment assignment : list) {
+			writer.write("{\"due\":");
+			writer.write(Long.toString(assignment.getDueTime()));
+			writer.write(",\"assignment\":");
+			HomeworkListIO.writeJsonString(assignment.getAssignment(), writer);
+			writer.write("}\n");
+		}
+		writer.flush();
+	}
+
+	/**
+	 * Static method designed to read JSON Lines records
+	 * into the given list. Fields other than "due" and
+	 * "assignment" are ignored.
+	 * @param reader Reader reference to read from.
+	 * The Reader is not closed.
+	 * @param list HomeworkList reference to add the
+	 * assignments to.
+	 * @return integer value containing the number of
+	 * assignments read.
+	 * @throws IOException if the Reader fails or a
+	 * record is malformed.
+	 */
+	public static int importJsonLines(Reader reader, HomeworkList list) throws IOException {
+		Source source = new Source(reader);
+		int count = 0;
+
+		while(source.skipBlankLines()) {
+			source.expect('{');
+			Long due = null;
+			String description = null;
+
+			source.skipBlanks();
+			boolean more = (source.peek() != '}');
+			while(more) {
+				source.skipBlanks();
+				String key = HomeworkListIO.readJsonString(source);
+				source.skipBlanks();
+				source.expect(':');
+				source.skipBlanks();
+				if(key.equals("due")) {
+					due = source.readLong();
+				}else if(key.equals("assignment")) {
+					description = HomeworkListIO.readJsonString(source);
+				}else {
+					HomeworkListIO.skipJsonValue(source);
+				}
+				source.skipBlanks();
+				more = (source.peek() == ',');
+				if(more) {
+					source.read();
+				}
+			}
+			source.expect('}');
+			source.skipBlanks();
+			source.endOfLine();
+
+			if(due == null || description == null) {
+				throw source.error("record needs \"due\" and \"assignment\"");
+			}
+			list.add(new Assignment(description, new Date(due)));
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Private static method used to write a CSV field,
+	 * quoting it only if needed.
+	 * @param field String reference to write.
+	 * @param writer Writer reference to write to.
+	 * @throws IOException if the Writer fails.
+	 */
+	private static void writeCsvField(String field, Writer writer) throws IOException {
+		boolean quote = false;
+		for(int index = 0; index < field.length() && !quote; index++) {
+			char character = field.charAt(index);
+			quote = (character == ',' || character == '"'
+					|| character == '\n' || character == '\r');
+		}
+		if(!quote) {
+			writer.write(field);
+			return;
+		}
+		writer.write('"');
+		int start = 0;
+		for(int index = field.indexOf('"'); index != -1; index = field.indexOf('"', start)) {
+			writer.write(field, start, index + 1 - start);
+			writer.write('"');
+			start = index + 1;
+		}
+		writer.write(field, start, field.length() - start);
+		writer.write('"');
+	}
+
+	/**
+	 * Private static method used to read a CSV field
+	 * up to the end of the line.
+	 * @param source Source reference to read from.
+	 * @return String object containing the field.
+	 * @throws IOException if a quoted field is not closed.
+	 */
+	private static String readCsvField(Source source) throws IOException {
+		StringBuilder text = source.text;
+		text.setLength(0);
+		if(source.peek() != '"') {
+			for(int character = source.peek(); character != '\n' && character != '\r'
+					&& character != -1; character = source.peek()) {
+				text.append((char) source.read());
+			}
+			return text.toString();
+		}
+		source.read();
+		while(true) {
+			int character = source.read();
+			if(character == -1) {
+				throw source.error("unterminated quoted field");
+			}
+			if(character == '"') {
+				if(source.peek() != '"') {
+					return text.toString();
+				}
+				source.read();
+			}
+			text.append((char) character);
+		}
+	}
+
+	/**
+	 * Private static method used to write a JSON string.
+	 * @param string String reference to write.
+	 * @param writer Writer reference to write to.
+	 * @throws IOException if the Writer fails.
+	 */
+	private static void writeJsonString(String string, Writer writer) throws IOException {
+		writer.write('"');
+		int start = 0;
+		for(int index = 0; index < string.length(); index++) {
+			char character = string.charAt(index);
+			if(character != '"' && character != '\\' && character >= 0x20) {
+				continue;
+			}
+			writer.write(string, start, index - start);
+			start = index + 1;
+			switch(character) {
+			case '"':
+				writer.write("\\\"");
+				break;
+			case '\\':
+				writer.write("\\\\");
+				break;
+			case '\n':
+				writer.write("\\n");
+				break;
+			case '\r':
+				writer.write("\\r");
+				break;
+			case '\t':
+				writer.write("\\t");
+				break;
+			default:
+				writer.write(String.format("\\u%04x", (int) character));
+			}
+		}
+		writer.write(string, start, string.length() - start);
+		writer.write('"');
+	}
+
+	/**
+	 * Private static method used to read a JSON string.
+	 * @param source Source reference to read from.
+	 * @return String object containing the unescaped string.
+	 * @throws IOException if the string is malformed.
+	 */
+	private static String readJsonString(Source source) throws IOException {
+		StringBuilder text = source.text;
+		text.setLength(0);
+		source.expect('"');
+		for(int character = source.read(); character != '"'; character = source.read()) {
+			if(character == -1 || character == '\n') {
+				throw source.error("unterminated string");
+			}
+			if(character != '\\') {
+				text.append((char) character);
+				continue;
+			}
+			character = source.read();
+			switch(character) {
+			case 'n':
+				text.append('\n');
+				break;
+			case 'r':
+				text.append('\r');
+				break;
+			case 't':
+				text.append('\t');
+				break;
+			case 'b':
+				text.append('\b');
+				break;
+			case 'f':
+				text.append('\f');
+				break;
+			case 'u':
+				int code = 0;
+				for(int digit = 0; digit < 4; digit++) {
+					int value = Character.digit(source.read(), 16);
+					if(value == -1) {
+						throw source.error("invalid unicode escape");
+					}
+					code = (code << 4) | value;
+				}
+				text.append((char) code);
+				break;
+			case '"':
+			case '\\':
+			case '/':
+				text.append((char) character);
+				break;
+			default:
+				throw source.error("invalid escape");
+			}
+		}
+		return text.toString();
+	}
+
+	/**
+	 * Private static method used to skip an unknown
+	 * scalar JSON value.
+	 * @param source Source reference to read from.
+	 * @throws IOException if the value is malformed
+	 * or is an object or array.
+	 */
+	private static void skipJsonValue(Source source) throws IOException {
+		int character = source.peek();
+		if(character == '"') {
+			HomeworkListIO.readJsonString(source);
+			return;
+		}
+		if(character == '{' || character == '[') {
+			throw source.error("nested values are not supported");
+		}
+		for(; character != ',' && character != '}' && character != -1
+				&& character != '\n'; character = source.peek()) {
+			source.read();
+		}
+	}
+}
@@ -0,0 +1,89 @@
+package chapter_two.project_one;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+
+/**
+ * Benchmark for HomeworkListIO. A list of one
+ * million assignments is exported to a temporary
+ * file and imported back in both formats.
+ * @author Noah Teshima
+ *
+ */
+public class HomeworkListIOBenchmark {
+	private static final int ASSIGNMENTS = 1_000_000;
+
+	/**
+	 * Private interface used to run an export
+	 * or import step.
+	 * @author Noah Teshima
+	 */
+	private interface Step {
+		/**
+		 * Abstract method used to run the step.
+		 * @param file Path reference to write or read.
+		 * @throws IOException if the file fails.
+		 */
+		public void run(Path file) throws IOException;
+	}
+
+	/**
+	 * Entry point of the benchmark.
+	 * @param args unused command line arguments.
+	 * @throws IOException if the temporary file fails.
+	 */
+	public static void main(String[] args) throws IOException {
+		HomeworkList list = new HomeworkList();
+		long now = System.currentTimeMillis();
+		for(int index = 0; index < ASSIGNMENTS; index++) {
+			list.add(new Assignment("Homework, part \"" + index + "\"", new Date(now + index * 1000L)));
+		}
+
+		Path file = Files.createTempFile("assignments", ".data");
+		try {
+			measure("csv export", file, path -> {
+				try(Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+					HomeworkListIO.exportCsv(list, writer);
+				}
+			});
+			measure("csv import", file, path -> {
+				try(Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+					HomeworkListIO.importCsv(reader, new HomeworkList());
+				}
+			});
+			measure("jsonl export", file, path -> {
+				try(Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+					HomeworkListIO.exportJsonLines(list, writer);
+				}
+			});
+			measure("jsonl import", file, path -> {
+				try(Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+					HomeworkListIO.importJsonLines(reader, new HomeworkList());
+				}
+			});
+		}finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	/**
+	 * Private static method used to time a step and
+	 * print its throughput.
+	 * @param name String reference naming the step.
+	 * @param file Path reference passed to the step.
+	 * @param step Step reference to run.
+	 * @throws IOException if the step fails.
+	 */
+	private static void measure(String name, Path file, Step step) throws IOException {
+		long begin = System.nanoTime();
+		step.run(file);
+		double seconds = (System.nanoTime() - begin) / 1e9;
+		double megabytes = Files.size(file) / (1024.0 * 1024.0);
+		System.out.printf("%-14s %8.0f ms %8.1f MB/s%n", name, seconds * 1000, megabytes / seconds);
+	}
+}
@@ -0,0 +1,215 @@
+package chapter_two.project_one;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+
+/**
+ * @author Noah Teshima
+ * Test suite for HomeworkListIO class
+ */
+public class HomeworkListIOTest {
+
+	/**
+	 * Private static method used to get the
+	 * assignments of a list in order.
+	 * @param list HomeworkList reference to read.
+	 * @return List object holding the assignments.
+	 */
+	private static List<Assignment> contents(HomeworkList list) {
+		List<Assignment> contents = new ArrayList<>();
+		for(Assignment assignment : list) {
+			contents.add(assignment);
+		}
+		return contents;
+	}
+
+	/**
+	 * Private static method used to create a list of
+	 * assignments whose descriptions need quoting or
+	 * escaping, with due dates on both sides of the epoch.
+	 * @return HomeworkList object that was filled.
+	 */
+	private static HomeworkList awkward() {
+		HomeworkList list = new HomeworkList();
+		list.add(new Assignment("plain", new Date(1_700_000_000_000L)));
+		list.add(new Assignment("commas, \"quotes\" and\nnew\r\nlines", new Date(0)));
+		list.add(new Assignment("back\\slash\ttab \u0001\u001f control", new Date(-86_400_000L)));
+		list.add(new Assignment("", new Date(-1)));
+		list.add(new Assignment("\u00e9t\u00e9 \u6f22\u5b57", new Date(Long.MAX_VALUE)));
+		list.add(new Assignment("oldest", new Date(Long.MIN_VALUE)));
+		return list;
+	}
+
+	/**
+	 * Private static method used to wrap a Reader so
+	 * it hands out one character per read, moving every
+	 * token across a buffer refill.
+	 * @param text String containing the input.
+	 * @return Reader object over the text.
+	 */
+	private static Reader trickle(String text) {
+		return new FilterReader(new StringReader(text)) {
+			@Override
+			public int read(char[] buffer, int offset, int length) throws IOException {
+				return super.read(buffer, offset, Math.min(length, 1));
+			}
+		};
+	}
+
+	/**
+	 * Private static method used to check that a CSV
+	 * import is rejected.
+	 * @param text String containing the input.
+	 */
+	private static void assertCsvRejected(String text) {
+		try {
+			HomeworkListIO.importCsv(new StringReader(text), new HomeworkList());
+			Assertions.fail("Malformed CSV was accepted: " + text);
+		}catch(IOException e) {
+		}
+	}
+
+	/**
+	 * Private static method used to check that a JSON
+	 * Lines import is rejected.
+	 * @param text String containing the input.
+	 */
+	private static void assertJsonRejected(String text) {
+		try {
+			HomeworkListIO.importJsonLines(new StringReader(text), new HomeworkList());
+			Assertions.fail("Malformed JSON was accepted: " + text);
+		}catch(IOException e) {
+		}
+	}
+
+	/**
+	 * Test method for {@link chapter_two.project_one.HomeworkListIO#importCsv(java.io.Reader, chapter_two.project_one.HomeworkList)}.
+	 */
+	@Test
+	public void csvRoundTripTest() throws IOException {
+		HomeworkList list = HomeworkListIOTest.awkward();
+		StringWriter exported = new StringWriter();
+		HomeworkListIO.exportCsv(list, exported);
+
+		HomeworkList imported = new HomeworkList();
+		Assertions.assertEquals(6, HomeworkListIO.importCsv(HomeworkListIOTest.trickle(exported.toString()),
+				imported));
+		Assertions.assertEquals(HomeworkListIOTest.contents(list), HomeworkListIOTest.contents(imported));
+
+		StringWriter again = new StringWriter();
+		HomeworkListIO.exportCsv(imported, again);
+		Assertions.assertEquals(exported.toString(), again.toString());
+	}
+
+	/**
+	 * Test method for {@link chapter_two.project_one.HomeworkListIO#exportCsv(chapter_two.project_one.HomeworkList, java.io.Writer)}.
+	 */
+	@Test
+	public void csvFormatTest() throws IOException {
+		String text = "due,assignment\r\n"
+				+ "-5,\"a, b\"\r\n"
+				+ "\r\n"
+				+ "7,\"say \"\"hi\"\"\r\nthen leave\"\r\n"
+				+ "9,unquoted text";
+		HomeworkList list = new HomeworkList();
+
+		Assertions.assertEquals(3, HomeworkListIO.importCsv(new StringReader(text), list));
+		Assertions.assertEquals(Arrays.asList(new Assignment("a, b", new Date(-5)),
+				new Assignment("say \"hi\"\r\nthen leave", new Date(7)),
+				new Assignment("unquoted text", new Date(9))), HomeworkListIOTest.contents(list));
+
+		StringWriter exported = new StringWriter();
+		HomeworkListIO.exportCsv(list, exported);
+		Assertions.assertEquals("due,assignment\n-5,\"a, b\"\n7,\"say \"\"hi\"\"\r\nthen leave\"\n"
+				+ "9,unquoted text\n", exported.toString());
+
+		//without a header the first record is kept
+		HomeworkList headless = new HomeworkList();
+		Assertions.assertEquals(1, HomeworkListIO.importCsv(new StringReader("3,x\n"), headless));
+		Assertions.assertEquals(new Assignment("x", new Date(3)), headless.getEarliestAssignment());
+		Assertions.assertEquals(0, HomeworkListIO.importCsv(new StringReader("due,assignment\n"),
+				new HomeworkList()));
+	}
+
+	/**
+	 * Test method for {@link chapter_two.project_one.HomeworkListIO#importCsv(java.io.Reader, chapter_two.project_one.HomeworkList)}.
+	 */
+	@Test
+	public void csvMalformedTest() {
+		HomeworkListIOTest.assertCsvRejected("due,assignment\nx,no due date\n");
+		HomeworkListIOTest.assertCsvRejected("due,assignment\n5;semicolon\n");
+		HomeworkListIOTest.assertCsvRejected("due,assignment\n5,\"never closed\n");
+		HomeworkListIOTest.assertCsvRejected("due,assignment\n5,\"closed\" then text\n");
+		HomeworkListIOTest.assertCsvRejected("due,assignment\n-,minus only\n");
+		HomeworkListIOTest.assertCsvRejected("due,assignment\n99999999999999999999,too late\n");
+	}
+
+	/**
+	 * Test method for {@link chapter_two.project_one.HomeworkListIO#importJsonLines(java.io.Reader, chapter_two.project_one.HomeworkList)}.
+	 */
+	@Test
+	public void jsonRoundTripTest() throws IOException {
+		HomeworkList list = HomeworkListIOTest.awkward();
+		StringWriter exported = new StringWriter();
+		HomeworkListIO.exportJsonLines(list, exported);
+
+		HomeworkList imported = new HomeworkList();
+		Assertions.assertEquals(6, HomeworkListIO.importJsonLines(
+				HomeworkListIOTest.trickle(exported.toString()), imported));
+		Assertions.assertEquals(HomeworkListIOTest.contents(list), HomeworkListIOTest.contents(imported));
+
+		StringWriter again = new StringWriter();
+		HomeworkListIO.exportJsonLines(imported, again);
+		Assertions.assertEquals(exported.toString(), again.toString());
+	}
+
+	/**
+	 * Test method for {@link chapter_two.project_one.HomeworkListIO#exportJsonLines(chapter_two.project_one.HomeworkList, java.io.Writer)}.
+	 */
+	@Test
+	public void jsonFormatTest() throws IOException {
+		String text = "{ \"assignment\" : \"q\\\"b\\\\s\\/\\n\\r\\t\\b\\f\\u00e9\\u0001\", \"due\" : -20 }\r\n"
+				+ "\r\n"
+				+ "{\"extra\":\"x\",\"due\":4,\"flag\":true,\"n\":null,\"assignment\":\"a\",\"k\":1.5}\n";
+		HomeworkList list = new HomeworkList();
+
+		Assertions.assertEquals(2, HomeworkListIO.importJsonLines(new StringReader(text), list));
+		Assertions.assertEquals(Arrays.asList(new Assignment("q\"b\\s/\n\r\t\b\f\u00e9\u0001", new Date(-20)),
+				new Assignment("a", new Date(4))), HomeworkListIOTest.contents(list));
+
+		StringWriter exported = new StringWriter();
+		HomeworkListIO.exportJsonLines(list, exported);
+		Assertions.assertEquals("{\"due\":-20,\"assignment\":\"q\\\"b\\\\s/\\n\\r\\t\\u0008\\u000c\u00e9\\u0001\"}\n"
+				+ "{\"due\":4,\"assignment\":\"a\"}\n", exported.toString());
+	}
+
+	/**
+	 * Test method for {@link chapter_two.project_one.HomeworkListIO#importJsonLines(java.io.Reader, chapter_two.project_one.HomeworkList)}.
+	 */
+	@Test
+	public void jsonMalformedTest() {
+		HomeworkListIOTest.assertJsonRejected("{\"due\":1}\n");
+		HomeworkListIOTest.assertJsonRejected("{\"assignment\":\"a\"}\n");
+		HomeworkListIOTest.assertJsonRejected("{}\n");
+		HomeworkListIOTest.assertJsonRejected("[1, \"a\"]\n");
+		HomeworkListIOTest.assertJsonRejected("{\"due\":1,\"assignment\":\"a\"} trailing\n");
+		HomeworkListIOTest.assertJsonRejected("{\"due\":1,\"assignment\":\"a\"\n");
+		HomeworkListIOTest.assertJsonRejected("{\"due\":1,\"assignment\":\"open\n\"}\n");
+		HomeworkListIOTest.assertJsonRejected("{\"due\":1,\"assignment\":\"\\x\"}\n");
+		HomeworkListIOTest.assertJsonRejected("{\"due\":1,\"assignment\":\"\\u00g1\"}\n");
+		HomeworkListIOTest.assertJsonRejected("{\"due\":\"1\",\"assignment\":\"a\"}\n");
+		HomeworkListIOTest.assertJsonRejected("{\"due\":1.5,\"assignment\":\"a\"}\n");
+		HomeworkListIOTest.assertJsonRejected("{\"due\":1,\"assignment\":\"a\",\"o\":{}}\n");
+		HomeworkListIOTest.assertJsonRejected("{\"due\":-9223372036854775809,\"assignment\":\"a\"}\n");
+	}
+}
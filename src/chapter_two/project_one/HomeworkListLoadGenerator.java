@@ -0,0 +1,71 @@
+package chapter_two.project_one;
+
+import java.util.Date;
+
+import structures.benchmarks.LoadGenerator;
+
+/**
+ * Load generator for HomeworkList, using the
+ * options of LoadGenerator apart from --list.
+ * A pool of assignments due one minute apart is
+ * built up front, and keys pick from the pool:
+ * reads take the earliest assignment, appends
+ * add an assignment due after the whole pool,
+ * inserts add the pool assignment for the key,
+ * and removals remove it. Every operation holds
+ * the list's lock.
+ * @author Noah Teshima
+ *
+ */
+public class HomeworkListLoadGenerator {
+
+	/**
+	 * Entry point of the tool.
+	 * @param args command line options.
+	 * @throws InterruptedException if interrupted while
+	 * waiting for the run.
+	 */
+	public static void main(String[] args) throws InterruptedException {
+		LoadGenerator.Options options = new LoadGenerator.Options(args);
+		int size = options.getSize();
+		long now = System.currentTimeMillis();
+
+		Assignment[] pool = new Assignment[size];
+		for(int index = 0; index < size; index++) {
+			pool[index] = new Assignment("assignment " + index, new Date(now + index * 60_000L));
+		}
+		Assignment last = new Assignment("appended", new Date(now + size * 60_000L));
+
+		HomeworkList list = new HomeworkList();
+		for(Assignment assignment : pool) {
+			list.add(assignment);
+		}
+
+		LoadGenerator.Target target = new LoadGenerator.Target() {
+			@Override
+			public void run(LoadGenerator.Operation operation, int key) {
+				Assignment assignment = pool[key % size];
+				synchronized(list) {
+					switch(operation) {
+					case READ:
+						list.getEarliestAssignment();
+						break;
+					case APPEND:
+						list.add(last);
+						break;
+					case INSERT:
+						list.add(assignment);
+						break;
+					case REMOVE:
+						list.remove(assignment);
+						break;
+					}
+				}
+			}
+		};
+
+		System.out.printf("HomeworkList, %d assignments, %d threads%n", size, options.getThreads());
+		new LoadGenerator(target, options.getWorkload(), options.getKeys(),
+				options.getKeyspace(), options.getThreads(), options.getDuration()).run().print(System.out);
+	}
+}
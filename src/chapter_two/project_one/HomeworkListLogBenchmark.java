@@ -0,0 +1,122 @@
+package chapter_two.project_one;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Benchmark for durable HomeworkLists. Several
+ * threads add assignments to a list backed by an
+ * AssignmentLog under each durability setting, with
+ * and without a commit delay, reporting throughput
+ * and how many fsyncs the group commit needed. A log
+ * of one million records is then replayed to time
+ * recovery.
+ * @author Noah Teshima
+ *
+ */
+public class HomeworkListLogBenchmark {
+	private static final int ADDS_PER_THREAD = 2_000;
+	private static final int[] THREADS = {1, 4, 16};
+	private static final int RECOVERY_RECORDS = 1_000_000;
+
+	/**
+	 * Entry point of the benchmark.
+	 * @param args unused command line arguments.
+	 * @throws IOException if the temporary log fails.
+	 * @throws InterruptedException if interrupted while
+	 * waiting for the writers.
+	 */
+	public static void main(String[] args) throws IOException, InterruptedException {
+		Path directory = Files.createTempDirectory("assignment-log");
+		Path file = directory.resolve("assignments.log");
+		try {
+			System.out.printf("%8s %14s %8s %12s %10s%n", "threads", "durability", "delay us",
+					"adds/s", "syncs");
+			for(int threads : THREADS) {
+				run(file, threads, AssignmentLog.Durability.SYNC, Duration.ZERO);
+				run(file, threads, AssignmentLog.Durability.SYNC, Duration.ofNanos(200_000));
+				run(file, threads, AssignmentLog.Durability.WRITE, Duration.ZERO);
+				run(file, threads, AssignmentLog.Durability.ASYNC, Duration.ZERO);
+			}
+
+			Files.deleteIfExists(file);
+			HomeworkList list = new HomeworkList();
+			long now = System.currentTimeMillis();
+			AssignmentLog writer = AssignmentLog.open(file, list, AssignmentLog.Durability.ASYNC);
+			try {
+				List<Assignment> batch = new ArrayList<>();
+				for(int index = 0; index < RECOVERY_RECORDS; index++) {
+					batch.add(new Assignment("assignment " + index,
+							new Date(now + (index * 7919L) % RECOVERY_RECORDS * 1000)));
+					if(batch.size() == 10_000) {
+						list.addAll(batch);
+						batch.clear();
+					}
+				}
+			}finally {
+				writer.close();
+			}
+			long begin = System.nanoTime();
+			HomeworkList recovered = new HomeworkList();
+			try(AssignmentLog log = AssignmentLog.open(file, recovered, AssignmentLog.Durability.ASYNC)) {
+				double millis = (System.nanoTime() - begin) / 1e6;
+				System.out.printf("%nrecovered %d records (%d MB) in %.0f ms%n", log.getRecoveredCount(),
+						Files.size(file) >> 20, millis);
+			}
+		}finally {
+			Files.deleteIfExists(file);
+			Files.deleteIfExists(directory);
+		}
+	}
+
+	/**
+	 * Private static method used to time concurrent
+	 * adds to a new durable list and print one row.
+	 * @param file Path reference of the log.
+	 * @param threads integer value containing the
+	 * number of writer threads.
+	 * @param durability Durability of the log.
+	 * @param commitDelay Duration of the commit delay.
+	 * @throws IOException if the log fails.
+	 * @throws InterruptedException if interrupted while
+	 * waiting for the writers.
+	 */
+	private static void run(Path file, int threads, AssignmentLog.Durability durability,
+			Duration commitDelay) throws IOException, InterruptedException {
+		Files.deleteIfExists(file);
+		//rising due dates land at or near the end of the columns, so the log dominates
+		HomeworkList list = new HomeworkList();
+		list.setColumnar(true);
+		AtomicLong due = new AtomicLong(System.currentTimeMillis());
+		long syncs;
+		double seconds;
+		try(AssignmentLog log = AssignmentLog.open(file, list, durability, commitDelay,
+				Duration.ofMillis(100))) {
+			Thread[] writers = new Thread[threads];
+			long begin = System.nanoTime();
+			for(int thread = 0; thread < threads; thread++) {
+				int id = thread;
+				writers[thread] = new Thread(() -> {
+					for(int index = 0; index < ADDS_PER_THREAD; index++) {
+						list.add(new Assignment("writer " + id + ", assignment " + index,
+								new Date(due.addAndGet(60_000L))));
+					}
+				});
+				writers[thread].start();
+			}
+			for(Thread writer : writers) {
+				writer.join();
+			}
+			seconds = (System.nanoTime() - begin) / 1e9;
+			syncs = log.getSyncCount();
+		}
+		System.out.printf("%8d %14s %8d %12.0f %10d%n", threads, durability,
+				commitDelay.toNanos() / 1000, threads * ADDS_PER_THREAD / seconds, syncs);
+	}
+}
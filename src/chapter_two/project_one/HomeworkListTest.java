@@ -0,0 +1,208 @@
+package chapter_two.project_one;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+
+/**
+ * @author Noah Teshima
+ * Test suite for HomeworkList class
+ */
+public class HomeworkListTest {
+
+	/**
+	 * Private static method used to get the
+	 * assignments of a list in order.
+	 * @param list HomeworkList reference to read.
+	 * @return List object holding the assignments.
+	 */
+	private static List<Assignment> contents(HomeworkList list) {
+		List<Assignment> contents = new ArrayList<>();
+		for(Assignment assignment : list) {
+			contents.add(assignment);
+		}
+		return contents;
+	}
+
+	/**
+	 * Private static method used to create an
+	 * assignment due the given number of seconds
+	 * after the epoch.
+	 * @param name String containing the description.
+	 * @param seconds long value containing the due date.
+	 * @return Assignment object that was created.
+	 */
+	private static Assignment due(String name, long seconds) {
+		return new Assignment(name, new Date(seconds * 1000));
+	}
+
+	/**
+	 * Private static method used to fill a list with
+	 * the same mix of adds in either storage mode.
+	 * @param columnar boolean value determining whether
+	 * the list uses columnar storage.
+	 * @return HomeworkList object that was filled.
+	 */
+	private static HomeworkList fill(boolean columnar) {
+		HomeworkList list = new HomeworkList();
+		list.setColumnar(columnar);
+		list.add(HomeworkListTest.due("b1", 2));
+		list.add(HomeworkListTest.due("d", 4));
+		list.add(HomeworkListTest.due("a", 1));
+		list.addAll(Arrays.asList(HomeworkListTest.due("b2", 2), HomeworkListTest.due("e", 5),
+				HomeworkListTest.due("b3", 2), HomeworkListTest.due("c", 3)));
+		list.add(HomeworkListTest.due("b4", 2));
+		return list;
+	}
+
+	/**
+	 * Test method for {@link chapter_two.project_one.HomeworkList#addAll(java.util.Collection)}.
+	 */
+	@Test
+	public void columnarAddAllTest() {
+		HomeworkList linked = HomeworkListTest.fill(false);
+		HomeworkList columnar = HomeworkListTest.fill(true);
+
+		//equal due dates keep the order they were added in, batch or not
+		List<Assignment> expected = Arrays.asList(HomeworkListTest.due("a", 1),
+				HomeworkListTest.due("b1", 2), HomeworkListTest.due("b2", 2), HomeworkListTest.due("b3", 2),
+				HomeworkListTest.due("b4", 2), HomeworkListTest.due("c", 3), HomeworkListTest.due("d", 4),
+				HomeworkListTest.due("e", 5));
+		Assertions.assertEquals(expected, HomeworkListTest.contents(linked));
+		Assertions.assertEquals(expected, HomeworkListTest.contents(columnar));
+		Assertions.assertEquals(8, columnar.getSize());
+		Assertions.assertEquals(HomeworkListTest.due("a", 1), columnar.getEarliestAssignment());
+	}
+
+	/**
+	 * Test method for {@link chapter_two.project_one.HomeworkList#remove(chapter_two.project_one.Assignment)}.
+	 */
+	@Test
+	public void columnarRemoveRunTest() {
+		HomeworkList list = HomeworkListTest.fill(true);
+
+		list.add(HomeworkListTest.due("b2", 2));
+		list.remove(HomeworkListTest.due("b2", 2));
+		list.remove(HomeworkListTest.due("b4", 2));
+		list.remove(HomeworkListTest.due("b9", 2));
+
+		Assertions.assertEquals(Arrays.asList(HomeworkListTest.due("a", 1), HomeworkListTest.due("b1", 2),
+				HomeworkListTest.due("b3", 2), HomeworkListTest.due("c", 3), HomeworkListTest.due("d", 4),
+				HomeworkListTest.due("e", 5)), HomeworkListTest.contents(list));
+		Assertions.assertEquals(6, list.getSize());
+	}
+
+	/**
+	 * Test method for {@link chapter_two.project_one.HomeworkList#setColumnar(boolean)}.
+	 */
+	@Test
+	public void setColumnarTest() {
+		HomeworkList list = HomeworkListTest.fill(false);
+		List<Assignment> expected = HomeworkListTest.contents(list);
+
+		list.setColumnar(true);
+		Assertions.assertTrue(list.isColumnar());
+		Assertions.assertEquals(expected, HomeworkListTest.contents(list));
+		list.setColumnar(false);
+		Assertions.assertFalse(list.isColumnar());
+		Assertions.assertEquals(expected, HomeworkListTest.contents(list));
+
+		list.setColumnar(true);
+		list.add(HomeworkListTest.due("b5", 2));
+		list.setColumnar(false);
+		Assertions.assertEquals(HomeworkListTest.due("b5", 2), HomeworkListTest.contents(list).get(5));
+	}
+
+	/**
+	 * Test method for {@link chapter_two.project_one.HomeworkList#getDueBetween(java.util.Date, java.util.Date)}.
+	 */
+	@Test
+	public void dueBetweenTest() {
+		for(boolean columnar : new boolean[] {false, true}) {
+			HomeworkList list = HomeworkListTest.fill(columnar);
+
+			//the start is inclusive and the end exclusive
+			Assertions.assertEquals(5, list.countDueBetween(new Date(2000), new Date(4000)));
+			Assertions.assertEquals(Arrays.asList(HomeworkListTest.due("b1", 2), HomeworkListTest.due("b2", 2),
+					HomeworkListTest.due("b3", 2), HomeworkListTest.due("b4", 2), HomeworkListTest.due("c", 3)),
+					list.getDueBetween(new Date(2000), new Date(4000)));
+			Assertions.assertEquals(5, list.countDueBefore(new Date(3000)));
+			Assertions.assertEquals(8, list.countDueBetween(new Date(Long.MIN_VALUE), new Date(Long.MAX_VALUE)));
+			Assertions.assertEquals(0, list.countDueBetween(new Date(4000), new Date(4000)));
+			Assertions.assertEquals(0, list.countDueBetween(new Date(5000), new Date(1000)));
+			Assertions.assertTrue(list.getDueBetween(new Date(6000), new Date(9000)).isEmpty());
+		}
+	}
+
+	/**
+	 * Test method for {@link chapter_two.project_one.HomeworkList#earliest(int)}.
+	 */
+	@Test
+	public void earliestTest() {
+		for(boolean columnar : new boolean[] {false, true}) {
+			HomeworkList list = HomeworkListTest.fill(columnar);
+
+			Assertions.assertEquals(Arrays.asList(HomeworkListTest.due("a", 1), HomeworkListTest.due("b1", 2),
+					HomeworkListTest.due("b2", 2)), list.earliest(3));
+			Assertions.assertEquals(HomeworkListTest.contents(list), list.earliest(20));
+			Assertions.assertTrue(list.earliest(0).isEmpty());
+		}
+	}
+
+	/**
+	 * Test method for {@link chapter_two.project_one.HomeworkList#latest(int)}.
+	 */
+	@Test
+	public void latestTest() {
+		for(boolean columnar : new boolean[] {false, true}) {
+			HomeworkList list = HomeworkListTest.fill(columnar);
+
+			//equal due dates keep list order, even when the last of them is cut off
+			Assertions.assertEquals(Arrays.asList(HomeworkListTest.due("e", 5), HomeworkListTest.due("d", 4),
+					HomeworkListTest.due("c", 3), HomeworkListTest.due("b1", 2), HomeworkListTest.due("b2", 2)),
+					list.latest(5));
+			Assertions.assertEquals(Arrays.asList(HomeworkListTest.due("e", 5), HomeworkListTest.due("d", 4),
+					HomeworkListTest.due("c", 3), HomeworkListTest.due("b1", 2), HomeworkListTest.due("b2", 2),
+					HomeworkListTest.due("b3", 2), HomeworkListTest.due("b4", 2), HomeworkListTest.due("a", 1)),
+					list.latest(20));
+			Assertions.assertTrue(list.latest(0).isEmpty());
+			Assertions.assertTrue(new HomeworkList().latest(3).isEmpty());
+		}
+	}
+
+	/**
+	 * Test method for {@link chapter_two.project_one.HomeworkList#topK(int, java.util.Comparator)}.
+	 */
+	@Test
+	public void topKTest() {
+		for(boolean columnar : new boolean[] {false, true}) {
+			HomeworkList list = HomeworkListTest.fill(columnar);
+			Comparator<Assignment> byDescription = Comparator.comparing(Assignment::getAssignment);
+			Comparator<Assignment> byDueTime = Comparator.comparingLong(Assignment::getDueTime);
+
+			Assertions.assertEquals(Arrays.asList(HomeworkListTest.due("a", 1), HomeworkListTest.due("b1", 2),
+					HomeworkListTest.due("b2", 2)), list.topK(3, byDescription));
+			Assertions.assertEquals(list.earliest(4), list.topK(4, Comparator.naturalOrder()));
+			Assertions.assertEquals(list.earliest(4), list.topK(4, byDueTime));
+			//the fast path for reverse order agrees with the heap on ties
+			for(int n = 0; n <= 9; n++) {
+				Assertions.assertEquals(list.topK(n, byDueTime.reversed()), list.topK(n, Comparator.reverseOrder()));
+			}
+			Assertions.assertEquals(8, list.topK(20, byDescription).size());
+			Assertions.assertTrue(list.topK(0, byDescription).isEmpty());
+		}
+	}
+
+	/**
+	 * Test method for {@link chapter_two.project_one.HomeworkList#topK(int, java.util.Comparator)}.
+	 */
+	@Test(expected=IllegalArgumentException.class)
+	public void topKNegativeTest() {
+		HomeworkListTest.fill(false).topK(-1, Comparator.comparing(Assignment::getAssignment));
+	}
+}
@@ -0,0 +1,565 @@
+package structures;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Skeletal List implementation holding the
+ * structural modification count shared by
+ * every list, along with the lazy views built
+ * on top of it. Views read through to their
+ * parent list without copying and fail with a
+ * ConcurrentModificationException once the
+ * parent has been structurally modified.
+ * @author Noah Teshima
+ *
+ * @param <T> Generic type containing
+ * the data being stored inside of the
+ * list.
+ */
+public abstract class AbstractList<T> implements List<T> {
+
+	/**
+	 * Private static inner class holding the
+	 * behaviour shared by every view. Views
+	 * cannot be structurally modified.
+	 * @author Noah Teshima
+	 * @param <T> Generic type of the view's elements.
+	 * @param <E> Generic type of the parent's elements.
+	 */
+	private static abstract class View<T, E> extends AbstractList<T> {
+		protected final AbstractList<E> parent;
+		private final int expectedModCount;
+
+		/**
+		 * Constructor used to set the parent list
+		 * and record its modification count.
+		 * @param parent AbstractList reference viewed.
+		 */
+		public View(AbstractList<E> parent) {
+			this.parent = parent;
+			this.expectedModCount = parent.modCount;
+		}
+
+		/**
+		 * Method designed to check that the parent
+		 * has not been structurally modified.
+		 * @throws ConcurrentModificationException if
+		 * the parent was modified after the view was
+		 * created.
+		 */
+		protected void checkModification() throws ConcurrentModificationException {
+			if(this.parent.modCount != this.expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+
+		/**
+		 * Unsupported, as views cannot be structurally modified.
+		 * @param element unused.
+		 * @throws UnsupportedOperationException always.
+		 */
+		@Override
+		public void add(T element) throws UnsupportedOperationException {
+			throw new UnsupportedOperationException();
+		}
+
+		/**
+		 * Unsupported, as views cannot be structurally modified.
+		 * @param index unused.
+		 * @param element unused.
+		 * @throws UnsupportedOperationException always.
+		 */
+		@Override
+		public void add(int index, T element) throws UnsupportedOperationException {
+			throw new UnsupportedOperationException();
+		}
+
+		/**
+		 * Unsupported, as views cannot be structurally modified.
+		 * @throws UnsupportedOperationException always.
+		 */
+		@Override
+		public void clear() throws UnsupportedOperationException {
+			throw new UnsupportedOperationException();
+		}
+
+		/**
+		 * Unsupported, as views cannot be structurally modified.
+		 * @return nothing.
+		 * @throws UnsupportedOperationException always.
+		 */
+		@Override
+		public T remove() throws UnsupportedOperationException {
+			throw new UnsupportedOperationException();
+		}
+
+		/**
+		 * Unsupported, as views cannot be structurally modified.
+		 * @param index unused.
+		 * @return nothing.
+		 * @throws UnsupportedOperationException always.
+		 */
+		@Override
+		public T remove(int index) throws UnsupportedOperationException {
+			throw new UnsupportedOperationException();
+		}
+
+		/**
+		 * Unsupported, as views cannot be structurally modified.
+		 * @param element unused.
+		 * @return nothing.
+		 * @throws UnsupportedOperationException always.
+		 */
+		@Override
+		public T set(T element) throws UnsupportedOperationException {
+			throw new UnsupportedOperationException();
+		}
+
+		/**
+		 * Unsupported, unless overridden by a view
+		 * that writes through to its parent.
+		 * @param index unused.
+		 * @param element unused.
+		 * @return nothing.
+		 * @throws UnsupportedOperationException always.
+		 */
+		@Override
+		public T set(int index, T element) throws UnsupportedOperationException {
+			throw new UnsupportedOperationException();
+		}
+
+		/**
+		 * Method designed to check whether the
+		 * given reference is equal in value to any
+		 * element in the view.
+		 * @param object Object reference to check.
+		 * @return boolean value determining whether
+		 * a match was found.
+		 */
+		@Override
+		public boolean contains(Object object) {
+			return (this.indexOf(object) != -1);
+		}
+
+		/**
+		 * Method designed to get the first element
+		 * in the view.
+		 * @return Generic type containing the first element.
+		 * @throws IndexOutOfBoundsException if the view
+		 * is empty.
+		 */
+		@Override
+		public T get() throws IndexOutOfBoundsException {
+			return this.get(0);
+		}
+
+		/**
+		 * Method designed to get the index of the
+		 * first element equal in value to the given
+		 * reference.
+		 * @param object Object reference to check.
+		 * @return integer value containing the index,
+		 * or -1 if not found.
+		 */
+		@Override
+		public int indexOf(Object object) {
+			int index = 0;
+			for(T element : this) {
+				if(object.equals(element)) {
+					return index;
+				}
+				index++;
+			}
+			return -1;
+		}
+
+		/**
+		 * Method designed to check whether the
+		 * view has any elements.
+		 * @return boolean value determining whether
+		 * the view is empty.
+		 */
+		@Override
+		public boolean isEmpty() {
+			return (this.size() == 0);
+		}
+
+		/**
+		 * Method designed to copy the view
+		 * into an array.
+		 * @return Array of basetype T containing
+		 * each element of the view.
+		 */
+		@Override
+		public T[] toArray() {
+			T[] returnArray = (T[]) new Object[this.size()];
+			int index = 0;
+			for(T element : this) {
+				returnArray[index++] = element;
+			}
+			return returnArray;
+		}
+	}
+
+	/**
+	 * Private static inner class viewing a range
+	 * of its parent. Indexed access is as fast as
+	 * the parent's, and elements may be replaced
+	 * through the view.
+	 * @author Noah Teshima
+	 * @param <T> Generic type of the elements.
+	 */
+	private static class SubList<T> extends View<T, T> {
+		private final int offset;
+		private final int size;
+
+		/**
+		 * Constructor used to set the parent list
+		 * and the range viewed.
+		 * @param parent AbstractList reference viewed.
+		 * @param fromIndex integer value containing the
+		 * first index, inclusive.
+		 * @param toIndex integer value containing the
+		 * last index, exclusive.
+		 */
+		public SubList(AbstractList<T> parent, int fromIndex, int toIndex) {
+			super(parent);
+			this.offset = fromIndex;
+			this.size = toIndex - fromIndex;
+		}
+
+		/**
+		 * Method designed to get the element at
+		 * the given index of the view.
+		 * @param index integer value containing the index.
+		 * @return Generic type containing the element.
+		 * @throws IndexOutOfBoundsException if the index
+		 * is out of range [0, size)
+		 */
+		@Override
+		public T get(int index) throws IndexOutOfBoundsException {
+			this.checkModification();
+			if(index < 0 || index >= this.size) {
+				throw new IndexOutOfBoundsException();
+			}
+			return this.parent.get(this.offset + index);
+		}
+
+		/**
+		 * Method designed to replace the element at
+		 * the given index of the view in the parent.
+		 * @param index integer value containing the index.
+		 * @param element Generic type reference to set.
+		 * @return Generic type containing the replaced element.
+		 * @throws IndexOutOfBoundsException if the index
+		 * is out of range [0, size)
+		 */
+		@Override
+		public T set(int index, T element) throws IndexOutOfBoundsException {
+			this.checkModification();
+			if(index < 0 || index >= this.size) {
+				throw new IndexOutOfBoundsException();
+			}
+			return this.parent.set(this.offset + index, element);
+		}
+
+		/**
+		 * Accessor method used to get the number
+		 * of elements in the view.
+		 * @return integer value containing the size.
+		 */
+		@Override
+		public int size() {
+			this.checkModification();
+			return this.size;
+		}
+
+		/**
+		 * Method designed to get an Iterator
+		 * reading through to the parent.
+		 * @return Iterator object with basetype T.
+		 */
+		@Override
+		public Iterator<T> iterator() {
+			this.checkModification();
+			if(this.parent instanceof RandomAccess) {
+				return new Iterator<T>() {
+					private int index = 0;
+
+					@Override
+					public boolean hasNext() {
+						return this.index < size;
+					}
+
+					@Override
+					public T next() {
+						if(!this.hasNext()) {
+							throw new NoSuchElementException();
+						}
+						return get(this.index++);
+					}
+				};
+			}
+			//sequential parents are walked once rather than indexed
+			Iterator<T> iterator = this.parent.iterator();
+			for(int index = 0; index < this.offset; index++) {
+				iterator.next();
+			}
+			return new Iterator<T>() {
+				private int remaining = size;
+
+				@Override
+				public boolean hasNext() {
+					return this.remaining > 0;
+				}
+
+				@Override
+				public T next() {
+					checkModification();
+					if(!this.hasNext()) {
+						throw new NoSuchElementException();
+					}
+					this.remaining--;
+					return iterator.next();
+				}
+			};
+		}
+	}
+
+	/**
+	 * Private static inner class viewing its
+	 * parent through a mapping function applied
+	 * on every read.
+	 * @author Noah Teshima
+	 * @param <R> Generic type of the mapped elements.
+	 * @param <E> Generic type of the parent's elements.
+	 */
+	private static class MappedList<R, E> extends View<R, E> {
+		private final Function<? super E, ? extends R> mapper;
+
+		/**
+		 * Constructor used to set the parent list
+		 * and the mapping function.
+		 * @param parent AbstractList reference viewed.
+		 * @param mapper Function reference applied to
+		 * each element.
+		 */
+		public MappedList(AbstractList<E> parent, Function<? super E, ? extends R> mapper) {
+			super(parent);
+			this.mapper = mapper;
+		}
+
+		/**
+		 * Method designed to get the mapped element
+		 * at the given index.
+		 * @param index integer value containing the index.
+		 * @return Generic type containing the mapped element.
+		 * @throws IndexOutOfBoundsException if the index
+		 * is out of range [0, size)
+		 */
+		@Override
+		public R get(int index) throws IndexOutOfBoundsException {
+			this.checkModification();
+			return this.mapper.apply(this.parent.get(index));
+		}
+
+		/**
+		 * Accessor method used to get the number
+		 * of elements in the view.
+		 * @return integer value containing the size.
+		 */
+		@Override
+		public int size() {
+			this.checkModification();
+			return this.parent.size();
+		}
+
+		/**
+		 * Method designed to get an Iterator
+		 * mapping each element of the parent.
+		 * @return Iterator object with basetype R.
+		 */
+		@Override
+		public Iterator<R> iterator() {
+			this.checkModification();
+			Iterator<E> iterator = this.parent.iterator();
+			int size = this.parent.size();
+			return new Iterator<R>() {
+				private int remaining = size;
+
+				@Override
+				public boolean hasNext() {
+					return this.remaining > 0;
+				}
+
+				@Override
+				public R next() {
+					checkModification();
+					if(!this.hasNext()) {
+						throw new NoSuchElementException();
+					}
+					this.remaining--;
+					return mapper.apply(iterator.next());
+				}
+			};
+		}
+	}
+
+	/**
+	 * Private static inner class viewing the
+	 * elements of its parent matching a predicate.
+	 * Nothing is cached, so size and indexed access
+	 * walk the parent.
+	 * @author Noah Teshima
+	 * @param <T> Generic type of the elements.
+	 */
+	private static class FilteredList<T> extends View<T, T> {
+		private final Predicate<? super T> predicate;
+
+		/**
+		 * Constructor used to set the parent list
+		 * and the predicate.
+		 * @param parent AbstractList reference viewed.
+		 * @param predicate Predicate reference used to
+		 * select elements.
+		 */
+		public FilteredList(AbstractList<T> parent, Predicate<? super T> predicate) {
+			super(parent);
+			this.predicate = predicate;
+		}
+
+		/**
+		 * Method designed to get the element at
+		 * the given index of the view.
+		 * @param index integer value containing the index.
+		 * @return Generic type containing the element.
+		 * @throws IndexOutOfBoundsException if the index
+		 * is out of range [0, size)
+		 */
+		@Override
+		public T get(int index) throws IndexOutOfBoundsException {
+			if(index >= 0) {
+				for(T element : this) {
+					if(index-- == 0) {
+						return element;
+					}
+				}
+			}
+			throw new IndexOutOfBoundsException();
+		}
+
+		/**
+		 * Accessor method used to get the number
+		 * of elements in the view.
+		 * @return integer value containing the size.
+		 */
+		@Override
+		public int size() {
+			int size = 0;
+			for(Iterator<T> iterator = this.iterator(); iterator.hasNext(); iterator.next()) {
+				size++;
+			}
+			return size;
+		}
+
+		/**
+		 * Method designed to get an Iterator
+		 * reading through to the parent.
+		 * @return Iterator object with basetype T.
+		 */
+		@Override
+		public Iterator<T> iterator() {
+			this.checkModification();
+			Iterator<T> iterator = this.parent.iterator();
+			int size = this.parent.size();
+			return new Iterator<T>() {
+				private int remaining = size;
+				private T next;
+				private boolean found;
+
+				@Override
+				public boolean hasNext() {
+					checkModification();
+					while(!this.found && this.remaining > 0) {
+						this.remaining--;
+						T element = iterator.next();
+						if(predicate.test(element)) {
+							this.next = element;
+							this.found = true;
+						}
+					}
+					return this.found;
+				}
+
+				@Override
+				public T next() {
+					if(!this.hasNext()) {
+						throw new NoSuchElementException();
+					}
+					this.found = false;
+					return this.next;
+				}
+			};
+		}
+	}
+
+	protected int modCount;
+
+	/**
+	 * Default constructor used to set
+	 * the modification count to 0.
+	 */
+	protected AbstractList() {
+		this.modCount = 0;
+	}
+
+	/**
+	 * Method designed to get a view of the
+	 * elements in range [fromIndex, toIndex).
+	 * @param fromIndex integer value containing the
+	 * first index of the view, inclusive.
+	 * @param toIndex integer value containing the
+	 * last index of the view, exclusive.
+	 * @return List object viewing the given range.
+	 * @throws IndexOutOfBoundsException if the range
+	 * is out of bounds for the list.
+	 */
+	@Override
+	public List<T> subList(int fromIndex, int toIndex) throws IndexOutOfBoundsException {
+		if(fromIndex < 0 || toIndex > this.size() || fromIndex > toIndex) {
+			throw new IndexOutOfBoundsException();
+		}
+		return new SubList<>(this, fromIndex, toIndex);
+	}
+
+	/**
+	 * Method designed to get a view applying
+	 * the given function to each element as it
+	 * is read.
+	 * @param mapper Function reference applied to
+	 * each element.
+	 * @param <R> Generic type of the mapped elements.
+	 * @return List object viewing the mapped elements.
+	 */
+	@Override
+	public <R> List<R> mapView(Function<? super T, ? extends R> mapper) {
+		return new MappedList<>(this, mapper);
+	}
+
+	/**
+	 * Method designed to get a view of the
+	 * elements matching the given predicate.
+	 * @param predicate Predicate reference used to
+	 * select elements.
+	 * @return List object viewing the matching elements.
+	 */
+	@Override
+	public List<T> filterView(Predicate<? super T> predicate) {
+		return new FilteredList<>(this, predicate);
+	}
+}
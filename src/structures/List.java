@@ -1,6 +1,8 @@
 package structures;
 
 import java.util.Iterator;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * Mock List interface used for
@@ -181,5 +183,42 @@ public interface List<T> extends Iterable<T> {
 	 * the elements from the list.
 	 */
 	public T[] toArray();
+	
+	/**
+	 * Abstract method used to get a view of the
+	 * elements in range [fromIndex, toIndex). The
+	 * view reads through to the current list
+	 * without copying.
+	 * @param fromIndex integer value containing the
+	 * first index of the view, inclusive.
+	 * @param toIndex integer value containing the
+	 * last index of the view, exclusive.
+	 * @return List object viewing the given range.
+	 * @throws IndexOutOfBoundsException if the range
+	 * is out of bounds for the list.
+	 */
+	public List<T> subList(int fromIndex, int toIndex)
+	throws IndexOutOfBoundsException;
+	
+	/**
+	 * Abstract method used to get a view applying
+	 * the given function to each element as it is
+	 * read.
+	 * @param mapper Function reference applied to
+	 * each element.
+	 * @param <R> Generic type of the mapped elements.
+	 * @return List object viewing the mapped elements.
+	 */
+	public <R> List<R> mapView(Function<? super T, ? extends R> mapper);
+	
+	/**
+	 * Abstract method used to get a view of the
+	 * elements matching the given predicate,
+	 * evaluated as the view is read.
+	 * @param predicate Predicate reference used to
+	 * select elements.
+	 * @return List object viewing the matching elements.
+	 */
+	public List<T> filterView(Predicate<? super T> predicate);
 }
 
@@ -2,16 +2,30 @@ package structures.arraylist;
 
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
-import structures.List;
+import structures.AbstractList;
+import structures.bloom_filter.CountingBloomFilter;
 
 /**
  * ArrayList data structure
  * containing basic operations for
  * insertion, removal, and retrieval.
+ * Elements are always stored contiguously
+ * in the range [0, size) of the backing
+ * array, so inserts and removals shift only
+ * the live elements after the index with a
+ * single bulk copy, and removing the last
+ * element is O(1).
  * @author Noah Teshima
  */
-public class ArrayList<T> implements List<T> {
+public class ArrayList<T> extends AbstractList<T> implements RandomAccess {
 	
 	/**
 	 * Private inner class used to iterate
@@ -25,12 +39,8 @@ public class ArrayList<T> implements List<T> {
 		 * Default constructor used to
 		 * create an iterator at the beginning
 		 * of the list.
-		 * @throws IndexOutOfBoundsException if the
-		 * given index is out of range (0, size],
-		 * where size is the number of elements
-		 * stored.
 		 */
-		public ArrayIterator() throws IndexOutOfBoundsException {
+		public ArrayIterator() {
 			this(0);
 		}
 		
@@ -40,12 +50,12 @@ public class ArrayList<T> implements List<T> {
 		 * @param index integer value containing
 		 * the starting index for the iterator.
 		 * @throws IndexOutOfBoundsException if the
-		 * given index is out of range (0, size],
+		 * given index is out of range [0, size],
 		 * where size is the number of elements
 		 * stored.
 		 */
 		public ArrayIterator(int index) throws IndexOutOfBoundsException {
-			if(index < 0 || index >= size) {
+			if(index < 0 || index > size) {
 				throw new IndexOutOfBoundsException();
 			}
 			this.index = index;
@@ -60,41 +70,33 @@ public class ArrayList<T> implements List<T> {
 		 */
 		@Override
 		public boolean hasNext() {
-			return this.index < (list.length - 1);
+			return this.index < size;
 		}
 
 		/**
-		 * Method designed to iterate over the
-		 * next element in the list, while returning
-		 * the previous element.
+		 * Method designed to return the next
+		 * element in the list.
 		 * @return Generic type object containing the
-		 * previous element iterated over.
+		 * element iterated over.
+		 * @throws NoSuchElementException if there is
+		 * no next element.
 		 */
 		@Override
-		public T next() {
-			T returnElement = list[this.index];
-			this.skipIndex();
-			
-			return returnElement;
-		}
-		
-		/**
-		 * Private method designed to skip the index
-		 * to the next valid element.
-		 */
-		private void skipIndex() {
-			this.index++;
-			if(this.hasNext()
-					&& list[this.index] == null) {
-				this.skipIndex();
+		public T next() throws NoSuchElementException {
+			if(!this.hasNext()) {
+				throw new NoSuchElementException();
 			}
+			return list[this.index++];
 		}
-		
 	}
 	
 	private static final int DEFAULT_CAPACITY = 10;
+	private static final int DEFAULT_PARALLEL_THRESHOLD = 8192;
 	private T[] list;
 	private int size;
+	private boolean compacting;
+	private int parallelThreshold = ArrayList.DEFAULT_PARALLEL_THRESHOLD;
+	private CountingBloomFilter filter;
 	
 	/**
 	 * Default constructor. When invoked, the
@@ -137,6 +139,32 @@ public class ArrayList<T> implements List<T> {
 		this.list = Arrays.copyOf(this.list, this.list.length * 2);
 	}
 	
+	/**
+	 * Private mutator method designed to halve the
+	 * backing array in compacting mode, once no more
+	 * than a quarter of it is in use.
+	 */
+	private void shrink() {
+		if(this.compacting && this.list.length > ArrayList.DEFAULT_CAPACITY
+				&& this.size <= this.list.length / 4) {
+			this.list = Arrays.copyOf(this.list,
+					Math.max(ArrayList.DEFAULT_CAPACITY, this.list.length / 2));
+		}
+	}
+	
+	/**
+	 * Private method used to check that the
+	 * given index refers to an element.
+	 * @param index integer value to check.
+	 * @throws IndexOutOfBoundsException if the
+	 * given index is out of range [0, size)
+	 */
+	private void checkIndex(int index) throws IndexOutOfBoundsException {
+		if(index < 0 || index >= this.size) {
+			throw new IndexOutOfBoundsException();
+		}
+	}
+	
 	/**
 	 * Method designed to add the
 	 * specified element to the end of
@@ -146,49 +174,58 @@ public class ArrayList<T> implements List<T> {
 	 */
 	@Override
 	public void add(T element) {
-		//reallocate if no more space
-		if(this.size == this.list.length) {
-			this.reallocate();
-		}
-		this.add(this.size++, element);
+		this.add(this.size, element);
 	}
 
 	/**
 	 * Method designed to add the
 	 * element at the specified index.
+	 * Elements from the index on are
+	 * shifted back by one with a single
+	 * bulk copy.
 	 * @param index integer value containing
 	 * the index at which to add the element.
 	 * @param element Generic type reference
 	 * containing the element to add
 	 * @throws IndexOutOfBoundsException if the
-	 * given index is not in range [0, capacity)
+	 * given index is not in range [0, size]
 	 */
 	@Override
 	public void add(int index, T element) throws IndexOutOfBoundsException {
-		//if not in range
-		if(index < 0 || index >= this.list.length) {
+		if(index < 0 || index > this.size) {
 			throw new IndexOutOfBoundsException();
 		}
-		//reallocate if necessary
+		//reallocate if no more space
 		if(this.size == this.list.length) {
 			this.reallocate();
 		}
-		//only shift if element is at index
-		if(this.list[index] != null) {
-			for(int backIndex = this.list.length - 1; backIndex > index; backIndex--) {
-				this.list[backIndex] = this.list[backIndex - 1];
-			}
-		}
+		//only the live range after the index moves
+		System.arraycopy(this.list, index, this.list, index + 1, this.size - index);
 		this.list[index] = element;
+		this.size++;
+		if(this.filter != null) {
+			this.filter.add(element);
+		}
+		this.modCount++;
 	}
 
 	/**
 	 * Method designed to clear all elements
-	 * from the current list.
+	 * from the current list. The capacity is
+	 * kept, unless in compacting mode.
 	 */
 	@Override
 	public void clear() {
-		this.list = (T[]) new Object[this.list.length];
+		if(this.compacting) {
+			this.setCapacity(ArrayList.DEFAULT_CAPACITY);
+		}else {
+			Arrays.fill(this.list, 0, this.size, null);
+		}
+		this.size = 0;
+		if(this.filter != null) {
+			this.filter.clear();
+		}
+		this.modCount++;
 	}
 
 	/**
@@ -203,13 +240,7 @@ public class ArrayList<T> implements List<T> {
 	 */
 	@Override
 	public boolean contains(Object object) {
-		for(T element : this.list) {
-			if(object.equals(element)) {
-				//TODO implement iterator & use this
-				return true;
-			}
-		}
-		return false;
+		return (this.indexOf(object) != -1);
 	}
 
 	/**
@@ -217,6 +248,8 @@ public class ArrayList<T> implements List<T> {
 	 * inside of the list.
 	 * @return Generic type containing the first
 	 * element inside of the list.
+	 * @throws IndexOutOfBoundsException if the
+	 * list is empty.
 	 */
 	@Override
 	public T get() throws IndexOutOfBoundsException {
@@ -235,6 +268,7 @@ public class ArrayList<T> implements List<T> {
 	 */
 	@Override
 	public T get(int index) throws IndexOutOfBoundsException {
+		this.checkIndex(index);
 		return this.list[index];
 	}
 
@@ -250,12 +284,19 @@ public class ArrayList<T> implements List<T> {
 	 */
 	@Override
 	public int indexOf(Object object) {
+		//a definite miss skips the scan
+		if(this.filter != null && !this.filter.mightContain(object)) {
+			return -1;
+		}
 		for(int index = 0; index < this.size; index++) {
-			if(object.equals(this.list[index])) {
+			if(Objects.equals(object, this.list[index])) {
 				return index;
 			}
 		}
 		//if not found
+		if(this.filter != null) {
+			this.filter.recordFalsePositive();
+		}
 		return -1;
 	}
 
@@ -285,32 +326,38 @@ public class ArrayList<T> implements List<T> {
 
 	/**
 	 * Method designed to remove the last element from the
-	 * list.
+	 * list in O(1), as nothing has to be shifted.
+	 * @return Generic type containing the removed element.
 	 * @throws IndexOutOfBoundsException if the list is empty.
 	 */
 	@Override
 	public T remove() throws IndexOutOfBoundsException {
-		return this.remove(this.list.length - 1);
+		return this.remove(this.size - 1);
 	}
 
 	/**
 	 * Method designed to remove the specified element in the
-	 * list.
+	 * list. Elements after the index are shifted forward by
+	 * one with a single bulk copy, so no gaps are left.
 	 * @param index integer value containing the index of the
 	 * element to remove.
+	 * @return Generic type containing the removed element.
+	 * @throws IndexOutOfBoundsException if the given index is
+	 * out of range [0, size)
 	 */
 	@Override
 	public T remove(int index) throws IndexOutOfBoundsException {
+		this.checkIndex(index);
 		T element = this.list[index];
-		this.list[index] = null;
 		
-		//shift the list
-		for(int index2 = this.list.length - 1; index2 > index; index2--) {
-			this.list[index2 - 1] = this.list[index];
+		//only the live range after the index moves
+		System.arraycopy(this.list, index + 1, this.list, index, this.size - index - 1);
+		this.list[--this.size] = null;
+		if(this.filter != null) {
+			this.filter.remove(element);
 		}
-		
-		//decrement size if removing a non-null element
-		this.size = (element != null) ? this.size-- : this.size;
+		this.shrink();
+		this.modCount++;
 		
 		return element;
 	}
@@ -319,11 +366,12 @@ public class ArrayList<T> implements List<T> {
 	 * Method designed to set the given element at the end of
 	 * the list.
 	 * @param element generic reference type T
+	 * @return Generic type containing the replaced element.
 	 * @throws IndexOutOfBoundsException if the list is empty
 	 */
 	@Override
 	public T set(T element) throws IndexOutOfBoundsException {
-		return this.set(this.list.length - 1, element);
+		return this.set(this.size - 1, element);
 	}
 
 	/**
@@ -332,18 +380,19 @@ public class ArrayList<T> implements List<T> {
 	 * @param index integer value containing the index of the
 	 * element to set
 	 * @param element generic reference type T
+	 * @return Generic type containing the replaced element.
 	 * @throws IndexOutOfBoundsException if the given index is
 	 * out of range [0, size)
 	 */
 	@Override
 	public T set(int index, T element) throws IndexOutOfBoundsException {
+		this.checkIndex(index);
 		T returnElement = this.list[index];
 		this.list[index] = element;
-		
-		//increment if setting at location of null element
-		//and not adding a null element
-		this.size = (returnElement == null
-				&& element != null) ? this.size++ : this.size;
+		if(this.filter != null) {
+			this.filter.remove(returnElement);
+			this.filter.add(element);
+		}
 		
 		return returnElement;
 	}
@@ -359,9 +408,205 @@ public class ArrayList<T> implements List<T> {
 		return this.size;
 	}
 
+	/**
+	 * Method designed to get an array
+	 * containing every element in order.
+	 * @return Array of generic type T with
+	 * length equal to the size.
+	 */
 	@Override
 	public T[] toArray() {
-		// TODO Auto-generated method stub
-		return null;
+		return Arrays.copyOf(this.list, this.size);
+	}
+
+	/**
+	 * Mutator method used to turn compacting mode on
+	 * or off. In compacting mode the backing array is
+	 * halved whenever removals leave it no more than a
+	 * quarter full, and clear releases it, so a list
+	 * that shrinks does not keep its peak capacity.
+	 * Turning the mode on trims the array at once.
+	 * @param compacting boolean value determining
+	 * whether compacting mode is on.
+	 */
+	public void setCompacting(boolean compacting) {
+		this.compacting = compacting;
+		if(compacting) {
+			this.compact();
+		}
+	}
+
+	/**
+	 * Accessor method used to check whether
+	 * compacting mode is on.
+	 * @return boolean value determining whether
+	 * compacting mode is on.
+	 */
+	public boolean isCompacting() {
+		return this.compacting;
+	}
+
+	/**
+	 * Mutator method designed to trim the backing
+	 * array to the size of the list, but never
+	 * below the default capacity.
+	 */
+	public void compact() {
+		int capacity = Math.max(this.size, ArrayList.DEFAULT_CAPACITY);
+		if(capacity < this.list.length) {
+			this.list = Arrays.copyOf(this.list, capacity);
+		}
+	}
+
+	/**
+	 * Accessor method used to get the length of the
+	 * backing array.
+	 * @return integer value containing the capacity.
+	 */
+	public int capacity() {
+		return this.list.length;
+	}
+
+	/**
+	 * Mutator method used to set the number of
+	 * elements below which the parallel bulk
+	 * operations run sequentially, and the size
+	 * of the ranges they split into.
+	 * @param parallelThreshold integer value containing
+	 * the threshold, raised to at least 64.
+	 */
+	public void setParallelThreshold(int parallelThreshold) {
+		this.parallelThreshold = Math.max(parallelThreshold, ParallelBulk.ALIGNMENT);
+	}
+
+	/**
+	 * Method designed to apply the given action to
+	 * each element, in parallel on the common
+	 * fork-join pool. The action may run in any order.
+	 * @param action Consumer reference applied to
+	 * each element.
+	 */
+	public void parallelForEach(Consumer<? super T> action) {
+		new ParallelBulk.ForEach<>(this.list, 0, this.size, this.parallelThreshold, action).invoke();
+	}
+
+	/**
+	 * Method designed to replace each element with
+	 * the result of the given operator, in parallel
+	 * on the common fork-join pool.
+	 * @param operator UnaryOperator reference applied
+	 * to each element.
+	 */
+	public void parallelReplaceAll(UnaryOperator<T> operator) {
+		new ParallelBulk.ReplaceAll<>(this.list, 0, this.size, this.parallelThreshold, operator).invoke();
+		this.rebuildFilter();
+	}
+
+	/**
+	 * Method designed to fold every element with the
+	 * given operator, in parallel on the common
+	 * fork-join pool.
+	 * @param identity Generic type reference containing
+	 * the identity of the operator.
+	 * @param accumulator BinaryOperator reference used to
+	 * combine elements. It must be associative.
+	 * @return Generic type containing the result, or the
+	 * identity if the list is empty.
+	 */
+	public T parallelReduce(T identity, BinaryOperator<T> accumulator) {
+		return new ParallelBulk.Reduce<>(this.list, 0, this.size, this.parallelThreshold,
+				identity, accumulator).invoke();
+	}
+
+	/**
+	 * Method designed to remove every element matching
+	 * the given predicate. Matches are marked in parallel,
+	 * then the remaining elements are compacted in parallel
+	 * into a new array, keeping their order.
+	 * @param filter Predicate reference selecting the
+	 * elements to remove.
+	 * @return integer value containing the number of
+	 * elements removed.
+	 */
+	public int parallelRemoveIf(Predicate<? super T> filter) {
+		long[] marks = new long[(this.size + 63) >>> 6];
+		int removed = new ParallelBulk.Mark<>(this.list, marks, 0, this.size,
+				this.parallelThreshold, filter).invoke();
+		if(removed == 0) {
+			return 0;
+		}
+
+		T[] compacted = (T[]) new Object[this.list.length];
+		new ParallelBulk.Compact<>(this.list, compacted, marks, 0, this.size, 0,
+				this.parallelThreshold).invoke();
+		this.list = compacted;
+		this.size -= removed;
+		this.rebuildFilter();
+		this.shrink();
+		this.modCount++;
+
+		return removed;
+	}
+
+	/**
+	 * Mutator method used to attach a counting Bloom
+	 * filter to the list. While attached, the filter is
+	 * kept up to date on every add, set and remove, and
+	 * contains and indexOf answer a definite miss without
+	 * scanning the list.
+	 * @param expectedSize integer value containing the
+	 * number of elements the filter is sized for.
+	 * @param falsePositiveRate double value containing the
+	 * target probability that a miss still scans the list.
+	 * @throws IllegalArgumentException if either argument
+	 * is out of range.
+	 */
+	public void enableFilter(int expectedSize, double falsePositiveRate)
+			throws IllegalArgumentException {
+		this.enableFilter(new CountingBloomFilter(expectedSize, falsePositiveRate));
+	}
+
+	/**
+	 * Mutator method used to attach the given filter,
+	 * for callers choosing the memory budget themselves.
+	 * Any elements the filter already holds are cleared.
+	 * @param filter CountingBloomFilter reference to attach.
+	 */
+	public void enableFilter(CountingBloomFilter filter) {
+		this.filter = filter;
+		this.rebuildFilter();
+	}
+
+	/**
+	 * Mutator method used to detach the filter,
+	 * so lookups scan the list again.
+	 */
+	public void disableFilter() {
+		this.filter = null;
+	}
+
+	/**
+	 * Accessor method used to get the attached filter,
+	 * which exposes its size and lookup statistics.
+	 * @return CountingBloomFilter reference, or null if
+	 * no filter is attached.
+	 */
+	public CountingBloomFilter getFilter() {
+		return this.filter;
+	}
+
+	/**
+	 * Private mutator method used to refill the filter
+	 * from the elements currently stored, after bulk
+	 * changes that do not report single elements.
+	 */
+	private void rebuildFilter() {
+		if(this.filter == null) {
+			return;
+		}
+		this.filter.clear();
+		for(int index = 0; index < this.size; index++) {
+			this.filter.add(this.list[index]);
+		}
 	}
 }
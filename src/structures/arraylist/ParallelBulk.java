@@ -0,0 +1,341 @@
+package structures.arraylist;
+
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Fork-join tasks behind the parallel bulk
+ * operations of ArrayList. Ranges are halved
+ * until they fall under the threshold, and every
+ * split point is a multiple of 64 elements, so
+ * no two tasks write to the same long word of a
+ * bitmap. The backing array itself is not padded:
+ * its header offset and reference size are up to
+ * the JVM, so neighbouring tasks may still share
+ * a cache line where their ranges meet.
+ * @author Noah Teshima
+ *
+ */
+final class ParallelBulk {
+	static final int ALIGNMENT = 64;
+
+	/**
+	 * Private constructor, as the class
+	 * only has static members.
+	 */
+	private ParallelBulk() {
+	}
+
+	/**
+	 * Static method used to get an aligned split
+	 * point for the given range.
+	 * @param low integer value containing the first
+	 * index, inclusive.
+	 * @param high integer value containing the last
+	 * index, exclusive.
+	 * @param threshold integer value containing the
+	 * largest range processed without splitting.
+	 * @return integer value containing the split point,
+	 * or -1 if the range should not be split.
+	 */
+	static int split(int low, int high, int threshold) {
+		if(high - low <= threshold) {
+			return -1;
+		}
+		int middle = ((low + high) >>> 1) & -ParallelBulk.ALIGNMENT;
+		return (middle > low) ? middle : -1;
+	}
+
+	/**
+	 * Static inner class applying an action to
+	 * each element of a range.
+	 * @author Noah Teshima
+	 * @param <T> Generic type of the elements.
+	 */
+	static class ForEach<T> extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private final T[] array;
+		private final int low;
+		private final int high;
+		private final int threshold;
+		private final Consumer<? super T> action;
+
+		/**
+		 * Constructor used to set the range and action.
+		 * @param array Array of elements.
+		 * @param low integer value containing the first index.
+		 * @param high integer value containing the last index, exclusive.
+		 * @param threshold integer value containing the sequential cutoff.
+		 * @param action Consumer reference applied to each element.
+		 */
+		ForEach(T[] array, int low, int high, int threshold, Consumer<? super T> action) {
+			this.array = array;
+			this.low = low;
+			this.high = high;
+			this.threshold = threshold;
+			this.action = action;
+		}
+
+		/**
+		 * Method designed to process the range,
+		 * splitting it while above the threshold.
+		 */
+		@Override
+		protected void compute() {
+			int middle = ParallelBulk.split(this.low, this.high, this.threshold);
+			if(middle == -1) {
+				for(int index = this.low; index < this.high; index++) {
+					this.action.accept(this.array[index]);
+				}
+				return;
+			}
+			invokeAll(new ForEach<>(this.array, this.low, middle, this.threshold, this.action),
+					new ForEach<>(this.array, middle, this.high, this.threshold, this.action));
+		}
+	}
+
+	/**
+	 * Static inner class replacing each element
+	 * of a range with the result of an operator.
+	 * @author Noah Teshima
+	 * @param <T> Generic type of the elements.
+	 */
+	static class ReplaceAll<T> extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private final T[] array;
+		private final int low;
+		private final int high;
+		private final int threshold;
+		private final UnaryOperator<T> operator;
+
+		/**
+		 * Constructor used to set the range and operator.
+		 * @param array Array of elements.
+		 * @param low integer value containing the first index.
+		 * @param high integer value containing the last index, exclusive.
+		 * @param threshold integer value containing the sequential cutoff.
+		 * @param operator UnaryOperator reference applied to each element.
+		 */
+		ReplaceAll(T[] array, int low, int high, int threshold, UnaryOperator<T> operator) {
+			this.array = array;
+			this.low = low;
+			this.high = high;
+			this.threshold = threshold;
+			this.operator = operator;
+		}
+
+		/**
+		 * Method designed to process the range,
+		 * splitting it while above the threshold.
+		 */
+		@Override
+		protected void compute() {
+			int middle = ParallelBulk.split(this.low, this.high, this.threshold);
+			if(middle == -1) {
+				for(int index = this.low; index < this.high; index++) {
+					this.array[index] = this.operator.apply(this.array[index]);
+				}
+				return;
+			}
+			invokeAll(new ReplaceAll<>(this.array, this.low, middle, this.threshold, this.operator),
+					new ReplaceAll<>(this.array, middle, this.high, this.threshold, this.operator));
+		}
+	}
+
+	/**
+	 * Static inner class folding a range with an
+	 * associative operator.
+	 * @author Noah Teshima
+	 * @param <T> Generic type of the elements.
+	 */
+	static class Reduce<T> extends RecursiveTask<T> {
+		private static final long serialVersionUID = 1L;
+		private final T[] array;
+		private final int low;
+		private final int high;
+		private final int threshold;
+		private final T identity;
+		private final BinaryOperator<T> accumulator;
+
+		/**
+		 * Constructor used to set the range and operator.
+		 * @param array Array of elements.
+		 * @param low integer value containing the first index.
+		 * @param high integer value containing the last index, exclusive.
+		 * @param threshold integer value containing the sequential cutoff.
+		 * @param identity Generic type reference containing the
+		 * identity of the operator.
+		 * @param accumulator BinaryOperator reference used to
+		 * combine elements.
+		 */
+		Reduce(T[] array, int low, int high, int threshold, T identity,
+				BinaryOperator<T> accumulator) {
+			this.array = array;
+			this.low = low;
+			this.high = high;
+			this.threshold = threshold;
+			this.identity = identity;
+			this.accumulator = accumulator;
+		}
+
+		/**
+		 * Method designed to fold the range,
+		 * splitting it while above the threshold.
+		 * @return Generic type containing the result.
+		 */
+		@Override
+		protected T compute() {
+			int middle = ParallelBulk.split(this.low, this.high, this.threshold);
+			if(middle == -1) {
+				T result = this.identity;
+				for(int index = this.low; index < this.high; index++) {
+					result = this.accumulator.apply(result, this.array[index]);
+				}
+				return result;
+			}
+			Reduce<T> left = new Reduce<>(this.array, this.low, middle,
+					this.threshold, this.identity, this.accumulator);
+			left.fork();
+			T right = new Reduce<>(this.array, middle, this.high,
+					this.threshold, this.identity, this.accumulator).compute();
+			return this.accumulator.apply(left.join(), right);
+		}
+	}
+
+	/**
+	 * Static inner class marking the elements of
+	 * a range matching a predicate in a bitmap.
+	 * Ranges start on word boundaries, so tasks
+	 * never share a word.
+	 * @author Noah Teshima
+	 * @param <T> Generic type of the elements.
+	 */
+	static class Mark<T> extends RecursiveTask<Integer> {
+		private static final long serialVersionUID = 1L;
+		private final T[] array;
+		private final long[] marks;
+		private final int low;
+		private final int high;
+		private final int threshold;
+		private final Predicate<? super T> filter;
+
+		/**
+		 * Constructor used to set the range and predicate.
+		 * @param array Array of elements.
+		 * @param marks Array of words with one bit per element.
+		 * @param low integer value containing the first index.
+		 * @param high integer value containing the last index, exclusive.
+		 * @param threshold integer value containing the sequential cutoff.
+		 * @param filter Predicate reference selecting elements.
+		 */
+		Mark(T[] array, long[] marks, int low, int high, int threshold,
+				Predicate<? super T> filter) {
+			this.array = array;
+			this.marks = marks;
+			this.low = low;
+			this.high = high;
+			this.threshold = threshold;
+			this.filter = filter;
+		}
+
+		/**
+		 * Method designed to mark the range,
+		 * splitting it while above the threshold.
+		 * @return Integer object containing the number
+		 * of elements marked.
+		 */
+		@Override
+		protected Integer compute() {
+			int middle = ParallelBulk.split(this.low, this.high, this.threshold);
+			if(middle == -1) {
+				int marked = 0;
+				for(int index = this.low; index < this.high; index++) {
+					if(this.filter.test(this.array[index])) {
+						this.marks[index >>> 6] |= 1L << index;
+						marked++;
+					}
+				}
+				return marked;
+			}
+			Mark<T> left = new Mark<>(this.array, this.marks, this.low, middle,
+					this.threshold, this.filter);
+			left.fork();
+			int right = new Mark<>(this.array, this.marks, middle, this.high,
+					this.threshold, this.filter).compute();
+			return left.join() + right;
+		}
+	}
+
+	/**
+	 * Static inner class copying the unmarked
+	 * elements of a range into a new array. The
+	 * destination of the right half is found by
+	 * counting the marks of the left half.
+	 * @author Noah Teshima
+	 * @param <T> Generic type of the elements.
+	 */
+	static class Compact<T> extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private final T[] source;
+		private final T[] target;
+		private final long[] marks;
+		private final int low;
+		private final int high;
+		private final int destination;
+		private final int threshold;
+
+		/**
+		 * Constructor used to set the range and destination.
+		 * @param source Array of elements to compact.
+		 * @param target Array receiving the kept elements.
+		 * @param marks Array of words with one bit per removed element.
+		 * @param low integer value containing the first index.
+		 * @param high integer value containing the last index, exclusive.
+		 * @param destination integer value containing the index in
+		 * the target of the range's first kept element.
+		 * @param threshold integer value containing the sequential cutoff.
+		 */
+		Compact(T[] source, T[] target, long[] marks, int low, int high,
+				int destination, int threshold) {
+			this.source = source;
+			this.target = target;
+			this.marks = marks;
+			this.low = low;
+			this.high = high;
+			this.destination = destination;
+			this.threshold = threshold;
+		}
+
+		/**
+		 * Method designed to copy the range,
+		 * splitting it while above the threshold.
+		 */
+		@Override
+		protected void compute() {
+			int middle = ParallelBulk.split(this.low, this.high, this.threshold);
+			if(middle == -1) {
+				int target = this.destination;
+				for(int index = this.low; index < this.high; index++) {
+					if((this.marks[index >>> 6] & (1L << index)) == 0) {
+						this.target[target++] = this.source[index];
+					}
+				}
+				return;
+			}
+			//both bounds are word aligned, so whole words are counted
+			int removed = 0;
+			for(int word = this.low >>> 6; word < (middle >>> 6); word++) {
+				removed += Long.bitCount(this.marks[word]);
+			}
+			int kept = (middle - this.low) - removed;
+			invokeAll(new Compact<>(this.source, this.target, this.marks, this.low, middle,
+							this.destination, this.threshold),
+					new Compact<>(this.source, this.target, this.marks, middle, this.high,
+							this.destination + kept, this.threshold));
+		}
+	}
+}
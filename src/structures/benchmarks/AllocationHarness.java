@@ -0,0 +1,343 @@
+package structures.benchmarks;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Harness measuring the bytes allocated and the
+ * latency of a single operation, each against a
+ * budget. Allocation is read from the per-thread
+ * counter of the HotSpot ThreadMXBean around a run
+ * of many operations, after a warmup that lets the
+ * JIT settle. Latency is sampled per operation in a
+ * second run and reported as percentiles. The report
+ * has one fixed-width line per operation, so reports
+ * from two versions can be compared with diff.
+ * @author Noah Teshima
+ *
+ */
+public class AllocationHarness {
+	private static final int DEFAULT_WARMUP = 20_000;
+	private static final int DEFAULT_ITERATIONS = 100_000;
+	private static final com.sun.management.ThreadMXBean THREADS = AllocationHarness.threads();
+
+	/**
+	 * Public interface for an operation measured by
+	 * the harness.
+	 * @author Noah Teshima
+	 */
+	public interface Operation {
+		/**
+		 * Abstract method used to run the operation once.
+		 * @param iteration integer value containing the
+		 * number of the run, for operations that vary
+		 * their argument.
+		 */
+		public void run(int iteration);
+	}
+
+	/**
+	 * Public static inner class holding the measurements
+	 * and budgets of one operation.
+	 * @author Noah Teshima
+	 */
+	public static class Result {
+		private final String name;
+		private final double bytesPerOperation;
+		private final double byteBudget;
+		private final long[] percentiles;
+		private final long latencyBudget;
+
+		/**
+		 * Constructor used to set every measurement.
+		 * @param name String reference naming the operation.
+		 * @param bytesPerOperation double value containing the
+		 * average bytes allocated per operation.
+		 * @param byteBudget double value containing the most
+		 * bytes allowed per operation.
+		 * @param percentiles Array of p50, p99 and p999 latencies
+		 * in nanoseconds.
+		 * @param latencyBudget long value containing the highest
+		 * p99 latency allowed, in nanoseconds.
+		 */
+		private Result(String name, double bytesPerOperation, double byteBudget,
+				long[] percentiles, long latencyBudget) {
+			this.name = name;
+			this.bytesPerOperation = bytesPerOperation;
+			this.byteBudget = byteBudget;
+			this.percentiles = percentiles;
+			this.latencyBudget = latencyBudget;
+		}
+
+		/**
+		 * Accessor method used to get the operation name.
+		 * @return String object naming the operation.
+		 */
+		public String getName() {
+			return this.name;
+		}
+
+		/**
+		 * Accessor method used to get the average bytes
+		 * allocated per operation.
+		 * @return double value containing the bytes per
+		 * operation, or NaN if allocation cannot be measured.
+		 */
+		public double getBytesPerOperation() {
+			return this.bytesPerOperation;
+		}
+
+		/**
+		 * Accessor method used to get the median latency.
+		 * @return long value containing the p50 in nanoseconds.
+		 */
+		public long getP50() {
+			return this.percentiles[0];
+		}
+
+		/**
+		 * Accessor method used to get the 99th percentile latency.
+		 * @return long value containing the p99 in nanoseconds.
+		 */
+		public long getP99() {
+			return this.percentiles[1];
+		}
+
+		/**
+		 * Accessor method used to get the 99.9th percentile latency.
+		 * @return long value containing the p999 in nanoseconds.
+		 */
+		public long getP999() {
+			return this.percentiles[2];
+		}
+
+		/**
+		 * Accessor method used to check whether the allocation
+		 * stayed within its budget. Allocation that cannot be
+		 * measured counts as within budget.
+		 * @return boolean value determining whether the
+		 * allocation budget was met.
+		 */
+		public boolean withinByteBudget() {
+			return Double.isNaN(this.bytesPerOperation)
+					|| this.bytesPerOperation <= this.byteBudget;
+		}
+
+		/**
+		 * Accessor method used to check whether the p99
+		 * latency stayed within its budget.
+		 * @return boolean value determining whether the
+		 * latency budget was met.
+		 */
+		public boolean withinLatencyBudget() {
+			return this.getP99() <= this.latencyBudget;
+		}
+
+		/**
+		 * Overridden method from Object class.
+		 * Used to get the report line of the operation.
+		 * @return String object containing the report line.
+		 */
+		@Override
+		public String toString() {
+			String status = (this.withinByteBudget() && this.withinLatencyBudget()) ? "ok"
+					: (this.withinByteBudget() ? "SLOW" : "ALLOC");
+			return String.format("%-36s %10.1f %8.0f %10d %10d %10d %10d  %s", this.name,
+					this.bytesPerOperation, this.byteBudget, this.getP50(), this.getP99(),
+					this.getP999(), this.latencyBudget, status);
+		}
+	}
+
+	private final int warmup;
+	private final int iterations;
+	private final java.util.List<Result> results;
+
+	/**
+	 * Default constructor. When invoked, every operation
+	 * is warmed up 20,000 times and measured 100,000 times.
+	 */
+	public AllocationHarness() {
+		this(AllocationHarness.DEFAULT_WARMUP, AllocationHarness.DEFAULT_ITERATIONS);
+	}
+
+	/**
+	 * Constructor used to set the number of runs.
+	 * @param warmup integer value containing the number
+	 * of unmeasured runs before measuring.
+	 * @param iterations integer value containing the
+	 * number of measured runs.
+	 * @throws IllegalArgumentException if iterations is
+	 * not positive or warmup is negative.
+	 */
+	public AllocationHarness(int warmup, int iterations) throws IllegalArgumentException {
+		if(warmup < 0 || iterations <= 0) {
+			throw new IllegalArgumentException();
+		}
+		this.warmup = warmup;
+		this.iterations = iterations;
+		this.results = new java.util.ArrayList<>();
+	}
+
+	/**
+	 * Private static method used to get the HotSpot
+	 * thread bean with allocation counting enabled.
+	 * @return ThreadMXBean reference, or null if the
+	 * JVM cannot count allocated bytes.
+	 */
+	private static com.sun.management.ThreadMXBean threads() {
+		if(!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+			return null;
+		}
+		com.sun.management.ThreadMXBean threads =
+				(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		if(!threads.isThreadAllocatedMemorySupported()) {
+			return null;
+		}
+		threads.setThreadAllocatedMemoryEnabled(true);
+		return threads;
+	}
+
+	/**
+	 * Static accessor method used to check whether the
+	 * JVM can count allocated bytes per thread.
+	 * @return boolean value determining whether allocation
+	 * is measured.
+	 */
+	public static boolean isSupported() {
+		return AllocationHarness.THREADS != null;
+	}
+
+	/**
+	 * Private static method used to read the bytes
+	 * allocated so far by the current thread.
+	 * @return long value containing the allocated bytes.
+	 */
+	private static long allocatedBytes() {
+		return AllocationHarness.THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	/**
+	 * Method designed to measure the given operation
+	 * and record the result for the report.
+	 * @param name String reference naming the operation.
+	 * @param byteBudget double value containing the most
+	 * bytes allowed per operation.
+	 * @param latencyBudget long value containing the highest
+	 * p99 latency allowed, in nanoseconds.
+	 * @param operation Operation reference to measure.
+	 * @return Result object containing the measurements.
+	 */
+	public Result measure(String name, double byteBudget, long latencyBudget,
+			Operation operation) {
+		for(int iteration = 0; iteration < this.warmup; iteration++) {
+			operation.run(iteration);
+		}
+
+		double bytesPerOperation = Double.NaN;
+		if(AllocationHarness.isSupported()) {
+			//the counter read itself is subtracted out
+			long overhead = AllocationHarness.allocatedBytes();
+			overhead = AllocationHarness.allocatedBytes() - overhead;
+			long before = AllocationHarness.allocatedBytes();
+			for(int iteration = 0; iteration < this.iterations; iteration++) {
+				operation.run(this.warmup + iteration);
+			}
+			long allocated = AllocationHarness.allocatedBytes() - before - overhead;
+			bytesPerOperation = Math.max(0, allocated) / (double) this.iterations;
+		}
+
+		long[] samples = new long[this.iterations];
+		for(int iteration = 0; iteration < this.iterations; iteration++) {
+			long begin = System.nanoTime();
+			operation.run(this.warmup + this.iterations + iteration);
+			samples[iteration] = System.nanoTime() - begin;
+		}
+		Arrays.sort(samples);
+		long[] percentiles = {
+				AllocationHarness.percentile(samples, 0.5),
+				AllocationHarness.percentile(samples, 0.99),
+				AllocationHarness.percentile(samples, 0.999)};
+
+		Result result = new Result(name, bytesPerOperation, byteBudget, percentiles, latencyBudget);
+		this.results.add(result);
+		return result;
+	}
+
+	/**
+	 * Private static method used to get a percentile
+	 * of sorted samples.
+	 * @param samples Array of sorted samples.
+	 * @param fraction double value containing the
+	 * percentile as a fraction.
+	 * @return long value containing the sample at the
+	 * percentile.
+	 */
+	private static long percentile(long[] samples, double fraction) {
+		int index = (int) Math.ceil(fraction * samples.length) - 1;
+		return samples[Math.max(0, Math.min(index, samples.length - 1))];
+	}
+
+	/**
+	 * Accessor method used to get every result
+	 * recorded so far.
+	 * @return List of results, in the order measured.
+	 */
+	public java.util.List<Result> getResults() {
+		return java.util.Collections.unmodifiableList(this.results);
+	}
+
+	/**
+	 * Accessor method used to check whether every
+	 * operation stayed within both budgets.
+	 * @return boolean value determining whether all
+	 * budgets were met.
+	 */
+	public boolean passed() {
+		for(Result result : this.results) {
+			if(!result.withinByteBudget() || !result.withinLatencyBudget()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Method designed to build the report, with a
+	 * header line followed by one line per operation.
+	 * @return String object containing the report.
+	 */
+	public String report() {
+		StringBuilder report = new StringBuilder();
+		report.append(String.format("%-36s %10s %8s %10s %10s %10s %10s  %s%n", "operation",
+				"bytes/op", "budget", "p50 ns", "p99 ns", "p999 ns", "p99 budget", "status"));
+		for(Result result : this.results) {
+			report.append(result).append(System.lineSeparator());
+		}
+		return report.toString();
+	}
+
+	/**
+	 * Method designed to print the report and, when a
+	 * path is given as the first argument, write it to
+	 * that file for comparing against another version.
+	 * The process exits with status 1 if any budget was
+	 * missed.
+	 * @param args command line arguments of the caller.
+	 * @throws IOException if the report cannot be written.
+	 */
+	public void finish(String[] args) throws IOException {
+		String report = this.report();
+		System.out.print(report);
+		if(args.length > 0) {
+			Files.write(Path.of(args[0]), report.getBytes(StandardCharsets.UTF_8));
+		}
+		if(!AllocationHarness.isSupported()) {
+			System.out.println("allocation counting is not supported by this JVM");
+		}
+		System.exit(this.passed() ? 0 : 1);
+	}
+}
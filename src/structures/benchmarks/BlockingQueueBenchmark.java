@@ -0,0 +1,229 @@
+package structures.benchmarks;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import structures.blocking_queue.BoundedBlockingQueue;
+import structures.singly_linked_list.SinglyLinkedList;
+
+/**
+ * Throughput benchmark for BoundedBlockingQueue at
+ * 1:1, N:1 and N:M producer to consumer ratios.
+ * Consumers either take one element at a time or
+ * drain batches, and a SinglyLinkedList guarded by
+ * synchronized, wait and notifyAll is measured as
+ * the baseline it replaces.
+ * @author Noah Teshima
+ *
+ */
+public class BlockingQueueBenchmark {
+	private static final int ITEMS = 2_000_000;
+	private static final int CAPACITY = 1024;
+	private static final int BATCH = 64;
+	private static final Integer POISON = Integer.valueOf(-1);
+	private static final int[][] RATIOS = {{1, 1}, {4, 1}, {8, 1}, {4, 4}, {8, 4}};
+
+	/**
+	 * Private interface used to run the same workload
+	 * against each queue.
+	 * @author Noah Teshima
+	 */
+	private interface Channel {
+		/**
+		 * Abstract method used to send an element.
+		 * @param element Integer object to send.
+		 * @throws InterruptedException if interrupted.
+		 */
+		public void send(Integer element) throws InterruptedException;
+
+		/**
+		 * Abstract method used to receive elements until
+		 * the poison element arrives.
+		 * @param received LongAdder counting the elements.
+		 * @throws InterruptedException if interrupted.
+		 */
+		public void receive(LongAdder received) throws InterruptedException;
+	}
+
+	/**
+	 * Private interface used to create a new channel
+	 * for every run.
+	 * @author Noah Teshima
+	 */
+	private interface ChannelFactory {
+		/**
+		 * Abstract method used to create a channel.
+		 * @return Channel object.
+		 */
+		public Channel create();
+	}
+
+	/**
+	 * Entry point of the benchmark.
+	 * @param args unused command line arguments.
+	 * @throws InterruptedException if interrupted while
+	 * waiting for the threads.
+	 */
+	public static void main(String[] args) throws InterruptedException {
+		System.out.printf("%10s %16s %16s %16s%n", "P:C", "take ops/s", "drainTo ops/s",
+				"synchronized ops/s");
+		for(int[] ratio : RATIOS) {
+			double take = run(ratio[0], ratio[1], BlockingQueueBenchmark::takeChannel);
+			double drain = run(ratio[0], ratio[1], BlockingQueueBenchmark::drainChannel);
+			double baseline = run(ratio[0], ratio[1], BlockingQueueBenchmark::synchronizedChannel);
+			System.out.printf("%10s %16.0f %16.0f %16.0f%n", ratio[0] + ":" + ratio[1],
+					take, drain, baseline);
+		}
+	}
+
+	/**
+	 * Private static method used to create a channel
+	 * whose consumers take one element at a time.
+	 * @return Channel object over a new queue.
+	 */
+	private static Channel takeChannel() {
+		BoundedBlockingQueue<Integer> queue = new BoundedBlockingQueue<>(CAPACITY);
+		return new Channel() {
+			@Override
+			public void send(Integer element) throws InterruptedException {
+				queue.put(element);
+			}
+
+			@Override
+			public void receive(LongAdder received) throws InterruptedException {
+				while(queue.take() != POISON) {
+					received.increment();
+				}
+			}
+		};
+	}
+
+	/**
+	 * Private static method used to create a channel
+	 * whose consumers drain batches into a list.
+	 * @return Channel object over a new queue.
+	 */
+	private static Channel drainChannel() {
+		BoundedBlockingQueue<Integer> queue = new BoundedBlockingQueue<>(CAPACITY);
+		return new Channel() {
+			@Override
+			public void send(Integer element) throws InterruptedException {
+				queue.put(element);
+			}
+
+			@Override
+			public void receive(LongAdder received) throws InterruptedException {
+				SinglyLinkedList<Integer> batch = new SinglyLinkedList<>();
+				while(true) {
+					//block for the first element, then take what else is there
+					batch.addToBack(queue.take());
+					queue.drainTo(batch, BATCH - 1);
+					while(!batch.isEmpty()) {
+						if(batch.remove() == POISON) {
+							//put back anything after the poison for other consumers
+							while(!batch.isEmpty()) {
+								queue.put(batch.remove());
+							}
+							return;
+						}
+						received.increment();
+					}
+				}
+			}
+		};
+	}
+
+	/**
+	 * Private static method used to create a channel
+	 * over a SinglyLinkedList guarded by its monitor,
+	 * with no capacity bound.
+	 * @return Channel object over a new list.
+	 */
+	private static Channel synchronizedChannel() {
+		SinglyLinkedList<Integer> list = new SinglyLinkedList<>();
+		return new Channel() {
+			@Override
+			public void send(Integer element) {
+				synchronized(list) {
+					list.addToBack(element);
+					list.notifyAll();
+				}
+			}
+
+			@Override
+			public void receive(LongAdder received) throws InterruptedException {
+				while(true) {
+					Integer element;
+					synchronized(list) {
+						while(list.isEmpty()) {
+							list.wait();
+						}
+						element = list.remove();
+					}
+					if(element == POISON) {
+						return;
+					}
+					received.increment();
+				}
+			}
+		};
+	}
+
+	/**
+	 * Private static method used to move every item
+	 * through a new channel and time it.
+	 * @param producers integer value containing the
+	 * number of producer threads.
+	 * @param consumers integer value containing the
+	 * number of consumer threads.
+	 * @param factory ChannelFactory reference creating
+	 * the channel.
+	 * @return double value containing the items moved
+	 * per second.
+	 * @throws InterruptedException if interrupted while
+	 * waiting for the threads.
+	 */
+	private static double run(int producers, int consumers, ChannelFactory factory)
+			throws InterruptedException {
+		Channel channel = factory.create();
+		LongAdder received = new LongAdder();
+		Thread[] producerThreads = new Thread[producers];
+		Thread[] consumerThreads = new Thread[consumers];
+		int perProducer = ITEMS / producers;
+
+		long begin = System.nanoTime();
+		for(int thread = 0; thread < consumers; thread++) {
+			consumerThreads[thread] = new Thread(() -> {
+				try {
+					channel.receive(received);
+				}catch(InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+			consumerThreads[thread].start();
+		}
+		for(int thread = 0; thread < producers; thread++) {
+			producerThreads[thread] = new Thread(() -> {
+				try {
+					for(int item = 0; item < perProducer; item++) {
+						channel.send(item & 1023);
+					}
+				}catch(InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+			producerThreads[thread].start();
+		}
+		for(Thread producer : producerThreads) {
+			producer.join();
+		}
+		for(int thread = 0; thread < consumers; thread++) {
+			channel.send(POISON);
+		}
+		for(Thread consumer : consumerThreads) {
+			consumer.join();
+		}
+		double seconds = (System.nanoTime() - begin) / 1e9;
+
+		return received.sum() / seconds;
+	}
+}
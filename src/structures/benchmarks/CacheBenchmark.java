@@ -0,0 +1,158 @@
+package structures.benchmarks;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import structures.cache.Cache;
+import structures.cache.LruCache;
+import structures.cache.StripedCache;
+import structures.cache.TinyLfuCache;
+
+/**
+ * Benchmark for the caches. A Zipf distributed
+ * trace of keys, alone and interleaved with long
+ * scans of keys used once, is replayed against
+ * LruCache and TinyLfuCache, reporting the hit rate
+ * and the cost of each lookup. StripedCache is then
+ * run by several threads at once to report its
+ * throughput for each stripe count.
+ * @author Noah Teshima
+ *
+ */
+public class CacheBenchmark {
+	private static final int KEYS = 100_000;
+	private static final int CAPACITY = 1_000;
+	private static final int TRACE = 2_000_000;
+	private static final double SKEW = 0.9;
+	private static final int SCAN_LENGTH = 5_000;
+	private static final int SCAN_PERIOD = 50_000;
+	private static final int RUNS = 3;
+
+	/**
+	 * Entry point of the benchmark.
+	 * @param args unused command line arguments.
+	 * @throws InterruptedException if interrupted while
+	 * waiting for the threads.
+	 */
+	public static void main(String[] args) throws InterruptedException {
+		int[] zipf = trace(false),
+				scans = trace(true);
+
+		System.out.printf("%-12s %-14s %10s %10s %12s%n", "trace", "cache", "hit rate", "ns/op",
+				"evictions");
+		for(int run = 0; run < RUNS; run++) {
+			boolean print = (run == RUNS - 1);
+			replay("zipf", zipf, "LruCache", () -> new LruCache<>(CAPACITY), print);
+			replay("zipf", zipf, "TinyLfuCache", () -> new TinyLfuCache<>(CAPACITY), print);
+			replay("zipf+scans", scans, "LruCache", () -> new LruCache<>(CAPACITY), print);
+			replay("zipf+scans", scans, "TinyLfuCache", () -> new TinyLfuCache<>(CAPACITY), print);
+		}
+
+		System.out.println();
+		System.out.printf("%-8s %-8s %14s %10s%n", "stripes", "threads", "ops/ms", "hit rate");
+		for(int stripes : new int[] {1, 4, 16}) {
+			for(int threads : new int[] {1, 2, 4}) {
+				concurrent(zipf, stripes, threads);
+			}
+		}
+	}
+
+	/**
+	 * Private static method used to draw a trace of
+	 * keys from a Zipf distribution, by binary search
+	 * of its cumulative weights.
+	 * @param scans boolean value determining whether
+	 * periodic scans of new keys are interleaved.
+	 * @return int array containing the keys.
+	 */
+	private static int[] trace(boolean scans) {
+		double[] cumulative = new double[KEYS];
+		double total = 0;
+		for(int rank = 0; rank < KEYS; rank++) {
+			total += 1 / Math.pow(rank + 1, SKEW);
+			cumulative[rank] = total;
+		}
+
+		Random random = new Random(42);
+		int[] trace = new int[TRACE];
+		int scanKey = KEYS;
+		for(int index = 0; index < TRACE; index++) {
+			if(scans && index % SCAN_PERIOD < SCAN_LENGTH) {
+				trace[index] = scanKey++;
+			}else {
+				int rank = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+				trace[index] = (rank < 0) ? -rank - 1 : rank;
+			}
+		}
+		return trace;
+	}
+
+	/**
+	 * Private static method used to replay a trace
+	 * against a new cache, putting every missed key,
+	 * and print one row.
+	 * @param traceName String containing the trace label.
+	 * @param trace int array containing the keys.
+	 * @param cacheName String containing the cache label.
+	 * @param factory Supplier reference creating the cache.
+	 * @param print boolean value determining whether the
+	 * row is printed, or the run only warms up.
+	 */
+	private static void replay(String traceName, int[] trace, String cacheName,
+			Supplier<Cache<Integer, Integer>> factory, boolean print) {
+		Cache<Integer, Integer> cache = factory.get();
+		long begin = System.nanoTime();
+		for(int key : trace) {
+			if(cache.get(key) == null) {
+				cache.put(key, key);
+			}
+		}
+		double nanos = (double) (System.nanoTime() - begin) / trace.length;
+		if(print) {
+			System.out.printf("%-12s %-14s %9.1f%% %10.1f %12d%n", traceName, cacheName,
+					cache.getStats().getHitRate() * 100, nanos, cache.getStats().getEvictionCount());
+		}
+	}
+
+	/**
+	 * Private static method used to replay a trace
+	 * from several threads against one striped cache,
+	 * each thread starting at a different offset, and
+	 * print one row.
+	 * @param trace int array containing the keys.
+	 * @param stripes integer value containing the
+	 * number of stripes.
+	 * @param threadCount integer value containing the
+	 * number of threads.
+	 * @throws InterruptedException if interrupted while
+	 * waiting for the threads.
+	 */
+	private static void concurrent(int[] trace, int stripes, int threadCount)
+			throws InterruptedException {
+		Cache<Integer, Integer> cache = StripedCache.tinyLfu(stripes, CAPACITY * 16,
+				Cache.Weigher.unit());
+		Thread[] threads = new Thread[threadCount];
+		for(int thread = 0; thread < threadCount; thread++) {
+			int offset = thread * (trace.length / threadCount);
+			threads[thread] = new Thread(() -> {
+				for(int index = 0; index < trace.length; index++) {
+					int key = trace[(index + offset) % trace.length];
+					if(cache.get(key) == null) {
+						cache.put(key, key);
+					}
+				}
+			});
+		}
+		long begin = System.nanoTime();
+		for(Thread thread : threads) {
+			thread.start();
+		}
+		for(Thread thread : threads) {
+			thread.join();
+		}
+		double millis = (System.nanoTime() - begin) / 1e6;
+		System.out.printf("%-8d %-8d %14.0f %9.1f%%%n", stripes, threadCount,
+				(double) trace.length * threadCount / millis, cache.getStats().getHitRate() * 100);
+	}
+}
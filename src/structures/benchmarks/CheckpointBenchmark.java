@@ -0,0 +1,145 @@
+package structures.benchmarks;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import structures.arraylist.ArrayList;
+import structures.checkpoint_list.CheckpointList;
+import structures.checkpoint_list.Checkpointer;
+
+/**
+ * Benchmark for incremental checkpoints. A full
+ * snapshot of an ArrayList, written on the writing
+ * thread, is compared with a base checkpoint of a
+ * CheckpointList, which only stalls the writer for
+ * the snapshot and keeps accepting writes while the
+ * file is written. Deltas after changing a fraction
+ * of the elements are then timed, and recovery of
+ * the base and deltas is timed from one decoding
+ * thread up to the number of cores. The list size
+ * may be given as the first argument.
+ * @author Noah Teshima
+ *
+ */
+public class CheckpointBenchmark {
+	private static final int DEFAULT_SIZE = 4_000_000;
+	private static final double[] HOT = {0.001, 0.01, 0.1};
+	private static final double WRITES = 0.001;
+
+	/**
+	 * Entry point of the benchmark.
+	 * @param args optional list size.
+	 * @throws IOException if a checkpoint fails.
+	 * @throws InterruptedException if interrupted while
+	 * waiting for a checkpoint.
+	 * @throws ExecutionException if a checkpoint fails.
+	 */
+	public static void main(String[] args)
+			throws IOException, InterruptedException, ExecutionException {
+		int size = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_SIZE;
+		int cores = Runtime.getRuntime().availableProcessors();
+		Random random = new Random(42);
+		Path directory = Files.createTempDirectory("checkpoint");
+
+		try {
+			ArrayList<Integer> source = new ArrayList<>(size);
+			for(int index = 0; index < size; index++) {
+				source.add(random.nextInt());
+			}
+			Path full = directory.resolve("full.snapshot");
+			long begin = System.nanoTime();
+			try(DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(Files.newOutputStream(full), 1 << 16))) {
+				out.writeInt(source.size());
+				for(Integer element : source) {
+					out.writeInt(element);
+				}
+			}
+			System.out.printf("%d elements, %d cores%n", size, cores);
+			System.out.printf("full snapshot of ArrayList: writer stalled %.1f ms%n",
+					(System.nanoTime() - begin) / 1e6);
+			Files.delete(full);
+
+			CheckpointList<Integer> list = new CheckpointList<>(source);
+			source = null;
+			try(Checkpointer<Integer> checkpointer = new Checkpointer<>(directory,
+					Checkpointer.Codec.INTEGER, HOT.length)) {
+				System.out.printf("%n%10s %12s %12s %12s %10s %8s%n", "hot range", "stall ms",
+						"write ms", "writes", "chunks", "MB");
+				run(checkpointer, list, random, 1.0);
+				for(double hot : HOT) {
+					run(checkpointer, list, random, hot);
+				}
+			}
+
+			System.out.printf("%n%8s %12s%n", "threads", "recover ms");
+			for(int threads = 1; threads <= cores; threads *= 2) {
+				try(Checkpointer<Integer> checkpointer = new Checkpointer<>(directory,
+						Checkpointer.Codec.INTEGER)) {
+					begin = System.nanoTime();
+					CheckpointList<Integer> recovered = checkpointer.recover(threads);
+					double millis = (System.nanoTime() - begin) / 1e6;
+					if(recovered.size() != size) {
+						throw new IllegalStateException("recovered " + recovered.size() + " elements");
+					}
+					System.out.printf("%8d %12.1f%n", threads, millis);
+				}
+			}
+		}finally {
+			try(Stream<Path> files = Files.list(directory)) {
+				for(Path file : (Iterable<Path>) files::iterator) {
+					Files.delete(file);
+				}
+			}
+			Files.delete(directory);
+		}
+	}
+
+	/**
+	 * Private static method used to write to a hot
+	 * range of the list, checkpoint it and keep appending and
+	 * removing at the end until the checkpoint is on
+	 * disk, printing one row.
+	 * @param checkpointer Checkpointer reference to use.
+	 * @param list CheckpointList reference to change.
+	 * @param random Random reference choosing the writes.
+	 * @param hot double value containing the fraction
+	 * of the list written before the checkpoint.
+	 * @throws InterruptedException if interrupted while
+	 * waiting for the checkpoint.
+	 * @throws ExecutionException if the checkpoint fails.
+	 */
+	private static void run(Checkpointer<Integer> checkpointer, CheckpointList<Integer> list,
+			Random random, double hot) throws InterruptedException, ExecutionException {
+		int size = list.size();
+		if(hot < 1.0) {
+			int range = (int) (size * hot),
+					start = random.nextInt(size - range);
+			for(int write = (int) (size * WRITES); write > 0; write--) {
+				list.set(start + random.nextInt(range), random.nextInt());
+			}
+		}
+
+		long begin = System.nanoTime();
+		Future<Checkpointer.Result> future = checkpointer.checkpoint(list);
+		double stall = (System.nanoTime() - begin) / 1e6;
+		//the writer carries on at the tail, so the next delta only gains one chunk
+		long writes = 0;
+		while(!future.isDone()) {
+			list.add(random.nextInt());
+			list.remove();
+			writes += 2;
+		}
+		Checkpointer.Result result = future.get();
+		double write = (System.nanoTime() - begin) / 1e6;
+		System.out.printf("%9.2f%% %12.3f %12.1f %12d %10d %8.1f%n", hot * 100, stall, write,
+				writes, result.getChunksWritten(), result.getBytesWritten() / 1048576.0);
+	}
+}
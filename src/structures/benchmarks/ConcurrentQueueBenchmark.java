@@ -0,0 +1,289 @@
+package structures.benchmarks;
+
+import structures.concurrent_queue.MpscLinkedQueue;
+import structures.concurrent_queue.SpscArrayQueue;
+import structures.singly_linked_list.SinglyLinkedList;
+
+/**
+ * Throughput and latency benchmark for the lock-free
+ * MpscLinkedQueue and SpscArrayQueue against a
+ * SinglyLinkedList guarded by synchronized. Every
+ * queue has one consumer spinning on poll.
+ * Throughput moves a fixed number of elements from
+ * 1, 2, 4 and 8 producers (SPSC runs with one only),
+ * and latency sends timestamps from one producer at
+ * a steady pace and records the time each spent in
+ * the queue in a LatencyHistogram.
+ * @author Noah Teshima
+ *
+ */
+public class ConcurrentQueueBenchmark {
+	private static final int ITEMS = 4_000_000;
+	private static final int CAPACITY = 1024;
+	private static final int SAMPLES = 200_000;
+	private static final long PACE_NANOS = 2_000;
+	private static final int SPIN_LIMIT = 100;
+	private static final int[] PRODUCERS = {1, 2, 4, 8};
+
+	/**
+	 * Private interface used to run the same workload
+	 * against each queue.
+	 * @author Noah Teshima
+	 */
+	private interface Channel {
+		/**
+		 * Abstract method used to try to send an element.
+		 * @param element Long object to send.
+		 * @return boolean value determining whether the
+		 * element was accepted.
+		 */
+		public boolean offer(Long element);
+
+		/**
+		 * Abstract method used to try to receive an element.
+		 * @return Long object received, or null if none
+		 * is ready.
+		 */
+		public Long poll();
+	}
+
+	/**
+	 * Private interface used to create a new channel
+	 * for every run.
+	 * @author Noah Teshima
+	 */
+	private interface ChannelFactory {
+		/**
+		 * Abstract method used to create a channel.
+		 * @return Channel object.
+		 */
+		public Channel create();
+	}
+
+	/**
+	 * Entry point of the benchmark.
+	 * @param args unused command line arguments.
+	 * @throws InterruptedException if interrupted while
+	 * waiting for the threads.
+	 */
+	public static void main(String[] args) throws InterruptedException {
+		//one untimed pass so every path is compiled
+		throughput(2, ConcurrentQueueBenchmark::mpscChannel);
+		throughput(1, ConcurrentQueueBenchmark::spscChannel);
+		throughput(2, ConcurrentQueueBenchmark::synchronizedChannel);
+
+		System.out.printf("%10s %16s %16s %18s%n", "producers", "mpsc ops/s", "spsc ops/s",
+				"synchronized ops/s");
+		for(int producers : PRODUCERS) {
+			double mpsc = throughput(producers, ConcurrentQueueBenchmark::mpscChannel);
+			String spsc = (producers == 1)
+					? String.format("%16.0f", throughput(1, ConcurrentQueueBenchmark::spscChannel))
+					: String.format("%16s", "-");
+			double baseline = throughput(producers, ConcurrentQueueBenchmark::synchronizedChannel);
+			System.out.printf("%10d %16.0f %s %18.0f%n", producers, mpsc, spsc, baseline);
+		}
+
+		System.out.println();
+		System.out.printf("%14s %10s %10s %10s %10s%n", "latency (ns)", "p50", "p99", "p99.9", "max");
+		printLatency("mpsc", latency(ConcurrentQueueBenchmark::mpscChannel));
+		printLatency("spsc", latency(ConcurrentQueueBenchmark::spscChannel));
+		printLatency("synchronized", latency(ConcurrentQueueBenchmark::synchronizedChannel));
+	}
+
+	/**
+	 * Private static method used to create a channel
+	 * over a new MpscLinkedQueue.
+	 * @return Channel object over the queue.
+	 */
+	private static Channel mpscChannel() {
+		MpscLinkedQueue<Long> queue = new MpscLinkedQueue<>();
+		return new Channel() {
+			@Override
+			public boolean offer(Long element) {
+				return queue.offer(element);
+			}
+
+			@Override
+			public Long poll() {
+				return queue.poll();
+			}
+		};
+	}
+
+	/**
+	 * Private static method used to create a channel
+	 * over a new SpscArrayQueue.
+	 * @return Channel object over the queue.
+	 */
+	private static Channel spscChannel() {
+		SpscArrayQueue<Long> queue = new SpscArrayQueue<>(CAPACITY);
+		return new Channel() {
+			@Override
+			public boolean offer(Long element) {
+				return queue.offer(element);
+			}
+
+			@Override
+			public Long poll() {
+				return queue.poll();
+			}
+		};
+	}
+
+	/**
+	 * Private static method used to create a channel
+	 * over a SinglyLinkedList guarded by its monitor.
+	 * @return Channel object over a new list.
+	 */
+	private static Channel synchronizedChannel() {
+		SinglyLinkedList<Long> list = new SinglyLinkedList<>();
+		return new Channel() {
+			@Override
+			public boolean offer(Long element) {
+				synchronized(list) {
+					list.addToBack(element);
+				}
+				return true;
+			}
+
+			@Override
+			public Long poll() {
+				synchronized(list) {
+					return list.isEmpty() ? null : list.remove();
+				}
+			}
+		};
+	}
+
+	/**
+	 * Private static method used to send an element,
+	 * spinning while the channel is full.
+	 * @param channel Channel reference to send on.
+	 * @param element Long object to send.
+	 */
+	private static void send(Channel channel, Long element) {
+		for(int spins = 0; !channel.offer(element); spins++) {
+			idle(spins);
+		}
+	}
+
+	/**
+	 * Private static method used to wait between failed
+	 * attempts, spinning at first and then yielding so a
+	 * machine with fewer cores than threads still lets
+	 * the other side run.
+	 * @param spins integer value containing the number
+	 * of failed attempts so far.
+	 */
+	private static void idle(int spins) {
+		if(spins < SPIN_LIMIT) {
+			Thread.onSpinWait();
+		}else {
+			Thread.yield();
+		}
+	}
+
+	/**
+	 * Private static method used to move every item
+	 * through a new channel to a single consumer and
+	 * time it.
+	 * @param producers integer value containing the
+	 * number of producer threads.
+	 * @param factory ChannelFactory reference creating
+	 * the channel.
+	 * @return double value containing the items moved
+	 * per second.
+	 * @throws InterruptedException if interrupted while
+	 * waiting for the threads.
+	 */
+	private static double throughput(int producers, ChannelFactory factory)
+			throws InterruptedException {
+		Channel channel = factory.create();
+		Thread[] producerThreads = new Thread[producers];
+		int perProducer = ITEMS / producers;
+		int total = perProducer * producers;
+		Long element = Long.valueOf(0);
+
+		long begin = System.nanoTime();
+		Thread consumer = new Thread(() -> {
+			for(int received = 0, spins = 0; received < total; ) {
+				if(channel.poll() != null) {
+					received++;
+					spins = 0;
+				}else {
+					idle(spins++);
+				}
+			}
+		});
+		consumer.start();
+		for(int thread = 0; thread < producers; thread++) {
+			producerThreads[thread] = new Thread(() -> {
+				for(int item = 0; item < perProducer; item++) {
+					send(channel, element);
+				}
+			});
+			producerThreads[thread].start();
+		}
+		for(Thread producer : producerThreads) {
+			producer.join();
+		}
+		consumer.join();
+		double seconds = (System.nanoTime() - begin) / 1e9;
+
+		return total / seconds;
+	}
+
+	/**
+	 * Private static method used to send timestamps at
+	 * a steady pace from one producer and record how
+	 * long each waited in the channel.
+	 * @param factory ChannelFactory reference creating
+	 * the channel.
+	 * @return LatencyHistogram of the waits in nanoseconds.
+	 * @throws InterruptedException if interrupted while
+	 * waiting for the threads.
+	 */
+	private static LatencyHistogram latency(ChannelFactory factory) throws InterruptedException {
+		Channel channel = factory.create();
+		LatencyHistogram histogram = new LatencyHistogram();
+
+		Thread consumer = new Thread(() -> {
+			for(int received = 0, spins = 0; received < SAMPLES; ) {
+				Long sent = channel.poll();
+				if(sent != null) {
+					histogram.recordValue(System.nanoTime() - sent);
+					received++;
+					spins = 0;
+				}else {
+					idle(spins++);
+				}
+			}
+		});
+		consumer.start();
+		long next = System.nanoTime();
+		for(int sample = 0; sample < SAMPLES; sample++) {
+			for(int spins = 0; System.nanoTime() < next; spins++) {
+				idle(spins);
+			}
+			send(channel, System.nanoTime());
+			next += PACE_NANOS;
+		}
+		consumer.join();
+
+		return histogram;
+	}
+
+	/**
+	 * Private static method used to print one row of
+	 * the latency table.
+	 * @param name String object naming the queue.
+	 * @param histogram LatencyHistogram to summarize.
+	 */
+	private static void printLatency(String name, LatencyHistogram histogram) {
+		System.out.printf("%14s %10d %10d %10d %10d%n", name,
+				histogram.getValueAtPercentile(50.0),
+				histogram.getValueAtPercentile(99.0),
+				histogram.getValueAtPercentile(99.9),
+				histogram.getMaxValue());
+	}
+}
@@ -0,0 +1,184 @@
+package structures.benchmarks;
+
+import java.io.PrintStream;
+
+/**
+ * Latency histogram in the style of HdrHistogram.
+ * Values below 256 have a bucket each, and above
+ * that every power of two is split into 128 linear
+ * buckets, so any recorded value is reported within
+ * 0.8% of its true value while the whole range of a
+ * long fits in a few thousand counters. Recording is
+ * a shift and an increment, and histograms recorded
+ * by separate threads can be merged afterwards.
+ * @author Noah Teshima
+ *
+ */
+public class LatencyHistogram {
+	private static final int SUB_BUCKET_BITS = 8;
+	private static final int SUB_BUCKETS = 1 << LatencyHistogram.SUB_BUCKET_BITS;
+	private static final int HALF = LatencyHistogram.SUB_BUCKETS / 2;
+	private static final int BUCKETS = LatencyHistogram.index(Long.MAX_VALUE) + 1;
+
+	private final long[] counts;
+	private long totalCount;
+	private long minValue;
+	private long maxValue;
+	private double sum;
+
+	/**
+	 * Default constructor used to create
+	 * an empty histogram.
+	 */
+	public LatencyHistogram() {
+		this.counts = new long[LatencyHistogram.BUCKETS];
+		this.minValue = Long.MAX_VALUE;
+	}
+
+	/**
+	 * Private static method used to get the bucket
+	 * holding the given value.
+	 * @param value long value, at least 0.
+	 * @return integer value containing the bucket index.
+	 */
+	private static int index(long value) {
+		if(value < LatencyHistogram.SUB_BUCKETS) {
+			return (int) value;
+		}
+		int exponent = (63 - Long.numberOfLeadingZeros(value)) - (LatencyHistogram.SUB_BUCKET_BITS - 1);
+		return exponent * LatencyHistogram.HALF + (int) (value >>> exponent);
+	}
+
+	/**
+	 * Private static method used to get the highest
+	 * value that falls in the given bucket.
+	 * @param index integer value containing the bucket index.
+	 * @return long value containing the highest value of
+	 * the bucket.
+	 */
+	private static long highestValue(int index) {
+		if(index < LatencyHistogram.SUB_BUCKETS) {
+			return index;
+		}
+		int exponent = index / LatencyHistogram.HALF - 1;
+		long mantissa = index - exponent * LatencyHistogram.HALF;
+		return ((mantissa + 1) << exponent) - 1;
+	}
+
+	/**
+	 * Mutator method designed to record one value.
+	 * Negative values are recorded as 0.
+	 * @param value long value to record, such as a
+	 * latency in nanoseconds.
+	 */
+	public void recordValue(long value) {
+		value = Math.max(0, value);
+		this.counts[LatencyHistogram.index(value)]++;
+		this.totalCount++;
+		this.minValue = Math.min(this.minValue, value);
+		this.maxValue = Math.max(this.maxValue, value);
+		this.sum += value;
+	}
+
+	/**
+	 * Mutator method designed to add every value
+	 * recorded by the given histogram.
+	 * @param other LatencyHistogram reference to add.
+	 */
+	public void add(LatencyHistogram other) {
+		for(int index = 0; index < this.counts.length; index++) {
+			this.counts[index] += other.counts[index];
+		}
+		this.totalCount += other.totalCount;
+		this.minValue = Math.min(this.minValue, other.minValue);
+		this.maxValue = Math.max(this.maxValue, other.maxValue);
+		this.sum += other.sum;
+	}
+
+	/**
+	 * Accessor method used to get the number of values.
+	 * @return long value containing the number of values.
+	 */
+	public long getTotalCount() {
+		return this.totalCount;
+	}
+
+	/**
+	 * Accessor method used to get the smallest value.
+	 * @return long value containing the smallest value,
+	 * or 0 if the histogram is empty.
+	 */
+	public long getMinValue() {
+		return (this.totalCount == 0) ? 0 : this.minValue;
+	}
+
+	/**
+	 * Accessor method used to get the largest value.
+	 * @return long value containing the largest value.
+	 */
+	public long getMaxValue() {
+		return this.maxValue;
+	}
+
+	/**
+	 * Accessor method used to get the mean value.
+	 * @return double value containing the mean, or 0
+	 * if the histogram is empty.
+	 */
+	public double getMean() {
+		return (this.totalCount == 0) ? 0 : this.sum / this.totalCount;
+	}
+
+	/**
+	 * Accessor method used to get the value at the
+	 * given percentile, to within the histogram's
+	 * precision.
+	 * @param percentile double value in [0, 100].
+	 * @return long value at or below which the given
+	 * percentage of values fall, or 0 if the histogram
+	 * is empty.
+	 */
+	public long getValueAtPercentile(double percentile) {
+		if(this.totalCount == 0) {
+			return 0;
+		}
+		long target = Math.max(1, (long) Math.ceil(percentile / 100 * this.totalCount));
+		long seen = 0;
+		for(int index = 0; index < this.counts.length; index++) {
+			seen += this.counts[index];
+			if(seen >= target) {
+				return Math.min(LatencyHistogram.highestValue(index), this.maxValue);
+			}
+		}
+		return this.maxValue;
+	}
+
+	/**
+	 * Method designed to print the percentile distribution
+	 * in the layout of HdrHistogram, halving the distance to
+	 * 100% on every line, followed by a summary.
+	 * @param out PrintStream reference to print to.
+	 * @param scale double value that values are divided by
+	 * before printing, such as 1000 for microseconds.
+	 */
+	public void outputPercentileDistribution(PrintStream out, double scale) {
+		out.printf("%12s %14s %10s %14s%n", "Value", "Percentile", "TotalCount", "1/(1-Percentile)");
+		double percentile = 0;
+		double step = 50;
+		while(this.totalCount > 0) {
+			long value = this.getValueAtPercentile(percentile);
+			long count = (long) Math.ceil(percentile / 100 * this.totalCount);
+			out.printf("%12.3f %14.12f %10d %14.2f%n", value / scale, percentile / 100, count,
+					1 / (1 - percentile / 100));
+			//stop once a step no longer covers a single value
+			if(step / 100 * this.totalCount < 1) {
+				break;
+			}
+			percentile += step;
+			step /= 2;
+		}
+		out.printf("%12.3f %14.12f %10d%n", this.maxValue / scale, 1.0, this.totalCount);
+		out.printf("#[Mean = %.3f, Max = %.3f, Total count = %d]%n", this.getMean() / scale,
+				this.maxValue / scale, this.totalCount);
+	}
+}
@@ -0,0 +1,113 @@
+package structures.benchmarks;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import structures.List;
+import structures.arraylist.ArrayList;
+import structures.doubly_linked_list.DoublyLinkedList;
+import structures.ring_deque.RingDeque;
+import structures.rope.Rope;
+import structures.segmented_list.SegmentedList;
+import structures.singly_linked_list.SinglyLinkedList;
+
+/**
+ * Allocation and latency regression check for the
+ * hot paths of every List implementation: add, get,
+ * set and a full iteration. Each operation has a
+ * budget of bytes per operation and of p99 latency,
+ * and the process fails if any is missed. A path
+ * may be given as the first argument to save the
+ * report for comparing against another version.
+ * @author Noah Teshima
+ *
+ */
+public class ListAllocationBenchmark {
+	private static final int LIST_SIZE = 64;
+	private static final long LATENCY_BUDGET = 20_000;
+	private static final Integer[] VALUES = new Integer[ListAllocationBenchmark.LIST_SIZE];
+	static {
+		for(int index = 0; index < ListAllocationBenchmark.VALUES.length; index++) {
+			ListAllocationBenchmark.VALUES[index] = index;
+		}
+	}
+
+	/**
+	 * Entry point of the benchmark.
+	 * @param args optional path of the report file.
+	 * @throws IOException if the report cannot be written.
+	 */
+	public static void main(String[] args) throws IOException {
+		AllocationHarness harness = new AllocationHarness();
+		ListAllocationBenchmark.measureAll(harness);
+		harness.finish(args);
+	}
+
+	/**
+	 * Static method designed to measure the hot paths
+	 * of every List implementation against their
+	 * budgets, so the unit tests can check the same
+	 * byte budgets as the command line.
+	 * @param harness AllocationHarness reference to measure with.
+	 */
+	public static void measureAll(AllocationHarness harness) {
+		//growth is amortized, so array-backed adds get a small budget
+		measure(harness, "ArrayList", ArrayList::new, 24, 0, 0, 32);
+		//set replaces the node rather than its data
+		measure(harness, "SinglyLinkedList", SinglyLinkedList::new, 40, 0, 40, 32);
+		measure(harness, "DoublyLinkedList", DoublyLinkedList::new, 40, 0, 0, 40);
+		measure(harness, "SegmentedList", SegmentedList::new, 24, 0, 0, 32);
+		//get and set box the chunk offset unless the JIT removes it,
+		//and the iterator keeps a stack of nodes
+		measure(harness, "Rope", Rope::new, 40, 24, 24, 160);
+		measure(harness, "RingDeque", RingDeque::new, 24, 0, 0, 32);
+	}
+
+	/**
+	 * Private static method used to measure the hot
+	 * paths of one list implementation.
+	 * @param harness AllocationHarness reference to measure with.
+	 * @param name String reference naming the list.
+	 * @param factory Supplier reference creating the list.
+	 * @param addBudget double value containing the bytes
+	 * allowed per add.
+	 * @param getBudget double value containing the bytes
+	 * allowed per get.
+	 * @param setBudget double value containing the bytes
+	 * allowed per set.
+	 * @param iterateBudget double value containing the bytes
+	 * allowed per full iteration.
+	 */
+	private static void measure(AllocationHarness harness, String name,
+			Supplier<List<Integer>> factory, double addBudget, double getBudget,
+			double setBudget, double iterateBudget) {
+		AtomicReference<List<Integer>> growing = new AtomicReference<>(factory.get());
+		harness.measure(name + ".add", addBudget, LATENCY_BUDGET, iteration -> {
+			//start over now and then, so the list stays small
+			if(growing.get().size() == 1 << 16) {
+				growing.set(factory.get());
+			}
+			growing.get().add(VALUES[iteration % LIST_SIZE]);
+		});
+
+		List<Integer> list = factory.get();
+		for(Integer value : VALUES) {
+			list.add(value);
+		}
+		int[] sink = new int[1];
+		harness.measure(name + ".get", getBudget, LATENCY_BUDGET,
+				iteration -> sink[0] += list.get(iteration % LIST_SIZE));
+		harness.measure(name + ".set", setBudget, LATENCY_BUDGET,
+				iteration -> list.set(iteration % LIST_SIZE, VALUES[iteration % LIST_SIZE]));
+		//the iterator itself is allowed, but nothing per element
+		harness.measure(name + ".iterate(" + LIST_SIZE + ")", iterateBudget, LATENCY_BUDGET, iteration -> {
+			Iterator<Integer> iterator = list.iterator();
+			while(iterator.hasNext()) {
+				Integer value = iterator.next();
+				sink[0] += (value == null) ? 0 : value;
+			}
+		});
+	}
+}
@@ -0,0 +1,660 @@
+package structures.benchmarks;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+import structures.List;
+import structures.arraylist.ArrayList;
+import structures.doubly_linked_list.DoublyLinkedList;
+import structures.ring_deque.RingDeque;
+import structures.rope.Rope;
+import structures.segmented_list.SegmentedList;
+import structures.singly_linked_list.SinglyLinkedList;
+import structures.stamped_list.StampedList;
+
+/**
+ * Load generator running a mix of reads, appends,
+ * mid-list inserts and removals against a target
+ * from several threads for a fixed duration. Keys
+ * are drawn from a uniform or Zipfian distribution,
+ * and every operation is timed into a per-thread
+ * LatencyHistogram, which are merged into a report of
+ * throughput and latency percentiles. Keys come from
+ * a fixed keyspace, and each operation and key are
+ * drawn before its clock starts, so only the call on
+ * the target is timed. Each thread issues its next
+ * operation as soon as the last one returns, so
+ * latencies are service times rather than response
+ * times under a fixed arrival rate.
+ * @author Noah Teshima
+ *
+ */
+public class LoadGenerator {
+
+	/**
+	 * Public enumeration of the operations in a workload.
+	 * @author Noah Teshima
+	 */
+	public enum Operation {
+		READ, APPEND, INSERT, REMOVE
+	}
+
+	/**
+	 * Public interface for the structure under load.
+	 * Implementations are called from several threads
+	 * at once and must do their own locking.
+	 * @author Noah Teshima
+	 */
+	public interface Target {
+		/**
+		 * Abstract method used to run one operation.
+		 * Keys are not bounded by the current size, so
+		 * implementations clamp or wrap them as needed.
+		 * @param operation Operation to run.
+		 * @param key integer value drawn from the key
+		 * distribution, in range [0, keyspace).
+		 */
+		public void run(Operation operation, int key);
+	}
+
+	/**
+	 * Public interface for a distribution of keys.
+	 * @author Noah Teshima
+	 */
+	public interface KeyDistribution {
+		/**
+		 * Abstract method used to draw the next key.
+		 * @param random SplittableRandom reference of the
+		 * calling thread.
+		 * @param bound integer value containing the
+		 * exclusive upper bound, at least 1.
+		 * @return integer value in range [0, bound).
+		 */
+		public int next(SplittableRandom random, int bound);
+	}
+
+	/**
+	 * Public static inner class drawing keys from a
+	 * Zipfian distribution with the method of Gray et al.
+	 * used by YCSB. Rank 0 is the most popular key, and
+	 * ranks beyond the current bound wrap around.
+	 * @author Noah Teshima
+	 */
+	public static class Zipfian implements KeyDistribution {
+		private final long items;
+		private final double theta;
+		private final double alpha;
+		private final double zeta;
+		private final double eta;
+
+		/**
+		 * Constructor used to set the number of ranks and
+		 * the skew. Setup is linear in the number of ranks.
+		 * @param items long value containing the number of ranks.
+		 * @param theta double value containing the skew, in (0, 1).
+		 * @throws IllegalArgumentException if either argument is
+		 * out of range.
+		 */
+		public Zipfian(long items, double theta) throws IllegalArgumentException {
+			if(items < 2 || !(theta > 0 && theta < 1)) {
+				throw new IllegalArgumentException();
+			}
+			this.items = items;
+			this.theta = theta;
+			this.alpha = 1 / (1 - theta);
+			this.zeta = Zipfian.zeta(items, theta);
+			this.eta = (1 - Math.pow(2.0 / items, 1 - theta)) / (1 - Zipfian.zeta(2, theta) / this.zeta);
+		}
+
+		/**
+		 * Private static method used to get the generalized
+		 * harmonic number of the given order.
+		 * @param items long value containing the number of terms.
+		 * @param theta double value containing the exponent.
+		 * @return double value containing the sum of 1 / i^theta.
+		 */
+		private static double zeta(long items, double theta) {
+			double sum = 0;
+			for(long rank = 1; rank <= items; rank++) {
+				sum += 1 / Math.pow(rank, theta);
+			}
+			return sum;
+		}
+
+		/**
+		 * Method designed to draw the next key.
+		 * @param random SplittableRandom reference of the
+		 * calling thread.
+		 * @param bound integer value containing the
+		 * exclusive upper bound, at least 1.
+		 * @return integer value in range [0, bound).
+		 */
+		@Override
+		public int next(SplittableRandom random, int bound) {
+			double uniform = random.nextDouble();
+			double scaled = uniform * this.zeta;
+			long rank;
+			if(scaled < 1) {
+				rank = 0;
+			}else if(scaled < 1 + Math.pow(0.5, this.theta)) {
+				rank = 1;
+			}else {
+				rank = (long) (this.items * Math.pow(this.eta * uniform - this.eta + 1, this.alpha));
+			}
+			return (int) (rank % bound);
+		}
+	}
+
+	/**
+	 * Public static inner class holding the weight of
+	 * each operation in a workload.
+	 * @author Noah Teshima
+	 */
+	public static class Workload {
+		private final int[] cumulative;
+
+		/**
+		 * Constructor used to set the weights in the
+		 * order READ, APPEND, INSERT, REMOVE.
+		 * @param weights Array of non-negative weights.
+		 * @throws IllegalArgumentException if a weight is
+		 * negative, the wrong number is given or all are 0.
+		 */
+		public Workload(int... weights) throws IllegalArgumentException {
+			if(weights.length != Operation.values().length) {
+				throw new IllegalArgumentException();
+			}
+			this.cumulative = new int[weights.length];
+			int total = 0;
+			for(int index = 0; index < weights.length; index++) {
+				if(weights[index] < 0) {
+					throw new IllegalArgumentException();
+				}
+				total += weights[index];
+				this.cumulative[index] = total;
+			}
+			if(total == 0) {
+				throw new IllegalArgumentException();
+			}
+		}
+
+		/**
+		 * Static method used to parse a workload such as
+		 * "read:80,append:10,insert:5,remove:5". Missing
+		 * operations have a weight of 0.
+		 * @param mix String reference containing the workload.
+		 * @return Workload object with the given weights.
+		 * @throws IllegalArgumentException if the workload
+		 * cannot be parsed.
+		 */
+		public static Workload parse(String mix) throws IllegalArgumentException {
+			int[] weights = new int[Operation.values().length];
+			for(String part : mix.split(",")) {
+				String[] pair = part.trim().split(":");
+				if(pair.length != 2) {
+					throw new IllegalArgumentException(part);
+				}
+				weights[Operation.valueOf(pair[0].trim().toUpperCase()).ordinal()] =
+						Integer.parseInt(pair[1].trim());
+			}
+			return new Workload(weights);
+		}
+
+		/**
+		 * Method designed to draw the next operation.
+		 * @param random SplittableRandom reference of the
+		 * calling thread.
+		 * @return Operation drawn by weight.
+		 */
+		public Operation next(SplittableRandom random) {
+			int draw = random.nextInt(this.cumulative[this.cumulative.length - 1]);
+			int index = 0;
+			while(draw >= this.cumulative[index]) {
+				index++;
+			}
+			return Operation.values()[index];
+		}
+	}
+
+	/**
+	 * Public static inner class holding the merged
+	 * latencies of a run.
+	 * @author Noah Teshima
+	 */
+	public static class Report {
+		private final Map<Operation, LatencyHistogram> histograms;
+		private final LatencyHistogram total;
+		private final double seconds;
+
+		/**
+		 * Constructor used to set the results.
+		 * @param histograms Map of latencies per operation.
+		 * @param total LatencyHistogram of every operation.
+		 * @param seconds double value containing the
+		 * length of the run.
+		 */
+		private Report(Map<Operation, LatencyHistogram> histograms,
+				LatencyHistogram total, double seconds) {
+			this.histograms = histograms;
+			this.total = total;
+			this.seconds = seconds;
+		}
+
+		/**
+		 * Accessor method used to get the latencies of
+		 * one operation.
+		 * @param operation Operation to get.
+		 * @return LatencyHistogram in nanoseconds.
+		 */
+		public LatencyHistogram getHistogram(Operation operation) {
+			return this.histograms.get(operation);
+		}
+
+		/**
+		 * Accessor method used to get the latencies of
+		 * every operation together.
+		 * @return LatencyHistogram in nanoseconds.
+		 */
+		public LatencyHistogram getTotal() {
+			return this.total;
+		}
+
+		/**
+		 * Accessor method used to get the throughput.
+		 * @return double value containing operations
+		 * per second.
+		 */
+		public double getThroughput() {
+			return this.total.getTotalCount() / this.seconds;
+		}
+
+		/**
+		 * Method designed to print the throughput, a
+		 * percentile line per operation and the full
+		 * distribution of every operation together, in
+		 * microseconds.
+		 * @param out PrintStream reference to print to.
+		 */
+		public void print(PrintStream out) {
+			out.printf("throughput: %.0f ops/s over %.1f s%n", this.getThroughput(), this.seconds);
+			out.printf("%-8s %12s %10s %10s %10s %10s%n", "op", "count", "p50 us", "p99 us",
+					"p999 us", "max us");
+			for(Map.Entry<Operation, LatencyHistogram> entry : this.histograms.entrySet()) {
+				Report.printLine(out, entry.getKey().name().toLowerCase(), entry.getValue());
+			}
+			Report.printLine(out, "all", this.total);
+			out.println();
+			this.total.outputPercentileDistribution(out, 1000);
+		}
+
+		/**
+		 * Private static method used to print the
+		 * percentile line of one histogram.
+		 * @param out PrintStream reference to print to.
+		 * @param name String reference naming the line.
+		 * @param histogram LatencyHistogram to print.
+		 */
+		private static void printLine(PrintStream out, String name, LatencyHistogram histogram) {
+			out.printf("%-8s %12d %10.2f %10.2f %10.2f %10.2f%n", name, histogram.getTotalCount(),
+					histogram.getValueAtPercentile(50) / 1e3,
+					histogram.getValueAtPercentile(99) / 1e3,
+					histogram.getValueAtPercentile(99.9) / 1e3,
+					histogram.getMaxValue() / 1e3);
+		}
+	}
+
+	private final Target target;
+	private final Workload workload;
+	private final KeyDistribution keys;
+	private final int keyspace;
+	private final int threads;
+	private final Duration duration;
+
+	/**
+	 * Constructor used to configure a run.
+	 * @param target Target reference to put under load.
+	 * @param workload Workload reference with the mix
+	 * of operations.
+	 * @param keys KeyDistribution reference choosing
+	 * the index of each operation.
+	 * @param keyspace integer value containing the
+	 * exclusive upper bound of the keys drawn.
+	 * @param threads integer value containing the
+	 * number of threads issuing operations.
+	 * @param duration Duration of the run.
+	 * @throws IllegalArgumentException if keyspace or
+	 * threads is not positive.
+	 */
+	public LoadGenerator(Target target, Workload workload, KeyDistribution keys, int keyspace,
+			int threads, Duration duration) throws IllegalArgumentException {
+		if(keyspace <= 0 || threads <= 0) {
+			throw new IllegalArgumentException();
+		}
+		this.target = target;
+		this.workload = workload;
+		this.keys = keys;
+		this.keyspace = keyspace;
+		this.threads = threads;
+		this.duration = duration;
+	}
+
+	/**
+	 * Method designed to run the load and
+	 * merge the latencies of every thread.
+	 * @return Report object with the results.
+	 * @throws InterruptedException if interrupted while
+	 * waiting for the threads.
+	 */
+	public Report run() throws InterruptedException {
+		CountDownLatch start = new CountDownLatch(1);
+		Thread[] workers = new Thread[this.threads];
+		LatencyHistogram[][] histograms = new LatencyHistogram[this.threads][];
+		SplittableRandom seed = new SplittableRandom(42);
+
+		for(int thread = 0; thread < this.threads; thread++) {
+			LatencyHistogram[] own = new LatencyHistogram[Operation.values().length];
+			for(int index = 0; index < own.length; index++) {
+				own[index] = new LatencyHistogram();
+			}
+			histograms[thread] = own;
+			SplittableRandom random = seed.split();
+			workers[thread] = new Thread(() -> {
+				try {
+					start.await();
+				}catch(InterruptedException e) {
+					return;
+				}
+				this.work(random, own);
+			}, "load-" + thread);
+			workers[thread].start();
+		}
+
+		long begin = System.nanoTime();
+		start.countDown();
+		for(Thread worker : workers) {
+			worker.join();
+		}
+		double seconds = (System.nanoTime() - begin) / 1e9;
+
+		Map<Operation, LatencyHistogram> merged = new EnumMap<>(Operation.class);
+		LatencyHistogram total = new LatencyHistogram();
+		for(Operation operation : Operation.values()) {
+			LatencyHistogram histogram = new LatencyHistogram();
+			for(LatencyHistogram[] own : histograms) {
+				histogram.add(own[operation.ordinal()]);
+			}
+			if(histogram.getTotalCount() > 0) {
+				merged.put(operation, histogram);
+				total.add(histogram);
+			}
+		}
+		return new Report(merged, total, seconds);
+	}
+
+	/**
+	 * Private method used to issue operations
+	 * until the run's deadline.
+	 * @param random SplittableRandom reference of the thread.
+	 * @param histograms Array of the thread's latencies
+	 * per operation.
+	 */
+	private void work(SplittableRandom random, LatencyHistogram[] histograms) {
+		long deadline = System.nanoTime() + this.duration.toNanos();
+		while(true) {
+			//drawn before the clock starts, so only the target is timed
+			Operation operation = this.workload.next(random);
+			int key = this.keys.next(random, this.keyspace);
+			long begin = System.nanoTime();
+			if(begin >= deadline) {
+				return;
+			}
+			this.target.run(operation, key);
+			histograms[operation.ordinal()].recordValue(System.nanoTime() - begin);
+		}
+	}
+
+	/**
+	 * Static method used to adapt a List to a Target,
+	 * locking the list once for each operation. Keys
+	 * past the end are clamped to it, and reads and
+	 * removals on an empty list do nothing.
+	 * @param list List reference to put under load.
+	 * @return Target object for the list.
+	 */
+	public static Target synchronizedTarget(List<Integer> list) {
+		return new Target() {
+			@Override
+			public void run(Operation operation, int key) {
+				synchronized(list) {
+					int size = list.size();
+					switch(operation) {
+					case READ:
+						if(size > 0) {
+							list.get(Math.min(key, size - 1));
+						}
+						break;
+					case APPEND:
+						list.add(size, key);
+						break;
+					case INSERT:
+						list.add(Math.min(key, size), key);
+						break;
+					case REMOVE:
+						if(size > 0) {
+							list.remove(Math.min(key, size - 1));
+						}
+						break;
+					}
+				}
+			}
+		};
+	}
+
+	/**
+	 * Static method used to adapt a thread-safe List
+	 * to a Target without any outer lock, so each call
+	 * on the list guards itself. Keys past the end are
+	 * clamped to it, but the size read before an
+	 * operation can be stale by the time it runs, so an
+	 * index that has fallen out of range counts as a
+	 * lost race and does nothing.
+	 * @param list thread-safe List reference to put
+	 * under load.
+	 * @return Target object for the list.
+	 */
+	public static Target concurrentTarget(List<Integer> list) {
+		return new Target() {
+			@Override
+			public void run(Operation operation, int key) {
+				int size = list.size();
+				try {
+					switch(operation) {
+					case READ:
+						if(size > 0) {
+							list.get(Math.min(key, size - 1));
+						}
+						break;
+					case APPEND:
+						list.add(size, key);
+						break;
+					case INSERT:
+						list.add(Math.min(key, size), key);
+						break;
+					case REMOVE:
+						if(size > 0) {
+							list.remove(Math.min(key, size - 1));
+						}
+						break;
+					}
+				}catch(IndexOutOfBoundsException e) {
+					//another thread shrank the list after size was read
+				}
+			}
+		};
+	}
+
+	/**
+	 * Public static inner class holding the options
+	 * shared by the command line tools, given as
+	 * --name=value arguments.
+	 * @author Noah Teshima
+	 */
+	public static class Options {
+		private final Map<String, String> values;
+
+		/**
+		 * Constructor used to parse the arguments.
+		 * @param args command line arguments.
+		 * @throws IllegalArgumentException if an argument
+		 * is not of the form --name=value.
+		 */
+		public Options(String[] args) throws IllegalArgumentException {
+			this.values = new HashMap<>();
+			for(String arg : args) {
+				int equals = arg.indexOf('=');
+				if(!arg.startsWith("--") || equals < 0) {
+					throw new IllegalArgumentException(arg);
+				}
+				this.values.put(arg.substring(2, equals), arg.substring(equals + 1));
+			}
+		}
+
+		/**
+		 * Accessor method used to get an option.
+		 * @param name String reference naming the option.
+		 * @param fallback String reference returned if the
+		 * option was not given.
+		 * @return String object containing the value.
+		 */
+		public String get(String name, String fallback) {
+			return this.values.getOrDefault(name, fallback);
+		}
+
+		/**
+		 * Accessor method used to get the initial size,
+		 * from --size, default 100000.
+		 * @return integer value containing the size.
+		 */
+		public int getSize() {
+			return Integer.parseInt(this.get("size", "100000"));
+		}
+
+		/**
+		 * Accessor method used to get the number of keys
+		 * drawn from, which is the initial size but at
+		 * least 1.
+		 * @return integer value containing the keyspace.
+		 */
+		public int getKeyspace() {
+			return Math.max(1, this.getSize());
+		}
+
+		/**
+		 * Accessor method used to get the workload, from
+		 * --mix, default read:80,append:10,insert:5,remove:5.
+		 * @return Workload object.
+		 */
+		public Workload getWorkload() {
+			return Workload.parse(this.get("mix", "read:80,append:10,insert:5,remove:5"));
+		}
+
+		/**
+		 * Accessor method used to get the key distribution,
+		 * from --keys, either uniform or zipfian (default),
+		 * with the skew from --theta, default 0.99.
+		 * @return KeyDistribution object.
+		 * @throws IllegalArgumentException if the
+		 * distribution is unknown.
+		 */
+		public KeyDistribution getKeys() throws IllegalArgumentException {
+			String keys = this.get("keys", "zipfian");
+			if(keys.equals("uniform")) {
+				return (random, bound) -> random.nextInt(bound);
+			}else if(keys.equals("zipfian")) {
+				return new Zipfian(Math.max(2, this.getSize()),
+						Double.parseDouble(this.get("theta", "0.99")));
+			}
+			throw new IllegalArgumentException(keys);
+		}
+
+		/**
+		 * Accessor method used to get the number of
+		 * threads, from --threads, default 4.
+		 * @return integer value containing the threads.
+		 */
+		public int getThreads() {
+			return Integer.parseInt(this.get("threads", "4"));
+		}
+
+		/**
+		 * Accessor method used to get the duration,
+		 * from --seconds, default 10.
+		 * @return Duration of the run.
+		 */
+		public Duration getDuration() {
+			return Duration.ofMillis((long) (Double.parseDouble(this.get("seconds", "10")) * 1000));
+		}
+	}
+
+	/**
+	 * Entry point of the tool. Options are --list
+	 * (ArrayList, SinglyLinkedList, DoublyLinkedList,
+	 * SegmentedList, Rope or RingDeque), --lock (synchronized
+	 * or stamped), --size, --mix, --keys, --theta, --threads
+	 * and --seconds.
+	 * @param args command line options.
+	 * @throws InterruptedException if interrupted while
+	 * waiting for the run.
+	 */
+	public static void main(String[] args) throws InterruptedException {
+		Options options = new Options(args);
+		String name = options.get("list", "ArrayList");
+		Supplier<List<Integer>> factory;
+		switch(name) {
+		case "ArrayList":
+			factory = ArrayList::new;
+			break;
+		case "SinglyLinkedList":
+			factory = SinglyLinkedList::new;
+			break;
+		case "DoublyLinkedList":
+			factory = DoublyLinkedList::new;
+			break;
+		case "SegmentedList":
+			factory = SegmentedList::new;
+			break;
+		case "Rope":
+			factory = Rope::new;
+			break;
+		case "RingDeque":
+			factory = RingDeque::new;
+			break;
+		default:
+			throw new IllegalArgumentException(name);
+		}
+
+		List<Integer> list = factory.get();
+		for(int index = 0; index < options.getSize(); index++) {
+			list.add(list.size(), index);
+		}
+		String lock = options.get("lock", "synchronized");
+		Target target;
+		if(lock.equals("synchronized")) {
+			target = LoadGenerator.synchronizedTarget(list);
+		}else if(lock.equals("stamped")) {
+			target = LoadGenerator.concurrentTarget(new StampedList<>(list));
+		}else {
+			throw new IllegalArgumentException(lock);
+		}
+		System.out.printf("%s (%s), %d elements, %d threads%n", name, lock, list.size(),
+				options.getThreads());
+		new LoadGenerator(target, options.getWorkload(), options.getKeys(),
+				options.getKeyspace(), options.getThreads(), options.getDuration()).run().print(System.out);
+	}
+}
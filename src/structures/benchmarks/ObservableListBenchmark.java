@@ -0,0 +1,133 @@
+package structures.benchmarks;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+
+import structures.List;
+import structures.arraylist.ArrayList;
+import structures.observable_list.ChangeBatch;
+import structures.observable_list.ChangePublisher;
+import structures.observable_list.ObservableList;
+
+/**
+ * Benchmark for ObservableList. The same mix of
+ * sets, appends and removals at the end is run
+ * against a plain ArrayList, an observed one with no
+ * subscribers, and one with a subscriber under
+ * several batch settings, reporting the cost per
+ * change on the writing thread and how many changes
+ * reached the subscriber in how many batches.
+ * @author Noah Teshima
+ *
+ */
+public class ObservableListBenchmark {
+	private static final int SIZE = 10_000;
+	private static final int OPERATIONS = 5_000_000;
+	private static final int RUNS = 3;
+
+	/**
+	 * Private static inner class used to count
+	 * the changes delivered to a subscriber.
+	 * @author Noah Teshima
+	 */
+	private static class Counter implements Flow.Subscriber<ChangeBatch<Integer>> {
+		private final CountDownLatch completed = new CountDownLatch(1);
+		private long batches;
+		private long changes;
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			subscription.request(Long.MAX_VALUE);
+		}
+
+		@Override
+		public void onNext(ChangeBatch<Integer> batch) {
+			this.batches++;
+			this.changes += batch.size();
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			throwable.printStackTrace();
+		}
+
+		@Override
+		public void onComplete() {
+			this.completed.countDown();
+		}
+	}
+
+	/**
+	 * Entry point of the benchmark.
+	 * @param args unused command line arguments.
+	 * @throws InterruptedException if interrupted while
+	 * waiting for a subscriber.
+	 */
+	public static void main(String[] args) throws InterruptedException {
+		System.out.printf("%-34s %10s %12s %10s%n", "list", "ns/change", "delivered", "batches");
+		for(int run = 0; run < RUNS; run++) {
+			boolean print = (run == RUNS - 1);
+			measure("ArrayList", new ArrayList<>(), null, print);
+			measure("no subscribers", new ObservableList<>(new ArrayList<>()), null, print);
+			measure("batch 256, window 10 ms", null, new ChangePublisher<>(), print);
+			measure("batch 256, no window", null, new ChangePublisher<>(ForkJoinPool.commonPool(),
+					256, Duration.ZERO, 64), print);
+			measure("batch 1, no window", null, new ChangePublisher<>(ForkJoinPool.commonPool(),
+					1, Duration.ZERO, 1 << 20), print);
+		}
+	}
+
+	/**
+	 * Private static method used to time the mix of
+	 * changes on a list and print one row.
+	 * @param name String containing the row label.
+	 * @param list List reference to change, or null to
+	 * observe a new ArrayList through the publisher.
+	 * @param publisher ChangePublisher reference given a
+	 * subscriber, or null for none.
+	 * @param print boolean value determining whether the
+	 * row is printed, or the run only warms up.
+	 * @throws InterruptedException if interrupted while
+	 * waiting for the subscriber.
+	 */
+	private static void measure(String name, List<Integer> list, ChangePublisher<Integer> publisher,
+			boolean print) throws InterruptedException {
+		Counter counter = null;
+		if(publisher != null) {
+			list = new ObservableList<>(new ArrayList<>(), publisher);
+			counter = new Counter();
+			publisher.subscribe(counter);
+		}
+		for(int index = 0; index < SIZE; index++) {
+			list.add(list.size(), index);
+		}
+
+		Random random = new Random(42);
+		long begin = System.nanoTime();
+		for(int operation = 0; operation < OPERATIONS; operation++) {
+			int choice = random.nextInt(4),
+					size = list.size();
+			if(choice < 2 && size > 0) {
+				list.set(random.nextInt(size), operation);
+			}else if(choice == 2 || size == 0) {
+				list.add(size, operation);
+			}else {
+				list.remove(size - 1);
+			}
+		}
+		double nanos = (double) (System.nanoTime() - begin) / OPERATIONS;
+
+		if(publisher != null) {
+			publisher.close();
+			counter.completed.await();
+		}
+		if(print) {
+			System.out.printf("%-34s %10.1f %12s %10s%n", name, nanos,
+					(counter == null) ? "-" : Long.toString(counter.changes),
+					(counter == null) ? "-" : Long.toString(counter.batches));
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package structures.benchmarks;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+
+import structures.arraylist.ArrayList;
+
+/**
+ * Benchmark for the parallel bulk operations of
+ * ArrayList. Each operation is run inside fork-join
+ * pools from one worker up to the number of cores,
+ * which shows how close the operations scale to
+ * linear. The list size may be given as the first
+ * argument.
+ * @author Noah Teshima
+ *
+ */
+public class ParallelBulkBenchmark {
+	private static final int DEFAULT_SIZE = 10_000_000;
+
+	/**
+	 * Private interface used to run an operation
+	 * against a list.
+	 * @author Noah Teshima
+	 */
+	private interface Operation {
+		/**
+		 * Abstract method used to run the operation.
+		 * @param list ArrayList reference to run against.
+		 */
+		public void run(ArrayList<Integer> list);
+	}
+
+	/**
+	 * Entry point of the benchmark.
+	 * @param args optional list size.
+	 */
+	public static void main(String[] args) {
+		int size = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_SIZE;
+		int cores = Runtime.getRuntime().availableProcessors();
+
+		System.out.printf("%d elements, %d cores%n", size, cores);
+		System.out.printf("%8s %12s %12s %12s %12s%n",
+				"workers", "forEach ms", "replace ms", "reduce ms", "removeIf ms");
+		for(int workers = 1; workers <= cores; workers *= 2) {
+			ForkJoinPool pool = new ForkJoinPool(workers);
+			LongAdder sink = new LongAdder();
+			double forEach = measure(pool, size,
+					list -> list.parallelForEach(element -> sink.add(element & 1)));
+			double replace = measure(pool, size,
+					list -> list.parallelReplaceAll(element -> element ^ 0x5bd1e995));
+			double reduce = measure(pool, size,
+					list -> sink.add(list.parallelReduce(0, Integer::sum)));
+			double removeIf = measure(pool, size,
+					list -> list.parallelRemoveIf(element -> element % 3 == 0));
+			pool.shutdown();
+			System.out.printf("%8d %12.1f %12.1f %12.1f %12.1f%n",
+					workers, forEach, replace, reduce, removeIf);
+			if(workers < cores && workers * 2 > cores) {
+				workers = cores / 2;
+			}
+		}
+	}
+
+	/**
+	 * Private static method used to time an operation
+	 * inside of the given pool on a new list, taking
+	 * the best of three runs.
+	 * @param pool ForkJoinPool reference to run in.
+	 * @param size integer value containing the list size.
+	 * @param operation Operation reference to time.
+	 * @return double value containing the best time
+	 * in milliseconds.
+	 */
+	private static double measure(ForkJoinPool pool, int size, Operation operation) {
+		double best = Double.MAX_VALUE;
+		for(int run = 0; run < 3; run++) {
+			ArrayList<Integer> list = new ArrayList<>(size);
+			for(int index = 0; index < size; index++) {
+				list.add(index);
+			}
+			long begin = System.nanoTime();
+			pool.submit(() -> operation.run(list)).join();
+			best = Math.min(best, (System.nanoTime() - begin) / 1e6);
+		}
+		return best;
+	}
+}
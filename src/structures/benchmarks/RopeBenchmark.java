@@ -0,0 +1,95 @@
+package structures.benchmarks;
+
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import structures.List;
+import structures.arraylist.ArrayList;
+import structures.rope.Rope;
+import structures.singly_linked_list.SinglyLinkedList;
+
+/**
+ * Benchmark comparing Rope against ArrayList and
+ * SinglyLinkedList on a mixed edit workload of
+ * indexed reads, inserts, removals and writes at
+ * random positions, followed by a split and concat
+ * workload on Rope alone.
+ * @author Noah Teshima
+ *
+ */
+public class RopeBenchmark {
+	private static final int INITIAL_SIZE = 20_000;
+	private static final int OPERATIONS = 20_000;
+	private static final int ROUNDS = 3;
+
+	/**
+	 * Entry point of the benchmark.
+	 * @param args unused command line arguments.
+	 */
+	public static void main(String[] args) {
+		for(int round = 1; round <= ROUNDS; round++) {
+			System.out.printf("round %d%n", round);
+			measure("ArrayList", ArrayList::new);
+			measure("SinglyLinkedList", SinglyLinkedList::new);
+			measure("Rope", Rope::new);
+			measureSplitConcat();
+		}
+	}
+
+	/**
+	 * Private static method used to run the mixed
+	 * edit workload against a new list.
+	 * @param name String reference naming the list.
+	 * @param factory Supplier reference creating the list.
+	 */
+	private static void measure(String name, Supplier<List<Integer>> factory) {
+		List<Integer> list = factory.get();
+		for(int index = 0; index < INITIAL_SIZE; index++) {
+			list.add(index);
+		}
+
+		Random random = new Random(42);
+		long checksum = 0;
+		long begin = System.nanoTime();
+		for(int operation = 0; operation < OPERATIONS; operation++) {
+			int size = list.size();
+			int index = random.nextInt(size);
+			int kind = random.nextInt(20);
+			if(kind < 8) {
+				checksum += Objects.hashCode(list.get(index));
+			}else if(kind < 13) {
+				list.add(index, operation);
+			}else if(kind < 18) {
+				list.remove(index);
+			}else {
+				list.set(index, operation);
+			}
+		}
+		long elapsed = System.nanoTime() - begin;
+		System.out.printf("%-18s %10.1f ms %12d%n", name, elapsed / 1e6, checksum);
+	}
+
+	/**
+	 * Private static method used to repeatedly cut
+	 * a rope in two and join the halves in the other
+	 * order.
+	 */
+	private static void measureSplitConcat() {
+		Rope<Integer> rope = new Rope<>();
+		for(int index = 0; index < INITIAL_SIZE * 50; index++) {
+			rope.add(index);
+		}
+
+		Random random = new Random(42);
+		long begin = System.nanoTime();
+		for(int operation = 0; operation < OPERATIONS; operation++) {
+			Rope<Integer> suffix = rope.split(random.nextInt(rope.size() + 1));
+			suffix.concat(rope);
+			rope = suffix;
+		}
+		long elapsed = System.nanoTime() - begin;
+		System.out.printf("%-18s %10.1f ms (%d elements)%n", "Rope split+concat",
+				elapsed / 1e6, rope.size());
+	}
+}
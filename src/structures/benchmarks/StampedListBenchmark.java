@@ -0,0 +1,97 @@
+package structures.benchmarks;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import structures.List;
+import structures.arraylist.ArrayList;
+import structures.singly_linked_list.SinglyLinkedList;
+import structures.stamped_list.StampedList;
+
+/**
+ * Benchmark comparing StampedList against a list
+ * locked with synchronized for every operation,
+ * for an ArrayList and a SinglyLinkedList, at read
+ * ratios from 50% to 99.9%. Writes are split evenly
+ * between inserts and removals so the size holds
+ * steady, and each run goes through LoadGenerator,
+ * reporting throughput and the p99 read latency.
+ * @author Noah Teshima
+ *
+ */
+public class StampedListBenchmark {
+	private static final int SIZE = 1000;
+	private static final int THREADS = 4;
+	private static final Duration DURATION = Duration.ofSeconds(2);
+	private static final String[] MIXES = {
+			"read:500,insert:250,remove:250",
+			"read:900,insert:50,remove:50",
+			"read:990,insert:5,remove:5",
+			"read:1998,insert:1,remove:1"};
+	private static final String[] RATIOS = {"50%", "90%", "99%", "99.9%"};
+
+	/**
+	 * Entry point of the benchmark.
+	 * @param args unused command line arguments.
+	 * @throws InterruptedException if interrupted while
+	 * waiting for a run.
+	 */
+	public static void main(String[] args) throws InterruptedException {
+		System.out.printf("%18s %7s %16s %14s %16s %14s%n", "list", "reads",
+				"sync ops/s", "sync read p99", "stamped ops/s", "stamped p99");
+		run("ArrayList", ArrayList::new);
+		run("SinglyLinkedList", SinglyLinkedList::new);
+	}
+
+	/**
+	 * Private static method used to run every read
+	 * ratio against one kind of list.
+	 * @param name String object naming the list.
+	 * @param factory Supplier reference creating an
+	 * empty list.
+	 * @throws InterruptedException if interrupted while
+	 * waiting for a run.
+	 */
+	private static void run(String name, Supplier<List<Integer>> factory)
+			throws InterruptedException {
+		for(int mix = 0; mix < MIXES.length; mix++) {
+			LoadGenerator.Report locked = measure(
+					LoadGenerator.synchronizedTarget(fill(factory.get())), MIXES[mix]);
+			LoadGenerator.Report stamped = measure(
+					LoadGenerator.concurrentTarget(new StampedList<>(fill(factory.get()))), MIXES[mix]);
+			System.out.printf("%18s %7s %16.0f %14d %16.0f %14d%n", name, RATIOS[mix],
+					locked.getThroughput(),
+					locked.getHistogram(LoadGenerator.Operation.READ).getValueAtPercentile(99.0),
+					stamped.getThroughput(),
+					stamped.getHistogram(LoadGenerator.Operation.READ).getValueAtPercentile(99.0));
+		}
+	}
+
+	/**
+	 * Private static method used to fill a list
+	 * to the benchmark size.
+	 * @param list List reference to fill.
+	 * @return List object that was filled.
+	 */
+	private static List<Integer> fill(List<Integer> list) {
+		for(int index = 0; index < SIZE; index++) {
+			list.add(list.size(), index);
+		}
+		return list;
+	}
+
+	/**
+	 * Private static method used to run one mix
+	 * against a target.
+	 * @param target LoadGenerator.Target to put under load.
+	 * @param mix String object describing the workload.
+	 * @return LoadGenerator.Report of the run.
+	 * @throws InterruptedException if interrupted while
+	 * waiting for the run.
+	 */
+	private static LoadGenerator.Report measure(LoadGenerator.Target target, String mix)
+			throws InterruptedException {
+		return new LoadGenerator(target, LoadGenerator.Workload.parse(mix),
+				(random, bound) -> random.nextInt(bound), SIZE, THREADS, DURATION).run();
+	}
+}
@@ -0,0 +1,387 @@
+package structures.blocking_queue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import structures.List;
+
+/**
+ * Bounded blocking FIFO queue backed by an
+ * array ring. Producers and consumers take
+ * separate locks, as they touch opposite ends
+ * of the ring, and only meet through an atomic
+ * count of the elements. A producer that finds
+ * the queue full waits, or gives up after a
+ * timeout, which pushes back on fast stages,
+ * and consumers can take a whole batch under a
+ * single lock acquisition with drainTo. Null
+ * elements are not allowed, since null marks an
+ * empty poll.
+ * @author Noah Teshima
+ */
+public class BoundedBlockingQueue<T> {
+	private final Object[] items;
+	private final AtomicInteger count;
+	private final ReentrantLock putLock;
+	private final Condition notFull;
+	private final ReentrantLock takeLock;
+	private final Condition notEmpty;
+	private int putIndex;
+	private int takeIndex;
+
+	/**
+	 * Constructor used to set the capacity
+	 * of the queue.
+	 * @param capacity integer value containing the
+	 * most elements the queue holds at once.
+	 * @throws IllegalArgumentException if the capacity
+	 * is not positive.
+	 */
+	public BoundedBlockingQueue(int capacity) throws IllegalArgumentException {
+		if(capacity <= 0) {
+			throw new IllegalArgumentException();
+		}
+		this.items = new Object[capacity];
+		this.count = new AtomicInteger();
+		this.putLock = new ReentrantLock();
+		this.notFull = this.putLock.newCondition();
+		this.takeLock = new ReentrantLock();
+		this.notEmpty = this.takeLock.newCondition();
+	}
+
+	/**
+	 * Private method used to write an element at the
+	 * tail. Must be called holding the put lock with
+	 * room in the queue.
+	 * @param element Generic type reference to add.
+	 * @return integer value containing the count
+	 * before the element was added.
+	 */
+	private int enqueue(T element) {
+		this.items[this.putIndex] = element;
+		this.putIndex = (this.putIndex + 1 == this.items.length) ? 0 : this.putIndex + 1;
+		int previous = this.count.getAndIncrement();
+		//let the next waiting producer in while there is room
+		if(previous + 1 < this.items.length) {
+			this.notFull.signal();
+		}
+		return previous;
+	}
+
+	/**
+	 * Private method used to read the element at the
+	 * head without removing it. Must be called holding
+	 * the take lock with an element in the queue.
+	 * @return Generic type containing the head element.
+	 */
+	private T head() {
+		return (T) this.items[this.takeIndex];
+	}
+
+	/**
+	 * Private method used to remove the element at the
+	 * head. Must be called holding the take lock with
+	 * an element in the queue.
+	 * @return Generic type containing the removed element.
+	 */
+	private T dequeue() {
+		T element = this.head();
+		this.items[this.takeIndex] = null;
+		this.takeIndex = (this.takeIndex + 1 == this.items.length) ? 0 : this.takeIndex + 1;
+		return element;
+	}
+
+	/**
+	 * Private method used to wake a consumer after
+	 * the queue stops being empty.
+	 */
+	private void signalNotEmpty() {
+		this.takeLock.lock();
+		try {
+			this.notEmpty.signal();
+		}finally {
+			this.takeLock.unlock();
+		}
+	}
+
+	/**
+	 * Private method used to wake a producer after
+	 * the queue stops being full.
+	 */
+	private void signalNotFull() {
+		this.putLock.lock();
+		try {
+			this.notFull.signal();
+		}finally {
+			this.putLock.unlock();
+		}
+	}
+
+	/**
+	 * Method designed to add the given element
+	 * if there is room, without waiting.
+	 * @param element Generic type reference to add.
+	 * @return boolean value determining whether
+	 * the element was added.
+	 * @throws NullPointerException if the element
+	 * is null.
+	 */
+	public boolean offer(T element) throws NullPointerException {
+		if(element == null) {
+			throw new NullPointerException();
+		}
+		if(this.count.get() == this.items.length) {
+			return false;
+		}
+		int previous;
+		this.putLock.lock();
+		try {
+			if(this.count.get() == this.items.length) {
+				return false;
+			}
+			previous = this.enqueue(element);
+		}finally {
+			this.putLock.unlock();
+		}
+		if(previous == 0) {
+			this.signalNotEmpty();
+		}
+		return true;
+	}
+
+	/**
+	 * Method designed to add the given element,
+	 * waiting up to the given time for room.
+	 * @param element Generic type reference to add.
+	 * @param timeout long value containing the
+	 * longest time to wait.
+	 * @param unit TimeUnit of the timeout.
+	 * @return boolean value determining whether
+	 * the element was added before the timeout.
+	 * @throws NullPointerException if the element
+	 * is null.
+	 * @throws InterruptedException if interrupted
+	 * while waiting.
+	 */
+	public boolean offer(T element, long timeout, TimeUnit unit)
+			throws NullPointerException, InterruptedException {
+		if(element == null) {
+			throw new NullPointerException();
+		}
+		long nanos = unit.toNanos(timeout);
+		int previous;
+		this.putLock.lockInterruptibly();
+		try {
+			while(this.count.get() == this.items.length) {
+				if(nanos <= 0) {
+					return false;
+				}
+				nanos = this.notFull.awaitNanos(nanos);
+			}
+			previous = this.enqueue(element);
+		}finally {
+			this.putLock.unlock();
+		}
+		if(previous == 0) {
+			this.signalNotEmpty();
+		}
+		return true;
+	}
+
+	/**
+	 * Method designed to add the given element,
+	 * waiting as long as needed for room.
+	 * @param element Generic type reference to add.
+	 * @throws NullPointerException if the element
+	 * is null.
+	 * @throws InterruptedException if interrupted
+	 * while waiting.
+	 */
+	public void put(T element) throws NullPointerException, InterruptedException {
+		if(element == null) {
+			throw new NullPointerException();
+		}
+		int previous;
+		this.putLock.lockInterruptibly();
+		try {
+			while(this.count.get() == this.items.length) {
+				this.notFull.await();
+			}
+			previous = this.enqueue(element);
+		}finally {
+			this.putLock.unlock();
+		}
+		if(previous == 0) {
+			this.signalNotEmpty();
+		}
+	}
+
+	/**
+	 * Method designed to remove the first element
+	 * if there is one, without waiting.
+	 * @return Generic type containing the removed
+	 * element, or null if the queue is empty.
+	 */
+	public T poll() {
+		if(this.count.get() == 0) {
+			return null;
+		}
+		T element;
+		int previous;
+		this.takeLock.lock();
+		try {
+			if(this.count.get() == 0) {
+				return null;
+			}
+			element = this.dequeue();
+			previous = this.count.getAndDecrement();
+			if(previous > 1) {
+				this.notEmpty.signal();
+			}
+		}finally {
+			this.takeLock.unlock();
+		}
+		if(previous == this.items.length) {
+			this.signalNotFull();
+		}
+		return element;
+	}
+
+	/**
+	 * Method designed to remove the first element,
+	 * waiting up to the given time for one.
+	 * @param timeout long value containing the
+	 * longest time to wait.
+	 * @param unit TimeUnit of the timeout.
+	 * @return Generic type containing the removed
+	 * element, or null if the timeout passed first.
+	 * @throws InterruptedException if interrupted
+	 * while waiting.
+	 */
+	public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+		long nanos = unit.toNanos(timeout);
+		T element;
+		int previous;
+		this.takeLock.lockInterruptibly();
+		try {
+			while(this.count.get() == 0) {
+				if(nanos <= 0) {
+					return null;
+				}
+				nanos = this.notEmpty.awaitNanos(nanos);
+			}
+			element = this.dequeue();
+			previous = this.count.getAndDecrement();
+			if(previous > 1) {
+				this.notEmpty.signal();
+			}
+		}finally {
+			this.takeLock.unlock();
+		}
+		if(previous == this.items.length) {
+			this.signalNotFull();
+		}
+		return element;
+	}
+
+	/**
+	 * Method designed to remove the first element,
+	 * waiting as long as needed for one.
+	 * @return Generic type containing the removed element.
+	 * @throws InterruptedException if interrupted
+	 * while waiting.
+	 */
+	public T take() throws InterruptedException {
+		T element;
+		int previous;
+		this.takeLock.lockInterruptibly();
+		try {
+			while(this.count.get() == 0) {
+				this.notEmpty.await();
+			}
+			element = this.dequeue();
+			previous = this.count.getAndDecrement();
+			if(previous > 1) {
+				this.notEmpty.signal();
+			}
+		}finally {
+			this.takeLock.unlock();
+		}
+		if(previous == this.items.length) {
+			this.signalNotFull();
+		}
+		return element;
+	}
+
+	/**
+	 * Method designed to move up to the given number
+	 * of elements to the back of the given list, in
+	 * queue order, under a single acquisition of the
+	 * take lock. Does not wait for elements.
+	 * @param list List reference receiving the elements.
+	 * @param max integer value containing the most
+	 * elements to move.
+	 * @return integer value containing the number of
+	 * elements moved.
+	 */
+	public int drainTo(List<? super T> list, int max) {
+		if(max <= 0) {
+			return 0;
+		}
+		int moved = 0;
+		int previous = 0;
+		this.takeLock.lock();
+		try {
+			int drained = Math.min(max, this.count.get());
+			//add before removing, so an element the list refuses stays queued
+			while(moved < drained) {
+				list.add(list.size(), this.head());
+				this.dequeue();
+				moved++;
+			}
+		}finally {
+			//settle the count even if the list threw part way through
+			if(moved > 0) {
+				previous = this.count.getAndAdd(-moved);
+				if(previous > moved) {
+					this.notEmpty.signal();
+				}
+			}
+			this.takeLock.unlock();
+		}
+		if(previous == this.items.length) {
+			this.signalNotFull();
+		}
+		return moved;
+	}
+
+	/**
+	 * Accessor method used to get the number
+	 * of elements in the queue.
+	 * @return integer value containing the size.
+	 */
+	public int size() {
+		return this.count.get();
+	}
+
+	/**
+	 * Accessor method used to check whether
+	 * the queue is empty.
+	 * @return boolean value determining whether
+	 * the queue is empty.
+	 */
+	public boolean isEmpty() {
+		return (this.count.get() == 0);
+	}
+
+	/**
+	 * Accessor method used to get the number of
+	 * elements that can be added without waiting.
+	 * @return integer value containing the free room.
+	 */
+	public int remainingCapacity() {
+		return this.items.length - this.count.get();
+	}
+}
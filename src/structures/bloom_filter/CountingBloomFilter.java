@@ -0,0 +1,354 @@
+package structures.bloom_filter;
+
+import java.util.Arrays;
+
+/**
+ * Counting Bloom filter used to answer
+ * membership queries for a list in O(1).
+ * A negative answer is definite, while a
+ * positive answer may be false with a
+ * configurable probability. Each slot is a
+ * 4-bit counter rather than a single bit,
+ * so elements can be removed again. Sixteen
+ * counters are packed into every long, and a
+ * counter that reaches 15 stays there, since
+ * its true count is no longer known.
+ * @author Noah Teshima
+ */
+public class CountingBloomFilter {
+	private static final int COUNTER_BITS = 4;
+	private static final int COUNTERS_PER_WORD = Long.SIZE / CountingBloomFilter.COUNTER_BITS;
+	private static final long MAX_COUNT = (1L << CountingBloomFilter.COUNTER_BITS) - 1;
+	private static final double LN2 = Math.log(2);
+	private static final int MAX_COUNTER_COUNT = Integer.MAX_VALUE - Long.SIZE;
+
+	private final long[] counters;
+	private final int counterCount;
+	private final int hashCount;
+	private int elementCount;
+	private long lookupCount;
+	private long rejectionCount;
+	private long falsePositiveCount;
+
+	/**
+	 * Constructor used to size the filter for the
+	 * expected number of elements at the given false
+	 * positive rate. The number of counters and hash
+	 * functions are both chosen to be optimal.
+	 * @param expectedInsertions integer value containing
+	 * the number of elements the filter is sized for.
+	 * @param falsePositiveRate double value containing the
+	 * target probability of a false positive, in (0, 1).
+	 * @throws IllegalArgumentException if either argument
+	 * is out of range.
+	 */
+	public CountingBloomFilter(int expectedInsertions, double falsePositiveRate)
+			throws IllegalArgumentException {
+		this(CountingBloomFilter.optimalCounterCount(expectedInsertions, falsePositiveRate),
+				CountingBloomFilter.optimalHashCount(expectedInsertions,
+						CountingBloomFilter.optimalCounterCount(expectedInsertions,
+								falsePositiveRate)));
+	}
+
+	/**
+	 * Private constructor used to set the number of
+	 * counters and hash functions directly.
+	 * @param counterCount integer value containing the
+	 * number of counters.
+	 * @param hashCount integer value containing the
+	 * number of hash functions.
+	 */
+	private CountingBloomFilter(int counterCount, int hashCount) {
+		int words = (counterCount + CountingBloomFilter.COUNTERS_PER_WORD - 1)
+				/ CountingBloomFilter.COUNTERS_PER_WORD;
+		this.counters = new long[words];
+		this.counterCount = words * CountingBloomFilter.COUNTERS_PER_WORD;
+		this.hashCount = hashCount;
+	}
+
+	/**
+	 * Static factory method used to create a filter
+	 * using at most the given amount of memory. The
+	 * number of hash functions is chosen to be optimal
+	 * for the expected number of elements.
+	 * @param memoryBytes integer value containing the
+	 * number of bytes of counters to allocate. Budgets
+	 * past the largest filter, about 1 GiB, get the
+	 * largest filter.
+	 * @param expectedInsertions integer value containing
+	 * the number of elements the filter is sized for.
+	 * @return CountingBloomFilter object with the given
+	 * memory budget.
+	 * @throws IllegalArgumentException if either argument
+	 * is not positive.
+	 */
+	public static CountingBloomFilter withMemory(int memoryBytes, int expectedInsertions)
+			throws IllegalArgumentException {
+		if(memoryBytes < Long.BYTES || expectedInsertions <= 0) {
+			throw new IllegalArgumentException();
+		}
+		int counterCount = (int) Math.min((long) (memoryBytes / Long.BYTES)
+				* CountingBloomFilter.COUNTERS_PER_WORD, CountingBloomFilter.MAX_COUNTER_COUNT);
+		return new CountingBloomFilter(counterCount,
+				CountingBloomFilter.optimalHashCount(expectedInsertions, counterCount));
+	}
+
+	/**
+	 * Private static method used to get the number of
+	 * counters giving the false positive rate for the
+	 * expected number of elements, m = -n ln p / (ln 2)^2.
+	 * @param expectedInsertions integer value containing
+	 * the expected number of elements.
+	 * @param falsePositiveRate double value containing
+	 * the target false positive rate.
+	 * @return integer value containing the number of counters.
+	 * @throws IllegalArgumentException if either argument
+	 * is out of range.
+	 */
+	private static int optimalCounterCount(int expectedInsertions, double falsePositiveRate)
+			throws IllegalArgumentException {
+		if(expectedInsertions <= 0
+				|| !(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+			throw new IllegalArgumentException();
+		}
+		double counters = -expectedInsertions * Math.log(falsePositiveRate)
+				/ (CountingBloomFilter.LN2 * CountingBloomFilter.LN2);
+		return (int) Math.min(Math.ceil(counters), CountingBloomFilter.MAX_COUNTER_COUNT);
+	}
+
+	/**
+	 * Private static method used to get the number of
+	 * hash functions minimizing the false positive rate,
+	 * k = (m / n) ln 2.
+	 * @param expectedInsertions integer value containing
+	 * the expected number of elements.
+	 * @param counterCount integer value containing the
+	 * number of counters.
+	 * @return integer value containing the number of
+	 * hash functions, at least 1.
+	 */
+	private static int optimalHashCount(int expectedInsertions, int counterCount) {
+		long hashes = Math.round((double) counterCount / expectedInsertions * CountingBloomFilter.LN2);
+		return (int) Math.max(1, Math.min(hashes, 16));
+	}
+
+	/**
+	 * Private static method used to spread the hash
+	 * code of the given reference over 64 bits. The
+	 * low and high halves are then used as the two
+	 * hashes that generate every counter index.
+	 * @param object Object reference to hash, may be null.
+	 * @return long value containing the mixed hash.
+	 */
+	private static long mix(Object object) {
+		long hash = (object == null) ? 0 : object.hashCode();
+		hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+		hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+		return hash ^ (hash >>> 33);
+	}
+
+	/**
+	 * Private method used to get the counter index
+	 * of the given hash function.
+	 * @param hash long value containing the mixed hash.
+	 * @param function integer value containing the
+	 * number of the hash function.
+	 * @return integer value containing the counter index.
+	 */
+	private int index(long hash, int function) {
+		int combined = (int) hash + function * ((int) (hash >>> 32) | 1);
+		return Math.floorMod(combined, this.counterCount);
+	}
+
+	/**
+	 * Private method used to get the value of the
+	 * counter at the given index.
+	 * @param index integer value containing the
+	 * counter index.
+	 * @return long value containing the count.
+	 */
+	private long count(int index) {
+		int shift = (index % CountingBloomFilter.COUNTERS_PER_WORD) * CountingBloomFilter.COUNTER_BITS;
+		return (this.counters[index / CountingBloomFilter.COUNTERS_PER_WORD] >>> shift)
+				& CountingBloomFilter.MAX_COUNT;
+	}
+
+	/**
+	 * Mutator method designed to record the given
+	 * element in the filter.
+	 * @param element Object reference to add, may be null.
+	 */
+	public void add(Object element) {
+		long hash = CountingBloomFilter.mix(element);
+		for(int function = 0; function < this.hashCount; function++) {
+			int index = this.index(hash, function);
+			if(this.count(index) < CountingBloomFilter.MAX_COUNT) {
+				int shift = (index % CountingBloomFilter.COUNTERS_PER_WORD)
+						* CountingBloomFilter.COUNTER_BITS;
+				this.counters[index / CountingBloomFilter.COUNTERS_PER_WORD] += 1L << shift;
+			}
+		}
+		this.elementCount++;
+	}
+
+	/**
+	 * Mutator method designed to forget one occurrence
+	 * of the given element. The element must have been
+	 * added before, or later lookups may give false
+	 * negatives. Saturated counters are left as they are.
+	 * @param element Object reference to remove, may be null.
+	 */
+	public void remove(Object element) {
+		long hash = CountingBloomFilter.mix(element);
+		for(int function = 0; function < this.hashCount; function++) {
+			int index = this.index(hash, function);
+			long count = this.count(index);
+			if(count > 0 && count < CountingBloomFilter.MAX_COUNT) {
+				int shift = (index % CountingBloomFilter.COUNTERS_PER_WORD)
+						* CountingBloomFilter.COUNTER_BITS;
+				this.counters[index / CountingBloomFilter.COUNTERS_PER_WORD] -= 1L << shift;
+			}
+		}
+		if(this.elementCount > 0) {
+			this.elementCount--;
+		}
+	}
+
+	/**
+	 * Accessor method used to check whether the
+	 * given reference may have been added.
+	 * @param object Object reference to look up, may be null.
+	 * @return boolean value that is false only if the
+	 * reference was definitely never added.
+	 */
+	public boolean mightContain(Object object) {
+		long hash = CountingBloomFilter.mix(object);
+		this.lookupCount++;
+		for(int function = 0; function < this.hashCount; function++) {
+			if(this.count(this.index(hash, function)) == 0) {
+				this.rejectionCount++;
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Mutator method used by the owning list to
+	 * record that a positive answer was wrong, once
+	 * a full scan did not find the element.
+	 */
+	public void recordFalsePositive() {
+		this.falsePositiveCount++;
+	}
+
+	/**
+	 * Mutator method designed to reset every counter,
+	 * keeping the lookup statistics.
+	 */
+	public void clear() {
+		Arrays.fill(this.counters, 0);
+		this.elementCount = 0;
+	}
+
+	/**
+	 * Accessor method used to get the number of counters.
+	 * @return integer value containing the number of counters.
+	 */
+	public int getCounterCount() {
+		return this.counterCount;
+	}
+
+	/**
+	 * Accessor method used to get the number of hash functions.
+	 * @return integer value containing the number of hash functions.
+	 */
+	public int getHashCount() {
+		return this.hashCount;
+	}
+
+	/**
+	 * Accessor method used to get the memory used by
+	 * the counters.
+	 * @return long value containing the number of bytes.
+	 */
+	public long getMemoryBytes() {
+		return (long) this.counters.length * Long.BYTES;
+	}
+
+	/**
+	 * Accessor method used to get the number of
+	 * elements currently recorded.
+	 * @return integer value containing the number of elements.
+	 */
+	public int getElementCount() {
+		return this.elementCount;
+	}
+
+	/**
+	 * Accessor method used to get the number of lookups.
+	 * @return long value containing the number of lookups.
+	 */
+	public long getLookupCount() {
+		return this.lookupCount;
+	}
+
+	/**
+	 * Accessor method used to get the number of lookups
+	 * answered as definite misses.
+	 * @return long value containing the number of rejections.
+	 */
+	public long getRejectionCount() {
+		return this.rejectionCount;
+	}
+
+	/**
+	 * Accessor method used to get the number of positive
+	 * answers that a scan proved wrong.
+	 * @return long value containing the number of
+	 * false positives.
+	 */
+	public long getFalsePositiveCount() {
+		return this.falsePositiveCount;
+	}
+
+	/**
+	 * Accessor method used to get the false positive
+	 * rate seen so far, out of every lookup for an
+	 * element that was not present.
+	 * @return double value containing the observed rate,
+	 * or 0 if there were no such lookups.
+	 */
+	public double getObservedFalsePositiveRate() {
+		long negatives = this.rejectionCount + this.falsePositiveCount;
+		return (negatives == 0) ? 0 : (double) this.falsePositiveCount / negatives;
+	}
+
+	/**
+	 * Accessor method used to get the false positive
+	 * rate expected for the current number of elements,
+	 * (1 - e^(-kn/m))^k.
+	 * @return double value containing the expected rate.
+	 */
+	public double getExpectedFalsePositiveRate() {
+		double exponent = -(double) this.hashCount * this.elementCount / this.counterCount;
+		return Math.pow(1 - Math.exp(exponent), this.hashCount);
+	}
+
+	/**
+	 * Overridden method from Object class.
+	 * Used to get a String object containing
+	 * the size and statistics of the filter.
+	 * @return String object containing the
+	 * statistics of the filter.
+	 */
+	@Override
+	public String toString() {
+		return String.format("CountingBloomFilter[counters=%d, hashes=%d, bytes=%d, "
+				+ "elements=%d, lookups=%d, rejections=%d, falsePositives=%d, "
+				+ "expectedFpp=%.4f, observedFpp=%.4f]",
+				this.counterCount, this.hashCount, this.getMemoryBytes(), this.elementCount,
+				this.lookupCount, this.rejectionCount, this.falsePositiveCount,
+				this.getExpectedFalsePositiveRate(), this.getObservedFalsePositiveRate());
+	}
+}
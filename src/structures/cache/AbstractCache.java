@@ -0,0 +1,249 @@
+package structures.cache;
+
+import java.util.HashMap;
+
+/**
+ * Skeleton of the single-threaded caches. Entries
+ * are found through a hash index of intrusive queue
+ * nodes, and the weights and statistics are kept
+ * here, while subclasses decide which queue an
+ * entry is in, how a use reorders it and which
+ * entries are evicted.
+ * @author Noah Teshima
+ *
+ * @param <K> Generic type of the keys.
+ * @param <V> Generic type of the values.
+ */
+abstract class AbstractCache<K, V> implements Cache<K, V> {
+	private final HashMap<K, AccessQueue.Node<K, V>> index;
+	private final Weigher<K, V> weigher;
+	final long maximumWeight;
+	long weightedSize;
+	private long hitCount;
+	private long missCount;
+	private long evictionCount;
+	private long evictionWeight;
+
+	/**
+	 * Constructor used to set the capacity
+	 * and weigher.
+	 * @param maximumWeight long value containing the
+	 * largest total weight held.
+	 * @param weigher Weigher reference weighing entries.
+	 * @throws IllegalArgumentException if maximumWeight
+	 * is not positive.
+	 */
+	AbstractCache(long maximumWeight, Weigher<K, V> weigher) throws IllegalArgumentException {
+		if(maximumWeight <= 0) {
+			throw new IllegalArgumentException("maximumWeight must be positive");
+		}
+		this.index = new HashMap<>();
+		this.weigher = weigher;
+		this.maximumWeight = maximumWeight;
+	}
+
+	/**
+	 * Abstract method used to record a use of a
+	 * cached entry, by a hit or by a put replacing
+	 * its value.
+	 * @param node Node reference of the entry.
+	 */
+	abstract void touch(AccessQueue.Node<K, V> node);
+
+	/**
+	 * Abstract method used to record a lookup of a
+	 * key that is not cached.
+	 * @param key Generic type reference containing the key.
+	 */
+	abstract void miss(K key);
+
+	/**
+	 * Abstract method used to queue a new entry.
+	 * @param node Node reference of the entry.
+	 */
+	abstract void link(AccessQueue.Node<K, V> node);
+
+	/**
+	 * Abstract method used to unlink an entry from
+	 * its queue.
+	 * @param node Node reference of the entry.
+	 */
+	abstract void unlink(AccessQueue.Node<K, V> node);
+
+	/**
+	 * Abstract method used to change the weight of
+	 * a queued entry.
+	 * @param node Node reference of the entry.
+	 * @param weight integer value containing the new weight.
+	 */
+	abstract void reweigh(AccessQueue.Node<K, V> node, int weight);
+
+	/**
+	 * Abstract method used to evict entries until
+	 * the total weight is at most the maximum.
+	 */
+	abstract void evict();
+
+	/**
+	 * Abstract method used to empty every queue.
+	 */
+	abstract void clearQueues();
+
+	/**
+	 * Method designed to evict the given entry,
+	 * counting it in the statistics.
+	 * @param node Node reference of a queued entry.
+	 */
+	void discard(AccessQueue.Node<K, V> node) {
+		this.index.remove(node.key);
+		this.unlink(node);
+		this.weightedSize -= node.weight;
+		this.evictionCount++;
+		this.evictionWeight += node.weight;
+	}
+
+	/**
+	 * Method designed to get the value mapped to
+	 * the given key, in O(1).
+	 * @param key Generic type reference containing the key.
+	 * @return Generic type containing the value, or null
+	 * if the key is not cached.
+	 */
+	@Override
+	public V get(K key) {
+		AccessQueue.Node<K, V> node = this.index.get(key);
+		if(node == null) {
+			this.missCount++;
+			this.miss(key);
+			return null;
+		}
+		this.hitCount++;
+		this.touch(node);
+		return node.value;
+	}
+
+	/**
+	 * Method designed to map the given key to the
+	 * given value, in amortized O(1).
+	 * @param key Generic type reference containing the key.
+	 * @param value Generic type reference containing the value.
+	 * @throws IllegalArgumentException if the key or value
+	 * is null, or the entry has a negative weight.
+	 */
+	@Override
+	public void put(K key, V value) throws IllegalArgumentException {
+		if(key == null || value == null) {
+			throw new IllegalArgumentException("null keys and values are not supported");
+		}
+		int weight = this.weigher.weigh(key, value);
+		if(weight < 0) {
+			throw new IllegalArgumentException("weight must not be negative");
+		}
+		AccessQueue.Node<K, V> node = this.index.get(key);
+		if(node != null) {
+			node.value = value;
+			this.weightedSize += weight - node.weight;
+			this.reweigh(node, weight);
+			this.touch(node);
+		}else {
+			node = new AccessQueue.Node<>(key, value, weight);
+			this.index.put(key, node);
+			this.weightedSize += weight;
+			this.link(node);
+		}
+		this.evict();
+	}
+
+	/**
+	 * Method designed to remove the mapping of the
+	 * given key, in O(1).
+	 * @param key Generic type reference containing the key.
+	 * @return Generic type containing the removed value,
+	 * or null if the key was not cached.
+	 */
+	@Override
+	public V remove(K key) {
+		AccessQueue.Node<K, V> node = this.index.remove(key);
+		if(node == null) {
+			return null;
+		}
+		this.unlink(node);
+		this.weightedSize -= node.weight;
+		return node.value;
+	}
+
+	/**
+	 * Method designed to check whether the given
+	 * key is cached, without counting as a use.
+	 * @param key Generic type reference containing the key.
+	 * @return boolean value determining whether the
+	 * key is cached.
+	 */
+	@Override
+	public boolean containsKey(K key) {
+		return this.index.containsKey(key);
+	}
+
+	/**
+	 * Method designed to remove every entry,
+	 * keeping the statistics.
+	 */
+	@Override
+	public void clear() {
+		this.index.clear();
+		this.clearQueues();
+		this.weightedSize = 0;
+	}
+
+	/**
+	 * Accessor method used to get the number of
+	 * cached entries.
+	 * @return integer value containing the size.
+	 */
+	@Override
+	public int size() {
+		return this.index.size();
+	}
+
+	/**
+	 * Accessor method used to get the total weight
+	 * of the cached entries.
+	 * @return long value containing the weight.
+	 */
+	@Override
+	public long getWeightedSize() {
+		return this.weightedSize;
+	}
+
+	/**
+	 * Accessor method used to get the largest total
+	 * weight the cache holds.
+	 * @return long value containing the maximum weight.
+	 */
+	@Override
+	public long getMaximumWeight() {
+		return this.maximumWeight;
+	}
+
+	/**
+	 * Accessor method used to get a snapshot of
+	 * the statistics.
+	 * @return CacheStats object of the cache.
+	 */
+	@Override
+	public CacheStats getStats() {
+		return new CacheStats(this.hitCount, this.missCount, this.evictionCount,
+				this.evictionWeight);
+	}
+
+	/**
+	 * Method designed to describe the cache.
+	 * @return String object containing the size,
+	 * weight and statistics.
+	 */
+	@Override
+	public String toString() {
+		return this.getClass().getSimpleName() + "[size=" + this.size() + ", weight="
+				+ this.weightedSize + "/" + this.maximumWeight + ", " + this.getStats() + "]";
+	}
+}
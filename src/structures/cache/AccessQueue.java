@@ -0,0 +1,156 @@
+package structures.cache;
+
+/**
+ * Intrusive doubly linked list of cache entries,
+ * ordered from least to most recently used. The
+ * entries are the nodes themselves, so an entry
+ * found through the hash index is moved or unlinked
+ * in O(1) without searching. A sentinel node closes
+ * the list into a ring, so no link is ever null
+ * while an entry is queued.
+ * @author Noah Teshima
+ *
+ * @param <K> Generic type of the keys.
+ * @param <V> Generic type of the values.
+ */
+final class AccessQueue<K, V> {
+
+	/**
+	 * Package-private static inner class holding
+	 * one cache entry and its links.
+	 * @author Noah Teshima
+	 *
+	 * @param <K> Generic type of the key.
+	 * @param <V> Generic type of the value.
+	 */
+	static final class Node<K, V> {
+		final K key;
+		V value;
+		int weight;
+		byte queue;
+		Node<K, V> previous;
+		Node<K, V> next;
+
+		/**
+		 * Constructor used to set the entry.
+		 * @param key Generic type reference containing the key.
+		 * @param value Generic type reference containing the value.
+		 * @param weight integer value containing the weight.
+		 */
+		Node(K key, V value, int weight) {
+			this.key = key;
+			this.value = value;
+			this.weight = weight;
+		}
+	}
+
+	private final Node<K, V> sentinel;
+	private long weight;
+	private int size;
+
+	/**
+	 * Default constructor used to create
+	 * an empty queue.
+	 */
+	AccessQueue() {
+		this.sentinel = new Node<>(null, null, 0);
+		this.clear();
+	}
+
+	/**
+	 * Mutator method designed to add an entry
+	 * as the most recently used.
+	 * @param node Node reference of an unqueued entry.
+	 */
+	void addLast(Node<K, V> node) {
+		node.previous = this.sentinel.previous;
+		node.next = this.sentinel;
+		this.sentinel.previous.next = node;
+		this.sentinel.previous = node;
+		this.weight += node.weight;
+		this.size++;
+	}
+
+	/**
+	 * Mutator method designed to unlink an entry.
+	 * @param node Node reference of an entry in
+	 * this queue.
+	 */
+	void remove(Node<K, V> node) {
+		node.previous.next = node.next;
+		node.next.previous = node.previous;
+		node.previous = null;
+		node.next = null;
+		this.weight -= node.weight;
+		this.size--;
+	}
+
+	/**
+	 * Mutator method designed to mark an entry
+	 * as the most recently used.
+	 * @param node Node reference of an entry in
+	 * this queue.
+	 */
+	void moveToLast(Node<K, V> node) {
+		if(node.next == this.sentinel) {
+			return;
+		}
+		node.previous.next = node.next;
+		node.next.previous = node.previous;
+		node.previous = this.sentinel.previous;
+		node.next = this.sentinel;
+		this.sentinel.previous.next = node;
+		this.sentinel.previous = node;
+	}
+
+	/**
+	 * Mutator method designed to change the
+	 * weight of a queued entry.
+	 * @param node Node reference of an entry in
+	 * this queue.
+	 * @param weight integer value containing the
+	 * new weight.
+	 */
+	void reweigh(Node<K, V> node, int weight) {
+		this.weight += weight - node.weight;
+		node.weight = weight;
+	}
+
+	/**
+	 * Accessor method used to get the least
+	 * recently used entry.
+	 * @return Node object of the entry, or null
+	 * if the queue is empty.
+	 */
+	Node<K, V> peekFirst() {
+		return (this.sentinel.next == this.sentinel) ? null : this.sentinel.next;
+	}
+
+	/**
+	 * Mutator method designed to empty the queue.
+	 */
+	void clear() {
+		this.sentinel.previous = this.sentinel;
+		this.sentinel.next = this.sentinel;
+		this.weight = 0;
+		this.size = 0;
+	}
+
+	/**
+	 * Accessor method used to get the total
+	 * weight of the queued entries.
+	 * @return long value containing the weight.
+	 */
+	long getWeight() {
+		return this.weight;
+	}
+
+	/**
+	 * Accessor method used to get the number
+	 * of queued entries.
+	 * @return integer value containing the size.
+	 */
+	int size() {
+		return this.size;
+	}
+}
@@ -0,0 +1,120 @@
+package structures.cache;
+
+/**
+ * Interface describing a bounded cache of
+ * key-value mappings. Every entry has a weight,
+ * one by default, and entries are evicted once the
+ * total weight passes the maximum. Null keys and
+ * values are not supported, so a null result from
+ * get always means a miss.
+ * @author Noah Teshima
+ *
+ * @param <K> Generic type of the keys.
+ * @param <V> Generic type of the values.
+ */
+public interface Cache<K, V> {
+
+	/**
+	 * Functional interface used to compute the
+	 * weight of an entry when it is put.
+	 * @author Noah Teshima
+	 *
+	 * @param <K> Generic type of the keys.
+	 * @param <V> Generic type of the values.
+	 */
+	@FunctionalInterface
+	public interface Weigher<K, V> {
+		/**
+		 * Abstract method used to weigh an entry.
+		 * @param key Generic type reference containing
+		 * the key of the entry.
+		 * @param value Generic type reference containing
+		 * the value of the entry.
+		 * @return integer value containing the weight,
+		 * which must not be negative.
+		 */
+		public int weigh(K key, V value);
+
+		/**
+		 * Static method used to get the weigher giving
+		 * every entry a weight of one, so the maximum
+		 * weight is a number of entries.
+		 * @return Weigher object returning one.
+		 */
+		public static <K, V> Weigher<K, V> unit() {
+			return (key, value) -> 1;
+		}
+	}
+
+	/**
+	 * Abstract method used to get the value mapped
+	 * to the given key, counting as a use of the entry.
+	 * @param key Generic type reference containing the key.
+	 * @return Generic type containing the value, or null
+	 * if the key is not cached.
+	 */
+	public V get(K key);
+
+	/**
+	 * Abstract method used to map the given key to
+	 * the given value, evicting entries as needed.
+	 * @param key Generic type reference containing the key.
+	 * @param value Generic type reference containing the value.
+	 * @throws IllegalArgumentException if the key or value
+	 * is null, or the entry has a negative weight.
+	 */
+	public void put(K key, V value)
+	throws IllegalArgumentException;
+
+	/**
+	 * Abstract method used to remove the mapping of
+	 * the given key.
+	 * @param key Generic type reference containing the key.
+	 * @return Generic type containing the removed value,
+	 * or null if the key was not cached.
+	 */
+	public V remove(K key);
+
+	/**
+	 * Abstract method used to check whether the given
+	 * key is cached, without counting as a use.
+	 * @param key Generic type reference containing the key.
+	 * @return boolean value determining whether the
+	 * key is cached.
+	 */
+	public boolean containsKey(K key);
+
+	/**
+	 * Abstract method used to remove every entry.
+	 * Statistics are kept.
+	 */
+	public void clear();
+
+	/**
+	 * Abstract method used to get the number of
+	 * cached entries.
+	 * @return integer value containing the size.
+	 */
+	public int size();
+
+	/**
+	 * Abstract method used to get the total weight
+	 * of the cached entries.
+	 * @return long value containing the weight.
+	 */
+	public long getWeightedSize();
+
+	/**
+	 * Abstract method used to get the largest total
+	 * weight the cache holds.
+	 * @return long value containing the maximum weight.
+	 */
+	public long getMaximumWeight();
+
+	/**
+	 * Abstract method used to get a snapshot of the
+	 * hit, miss and eviction counts.
+	 * @return CacheStats object of the cache.
+	 */
+	public CacheStats getStats();
+}
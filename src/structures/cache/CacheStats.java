@@ -0,0 +1,109 @@
+package structures.cache;
+
+/**
+ * Immutable snapshot of the statistics of a
+ * cache. Snapshots of several caches, such as the
+ * stripes of a StripedCache, can be added together.
+ * @author Noah Teshima
+ *
+ */
+public final class CacheStats {
+	private final long hitCount;
+	private final long missCount;
+	private final long evictionCount;
+	private final long evictionWeight;
+
+	/**
+	 * Constructor used to set every count.
+	 * @param hitCount long value containing the number
+	 * of lookups that found a value.
+	 * @param missCount long value containing the number
+	 * of lookups that found nothing.
+	 * @param evictionCount long value containing the
+	 * number of entries evicted, including entries
+	 * refused on admission.
+	 * @param evictionWeight long value containing the
+	 * total weight of the evicted entries.
+	 */
+	public CacheStats(long hitCount, long missCount, long evictionCount, long evictionWeight) {
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.evictionCount = evictionCount;
+		this.evictionWeight = evictionWeight;
+	}
+
+	/**
+	 * Accessor method used to get the number of hits.
+	 * @return long value containing the hit count.
+	 */
+	public long getHitCount() {
+		return this.hitCount;
+	}
+
+	/**
+	 * Accessor method used to get the number of misses.
+	 * @return long value containing the miss count.
+	 */
+	public long getMissCount() {
+		return this.missCount;
+	}
+
+	/**
+	 * Accessor method used to get the number of lookups.
+	 * @return long value containing the hits and misses.
+	 */
+	public long getRequestCount() {
+		return this.hitCount + this.missCount;
+	}
+
+	/**
+	 * Accessor method used to get the fraction of
+	 * lookups that hit.
+	 * @return double value containing the hit rate,
+	 * or 0 if there were no lookups.
+	 */
+	public double getHitRate() {
+		long requests = this.getRequestCount();
+		return (requests == 0) ? 0.0 : (double) this.hitCount / requests;
+	}
+
+	/**
+	 * Accessor method used to get the number of
+	 * evicted entries.
+	 * @return long value containing the eviction count.
+	 */
+	public long getEvictionCount() {
+		return this.evictionCount;
+	}
+
+	/**
+	 * Accessor method used to get the total weight
+	 * of the evicted entries.
+	 * @return long value containing the eviction weight.
+	 */
+	public long getEvictionWeight() {
+		return this.evictionWeight;
+	}
+
+	/**
+	 * Method designed to add the counts of another
+	 * snapshot to these.
+	 * @param other CacheStats reference to add.
+	 * @return CacheStats object holding the sums.
+	 */
+	public CacheStats plus(CacheStats other) {
+		return new CacheStats(this.hitCount + other.hitCount, this.missCount + other.missCount,
+				this.evictionCount + other.evictionCount, this.evictionWeight + other.evictionWeight);
+	}
+
+	/**
+	 * Method designed to describe the statistics.
+	 * @return String object listing every count.
+	 */
+	@Override
+	public String toString() {
+		return String.format("hits=%d, misses=%d, hitRate=%.4f, evictions=%d, evictionWeight=%d",
+				this.hitCount, this.missCount, this.getHitRate(), this.evictionCount,
+				this.evictionWeight);
+	}
+}
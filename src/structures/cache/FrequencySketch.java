@@ -0,0 +1,136 @@
+package structures.cache;
+
+/**
+ * Count-min sketch estimating how often each key
+ * was used recently, in a fixed amount of memory.
+ * Every key maps to four 4-bit counters, sixteen
+ * packed into each long, and its estimate is the
+ * smallest of the four. Only the smallest counters
+ * are incremented, which keeps collisions from
+ * inflating estimates. Once the number of increments
+ * reaches ten times the expected number of keys,
+ * every counter is halved, so old popularity fades.
+ * @author Noah Teshima
+ *
+ */
+final class FrequencySketch {
+	private static final int COUNTER_BITS = 4;
+	private static final int COUNTERS_PER_WORD = Long.SIZE / FrequencySketch.COUNTER_BITS;
+	private static final int HASH_COUNT = 4;
+	private static final long MAX_COUNT = (1L << FrequencySketch.COUNTER_BITS) - 1;
+	private static final long RESET_MASK = 0x7777777777777777L;
+	private static final int MAX_KEYS = 1 << 22;
+
+	private final long[] counters;
+	private final int counterMask;
+	private final int sampleSize;
+	private int additions;
+
+	/**
+	 * Constructor used to size the sketch for
+	 * the given number of keys.
+	 * @param expectedKeys integer value containing
+	 * the number of keys the cache holds, capped at
+	 * about four million.
+	 */
+	FrequencySketch(int expectedKeys) {
+		int keys = Math.min(Math.max(expectedKeys, FrequencySketch.COUNTERS_PER_WORD),
+				FrequencySketch.MAX_KEYS);
+		int counterCount = Integer.highestOneBit(keys * 2 - 1) * FrequencySketch.HASH_COUNT;
+		this.counters = new long[counterCount / FrequencySketch.COUNTERS_PER_WORD];
+		this.counterMask = counterCount - 1;
+		this.sampleSize = 10 * keys;
+	}
+
+	/**
+	 * Private static method used to spread the hash
+	 * code of the given key over 64 bits.
+	 * @param key Object reference to hash.
+	 * @return long value containing the mixed hash.
+	 */
+	private static long mix(Object key) {
+		long hash = key.hashCode();
+		hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+		hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+		return hash ^ (hash >>> 33);
+	}
+
+	/**
+	 * Private method used to get the counter index
+	 * of the given hash function.
+	 * @param hash long value containing the mixed hash.
+	 * @param function integer value containing the
+	 * number of the hash function.
+	 * @return integer value containing the counter index.
+	 */
+	private int index(long hash, int function) {
+		return ((int) hash + function * ((int) (hash >>> 32) | 1)) & this.counterMask;
+	}
+
+	/**
+	 * Private method used to get the value of the
+	 * counter at the given index.
+	 * @param index integer value containing the
+	 * counter index.
+	 * @return long value containing the count.
+	 */
+	private long count(int index) {
+		int shift = (index % FrequencySketch.COUNTERS_PER_WORD) * FrequencySketch.COUNTER_BITS;
+		return (this.counters[index / FrequencySketch.COUNTERS_PER_WORD] >>> shift)
+				& FrequencySketch.MAX_COUNT;
+	}
+
+	/**
+	 * Method designed to estimate how often the
+	 * given key was used.
+	 * @param key Object reference of the key.
+	 * @return integer value containing the estimate,
+	 * at most 15.
+	 */
+	int frequency(Object key) {
+		long hash = FrequencySketch.mix(key);
+		long frequency = FrequencySketch.MAX_COUNT;
+		for(int function = 0; function < FrequencySketch.HASH_COUNT; function++) {
+			frequency = Math.min(frequency, this.count(this.index(hash, function)));
+		}
+		return (int) frequency;
+	}
+
+	/**
+	 * Method designed to record a use of the given
+	 * key, halving every counter once enough uses
+	 * have been recorded.
+	 * @param key Object reference of the key.
+	 */
+	void increment(Object key) {
+		long hash = FrequencySketch.mix(key);
+		long minimum = FrequencySketch.MAX_COUNT;
+		for(int function = 0; function < FrequencySketch.HASH_COUNT; function++) {
+			minimum = Math.min(minimum, this.count(this.index(hash, function)));
+		}
+		if(minimum == FrequencySketch.MAX_COUNT) {
+			return;
+		}
+		//conservative update: only the smallest counters hold the estimate
+		for(int function = 0; function < FrequencySketch.HASH_COUNT; function++) {
+			int index = this.index(hash, function);
+			if(this.count(index) == minimum) {
+				int shift = (index % FrequencySketch.COUNTERS_PER_WORD) * FrequencySketch.COUNTER_BITS;
+				this.counters[index / FrequencySketch.COUNTERS_PER_WORD] += 1L << shift;
+			}
+		}
+		if(++this.additions >= this.sampleSize) {
+			this.reset();
+		}
+	}
+
+	/**
+	 * Private method used to halve every counter.
+	 */
+	private void reset() {
+		for(int word = 0; word < this.counters.length; word++) {
+			this.counters[word] = (this.counters[word] >>> 1) & FrequencySketch.RESET_MASK;
+		}
+		this.additions /= 2;
+	}
+}
@@ -0,0 +1,112 @@
+package structures.cache;
+
+/**
+ * Least recently used cache. Entries are kept in
+ * an intrusive doubly linked list in order of use,
+ * and a hash index finds the node of a key, so get,
+ * put, remove and each eviction are O(1). Once the
+ * total weight passes the maximum, the least recently
+ * used entries are evicted. Not thread-safe; see
+ * StripedCache for concurrent use.
+ * @author Noah Teshima
+ *
+ * @param <K> Generic type of the keys.
+ * @param <V> Generic type of the values.
+ */
+public class LruCache<K, V> extends AbstractCache<K, V> {
+	private final AccessQueue<K, V> queue;
+
+	/**
+	 * Constructor used to hold up to the given
+	 * number of entries.
+	 * @param maximumSize long value containing the
+	 * largest number of entries.
+	 * @throws IllegalArgumentException if maximumSize
+	 * is not positive.
+	 */
+	public LruCache(long maximumSize) throws IllegalArgumentException {
+		this(maximumSize, Weigher.unit());
+	}
+
+	/**
+	 * Constructor used to hold entries up to the
+	 * given total weight.
+	 * @param maximumWeight long value containing the
+	 * largest total weight.
+	 * @param weigher Weigher reference weighing entries.
+	 * @throws IllegalArgumentException if maximumWeight
+	 * is not positive.
+	 */
+	public LruCache(long maximumWeight, Weigher<K, V> weigher) throws IllegalArgumentException {
+		super(maximumWeight, weigher);
+		this.queue = new AccessQueue<>();
+	}
+
+	/**
+	 * Method designed to move a used entry to the
+	 * most recently used end.
+	 * @param node Node reference of the entry.
+	 */
+	@Override
+	void touch(AccessQueue.Node<K, V> node) {
+		this.queue.moveToLast(node);
+	}
+
+	/**
+	 * Method designed to record a miss, which
+	 * needs nothing for LRU.
+	 * @param key Generic type reference containing the key.
+	 */
+	@Override
+	void miss(K key) {
+	}
+
+	/**
+	 * Method designed to queue a new entry as the
+	 * most recently used.
+	 * @param node Node reference of the entry.
+	 */
+	@Override
+	void link(AccessQueue.Node<K, V> node) {
+		this.queue.addLast(node);
+	}
+
+	/**
+	 * Method designed to unlink an entry.
+	 * @param node Node reference of the entry.
+	 */
+	@Override
+	void unlink(AccessQueue.Node<K, V> node) {
+		this.queue.remove(node);
+	}
+
+	/**
+	 * Method designed to change the weight of
+	 * an entry.
+	 * @param node Node reference of the entry.
+	 * @param weight integer value containing the new weight.
+	 */
+	@Override
+	void reweigh(AccessQueue.Node<K, V> node, int weight) {
+		this.queue.reweigh(node, weight);
+	}
+
+	/**
+	 * Method designed to evict the least recently
+	 * used entries until the weight fits.
+	 */
+	@Override
+	void evict() {
+		while(this.weightedSize > this.maximumWeight) {
+			this.discard(this.queue.peekFirst());
+		}
+	}
+
+	/**
+	 * Method designed to empty the queue.
+	 */
+	@Override
+	void clearQueues() {
+		this.queue.clear();
+	}
+}
@@ -0,0 +1,258 @@
+package structures.cache;
+
+import java.util.function.LongFunction;
+
+/**
+ * Thread-safe cache splitting its keys over a
+ * power of two number of independent caches, each
+ * guarded by its own monitor and holding an equal
+ * share of the maximum weight. Threads using keys
+ * of different stripes never contend, so throughput
+ * grows with the number of stripes, at the cost of
+ * each stripe evicting on its own rather than over
+ * the whole cache.
+ * @author Noah Teshima
+ *
+ * @param <K> Generic type of the keys.
+ * @param <V> Generic type of the values.
+ */
+public class StripedCache<K, V> implements Cache<K, V> {
+	private final Cache<K, V>[] stripes;
+	private final int mask;
+	private final long maximumWeight;
+
+	/**
+	 * Constructor used to create the stripes with
+	 * the given factory.
+	 * @param stripeCount integer value containing the
+	 * number of stripes, rounded up to a power of two.
+	 * @param maximumWeight long value containing the
+	 * largest total weight, split evenly between stripes.
+	 * @param factory LongFunction reference creating a
+	 * single-threaded cache of the given maximum weight.
+	 * @throws IllegalArgumentException if stripeCount is
+	 * not positive, or maximumWeight is smaller than the
+	 * number of stripes.
+	 */
+	@SuppressWarnings("unchecked")
+	public StripedCache(int stripeCount, long maximumWeight, LongFunction<Cache<K, V>> factory)
+	throws IllegalArgumentException {
+		if(stripeCount <= 0 || stripeCount > (1 << 16)) {
+			throw new IllegalArgumentException("stripeCount must be between 1 and 65536");
+		}
+		int count = Integer.highestOneBit(stripeCount * 2 - 1);
+		if(maximumWeight < count) {
+			throw new IllegalArgumentException("maximumWeight must be at least the number of stripes");
+		}
+		this.stripes = (Cache<K, V>[]) new Cache<?, ?>[count];
+		for(int stripe = 0; stripe < count; stripe++) {
+			this.stripes[stripe] = factory.apply(maximumWeight / count);
+		}
+		this.mask = count - 1;
+		this.maximumWeight = maximumWeight / count * count;
+	}
+
+	/**
+	 * Static method used to create a striped
+	 * LRU cache.
+	 * @param stripeCount integer value containing the
+	 * number of stripes.
+	 * @param maximumWeight long value containing the
+	 * largest total weight.
+	 * @param weigher Weigher reference weighing entries.
+	 * @return StripedCache object of LruCache stripes.
+	 */
+	public static <K, V> StripedCache<K, V> lru(int stripeCount, long maximumWeight,
+			Weigher<K, V> weigher) {
+		return new StripedCache<>(stripeCount, maximumWeight,
+				(weight) -> new LruCache<>(weight, weigher));
+	}
+
+	/**
+	 * Static method used to create a striped
+	 * W-TinyLFU cache.
+	 * @param stripeCount integer value containing the
+	 * number of stripes.
+	 * @param maximumWeight long value containing the
+	 * largest total weight.
+	 * @param weigher Weigher reference weighing entries.
+	 * @return StripedCache object of TinyLfuCache stripes.
+	 */
+	public static <K, V> StripedCache<K, V> tinyLfu(int stripeCount, long maximumWeight,
+			Weigher<K, V> weigher) {
+		return new StripedCache<>(stripeCount, maximumWeight,
+				(weight) -> new TinyLfuCache<>(weight, weigher));
+	}
+
+	/**
+	 * Private method used to get the stripe of the
+	 * given key. The stripe is taken from the high bits
+	 * of a multiplicative hash, so the keys of a stripe
+	 * still spread over the buckets of its hash index.
+	 * @param key Generic type reference containing the key.
+	 * @return Cache object holding the key.
+	 * @throws IllegalArgumentException if the key is null.
+	 */
+	private Cache<K, V> stripe(K key) throws IllegalArgumentException {
+		if(key == null) {
+			throw new IllegalArgumentException("null keys are not supported");
+		}
+		return this.stripes[((key.hashCode() * 0x9E3779B9) >>> 16) & this.mask];
+	}
+
+	/**
+	 * Method designed to get the value mapped to
+	 * the given key.
+	 * @param key Generic type reference containing the key.
+	 * @return Generic type containing the value, or null
+	 * if the key is not cached.
+	 * @throws IllegalArgumentException if the key is null.
+	 */
+	@Override
+	public V get(K key) throws IllegalArgumentException {
+		Cache<K, V> stripe = this.stripe(key);
+		synchronized(stripe) {
+			return stripe.get(key);
+		}
+	}
+
+	/**
+	 * Method designed to map the given key to the
+	 * given value, evicting from its stripe as needed.
+	 * @param key Generic type reference containing the key.
+	 * @param value Generic type reference containing the value.
+	 * @throws IllegalArgumentException if the key or value
+	 * is null, or the entry has a negative weight.
+	 */
+	@Override
+	public void put(K key, V value) throws IllegalArgumentException {
+		Cache<K, V> stripe = this.stripe(key);
+		synchronized(stripe) {
+			stripe.put(key, value);
+		}
+	}
+
+	/**
+	 * Method designed to remove the mapping of the
+	 * given key.
+	 * @param key Generic type reference containing the key.
+	 * @return Generic type containing the removed value,
+	 * or null if the key was not cached.
+	 * @throws IllegalArgumentException if the key is null.
+	 */
+	@Override
+	public V remove(K key) throws IllegalArgumentException {
+		Cache<K, V> stripe = this.stripe(key);
+		synchronized(stripe) {
+			return stripe.remove(key);
+		}
+	}
+
+	/**
+	 * Method designed to check whether the given
+	 * key is cached, without counting as a use.
+	 * @param key Generic type reference containing the key.
+	 * @return boolean value determining whether the
+	 * key is cached.
+	 * @throws IllegalArgumentException if the key is null.
+	 */
+	@Override
+	public boolean containsKey(K key) throws IllegalArgumentException {
+		Cache<K, V> stripe = this.stripe(key);
+		synchronized(stripe) {
+			return stripe.containsKey(key);
+		}
+	}
+
+	/**
+	 * Method designed to empty every stripe in
+	 * turn. Entries put into an emptied stripe while
+	 * others are being cleared are kept.
+	 */
+	@Override
+	public void clear() {
+		for(Cache<K, V> stripe : this.stripes) {
+			synchronized(stripe) {
+				stripe.clear();
+			}
+		}
+	}
+
+	/**
+	 * Accessor method used to get the number of
+	 * cached entries, summed stripe by stripe.
+	 * @return integer value containing the size.
+	 */
+	@Override
+	public int size() {
+		int size = 0;
+		for(Cache<K, V> stripe : this.stripes) {
+			synchronized(stripe) {
+				size += stripe.size();
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Accessor method used to get the total weight
+	 * of the cached entries, summed stripe by stripe.
+	 * @return long value containing the weight.
+	 */
+	@Override
+	public long getWeightedSize() {
+		long weight = 0;
+		for(Cache<K, V> stripe : this.stripes) {
+			synchronized(stripe) {
+				weight += stripe.getWeightedSize();
+			}
+		}
+		return weight;
+	}
+
+	/**
+	 * Accessor method used to get the largest total
+	 * weight, the sum of the stripe maximums.
+	 * @return long value containing the maximum weight.
+	 */
+	@Override
+	public long getMaximumWeight() {
+		return this.maximumWeight;
+	}
+
+	/**
+	 * Accessor method used to get the statistics
+	 * of every stripe added together.
+	 * @return CacheStats object of the cache.
+	 */
+	@Override
+	public CacheStats getStats() {
+		CacheStats stats = new CacheStats(0, 0, 0, 0);
+		for(Cache<K, V> stripe : this.stripes) {
+			synchronized(stripe) {
+				stats = stats.plus(stripe.getStats());
+			}
+		}
+		return stats;
+	}
+
+	/**
+	 * Accessor method used to get the number
+	 * of stripes.
+	 * @return integer value containing the stripe count.
+	 */
+	public int getStripeCount() {
+		return this.stripes.length;
+	}
+
+	/**
+	 * Method designed to describe the cache.
+	 * @return String object containing the stripes,
+	 * size, weight and statistics.
+	 */
+	@Override
+	public String toString() {
+		return "StripedCache[stripes=" + this.stripes.length + ", size=" + this.size() + ", weight="
+				+ this.getWeightedSize() + "/" + this.maximumWeight + ", " + this.getStats() + "]";
+	}
+}
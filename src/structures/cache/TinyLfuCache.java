@@ -0,0 +1,228 @@
+package structures.cache;
+
+/**
+ * Cache approximating least frequently used
+ * eviction with the W-TinyLFU policy. New entries
+ * enter a small LRU window holding 1% of the weight.
+ * The rest is a segmented LRU main space. Entries
+ * used again while on probation move to a protected
+ * segment holding 80% of it, and entries leaving the
+ * protected segment return to probation. An entry
+ * leaving the window is admitted to the main space
+ * only if a FrequencySketch estimates it was used
+ * more often than the probation entry it would
+ * evict; otherwise it is evicted itself. One-off
+ * keys, such as those of a scan, therefore pass
+ * through the window without pushing out popular
+ * entries. Every operation is O(1). Not thread-safe;
+ * see StripedCache for concurrent use.
+ * @author Noah Teshima
+ *
+ * @param <K> Generic type of the keys.
+ * @param <V> Generic type of the values.
+ */
+public class TinyLfuCache<K, V> extends AbstractCache<K, V> {
+	private static final byte WINDOW = 0;
+	private static final byte PROBATION = 1;
+	private static final byte PROTECTED = 2;
+	private static final int WINDOW_PERCENT = 1;
+	private static final int PROTECTED_PERCENT = 80;
+
+	private final AccessQueue<K, V> window;
+	private final AccessQueue<K, V> probation;
+	private final AccessQueue<K, V> protectedQueue;
+	private final FrequencySketch sketch;
+	private final long windowMaximum;
+	private final long mainMaximum;
+	private final long protectedMaximum;
+
+	/**
+	 * Constructor used to hold up to the given
+	 * number of entries.
+	 * @param maximumSize long value containing the
+	 * largest number of entries.
+	 * @throws IllegalArgumentException if maximumSize
+	 * is not positive.
+	 */
+	public TinyLfuCache(long maximumSize) throws IllegalArgumentException {
+		this(maximumSize, Weigher.unit());
+	}
+
+	/**
+	 * Constructor used to hold entries up to the
+	 * given total weight. The sketch is sized as if
+	 * every entry weighed one, up to about four
+	 * million keys.
+	 * @param maximumWeight long value containing the
+	 * largest total weight.
+	 * @param weigher Weigher reference weighing entries.
+	 * @throws IllegalArgumentException if maximumWeight
+	 * is not positive.
+	 */
+	public TinyLfuCache(long maximumWeight, Weigher<K, V> weigher) throws IllegalArgumentException {
+		super(maximumWeight, weigher);
+		this.window = new AccessQueue<>();
+		this.probation = new AccessQueue<>();
+		this.protectedQueue = new AccessQueue<>();
+		this.sketch = new FrequencySketch((int) Math.min(maximumWeight, Integer.MAX_VALUE));
+		this.windowMaximum = Math.max(1, maximumWeight * TinyLfuCache.WINDOW_PERCENT / 100);
+		this.mainMaximum = maximumWeight - this.windowMaximum;
+		this.protectedMaximum = this.mainMaximum * TinyLfuCache.PROTECTED_PERCENT / 100;
+	}
+
+	/**
+	 * Private method used to get the queue an
+	 * entry is in.
+	 * @param node Node reference of the entry.
+	 * @return AccessQueue object holding the entry.
+	 */
+	private AccessQueue<K, V> queue(AccessQueue.Node<K, V> node) {
+		switch(node.queue) {
+		case TinyLfuCache.WINDOW:
+			return this.window;
+		case TinyLfuCache.PROBATION:
+			return this.probation;
+		default:
+			return this.protectedQueue;
+		}
+	}
+
+	/**
+	 * Method designed to record a use of an entry,
+	 * promoting it to the protected segment if it
+	 * was on probation.
+	 * @param node Node reference of the entry.
+	 */
+	@Override
+	void touch(AccessQueue.Node<K, V> node) {
+		this.sketch.increment(node.key);
+		if(node.queue == TinyLfuCache.PROBATION) {
+			this.probation.remove(node);
+			node.queue = TinyLfuCache.PROTECTED;
+			this.protectedQueue.addLast(node);
+			this.demote();
+		}else {
+			this.queue(node).moveToLast(node);
+		}
+	}
+
+	/**
+	 * Method designed to record a use of a key
+	 * that is not cached, so it may be admitted
+	 * when it is put.
+	 * @param key Generic type reference containing the key.
+	 */
+	@Override
+	void miss(K key) {
+		this.sketch.increment(key);
+	}
+
+	/**
+	 * Method designed to queue a new entry at the
+	 * end of the window.
+	 * @param node Node reference of the entry.
+	 */
+	@Override
+	void link(AccessQueue.Node<K, V> node) {
+		this.sketch.increment(node.key);
+		node.queue = TinyLfuCache.WINDOW;
+		this.window.addLast(node);
+	}
+
+	/**
+	 * Method designed to unlink an entry.
+	 * @param node Node reference of the entry.
+	 */
+	@Override
+	void unlink(AccessQueue.Node<K, V> node) {
+		this.queue(node).remove(node);
+	}
+
+	/**
+	 * Method designed to change the weight of
+	 * an entry.
+	 * @param node Node reference of the entry.
+	 * @param weight integer value containing the new weight.
+	 */
+	@Override
+	void reweigh(AccessQueue.Node<K, V> node, int weight) {
+		this.queue(node).reweigh(node, weight);
+	}
+
+	/**
+	 * Method designed to move entries out of a full
+	 * window through admission, then evict from the
+	 * least valuable end until the weight fits.
+	 */
+	@Override
+	void evict() {
+		while(this.window.getWeight() > this.windowMaximum) {
+			AccessQueue.Node<K, V> candidate = this.window.peekFirst();
+			this.window.remove(candidate);
+			this.admit(candidate);
+		}
+		this.demote();
+		while(this.weightedSize > this.maximumWeight) {
+			AccessQueue.Node<K, V> victim = this.probation.peekFirst();
+			if(victim == null) {
+				victim = this.protectedQueue.peekFirst();
+			}
+			if(victim == null) {
+				victim = this.window.peekFirst();
+			}
+			this.discard(victim);
+		}
+	}
+
+	/**
+	 * Private method used to place an entry leaving
+	 * the window on probation, then make room for it
+	 * while it is estimated to be used more often than
+	 * the oldest entry of the main space. Ties favor
+	 * the entry already there.
+	 * @param candidate Node reference of an unqueued entry.
+	 */
+	private void admit(AccessQueue.Node<K, V> candidate) {
+		candidate.queue = TinyLfuCache.PROBATION;
+		this.probation.addLast(candidate);
+		while(this.probation.getWeight() + this.protectedQueue.getWeight() > this.mainMaximum) {
+			AccessQueue.Node<K, V> victim = this.probation.peekFirst();
+			if(victim == candidate) {
+				victim = this.protectedQueue.peekFirst();
+			}
+			if(victim == null) {
+				return;
+			}
+			if(this.sketch.frequency(candidate.key) > this.sketch.frequency(victim.key)) {
+				this.discard(victim);
+			}else {
+				this.discard(candidate);
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Private method used to return the oldest
+	 * protected entries to probation until the
+	 * protected segment fits.
+	 */
+	private void demote() {
+		while(this.protectedQueue.getWeight() > this.protectedMaximum) {
+			AccessQueue.Node<K, V> node = this.protectedQueue.peekFirst();
+			this.protectedQueue.remove(node);
+			node.queue = TinyLfuCache.PROBATION;
+			this.probation.addLast(node);
+		}
+	}
+
+	/**
+	 * Method designed to empty every queue.
+	 */
+	@Override
+	void clearQueues() {
+		this.window.clear();
+		this.probation.clear();
+		this.protectedQueue.clear();
+	}
+}
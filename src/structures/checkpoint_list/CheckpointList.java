@@ -0,0 +1,649 @@
+package structures.checkpoint_list;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+import structures.AbstractList;
+import structures.List;
+
+/**
+ * Chunked list data structure built to be
+ * checkpointed while it is being written. Elements
+ * live in chunks of at most a fixed number of
+ * elements, each carrying a stable id and the epoch
+ * it was last copied in. Taking a snapshot copies
+ * only the directory of chunk references and starts
+ * a new epoch, and the first write to a chunk from
+ * an older epoch copies it first, so the snapshot
+ * stays consistent while writes continue. Chunks
+ * copied since the previous snapshot are the ones a
+ * Checkpointer writes to a delta.
+ * @author Noah Teshima
+ */
+public class CheckpointList<T> extends AbstractList<T> implements RandomAccess {
+
+	/**
+	 * Package-private static inner class holding
+	 * one chunk of elements. Once a snapshot has
+	 * seen a chunk, the list never writes to it
+	 * again, so snapshots may read it from any
+	 * thread.
+	 * @author Noah Teshima
+	 */
+	static final class Chunk {
+		final long id;
+		final long version;
+		final Object[] elements;
+		int size;
+
+		/**
+		 * Constructor used to set the id, version
+		 * and contents of the chunk.
+		 * @param id long value containing the id of
+		 * the chunk, kept across copies.
+		 * @param version long value containing the
+		 * epoch the chunk was created in.
+		 * @param elements Array of elements, sized to
+		 * the capacity of a chunk.
+		 * @param size integer value containing the
+		 * number of elements used.
+		 */
+		Chunk(long id, long version, Object[] elements, int size) {
+			this.id = id;
+			this.version = version;
+			this.elements = elements;
+			this.size = size;
+		}
+	}
+
+	/**
+	 * Package-private static inner class holding
+	 * a consistent view of the list, as taken by
+	 * snapshot().
+	 * @author Noah Teshima
+	 */
+	static final class Snapshot {
+		final int chunkSize;
+		final int size;
+		final long nextId;
+		final long since;
+		final Chunk[] chunks;
+
+		/**
+		 * Constructor used to set the contents of
+		 * the snapshot.
+		 * @param chunkSize integer value containing the
+		 * capacity of each chunk.
+		 * @param size integer value containing the
+		 * number of elements.
+		 * @param nextId long value containing the next
+		 * chunk id the list will hand out.
+		 * @param since long value containing the epoch of
+		 * the previous snapshot.
+		 * @param chunks Array of chunks, in list order.
+		 */
+		Snapshot(int chunkSize, int size, long nextId, long since, Chunk[] chunks) {
+			this.chunkSize = chunkSize;
+			this.size = size;
+			this.nextId = nextId;
+			this.since = since;
+			this.chunks = chunks;
+		}
+
+		/**
+		 * Method designed to check whether the given
+		 * chunk was written since the previous snapshot.
+		 * @param chunk integer value containing the
+		 * position of the chunk.
+		 * @return boolean value determining whether
+		 * the chunk changed.
+		 */
+		boolean isDirty(int chunk) {
+			return this.chunks[chunk].version > this.since;
+		}
+	}
+
+	/**
+	 * Private inner class used to iterate
+	 * over elements chunk by chunk.
+	 * @author Noah Teshima
+	 */
+	private class ChunkIterator implements Iterator<T> {
+		private int chunk;
+		private int offset;
+
+		/**
+		 * Default constructor used to
+		 * create an iterator at the beginning
+		 * of the list.
+		 */
+		public ChunkIterator() {
+			this.chunk = 0;
+			this.offset = 0;
+		}
+
+		/**
+		 * Method designed to determine whether
+		 * there is another element to iterate
+		 * over.
+		 * @return boolean value determining whether
+		 * another element can be iterated over.
+		 */
+		@Override
+		public boolean hasNext() {
+			return this.chunk < chunkCount;
+		}
+
+		/**
+		 * Method designed to return the next
+		 * element in the list.
+		 * @return Generic type object containing the
+		 * element iterated over.
+		 * @throws NoSuchElementException if there is
+		 * no next element.
+		 */
+		@Override
+		public T next() throws NoSuchElementException {
+			if(!this.hasNext()) {
+				throw new NoSuchElementException();
+			}
+			Chunk current = chunks[this.chunk];
+			T element = (T) current.elements[this.offset++];
+			if(this.offset == current.size) {
+				this.chunk++;
+				this.offset = 0;
+			}
+
+			return element;
+		}
+	}
+
+	private static final int DEFAULT_CHUNK_SIZE = 4096;
+	private static final int DEFAULT_DIRECTORY_SIZE = 8;
+
+	private final int chunkSize;
+	private Chunk[] chunks;
+	private int[] starts;
+	private int chunkCount;
+	private int validStarts;
+	private int size;
+	private long nextId;
+	private long epoch;
+	private long checkpointEpoch;
+
+	/**
+	 * Default constructor. When invoked, the
+	 * chunk size is set to a default of 4096.
+	 */
+	public CheckpointList() {
+		this(CheckpointList.DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * Constructor used to set the largest number
+	 * of elements held by each chunk.
+	 * @param chunkSize integer value containing
+	 * the chunk size.
+	 */
+	public CheckpointList(int chunkSize) {
+		this.chunkSize = (chunkSize <= 1) ? CheckpointList.DEFAULT_CHUNK_SIZE : chunkSize;
+		this.chunks = new Chunk[CheckpointList.DEFAULT_DIRECTORY_SIZE];
+		this.starts = new int[CheckpointList.DEFAULT_DIRECTORY_SIZE];
+		this.chunkCount = 0;
+		this.validStarts = 0;
+		this.size = 0;
+		this.nextId = 0;
+		this.epoch = 1;
+		this.checkpointEpoch = 0;
+	}
+
+	/**
+	 * Constructor used to copy the elements of
+	 * another list, such as an ArrayList or a
+	 * SinglyLinkedList, into full chunks.
+	 * @param list List reference containing the
+	 * elements to copy.
+	 */
+	public CheckpointList(List<? extends T> list) {
+		this();
+		for(T element : list) {
+			this.add(element);
+		}
+	}
+
+	/**
+	 * Package-private constructor used by recovery
+	 * to rebuild a list from its chunks. Recovered
+	 * chunks count as already checkpointed.
+	 * @param chunkSize integer value containing
+	 * the chunk size.
+	 * @param chunks Array of chunks, in list order,
+	 * each with a version of 0.
+	 * @param nextId long value containing the next
+	 * chunk id to hand out.
+	 */
+	CheckpointList(int chunkSize, Chunk[] chunks, long nextId) {
+		this(chunkSize);
+		int capacity = Math.max(chunks.length, CheckpointList.DEFAULT_DIRECTORY_SIZE);
+		this.chunks = Arrays.copyOf(chunks, capacity);
+		this.starts = new int[capacity];
+		this.chunkCount = chunks.length;
+		for(Chunk chunk : chunks) {
+			this.size += chunk.size;
+		}
+		this.nextId = nextId;
+	}
+
+	/**
+	 * Package-private method used to take a
+	 * consistent snapshot of the list in time
+	 * proportional to the number of chunks. Later
+	 * writes copy each chunk they touch, leaving
+	 * the snapshot unchanged.
+	 * @return Snapshot reference of the list.
+	 */
+	Snapshot snapshot() {
+		Snapshot snapshot = new Snapshot(this.chunkSize, this.size, this.nextId,
+				this.checkpointEpoch, Arrays.copyOf(this.chunks, this.chunkCount));
+		this.checkpointEpoch = this.epoch;
+		this.epoch++;
+
+		return snapshot;
+	}
+
+	/**
+	 * Private method used to get the position of
+	 * the chunk holding the given index, refreshing
+	 * stale chunk starts first.
+	 * @param index integer value containing the index.
+	 * @return integer value containing the chunk.
+	 */
+	private int locate(int index) {
+		for(int chunk = this.validStarts; chunk < this.chunkCount; chunk++) {
+			this.starts[chunk] = (chunk == 0) ? 0
+					: this.starts[chunk - 1] + this.chunks[chunk - 1].size;
+		}
+		this.validStarts = this.chunkCount;
+
+		int low = 0,
+				high = this.chunkCount - 1;
+		while(low < high) {
+			int middle = (low + high + 1) >>> 1;
+			if(this.starts[middle] <= index) {
+				low = middle;
+			}else {
+				high = middle - 1;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Private method used to mark the starts of
+	 * every chunk from the given position as stale.
+	 * @param chunk integer value containing the
+	 * first chunk whose start may have moved.
+	 */
+	private void invalidate(int chunk) {
+		this.validStarts = Math.min(this.validStarts, chunk);
+	}
+
+	/**
+	 * Private method used to get a chunk that may
+	 * be written, copying it if a snapshot may
+	 * still hold it.
+	 * @param chunk integer value containing the
+	 * position of the chunk.
+	 * @return Chunk reference owned by the current
+	 * epoch.
+	 */
+	private Chunk writable(int chunk) {
+		Chunk current = this.chunks[chunk];
+		if(current.version != this.epoch) {
+			current = new Chunk(current.id, this.epoch, current.elements.clone(), current.size);
+			this.chunks[chunk] = current;
+		}
+		return current;
+	}
+
+	/**
+	 * Private mutator method used to insert a new,
+	 * empty chunk at the given position.
+	 * @param chunk integer value containing the
+	 * position of the new chunk.
+	 * @return Chunk reference of the new chunk.
+	 */
+	private Chunk insertChunk(int chunk) {
+		if(this.chunkCount == this.chunks.length) {
+			//only chunk references are copied
+			this.chunks = Arrays.copyOf(this.chunks, this.chunks.length * 2);
+			this.starts = Arrays.copyOf(this.starts, this.starts.length * 2);
+		}
+		System.arraycopy(this.chunks, chunk, this.chunks, chunk + 1, this.chunkCount - chunk);
+		Chunk current = new Chunk(this.nextId++, this.epoch, new Object[this.chunkSize], 0);
+		this.chunks[chunk] = current;
+		this.chunkCount++;
+		this.invalidate(chunk);
+
+		return current;
+	}
+
+	/**
+	 * Private mutator method used to drop the
+	 * empty chunk at the given position.
+	 * @param chunk integer value containing the
+	 * position of the chunk.
+	 */
+	private void removeChunk(int chunk) {
+		System.arraycopy(this.chunks, chunk + 1, this.chunks, chunk, this.chunkCount - chunk - 1);
+		this.chunks[--this.chunkCount] = null;
+		this.invalidate(chunk);
+	}
+
+	/**
+	 * Private method used to check that the
+	 * given index refers to an element.
+	 * @param index integer value to check.
+	 * @throws IndexOutOfBoundsException if the
+	 * given index is out of range [0, size)
+	 */
+	private void checkIndex(int index) throws IndexOutOfBoundsException {
+		if(index < 0 || index >= this.size) {
+			throw new IndexOutOfBoundsException();
+		}
+	}
+
+	/**
+	 * Method designed to add the
+	 * specified element to the end of
+	 * the list, filling the last chunk
+	 * before starting a new one.
+	 * @param element Generic type reference
+	 * containing the element to add.
+	 */
+	@Override
+	public void add(T element) {
+		int last = this.chunkCount - 1;
+		Chunk current = (last == -1 || this.chunks[last].size == this.chunkSize)
+				? this.insertChunk(++last)
+				: this.writable(last);
+		current.elements[current.size++] = element;
+		this.size++;
+		this.modCount++;
+	}
+
+	/**
+	 * Method designed to add the
+	 * element at the specified index. A
+	 * full chunk is split in half first,
+	 * so only one chunk is shifted.
+	 * @param index integer value containing
+	 * the index at which to add the element.
+	 * @param element Generic type reference
+	 * containing the element to add
+	 * @throws IndexOutOfBoundsException if the
+	 * given index is not in range [0, size]
+	 */
+	@Override
+	public void add(int index, T element) throws IndexOutOfBoundsException {
+		if(index < 0 || index > this.size) {
+			throw new IndexOutOfBoundsException();
+		}
+		if(index == this.size) {
+			this.add(element);
+			return;
+		}
+		int chunk = this.locate(index),
+				offset = index - this.starts[chunk];
+		Chunk current = this.writable(chunk);
+		if(current.size == this.chunkSize) {
+			Chunk next = this.insertChunk(chunk + 1);
+			int half = current.size >>> 1;
+			next.size = current.size - half;
+			System.arraycopy(current.elements, half, next.elements, 0, next.size);
+			Arrays.fill(current.elements, half, current.size, null);
+			current.size = half;
+			if(offset > half) {
+				chunk++;
+				offset -= half;
+				current = next;
+			}
+		}
+		System.arraycopy(current.elements, offset, current.elements, offset + 1,
+				current.size - offset);
+		current.elements[offset] = element;
+		current.size++;
+		this.invalidate(chunk + 1);
+		this.size++;
+		this.modCount++;
+	}
+
+	/**
+	 * Method designed to clear all elements
+	 * from the current list, releasing every
+	 * chunk.
+	 */
+	@Override
+	public void clear() {
+		this.chunks = new Chunk[CheckpointList.DEFAULT_DIRECTORY_SIZE];
+		this.starts = new int[CheckpointList.DEFAULT_DIRECTORY_SIZE];
+		this.chunkCount = 0;
+		this.validStarts = 0;
+		this.size = 0;
+		this.modCount++;
+	}
+
+	/**
+	 * Method designed to check whether the
+	 * given reference is equal in value to any
+	 * element in the list.
+	 * @param object Object reference to check
+	 * to be equal in value
+	 * @return boolean value determining whether
+	 * the given reference is equal in value to
+	 * any element in the list
+	 */
+	@Override
+	public boolean contains(Object object) {
+		return (this.indexOf(object) != -1);
+	}
+
+	/**
+	 * Method designed to get the first element
+	 * inside of the list.
+	 * @return Generic type containing the first
+	 * element inside of the list.
+	 * @throws IndexOutOfBoundsException if the
+	 * list is empty.
+	 */
+	@Override
+	public T get() throws IndexOutOfBoundsException {
+		return this.get(0);
+	}
+
+	/**
+	 * Method designed to get the element
+	 * at the specified index.
+	 * @param index integer value containing
+	 * the index at which to retrieve the element
+	 * @return Generic type containing the element
+	 * at the given index inside of the list.
+	 * @throws IndexOutOfBoundsException if the
+	 * index is not in range [0, size)
+	 */
+	@Override
+	public T get(int index) throws IndexOutOfBoundsException {
+		this.checkIndex(index);
+		int chunk = this.locate(index);
+		return (T) this.chunks[chunk].elements[index - this.starts[chunk]];
+	}
+
+	/**
+	 * Method designed to retrieve the
+	 * index of the first element equal
+	 * in value to the given reference.
+	 * @param object Object reference
+	 * used to check to be equal in value
+	 * @return integer value containing the
+	 * first index of the element equal in
+	 * value to the given reference, or -1 if
+	 * not found.
+	 */
+	@Override
+	public int indexOf(Object object) {
+		int index = 0;
+		for(int chunk = 0; chunk < this.chunkCount; chunk++) {
+			Chunk current = this.chunks[chunk];
+			for(int offset = 0; offset < current.size; offset++) {
+				if(object.equals(current.elements[offset])) {
+					return index + offset;
+				}
+			}
+			index += current.size;
+		}
+		//if not found
+		return -1;
+	}
+
+	/**
+	 * Method designed to check whether
+	 * the list has any elements.
+	 * @return boolean value determining
+	 * whether the list is empty.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return (this.size == 0);
+	}
+
+	/**
+	 * Method designed to instantiate
+	 * and return a new Iterator object
+	 * for iterating over each element
+	 * in the current list.
+	 * @return Iterator object with basetype
+	 * T
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new ChunkIterator();
+	}
+
+	/**
+	 * Method designed to remove the last element from the
+	 * list.
+	 * @return Generic type containing the removed element.
+	 * @throws IndexOutOfBoundsException if the list is empty.
+	 */
+	@Override
+	public T remove() throws IndexOutOfBoundsException {
+		return this.remove(this.size - 1);
+	}
+
+	/**
+	 * Method designed to remove the specified element in the
+	 * list, shifting only the rest of its chunk and dropping
+	 * the chunk once it is empty.
+	 * @param index integer value containing the index of the
+	 * element to remove.
+	 * @return Generic type containing the removed element.
+	 * @throws IndexOutOfBoundsException if the given index is
+	 * out of range [0, size)
+	 */
+	@Override
+	public T remove(int index) throws IndexOutOfBoundsException {
+		this.checkIndex(index);
+		int chunk = this.locate(index),
+				offset = index - this.starts[chunk];
+		Chunk current = this.writable(chunk);
+		T element = (T) current.elements[offset];
+		System.arraycopy(current.elements, offset + 1, current.elements, offset,
+				current.size - offset - 1);
+		current.elements[--current.size] = null;
+		if(current.size == 0) {
+			this.removeChunk(chunk);
+		}else {
+			this.invalidate(chunk + 1);
+		}
+		this.size--;
+		this.modCount++;
+
+		return element;
+	}
+
+	/**
+	 * Method designed to set the given element at the end of
+	 * the list.
+	 * @param element generic reference type T
+	 * @return Generic type containing the replaced element.
+	 * @throws IndexOutOfBoundsException if the list is empty
+	 */
+	@Override
+	public T set(T element) throws IndexOutOfBoundsException {
+		return this.set(this.size - 1, element);
+	}
+
+	/**
+	 * Method designed to set the given element at the given
+	 * index.
+	 * @param index integer value containing the index of the
+	 * element to set
+	 * @param element generic reference type T
+	 * @return Generic type containing the replaced element.
+	 * @throws IndexOutOfBoundsException if the given index is
+	 * out of range [0, size)
+	 */
+	@Override
+	public T set(int index, T element) throws IndexOutOfBoundsException {
+		this.checkIndex(index);
+		int chunk = this.locate(index),
+				offset = index - this.starts[chunk];
+		Chunk current = this.writable(chunk);
+		T returnElement = (T) current.elements[offset];
+		current.elements[offset] = element;
+
+		return returnElement;
+	}
+
+	/**
+	 * Accessor method used to get the size of the
+	 * list.
+	 * @return integer value containing the size
+	 * of the list.
+	 */
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Accessor method used to get the number of
+	 * chunks holding the elements.
+	 * @return integer value containing the number
+	 * of chunks.
+	 */
+	public int getChunkCount() {
+		return this.chunkCount;
+	}
+
+	/**
+	 * Accessor method used to get the list
+	 * as an Array.
+	 * @return Array of basetype T, where
+	 * each element is a shallow copy.
+	 */
+	@Override
+	public T[] toArray() {
+		T[] returnArray = (T[]) new Object[this.size];
+		int copied = 0;
+		for(int chunk = 0; chunk < this.chunkCount; chunk++) {
+			Chunk current = this.chunks[chunk];
+			System.arraycopy(current.elements, 0, returnArray, copied, current.size);
+			copied += current.size;
+		}
+
+		return returnArray;
+	}
+}
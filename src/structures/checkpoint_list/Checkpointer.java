@@ -0,0 +1,667 @@
+package structures.checkpoint_list;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Incremental checkpoints of a CheckpointList. A
+ * checkpoint takes a snapshot of the list on the
+ * calling thread, which only copies its directory of
+ * chunks, and writes it to a new file on a background
+ * thread while the list keeps being written. The first
+ * checkpoint writes a base holding every chunk, and
+ * later ones write a delta holding only the chunks
+ * changed since the previous checkpoint, until the
+ * number of deltas reaches a limit and a new base
+ * replaces the chain. Recovery reads the latest base
+ * and its deltas, keeps the newest copy of each chunk
+ * and decodes the chunks in parallel.
+ * <p>
+ * Each file starts with a header and the ids of every
+ * chunk in list order, followed by records of the form
+ * <code>id length payload</code> for the chunks it
+ * holds and a CRC32C of everything before it. Files
+ * are written under a temporary name and moved into
+ * place, so a crash never leaves a partial checkpoint.
+ * @author Noah Teshima
+ *
+ * @param <T> Generic type of the elements.
+ */
+public final class Checkpointer<T> implements Closeable {
+
+	/**
+	 * Public interface used to turn elements into
+	 * bytes and back. Null elements are handled by
+	 * the checkpointer and never reach a codec.
+	 * @author Noah Teshima
+	 *
+	 * @param <T> Generic type of the elements.
+	 */
+	public interface Codec<T> {
+		/**
+		 * Codec of Integer elements.
+		 */
+		Codec<Integer> INTEGER = new Codec<>() {
+			@Override
+			public void write(DataOutput out, Integer element) throws IOException {
+				out.writeInt(element);
+			}
+
+			@Override
+			public Integer read(DataInput in) throws IOException {
+				return in.readInt();
+			}
+		};
+
+		/**
+		 * Codec of Long elements.
+		 */
+		Codec<Long> LONG = new Codec<>() {
+			@Override
+			public void write(DataOutput out, Long element) throws IOException {
+				out.writeLong(element);
+			}
+
+			@Override
+			public Long read(DataInput in) throws IOException {
+				return in.readLong();
+			}
+		};
+
+		/**
+		 * Codec of String elements, in modified UTF-8.
+		 */
+		Codec<String> STRING = new Codec<>() {
+			@Override
+			public void write(DataOutput out, String element) throws IOException {
+				out.writeUTF(element);
+			}
+
+			@Override
+			public String read(DataInput in) throws IOException {
+				return in.readUTF();
+			}
+		};
+
+		/**
+		 * Method designed to write one element.
+		 * @param out DataOutput reference to write to.
+		 * @param element Generic type reference containing
+		 * the element, never null.
+		 * @throws IOException if the output fails.
+		 */
+		void write(DataOutput out, T element) throws IOException;
+
+		/**
+		 * Method designed to read one element.
+		 * @param in DataInput reference to read from.
+		 * @return Generic type containing the element.
+		 * @throws IOException if the input fails.
+		 */
+		T read(DataInput in) throws IOException;
+	}
+
+	/**
+	 * Public static inner class describing a
+	 * completed checkpoint.
+	 * @author Noah Teshima
+	 */
+	public static final class Result {
+		private final long sequence;
+		private final boolean base;
+		private final int chunksWritten;
+		private final long bytesWritten;
+
+		/**
+		 * Constructor used to set the outcome of
+		 * a checkpoint.
+		 * @param sequence long value containing the
+		 * sequence number of the file.
+		 * @param base boolean value determining whether
+		 * the file is a base.
+		 * @param chunksWritten integer value containing
+		 * the number of chunks written.
+		 * @param bytesWritten long value containing the
+		 * size of the file.
+		 */
+		Result(long sequence, boolean base, int chunksWritten, long bytesWritten) {
+			this.sequence = sequence;
+			this.base = base;
+			this.chunksWritten = chunksWritten;
+			this.bytesWritten = bytesWritten;
+		}
+
+		/**
+		 * Accessor method used to get the sequence
+		 * number of the checkpoint.
+		 * @return long value containing the sequence.
+		 */
+		public long getSequence() {
+			return this.sequence;
+		}
+
+		/**
+		 * Accessor method used to check whether the
+		 * checkpoint wrote a base.
+		 * @return boolean value determining whether
+		 * every chunk was written.
+		 */
+		public boolean isBase() {
+			return this.base;
+		}
+
+		/**
+		 * Accessor method used to get the number of
+		 * chunks the checkpoint wrote.
+		 * @return integer value containing the number
+		 * of chunks.
+		 */
+		public int getChunksWritten() {
+			return this.chunksWritten;
+		}
+
+		/**
+		 * Accessor method used to get the size of
+		 * the checkpoint file.
+		 * @return long value containing the number
+		 * of bytes.
+		 */
+		public long getBytesWritten() {
+			return this.bytesWritten;
+		}
+
+		/**
+		 * Method designed to describe the checkpoint.
+		 * @return String object describing the checkpoint.
+		 */
+		@Override
+		public String toString() {
+			return (this.base ? "base " : "delta ") + this.sequence + ": " + this.chunksWritten
+					+ " chunks, " + this.bytesWritten + " bytes";
+		}
+	}
+
+	/**
+	 * Private static inner class holding the header
+	 * and chunk payloads of one checkpoint file.
+	 * @author Noah Teshima
+	 */
+	private static final class Image {
+		private boolean base;
+		private long sequence;
+		private long baseSequence;
+		private int chunkSize;
+		private int size;
+		private long nextId;
+		private long[] layout;
+		private byte[] data;
+		private Map<Long, int[]> payloads;
+	}
+
+	/**
+	 * Private static inner class decoding a range
+	 * of chunks, halving it until one chunk is left.
+	 * @author Noah Teshima
+	 *
+	 * @param <T> Generic type of the elements.
+	 */
+	private static final class Decode<T> extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private final Codec<T> codec;
+		private final int chunkSize;
+		private final long[] layout;
+		private final byte[][] sources;
+		private final int[][] slices;
+		private final CheckpointList.Chunk[] chunks;
+		private final int low;
+		private final int high;
+
+		/**
+		 * Constructor used to set the range to decode.
+		 * @param codec Codec reference of the elements.
+		 * @param chunkSize integer value containing the
+		 * capacity of each chunk.
+		 * @param layout Array of chunk ids in list order.
+		 * @param sources Array of file contents holding
+		 * each chunk.
+		 * @param slices Array of offset and length pairs
+		 * of each chunk in its file.
+		 * @param chunks Array receiving the decoded chunks.
+		 * @param low integer value containing the first chunk.
+		 * @param high integer value containing the last
+		 * chunk, exclusive.
+		 */
+		Decode(Codec<T> codec, int chunkSize, long[] layout, byte[][] sources, int[][] slices,
+				CheckpointList.Chunk[] chunks, int low, int high) {
+			this.codec = codec;
+			this.chunkSize = chunkSize;
+			this.layout = layout;
+			this.sources = sources;
+			this.slices = slices;
+			this.chunks = chunks;
+			this.low = low;
+			this.high = high;
+		}
+
+		/**
+		 * Method designed to decode the range,
+		 * splitting it while above one chunk.
+		 */
+		@Override
+		protected void compute() {
+			if(this.high - this.low > 1) {
+				int middle = (this.low + this.high) >>> 1;
+				invokeAll(new Decode<>(this.codec, this.chunkSize, this.layout, this.sources,
+								this.slices, this.chunks, this.low, middle),
+						new Decode<>(this.codec, this.chunkSize, this.layout, this.sources,
+								this.slices, this.chunks, middle, this.high));
+				return;
+			}
+			for(int chunk = this.low; chunk < this.high; chunk++) {
+				int[] slice = this.slices[chunk];
+				try {
+					DataInputStream in = new DataInputStream(
+							new ByteArrayInputStream(this.sources[chunk], slice[0], slice[1]));
+					int size = in.readInt();
+					if(size <= 0 || size > this.chunkSize) {
+						throw new IOException("corrupt chunk " + this.layout[chunk]);
+					}
+					Object[] elements = new Object[this.chunkSize];
+					for(int offset = 0; offset < size; offset++) {
+						elements[offset] = (in.readBoolean()) ? this.codec.read(in) : null;
+					}
+					this.chunks[chunk] = new CheckpointList.Chunk(this.layout[chunk], 0, elements, size);
+				}catch(IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}
+		}
+	}
+
+	private static final int MAGIC = 0x434B5031;
+	private static final String PREFIX = "checkpoint-";
+	private static final String BASE = ".base";
+	private static final String DELTA = ".delta";
+	private static final int DEFAULT_MAX_DELTAS = 8;
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	private final Path directory;
+	private final Codec<T> codec;
+	private final int maxDeltas;
+	private final ExecutorService writer;
+	private long sequence;
+	private long baseSequence;
+	private int deltas;
+	private boolean needBase;
+	private CheckpointList<T> owner;
+
+	/**
+	 * Constructor used to set the directory and
+	 * codec, with a new base after every 8 deltas.
+	 * @param directory Path reference of the directory
+	 * holding the checkpoints, created if needed.
+	 * @param codec Codec reference of the elements.
+	 * @throws IOException if the directory cannot be read.
+	 */
+	public Checkpointer(Path directory, Codec<T> codec) throws IOException {
+		this(directory, codec, Checkpointer.DEFAULT_MAX_DELTAS);
+	}
+
+	/**
+	 * Constructor used to set the directory, codec
+	 * and the number of deltas written before a new
+	 * base.
+	 * @param directory Path reference of the directory
+	 * holding the checkpoints, created if needed.
+	 * @param codec Codec reference of the elements.
+	 * @param maxDeltas integer value containing the
+	 * largest number of deltas on top of a base.
+	 * @throws IOException if the directory cannot be read.
+	 * @throws IllegalArgumentException if maxDeltas
+	 * is negative.
+	 */
+	public Checkpointer(Path directory, Codec<T> codec, int maxDeltas)
+			throws IOException, IllegalArgumentException {
+		if(maxDeltas < 0) {
+			throw new IllegalArgumentException("maxDeltas must not be negative");
+		}
+		this.directory = Files.createDirectories(directory);
+		this.codec = codec;
+		this.maxDeltas = maxDeltas;
+		this.writer = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "checkpointer");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		TreeMap<Long, Path> files = this.files();
+		this.sequence = files.isEmpty() ? 0 : files.lastKey() + 1;
+		this.baseSequence = -1;
+		this.deltas = 0;
+		for(Map.Entry<Long, Path> entry : files.entrySet()) {
+			if(entry.getValue().toString().endsWith(Checkpointer.BASE)) {
+				this.baseSequence = entry.getKey();
+				this.deltas = 0;
+			}else {
+				this.deltas++;
+			}
+		}
+	}
+
+	/**
+	 * Method designed to checkpoint the given list.
+	 * The snapshot is taken before returning, so this
+	 * must be called from the thread writing the list,
+	 * or while holding the lock guarding it. The file
+	 * is written in the background, after any earlier
+	 * checkpoint. A list other than the one last
+	 * checkpointed or recovered always gets a base, as
+	 * does any checkpoint after a failed one.
+	 * @param list CheckpointList reference to checkpoint.
+	 * @return Future object completing with the Result
+	 * of the checkpoint once it is on disk.
+	 * @throws java.util.concurrent.RejectedExecutionException
+	 * if the checkpointer is closed.
+	 */
+	public Future<Result> checkpoint(CheckpointList<T> list) {
+		CheckpointList.Snapshot snapshot = list.snapshot();
+		boolean fresh = (list != this.owner);
+		this.owner = list;
+		return this.writer.submit(() -> this.write(snapshot, fresh));
+	}
+
+	/**
+	 * Private method used to write a snapshot as a
+	 * base or a delta, then drop the files a new
+	 * base replaces.
+	 * @param snapshot Snapshot reference to write.
+	 * @param fresh boolean value determining whether
+	 * the list has no earlier checkpoint here.
+	 * @return Result object of the checkpoint.
+	 * @throws IOException if the file cannot be written.
+	 */
+	private synchronized Result write(CheckpointList.Snapshot snapshot, boolean fresh)
+			throws IOException {
+		boolean base = fresh || this.needBase || this.baseSequence == -1
+				|| this.deltas >= this.maxDeltas;
+		long sequence = this.sequence++;
+		Path file = this.directory.resolve(Checkpointer.name(sequence, base));
+		Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+		int written = 0;
+		try {
+			try(FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+					StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+				OutputStream stream = new BufferedOutputStream(Channels.newOutputStream(channel),
+						Checkpointer.BUFFER_SIZE);
+				CRC32C checksum = new CRC32C();
+				DataOutputStream out = new DataOutputStream(new CheckedOutputStream(stream, checksum));
+				out.writeInt(Checkpointer.MAGIC);
+				out.writeBoolean(base);
+				out.writeLong(sequence);
+				out.writeLong(base ? sequence : this.baseSequence);
+				out.writeInt(snapshot.chunkSize);
+				out.writeInt(snapshot.size);
+				out.writeLong(snapshot.nextId);
+				out.writeInt(snapshot.chunks.length);
+				for(CheckpointList.Chunk chunk : snapshot.chunks) {
+					out.writeLong(chunk.id);
+				}
+
+				ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+				DataOutputStream payload = new DataOutputStream(bytes);
+				for(int chunk = 0; chunk < snapshot.chunks.length; chunk++) {
+					if(!base && !snapshot.isDirty(chunk)) {
+						continue;
+					}
+					CheckpointList.Chunk current = snapshot.chunks[chunk];
+					bytes.reset();
+					payload.writeInt(current.size);
+					for(int offset = 0; offset < current.size; offset++) {
+						T element = (T) current.elements[offset];
+						payload.writeBoolean(element != null);
+						if(element != null) {
+							this.codec.write(payload, element);
+						}
+					}
+					out.writeLong(current.id);
+					out.writeInt(bytes.size());
+					bytes.writeTo(out);
+					written++;
+				}
+				//end of chunks, then the checksum of everything before it
+				out.writeLong(-1);
+				out.flush();
+				new DataOutputStream(stream).writeInt((int) checksum.getValue());
+				stream.flush();
+				channel.force(true);
+			}
+			Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		}catch(IOException | RuntimeException e) {
+			this.needBase = true;
+			Files.deleteIfExists(temporary);
+			throw e;
+		}
+
+		this.needBase = false;
+		if(base) {
+			for(Map.Entry<Long, Path> entry : this.files().headMap(sequence).entrySet()) {
+				Files.deleteIfExists(entry.getValue());
+			}
+			this.baseSequence = sequence;
+			this.deltas = 0;
+		}else {
+			this.deltas++;
+		}
+
+		return new Result(sequence, base, written, Files.size(file));
+	}
+
+	/**
+	 * Method designed to rebuild the list from the
+	 * latest base and its deltas, decoding chunks on
+	 * the given number of threads. The returned list
+	 * counts as checkpointed, so the next checkpoint
+	 * of it is a delta.
+	 * @param threads integer value containing the
+	 * number of decoding threads.
+	 * @return CheckpointList object holding the recovered
+	 * elements, empty if there is no checkpoint.
+	 * @throws IOException if a checkpoint cannot be read
+	 * or is corrupt.
+	 * @throws IllegalArgumentException if threads is not
+	 * positive.
+	 */
+	public synchronized CheckpointList<T> recover(int threads)
+			throws IOException, IllegalArgumentException {
+		if(threads <= 0) {
+			throw new IllegalArgumentException("threads must be positive");
+		}
+		TreeMap<Long, Path> files = this.files();
+		Long base = null;
+		for(Map.Entry<Long, Path> entry : files.entrySet()) {
+			if(entry.getValue().toString().endsWith(Checkpointer.BASE)) {
+				base = entry.getKey();
+			}
+		}
+		if(base == null) {
+			CheckpointList<T> list = new CheckpointList<>();
+			this.owner = list;
+			return list;
+		}
+
+		//newer copies of a chunk replace older ones
+		Map<Long, Image> holders = new HashMap<>();
+		Image latest = null;
+		int deltas = -1;
+		for(Path file : files.tailMap(base).values()) {
+			Image image = Checkpointer.read(file);
+			if(image.baseSequence != base) {
+				break;
+			}
+			for(Long id : image.payloads.keySet()) {
+				holders.put(id, image);
+			}
+			latest = image;
+			deltas++;
+		}
+
+		int count = latest.layout.length;
+		byte[][] sources = new byte[count][];
+		int[][] slices = new int[count][];
+		for(int chunk = 0; chunk < count; chunk++) {
+			Image holder = holders.get(latest.layout[chunk]);
+			if(holder == null) {
+				throw new IOException("checkpoint is missing chunk " + latest.layout[chunk]);
+			}
+			sources[chunk] = holder.data;
+			slices[chunk] = holder.payloads.get(latest.layout[chunk]);
+		}
+
+		CheckpointList.Chunk[] chunks = new CheckpointList.Chunk[count];
+		if(count > 0) {
+			ForkJoinPool pool = new ForkJoinPool(threads);
+			try {
+				pool.invoke(new Decode<>(this.codec, latest.chunkSize, latest.layout, sources,
+						slices, chunks, 0, count));
+			}catch(UncheckedIOException e) {
+				throw e.getCause();
+			}finally {
+				pool.shutdown();
+			}
+		}
+		CheckpointList<T> list = new CheckpointList<>(latest.chunkSize, chunks, latest.nextId);
+		if(list.size() != latest.size) {
+			throw new IOException("checkpoint size does not match its chunks");
+		}
+
+		this.baseSequence = base;
+		this.deltas = deltas;
+		this.needBase = false;
+		this.owner = list;
+		return list;
+	}
+
+	/**
+	 * Private static method used to read and verify
+	 * one checkpoint file, locating its payloads.
+	 * @param file Path reference of the file.
+	 * @return Image object of the file.
+	 * @throws IOException if the file cannot be read
+	 * or is corrupt.
+	 */
+	private static Image read(Path file) throws IOException {
+		byte[] data = Files.readAllBytes(file);
+		CRC32C checksum = new CRC32C();
+		if(data.length < 4) {
+			throw new IOException("corrupt checkpoint " + file);
+		}
+		checksum.update(data, 0, data.length - 4);
+		ByteBuffer buffer = ByteBuffer.wrap(data);
+		if(buffer.getInt(data.length - 4) != (int) checksum.getValue()
+				|| buffer.getInt() != Checkpointer.MAGIC) {
+			throw new IOException("corrupt checkpoint " + file);
+		}
+
+		Image image = new Image();
+		image.base = (buffer.get() != 0);
+		image.sequence = buffer.getLong();
+		image.baseSequence = buffer.getLong();
+		image.chunkSize = buffer.getInt();
+		image.size = buffer.getInt();
+		image.nextId = buffer.getLong();
+		image.layout = new long[buffer.getInt()];
+		for(int chunk = 0; chunk < image.layout.length; chunk++) {
+			image.layout[chunk] = buffer.getLong();
+		}
+		image.data = data;
+		image.payloads = new HashMap<>();
+		for(long id = buffer.getLong(); id != -1; id = buffer.getLong()) {
+			int length = buffer.getInt();
+			image.payloads.put(id, new int[] {buffer.position(), length});
+			buffer.position(buffer.position() + length);
+		}
+
+		return image;
+	}
+
+	/**
+	 * Private method used to list the checkpoint
+	 * files of the directory by sequence number.
+	 * @return TreeMap object from sequence number
+	 * to file.
+	 * @throws IOException if the directory cannot be read.
+	 */
+	private TreeMap<Long, Path> files() throws IOException {
+		TreeMap<Long, Path> files = new TreeMap<>();
+		try(DirectoryStream<Path> stream = Files.newDirectoryStream(this.directory,
+				Checkpointer.PREFIX + "*")) {
+			for(Path file : stream) {
+				String name = file.getFileName().toString();
+				int dot = name.lastIndexOf('.');
+				String suffix = (dot == -1) ? "" : name.substring(dot);
+				if(suffix.equals(Checkpointer.BASE) || suffix.equals(Checkpointer.DELTA)) {
+					files.put(Long.parseLong(name.substring(Checkpointer.PREFIX.length(), dot)), file);
+				}
+			}
+		}
+		return files;
+	}
+
+	/**
+	 * Private static method used to name the file
+	 * of a checkpoint, so names sort by sequence.
+	 * @param sequence long value containing the
+	 * sequence number.
+	 * @param base boolean value determining whether
+	 * the file is a base.
+	 * @return String object containing the file name.
+	 */
+	private static String name(long sequence, boolean base) {
+		return String.format("%s%016d%s", Checkpointer.PREFIX, sequence,
+				base ? Checkpointer.BASE : Checkpointer.DELTA);
+	}
+
+	/**
+	 * Method designed to wait for every submitted
+	 * checkpoint to finish and stop the background
+	 * thread.
+	 */
+	@Override
+	public void close() {
+		this.writer.shutdown();
+		try {
+			this.writer.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+		}catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,222 @@
+package structures.concurrent_queue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Unbounded multi-producer, single-consumer
+ * queue of singly linked nodes, after the design
+ * of Dmitry Vyukov. A producer links its node in
+ * with one atomic swap of the tail and never
+ * waits or retries, and the consumer follows next
+ * references from a stub head node without any
+ * atomic instruction. The head and the tail each
+ * live in their own padded object, so the cache
+ * line producers fight over is not shared with
+ * the consumer's head, nor with the queue's own
+ * fields. Only one thread may call poll at a time.
+ * @author Noah Teshima
+ */
+public class MpscLinkedQueue<T> {
+
+	/**
+	 * Private static inner class used for each
+	 * link in the queue.
+	 * @author Noah Teshima
+	 * @param <E> Generic type of the element.
+	 */
+	private static class Node<E> {
+		private E data;
+		private volatile Node<E> next;
+
+		/**
+		 * Constructor used to set the element.
+		 * @param data Generic type reference to hold.
+		 */
+		public Node(E data) {
+			this.data = data;
+		}
+	}
+
+	/**
+	 * Private static inner class with padding
+	 * placed before the head or the tail. Byte
+	 * fields fill the gap after the object header,
+	 * which the JVM would otherwise give to a later
+	 * field, so the padding is never skipped.
+	 * @author Noah Teshima
+	 */
+	private static class LeftPad {
+		byte p000, p001, p002, p003, p004, p005, p006, p007;
+		byte p008, p009, p010, p011, p012, p013, p014, p015;
+		byte p016, p017, p018, p019, p020, p021, p022, p023;
+		byte p024, p025, p026, p027, p028, p029, p030, p031;
+		byte p032, p033, p034, p035, p036, p037, p038, p039;
+		byte p040, p041, p042, p043, p044, p045, p046, p047;
+		byte p048, p049, p050, p051, p052, p053, p054, p055;
+		byte p056, p057, p058, p059, p060, p061, p062, p063;
+	}
+
+	/**
+	 * Private static inner class holding the tail,
+	 * laid out after the left padding.
+	 * @author Noah Teshima
+	 * @param <E> Generic type of the elements.
+	 */
+	private static class TailField<E> extends LeftPad {
+		volatile Node<E> tail;
+	}
+
+	/**
+	 * Private static inner class with padding
+	 * placed after the tail, so the tail has a
+	 * cache line to itself.
+	 * @author Noah Teshima
+	 * @param <E> Generic type of the elements.
+	 */
+	private static class PaddedTail<E> extends TailField<E> {
+		byte p064, p065, p066, p067, p068, p069, p070, p071;
+		byte p072, p073, p074, p075, p076, p077, p078, p079;
+		byte p080, p081, p082, p083, p084, p085, p086, p087;
+		byte p088, p089, p090, p091, p092, p093, p094, p095;
+		byte p096, p097, p098, p099, p100, p101, p102, p103;
+		byte p104, p105, p106, p107, p108, p109, p110, p111;
+		byte p112, p113, p114, p115, p116, p117, p118, p119;
+		byte p120, p121, p122, p123, p124, p125, p126, p127;
+	}
+
+	/**
+	 * Private static inner class holding the head,
+	 * laid out after the left padding.
+	 * @author Noah Teshima
+	 * @param <E> Generic type of the elements.
+	 */
+	private static class HeadField<E> extends LeftPad {
+		Node<E> head;
+	}
+
+	/**
+	 * Private static inner class with padding
+	 * placed after the head, so the consumer's
+	 * writes to it do not share a cache line with
+	 * the tail producers read.
+	 * @author Noah Teshima
+	 * @param <E> Generic type of the elements.
+	 */
+	private static class PaddedHead<E> extends HeadField<E> {
+		byte p064, p065, p066, p067, p068, p069, p070, p071;
+		byte p072, p073, p074, p075, p076, p077, p078, p079;
+		byte p080, p081, p082, p083, p084, p085, p086, p087;
+		byte p088, p089, p090, p091, p092, p093, p094, p095;
+		byte p096, p097, p098, p099, p100, p101, p102, p103;
+		byte p104, p105, p106, p107, p108, p109, p110, p111;
+		byte p112, p113, p114, p115, p116, p117, p118, p119;
+		byte p120, p121, p122, p123, p124, p125, p126, p127;
+	}
+
+	private static final VarHandle TAIL;
+	private static final VarHandle NEXT;
+	static {
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			TAIL = lookup.findVarHandle(TailField.class, "tail", Node.class);
+			NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+		}catch(ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private final PaddedTail<T> tail;
+	private final PaddedHead<T> head;
+
+	/**
+	 * Default constructor used to create an
+	 * empty queue with a stub node.
+	 */
+	public MpscLinkedQueue() {
+		Node<T> stub = new Node<>(null);
+		this.head = new PaddedHead<>();
+		this.head.head = stub;
+		this.tail = new PaddedTail<>();
+		this.tail.tail = stub;
+	}
+
+	/**
+	 * Method designed to add the given element to
+	 * the back of the queue. Safe to call from any
+	 * number of threads, and never blocks.
+	 * @param element Generic type reference to add.
+	 * @return boolean value that is always true,
+	 * as the queue is unbounded.
+	 * @throws NullPointerException if the element
+	 * is null.
+	 */
+	public boolean offer(T element) throws NullPointerException {
+		if(element == null) {
+			throw new NullPointerException();
+		}
+		Node<T> node = new Node<>(element);
+		Node<T> previous = (Node<T>) MpscLinkedQueue.TAIL.getAndSet(this.tail, node);
+		//the node is reachable from here on, until then poll sees the queue as empty
+		MpscLinkedQueue.NEXT.setRelease(previous, node);
+		return true;
+	}
+
+	/**
+	 * Method designed to remove the first element.
+	 * May only be called by the single consumer.
+	 * @return Generic type containing the removed
+	 * element, or null if the queue is empty or the
+	 * next producer has not finished linking in.
+	 */
+	public T poll() {
+		Node<T> next = (Node<T>) MpscLinkedQueue.NEXT.getAcquire(this.head.head);
+		if(next == null) {
+			return null;
+		}
+		T element = next.data;
+		//the next node becomes the stub
+		next.data = null;
+		this.head.head = next;
+		return element;
+	}
+
+	/**
+	 * Method designed to get the first element
+	 * without removing it. May only be called by
+	 * the single consumer.
+	 * @return Generic type containing the first
+	 * element, or null if the queue is empty.
+	 */
+	public T peek() {
+		Node<T> next = (Node<T>) MpscLinkedQueue.NEXT.getAcquire(this.head.head);
+		return (next == null) ? null : next.data;
+	}
+
+	/**
+	 * Accessor method used to check whether the
+	 * queue is empty. Exact only when called by
+	 * the consumer with no producer active.
+	 * @return boolean value determining whether
+	 * the queue is empty.
+	 */
+	public boolean isEmpty() {
+		return (this.head.head == this.tail.tail);
+	}
+
+	/**
+	 * Accessor method used to count the elements,
+	 * by walking the links. May only be called by the
+	 * consumer, and is an estimate while producers
+	 * are active.
+	 * @return integer value containing the number
+	 * of linked elements.
+	 */
+	public int size() {
+		int size = 0;
+		for(Node<T> node = this.head.head.next; node != null && size < Integer.MAX_VALUE; node = node.next) {
+			size++;
+		}
+		return size;
+	}
+}
@@ -0,0 +1,185 @@
+package structures.concurrent_queue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Bounded single-producer, single-consumer
+ * queue over a power-of-two array ring, in the
+ * style of FastFlow. The slots themselves say
+ * whether they are free, so the producer and
+ * consumer never read each other's index: the
+ * producer waits for a null slot and the consumer
+ * for a non-null one, with release and acquire
+ * ordering on the slot. Each index lives in its
+ * own padded object so the two threads do not
+ * share a cache line. Only one thread may offer
+ * and one thread may poll at a time.
+ * @author Noah Teshima
+ */
+public class SpscArrayQueue<T> {
+
+	/**
+	 * Private static inner class with padding
+	 * placed before the head or the tail. Byte
+	 * fields fill the gap after the object header,
+	 * which the JVM would otherwise give to a later
+	 * field, so the padding is never skipped.
+	 * @author Noah Teshima
+	 */
+	private static class LeftPad {
+		byte p000, p001, p002, p003, p004, p005, p006, p007;
+		byte p008, p009, p010, p011, p012, p013, p014, p015;
+		byte p016, p017, p018, p019, p020, p021, p022, p023;
+		byte p024, p025, p026, p027, p028, p029, p030, p031;
+		byte p032, p033, p034, p035, p036, p037, p038, p039;
+		byte p040, p041, p042, p043, p044, p045, p046, p047;
+		byte p048, p049, p050, p051, p052, p053, p054, p055;
+		byte p056, p057, p058, p059, p060, p061, p062, p063;
+	}
+
+	/**
+	 * Private static inner class holding an index,
+	 * laid out after the left padding.
+	 * @author Noah Teshima
+	 */
+	private static class IndexField extends LeftPad {
+		volatile long index;
+	}
+
+	/**
+	 * Private static inner class with padding
+	 * placed after an index, so it has a cache
+	 * line to itself.
+	 * @author Noah Teshima
+	 */
+	private static class PaddedIndex extends IndexField {
+		byte p064, p065, p066, p067, p068, p069, p070, p071;
+		byte p072, p073, p074, p075, p076, p077, p078, p079;
+		byte p080, p081, p082, p083, p084, p085, p086, p087;
+		byte p088, p089, p090, p091, p092, p093, p094, p095;
+		byte p096, p097, p098, p099, p100, p101, p102, p103;
+		byte p104, p105, p106, p107, p108, p109, p110, p111;
+		byte p112, p113, p114, p115, p116, p117, p118, p119;
+		byte p120, p121, p122, p123, p124, p125, p126, p127;
+	}
+
+	private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(Object[].class);
+	private static final VarHandle INDEX;
+	static {
+		try {
+			INDEX = MethodHandles.lookup().findVarHandle(IndexField.class, "index", long.class);
+		}catch(ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private final Object[] slots;
+	private final int mask;
+	private final PaddedIndex producer;
+	private final PaddedIndex consumer;
+
+	/**
+	 * Constructor used to set the capacity, which
+	 * is rounded up to a power of two.
+	 * @param capacity integer value containing the
+	 * most elements the queue holds at once.
+	 * @throws IllegalArgumentException if the capacity
+	 * is not in range [1, 2^30].
+	 */
+	public SpscArrayQueue(int capacity) throws IllegalArgumentException {
+		if(capacity <= 0 || capacity > (1 << 30)) {
+			throw new IllegalArgumentException();
+		}
+		int length = (capacity == 1) ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+		this.slots = new Object[length];
+		this.mask = length - 1;
+		this.producer = new PaddedIndex();
+		this.consumer = new PaddedIndex();
+	}
+
+	/**
+	 * Method designed to add the given element
+	 * if there is room. May only be called by the
+	 * single producer, and never blocks.
+	 * @param element Generic type reference to add.
+	 * @return boolean value determining whether
+	 * the element was added.
+	 * @throws NullPointerException if the element
+	 * is null.
+	 */
+	public boolean offer(T element) throws NullPointerException {
+		if(element == null) {
+			throw new NullPointerException();
+		}
+		long index = this.producer.index;
+		int slot = (int) index & this.mask;
+		if(SpscArrayQueue.SLOTS.getAcquire(this.slots, slot) != null) {
+			return false;
+		}
+		SpscArrayQueue.SLOTS.setRelease(this.slots, slot, element);
+		SpscArrayQueue.INDEX.setOpaque(this.producer, index + 1);
+		return true;
+	}
+
+	/**
+	 * Method designed to remove the first element.
+	 * May only be called by the single consumer.
+	 * @return Generic type containing the removed
+	 * element, or null if the queue is empty.
+	 */
+	public T poll() {
+		long index = this.consumer.index;
+		int slot = (int) index & this.mask;
+		T element = (T) SpscArrayQueue.SLOTS.getAcquire(this.slots, slot);
+		if(element == null) {
+			return null;
+		}
+		SpscArrayQueue.SLOTS.setRelease(this.slots, slot, null);
+		SpscArrayQueue.INDEX.setOpaque(this.consumer, index + 1);
+		return element;
+	}
+
+	/**
+	 * Method designed to get the first element
+	 * without removing it. May only be called by
+	 * the single consumer.
+	 * @return Generic type containing the first
+	 * element, or null if the queue is empty.
+	 */
+	public T peek() {
+		int slot = (int) this.consumer.index & this.mask;
+		return (T) SpscArrayQueue.SLOTS.getAcquire(this.slots, slot);
+	}
+
+	/**
+	 * Accessor method used to get the number of
+	 * elements. Exact when neither thread is active,
+	 * and an estimate otherwise.
+	 * @return integer value containing the size.
+	 */
+	public int size() {
+		long size = (long) SpscArrayQueue.INDEX.getOpaque(this.producer)
+				- (long) SpscArrayQueue.INDEX.getOpaque(this.consumer);
+		return (int) Math.max(0, Math.min(size, this.slots.length));
+	}
+
+	/**
+	 * Accessor method used to check whether the
+	 * queue is empty.
+	 * @return boolean value determining whether
+	 * the queue is empty.
+	 */
+	public boolean isEmpty() {
+		return (this.size() == 0);
+	}
+
+	/**
+	 * Accessor method used to get the capacity.
+	 * @return integer value containing the most
+	 * elements the queue holds at once.
+	 */
+	public int capacity() {
+		return this.slots.length;
+	}
+}
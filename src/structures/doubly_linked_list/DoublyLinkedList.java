@@ -0,0 +1,675 @@
+package structures.doubly_linked_list;
+
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+import structures.AbstractList;
+
+/**
+ * Doubly linked list data structure
+ * containing basic operations for
+ * insertion, removal, and retrieval.
+ * Head and tail sentinel nodes make
+ * every operation at either end O(1).
+ * @author Noah Teshima
+ */
+public class DoublyLinkedList<T> extends AbstractList<T> {
+	/**
+	 * Private static inner class designed
+	 * to hold data and links to the previous
+	 * and next nodes.
+	 * @author Noah Teshima
+	 * @param <E> generic type parameter
+	 * used for encapsulated data
+	 */
+	private static class Node<E> {
+		private E data;
+		private Node<E> previous;
+		private Node<E> next;
+
+		/**
+		 * Constructor used to set the
+		 * instance's data and links to
+		 * the given values.
+		 * @param data Generic type used
+		 * to hold the instance's data
+		 * @param previous Node reference containing
+		 * the previous Node in the list
+		 * @param next Node reference containing
+		 * the next Node in the list
+		 */
+		public Node(E data, Node<E> previous, Node<E> next) {
+			this.data = data;
+			this.previous = previous;
+			this.next = next;
+		}
+	}
+
+	/**
+	 * Private inner class designed to
+	 * iterate through a doubly linked
+	 * list in both directions. The cursor
+	 * sits between two nodes, and remove
+	 * and set act on the node last returned.
+	 * @author Noah Teshima
+	 *
+	 */
+	private class LinkedIterator implements ListIterator<T> {
+		private Node<T> next;
+		private Node<T> lastReturned;
+		private int index;
+
+		/**
+		 * Constructor used to place the
+		 * cursor before the given index.
+		 * @param index integer value containing
+		 * the location of the cursor
+		 * @throws IndexOutOfBoundsException if the
+		 * given index is out of range [0, size]
+		 */
+		public LinkedIterator(int index) throws IndexOutOfBoundsException {
+			if(index < 0 || index > size) {
+				throw new IndexOutOfBoundsException();
+			}
+			this.next = (index == size) ? tail : node(index);
+			this.lastReturned = null;
+			this.index = index;
+		}
+
+		/**
+		 * Overridden method stub from ListIterator
+		 * interface. Determines whether there is a
+		 * node after the cursor.
+		 * @return boolean value determining
+		 * whether there is a next node.
+		 */
+		@Override
+		public boolean hasNext() {
+			return (this.next != tail);
+		}
+
+		/**
+		 * Accessor method designed to move the
+		 * cursor past the next node.
+		 * @return Parameterized object containing
+		 * the data of the node iterated over.
+		 * @throws NoSuchElementException if there
+		 * is no next node.
+		 */
+		@Override
+		public T next() throws NoSuchElementException {
+			if(!this.hasNext()) {
+				throw new NoSuchElementException();
+			}
+			this.lastReturned = this.next;
+			this.next = this.next.next;
+			this.index++;
+
+			return this.lastReturned.data;
+		}
+
+		/**
+		 * Overridden method stub from ListIterator
+		 * interface. Determines whether there is a
+		 * node before the cursor.
+		 * @return boolean value determining
+		 * whether there is a previous node.
+		 */
+		@Override
+		public boolean hasPrevious() {
+			return (this.next.previous != head);
+		}
+
+		/**
+		 * Accessor method designed to move the
+		 * cursor back past the previous node.
+		 * @return Parameterized object containing
+		 * the data of the node iterated over.
+		 * @throws NoSuchElementException if there
+		 * is no previous node.
+		 */
+		@Override
+		public T previous() throws NoSuchElementException {
+			if(!this.hasPrevious()) {
+				throw new NoSuchElementException();
+			}
+			this.next = this.next.previous;
+			this.lastReturned = this.next;
+			this.index--;
+
+			return this.lastReturned.data;
+		}
+
+		/**
+		 * Accessor method used to get the index
+		 * of the node after the cursor.
+		 * @return integer value containing the
+		 * index returned by the next call to next.
+		 */
+		@Override
+		public int nextIndex() {
+			return this.index;
+		}
+
+		/**
+		 * Accessor method used to get the index
+		 * of the node before the cursor.
+		 * @return integer value containing the
+		 * index returned by the next call to previous.
+		 */
+		@Override
+		public int previousIndex() {
+			return this.index - 1;
+		}
+
+		/**
+		 * Mutator method used to unlink the node
+		 * last returned by next or previous.
+		 * @throws IllegalStateException if next or
+		 * previous has not been called since the last
+		 * add or remove.
+		 */
+		@Override
+		public void remove() throws IllegalStateException {
+			if(this.lastReturned == null) {
+				throw new IllegalStateException();
+			}
+			//removing after next moves the cursor back by one
+			if(this.lastReturned == this.next) {
+				this.next = this.next.next;
+			}else {
+				this.index--;
+			}
+			unlink(this.lastReturned);
+			this.lastReturned = null;
+		}
+
+		/**
+		 * Mutator method used to replace the data
+		 * of the node last returned.
+		 * @param element Generic type reference
+		 * containing the new data.
+		 * @throws IllegalStateException if next or
+		 * previous has not been called since the last
+		 * add or remove.
+		 */
+		@Override
+		public void set(T element) throws IllegalStateException {
+			if(this.lastReturned == null) {
+				throw new IllegalStateException();
+			}
+			this.lastReturned.data = element;
+		}
+
+		/**
+		 * Mutator method used to insert the given
+		 * element before the cursor.
+		 * @param element Generic type reference
+		 * containing the element to add.
+		 */
+		@Override
+		public void add(T element) {
+			linkBefore(element, this.next);
+			this.lastReturned = null;
+			this.index++;
+		}
+	}
+
+	private final Node<T> head;
+	private final Node<T> tail;
+	private int size;
+
+	/**
+	 * Default constructor used to
+	 * link the sentinel nodes and
+	 * set the size to 0.
+	 */
+	public DoublyLinkedList() {
+		this.head = new Node<>(null, null, null);
+		this.tail = new Node<>(null, this.head, null);
+		this.head.next = this.tail;
+		this.size = 0;
+	}
+
+	/**
+	 * Private method used to find the node
+	 * at the given index, walking from
+	 * whichever end is closer.
+	 * @param index integer value in range [0, size)
+	 * @return Node object at the given index.
+	 */
+	private Node<T> node(int index) {
+		Node<T> pointer;
+		if(index < (this.size >> 1)) {
+			pointer = this.head.next;
+			for(int index2 = 0; index2 < index; index2++) {
+				pointer = pointer.next;
+			}
+		}else {
+			pointer = this.tail.previous;
+			for(int index2 = this.size - 1; index2 > index; index2--) {
+				pointer = pointer.previous;
+			}
+		}
+		return pointer;
+	}
+
+	/**
+	 * Private method used to check that the
+	 * given index refers to an element.
+	 * @param index integer value to check.
+	 * @throws IndexOutOfBoundsException if the
+	 * given index is out of range [0, size)
+	 */
+	private void checkIndex(int index) throws IndexOutOfBoundsException {
+		if(index < 0 || index >= this.size) {
+			throw new IndexOutOfBoundsException();
+		}
+	}
+
+	/**
+	 * Private mutator method used to link a new
+	 * node before the given node.
+	 * @param element Generic type reference to add.
+	 * @param successor Node reference to link before.
+	 */
+	private void linkBefore(T element, Node<T> successor) {
+		Node<T> node = new Node<>(element, successor.previous, successor);
+		successor.previous.next = node;
+		successor.previous = node;
+		this.size++;
+		this.modCount++;
+	}
+
+	/**
+	 * Private mutator method used to unlink
+	 * the given node.
+	 * @param node Node reference to unlink.
+	 * @return Generic type T containing the
+	 * data of the unlinked node.
+	 */
+	private T unlink(Node<T> node) {
+		node.previous.next = node.next;
+		node.next.previous = node.previous;
+		this.size--;
+		this.modCount++;
+
+		return node.data;
+	}
+
+	/**
+	 * Method designed to add the given element
+	 * to the beginning of the linked list.
+	 * @param element Generic reference type T
+	 * to add to the beginning of the linked list.
+	 */
+	@Override
+	public void add(T element) {
+		this.linkBefore(element, this.head.next);
+	}
+
+	/**
+	 * Method designed to add the given element
+	 * to the back of the linked list.
+	 * @param element Generic reference type T
+	 * to add to the end of the linked list.
+	 */
+	public void addToBack(T element) {
+		this.linkBefore(element, this.tail);
+	}
+
+	/**
+	 * Mutator method used to add the given
+	 * element at the specified index.
+	 * @param index integer value containing
+	 * the location to add the element.
+	 * @param element Generic type reference to add to
+	 * the linked list.
+	 * @throws IndexOutOfBoundsException if the given
+	 * index is out of range [0, size]
+	 */
+	@Override
+	public void add(int index, T element) throws IndexOutOfBoundsException {
+		if(index < 0 || index > this.size) {
+			throw new IndexOutOfBoundsException();
+		}
+		this.linkBefore(element, (index == this.size) ? this.tail : this.node(index));
+	}
+
+	/**
+	 * Mutator method designed to clear the entire linked list.
+	 */
+	@Override
+	public void clear() {
+		this.head.next = this.tail;
+		this.tail.previous = this.head;
+		this.size = 0;
+		this.modCount++;
+	}
+
+	/**
+	 * Accessor method used to determine whether the
+	 * given reference is found to be equal in value to
+	 * any elements currently in the list.
+	 * @param object Object reference to check to be
+	 * equal in value with any elements stored inside
+	 * of the list.
+	 * @return boolean value determining whether the
+	 * given reference is found to be equal in value to
+	 * any elements currently in the list.
+	 */
+	@Override
+	public boolean contains(Object object) {
+		return (this.indexOf(object) != -1);
+	}
+
+	/**
+	 * Accessor method used to get the
+	 * first element in the list.
+	 * @return Shallow copy of a generic
+	 * type T containing the first element
+	 * in the list.
+	 * @throws IndexOutOfBoundsException
+	 * if the list is empty.
+	 */
+	@Override
+	public T get() throws IndexOutOfBoundsException {
+		this.checkIndex(0);
+		return this.head.next.data;
+	}
+
+	/**
+	 * Accessor method used to get the
+	 * last element in the list.
+	 * @return Shallow copy of a generic
+	 * type T containing the last element
+	 * in the list.
+	 * @throws IndexOutOfBoundsException
+	 * if the list is empty.
+	 */
+	public T getFromBack() throws IndexOutOfBoundsException {
+		this.checkIndex(0);
+		return this.tail.previous.data;
+	}
+
+	/**
+	 * Accessor method used to get
+	 * the element at the given index
+	 * inside of the list.
+	 * @param index integer value containing the
+	 * index of the element to return.
+	 * @return Shallow copy of a generic type
+	 * T containing the element at the given
+	 * index.
+	 * @throws IndexOutOfBoundsException
+	 * if the given index is out of bounds
+	 * for the list.
+	 */
+	@Override
+	public T get(int index) throws IndexOutOfBoundsException {
+		this.checkIndex(index);
+		return this.node(index).data;
+	}
+
+	/**
+	 * Accessor method used to get the index
+	 * of the first object equal in value to
+	 * the given method.
+	 * @param object Object reference to check
+	 * to be equal in value to elements inside
+	 * of the list.
+	 * @return integer value containing the index
+	 * of the first element equal in value to the
+	 * given reference. If no elements are equal
+	 * in value or the list is empty, -1 is returned.
+	 */
+	@Override
+	public int indexOf(Object object) {
+		int index = 0;
+		for(Node<T> pointer = this.head.next; pointer != this.tail; pointer = pointer.next) {
+			if(object.equals(pointer.data)) {
+				return index;
+			}
+			index++;
+		}
+		return -1;
+	}
+
+	/**
+	 * Accessor method used to get whether the
+	 * list is empty.
+	 * @return boolean value determining whether
+	 * the current list is empty.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return (this.size == 0);
+	}
+
+	/**
+	 * Accessor method designed to get an
+	 * Iterator object at the beginning of
+	 * the list.
+	 * @return Iterator object with actual type
+	 * LinkedIterator.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new LinkedIterator(0);
+	}
+
+	/**
+	 * Accessor method designed to get a
+	 * bidirectional iterator at the beginning
+	 * of the list.
+	 * @return ListIterator object with base type T.
+	 */
+	public ListIterator<T> listIterator() {
+		return new LinkedIterator(0);
+	}
+
+	/**
+	 * Accessor method designed to get a
+	 * bidirectional iterator with its cursor
+	 * before the given index.
+	 * @param index integer value containing
+	 * the location to start iterating
+	 * @return ListIterator object with base type T.
+	 * @throws IndexOutOfBoundsException if the
+	 * given index is out of range [0, size]
+	 */
+	public ListIterator<T> listIterator(int index) throws IndexOutOfBoundsException {
+		return new LinkedIterator(index);
+	}
+
+	/**
+	 * Mutator method used to remove an element from
+	 * the front of the list.
+	 * @return Shallow copy of a generic type T containing
+	 * the element removed at the front of the list.
+	 * @throws IndexOutOfBoundsException
+	 * if the list is empty.
+	 */
+	@Override
+	public T remove() throws IndexOutOfBoundsException {
+		this.checkIndex(0);
+		return this.unlink(this.head.next);
+	}
+
+	/**
+	 * Mutator method designed to remove the
+	 * last node from the list.
+	 * @return Generic reference type T containing the
+	 * data of the removed node.
+	 * @throws IndexOutOfBoundsException if there
+	 * are no nodes in the list.
+	 */
+	public T removeFromBack() throws IndexOutOfBoundsException {
+		this.checkIndex(0);
+		return this.unlink(this.tail.previous);
+	}
+
+	/**
+	 * Mutator method designed to remove the node at
+	 * the given index from the linked list.
+	 * @param index integer value containing
+	 * the index to remove
+	 * @return Generic reference type T containing the
+	 * data of the removed node.
+	 * @throws IndexOutOfBoundsException if the
+	 * given index is out of range [0, size)
+	 */
+	@Override
+	public T remove(int index) throws IndexOutOfBoundsException {
+		this.checkIndex(index);
+		return this.unlink(this.node(index));
+	}
+
+	/**
+	 * Mutator method used to set the element at the
+	 * beginning of the list with the given element.
+	 * @param element Generic type reference containing
+	 * the element to set at the beginning of the list.
+	 * @return Shallow copy of a generic type T containing
+	 * the element formerly at the beginning of the list.
+	 * @throws IndexOutOfBoundsException if the list
+	 * is empty.
+	 */
+	@Override
+	public T set(T element) throws IndexOutOfBoundsException {
+		return this.set(0, element);
+	}
+
+	/**
+	 * Mutator method used to set the element at the
+	 * end of the list with the given element.
+	 * @param element Generic type reference containing
+	 * the element to set at the end of the list.
+	 * @return Shallow copy of a generic type T containing
+	 * the element formerly at the end of the list.
+	 * @throws IndexOutOfBoundsException if the list
+	 * is empty.
+	 */
+	public T setEnd(T element) throws IndexOutOfBoundsException {
+		return this.set(this.size - 1, element);
+	}
+
+	/**
+	 * Mutator method used to set the element at the
+	 * given index with the given element.
+	 * @param index integer value containing the index
+	 * of the element to replace.
+	 * @param element Generic type reference containing
+	 * the element to set at the given index of the list.
+	 * @return Shallow copy of a generic type T containing
+	 * the element formerly at the given index of the list.
+	 * @throws IndexOutOfBoundsException if the given index
+	 * is out of bounds for the list.
+	 */
+	@Override
+	public T set(int index, T element) throws IndexOutOfBoundsException {
+		this.checkIndex(index);
+		Node<T> node = this.node(index);
+		T returnData = node.data;
+		node.data = element;
+
+		return returnData;
+	}
+
+	/**
+	 * Accessor method used to get the
+	 * size of the linked list.
+	 * @return integer value containing
+	 * the size of the linked list.
+	 */
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Accessor method used to get the
+	 * list as an Array.
+	 * @return Array of basetype T, where
+	 * each element is a shallow copy.
+	 */
+	@Override
+	public T[] toArray() {
+		T[] returnArray = (T[]) new Object[this.size];
+		int index = 0;
+		for(Node<T> pointer = this.head.next; pointer != this.tail; pointer = pointer.next) {
+			returnArray[index++] = pointer.data;
+		}
+
+		return returnArray;
+	}
+
+	/**
+	 * Overridden method from Object class.
+	 * Used to check whether the given reference
+	 * has elements equal in value and order to the
+	 * current instance.
+	 * @param obj Object reference with actual type
+	 * DoublyLinkedList
+	 * @return boolean value determining whether the
+	 * given reference has elements equal in value and
+	 * order to the current instance.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if(!(obj instanceof DoublyLinkedList)) {
+			return false;
+		}
+		DoublyLinkedList<?> listObj = (DoublyLinkedList<?>) obj;
+
+		if(this.size != listObj.size()) {
+			return false;
+		}
+
+		Node<?> other = listObj.head.next;
+		for(Node<T> pointer = this.head.next; pointer != this.tail; pointer = pointer.next) {
+			if(!(pointer.data == null ? other.data == null : pointer.data.equals(other.data))) {
+				return false;
+			}
+			other = other.next;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Overridden method from Object class.
+	 * Used to get a hash code consistent with
+	 * equals, combining each element in order.
+	 * @return integer value containing the hash code.
+	 */
+	@Override
+	public int hashCode() {
+		int hash = 1;
+		for(Node<T> pointer = this.head.next; pointer != this.tail; pointer = pointer.next) {
+			hash = 31 * hash + (pointer.data == null ? 0 : pointer.data.hashCode());
+		}
+		return hash;
+	}
+
+	/**
+	 * Overridden method from Object class.
+	 * Used to get a String object containing
+	 * information about each element in the
+	 * linked list.
+	 * @return String object containing information
+	 * about each element in the linked list.
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		for(Node<T> pointer = this.head.next; pointer != this.tail; pointer = pointer.next) {
+			builder.append(pointer.data).append('\n');
+		}
+
+		return builder.append("Size: ")
+				.append(this.size)
+				.toString();
+	}
+}
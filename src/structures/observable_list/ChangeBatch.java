@@ -0,0 +1,87 @@
+package structures.observable_list;
+
+import java.util.Iterator;
+
+import structures.arraylist.ArrayList;
+
+/**
+ * Read-only batch of list changes, as delivered to
+ * each subscriber of a ChangePublisher. The changes
+ * are in the order they were made, after coalescing.
+ * @author Noah Teshima
+ *
+ * @param <T> Generic type of the elements.
+ */
+public final class ChangeBatch<T> implements Iterable<ListChange<T>> {
+	private final ArrayList<ListChange<T>> changes;
+
+	/**
+	 * Package-private constructor used to wrap the
+	 * changes of a sealed batch.
+	 * @param changes ArrayList reference holding the
+	 * changes, never written again.
+	 */
+	ChangeBatch(ArrayList<ListChange<T>> changes) {
+		this.changes = changes;
+	}
+
+	/**
+	 * Accessor method used to get the change at
+	 * the given position.
+	 * @param position integer value containing the
+	 * position of the change.
+	 * @return ListChange object at the position.
+	 * @throws IndexOutOfBoundsException if the position
+	 * is out of range [0, size)
+	 */
+	public ListChange<T> get(int position) throws IndexOutOfBoundsException {
+		return this.changes.get(position);
+	}
+
+	/**
+	 * Accessor method used to get the number of
+	 * changes in the batch.
+	 * @return integer value containing the size.
+	 */
+	public int size() {
+		return this.changes.size();
+	}
+
+	/**
+	 * Method designed to check whether the batch
+	 * starts with a RESET, so the subscriber has to
+	 * replace its copy with the contents of the RESET
+	 * before applying the rest.
+	 * @return boolean value determining whether the
+	 * batch starts with a RESET.
+	 */
+	public boolean isReset() {
+		return (this.changes.get(0).getType() == ListChange.Type.RESET);
+	}
+
+	/**
+	 * Method designed to iterate over the changes
+	 * in order.
+	 * @return Iterator object with base type ListChange.
+	 */
+	@Override
+	public Iterator<ListChange<T>> iterator() {
+		return this.changes.iterator();
+	}
+
+	/**
+	 * Method designed to describe the batch.
+	 * @return String object listing the changes.
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("[");
+		for(ListChange<T> change : this.changes) {
+			if(builder.length() > 1) {
+				builder.append(", ");
+			}
+			builder.append(change);
+		}
+		return builder.append(']').toString();
+	}
+}
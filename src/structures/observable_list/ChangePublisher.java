@@ -0,0 +1,539 @@
+package structures.observable_list;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import structures.arraylist.ArrayList;
+
+/**
+ * Flow publisher of list changes. Every subscriber
+ * gets its own batch, which collects changes until
+ * it holds the largest batch size or the batch
+ * window has passed since its first change, and is
+ * then sealed and delivered once the subscriber has
+ * requested it. Within a batch, setting an index that
+ * was added or set since the last insertion or
+ * removal rewrites the earlier change, and removing
+ * what the previous change added or set rewrites or
+ * drops that change. A subscriber that stops
+ * requesting has its sealed batches buffered up to a
+ * limit, after which they are replaced by a single
+ * RESET holding a copy of the source list, so a slow
+ * subscriber never blocks the list or holds on to
+ * unbounded memory. With no batch window, batches are
+ * sealed whenever the subscriber is ready, so they
+ * grow only while it is busy.
+ * <p>
+ * Lists call publish while holding whatever guards
+ * their writes, right after each change, so changes
+ * are seen in order and the copy taken for a RESET
+ * matches the changes published before it. With no
+ * subscribers, publish returns after a single volatile
+ * read, before any change is allocated.
+ * @author Noah Teshima
+ *
+ * @param <T> Generic type of the elements.
+ */
+public class ChangePublisher<T> implements Flow.Publisher<ChangeBatch<T>>, AutoCloseable {
+
+	/**
+	 * Private static inner class holding the timer
+	 * thread, started by the first batch window.
+	 * @author Noah Teshima
+	 */
+	private static final class Timer {
+		private static final ScheduledExecutorService INSTANCE =
+				Executors.newSingleThreadScheduledExecutor(runnable -> {
+					Thread thread = new Thread(runnable, "list-change-timer");
+					thread.setDaemon(true);
+					return thread;
+				});
+	}
+
+	/**
+	 * Private inner class holding the batches and
+	 * demand of one subscriber.
+	 * @author Noah Teshima
+	 */
+	private final class ChangeSubscription implements Flow.Subscription {
+		private final Flow.Subscriber<? super ChangeBatch<T>> subscriber;
+		private final ArrayDeque<ChangeBatch<T>> ready;
+		private final HashMap<Integer, Integer> positions;
+		private ArrayList<ListChange<T>> current;
+		private ScheduledFuture<?> timer;
+		private Throwable error;
+		private long demand;
+		private boolean draining;
+		private boolean closing;
+		private boolean cancelled;
+
+		/**
+		 * Constructor used to set the subscriber.
+		 * @param subscriber Subscriber reference to
+		 * deliver batches to.
+		 */
+		public ChangeSubscription(Flow.Subscriber<? super ChangeBatch<T>> subscriber) {
+			this.subscriber = subscriber;
+			this.ready = new ArrayDeque<>();
+			this.positions = new HashMap<>();
+		}
+
+		/**
+		 * Method designed to add a change to the
+		 * current batch, sealing it once full.
+		 * @param change ListChange reference to add.
+		 */
+		public synchronized void offer(ListChange<T> change) {
+			if(this.cancelled || this.closing || this.error != null) {
+				return;
+			}
+			if(change.getType() == ListChange.Type.RESET) {
+				this.reset(change);
+			}else {
+				if(this.current == null) {
+					this.current = new ArrayList<>();
+					if(maxDelay > 0) {
+						this.timer = Timer.INSTANCE.schedule(this::expire, maxDelay, TimeUnit.NANOSECONDS);
+					}
+				}
+				this.coalesce(change);
+				if(this.current.size() >= maxBatch) {
+					this.seal();
+				}
+				if(this.ready.size() > maxBuffered) {
+					//the copy already holds this change, so it replaces the batch too
+					this.reset(new ListChange<>(ChangePublisher.this.snapshot()));
+				}
+			}
+			this.signal();
+		}
+
+		/**
+		 * Private method used to replace every pending
+		 * change with the given RESET, as nothing before
+		 * it matters to the subscriber.
+		 * @param reset ListChange reference of type RESET.
+		 */
+		private void reset(ListChange<T> reset) {
+			this.discard();
+			this.current = new ArrayList<>();
+			this.current.add(reset);
+			this.seal();
+		}
+
+		/**
+		 * Private method used to fold a change into
+		 * the current batch.
+		 * @param change ListChange reference to fold in.
+		 */
+		private void coalesce(ListChange<T> change) {
+			int index = change.getIndex(),
+					last = this.current.size() - 1;
+			switch(change.getType()) {
+			case SET:
+				Integer position = this.positions.get(index);
+				if(position != null) {
+					ListChange<T> prior = this.current.get(position);
+					this.current.set(position, new ListChange<>(prior.getType(), index,
+							change.getElement(), prior.getPrevious()));
+					return;
+				}
+				this.current.add(change);
+				this.positions.put(index, last + 1);
+				return;
+			case REMOVE:
+				this.positions.clear();
+				if(last >= 0 && this.current.get(last).getIndex() == index) {
+					ListChange<T> prior = this.current.get(last);
+					if(prior.getType() == ListChange.Type.ADD) {
+						this.current.remove(last);
+						return;
+					}
+					if(prior.getType() == ListChange.Type.SET) {
+						this.current.set(last, new ListChange<>(ListChange.Type.REMOVE, index,
+								prior.getPrevious(), null));
+						return;
+					}
+				}
+				this.current.add(change);
+				return;
+			default:
+				this.positions.clear();
+				this.current.add(change);
+				this.positions.put(index, last + 1);
+			}
+		}
+
+		/**
+		 * Private method used to seal the current batch.
+		 * A batch sealed by the timer may pass the buffer
+		 * limit by one until the next change is offered.
+		 */
+		private void seal() {
+			if(this.timer != null) {
+				this.timer.cancel(false);
+				this.timer = null;
+			}
+			this.positions.clear();
+			ArrayList<ListChange<T>> batch = this.current;
+			this.current = null;
+			if(batch == null || batch.isEmpty()) {
+				return;
+			}
+			this.ready.add(new ChangeBatch<>(batch));
+		}
+
+		/**
+		 * Private method used to drop every pending
+		 * change.
+		 */
+		private void discard() {
+			if(this.timer != null) {
+				this.timer.cancel(false);
+				this.timer = null;
+			}
+			this.positions.clear();
+			this.current = null;
+			this.ready.clear();
+		}
+
+		/**
+		 * Private method used by the timer to seal the
+		 * batch once its window has passed.
+		 */
+		private synchronized void expire() {
+			this.timer = null;
+			if(!this.cancelled) {
+				this.seal();
+				this.signal();
+			}
+		}
+
+		/**
+		 * Private method used to start delivery if
+		 * there is anything the subscriber can receive
+		 * and no delivery is running.
+		 */
+		private void signal() {
+			boolean deliverable = (this.demand > 0
+					&& (!this.ready.isEmpty() || (maxDelay == 0 && this.current != null)));
+			if(this.draining || this.cancelled
+					|| !(deliverable || this.error != null || (this.closing && this.ready.isEmpty()))) {
+				return;
+			}
+			this.draining = true;
+			try {
+				executor.execute(this::drain);
+			}catch(RejectedExecutionException e) {
+				this.draining = false;
+			}
+		}
+
+		/**
+		 * Private method used to deliver batches while
+		 * the subscriber has demand, one at a time, and
+		 * to complete the subscriber once closed. Errors
+		 * are delivered here too, so the subscriber is
+		 * never signalled by two threads at once.
+		 */
+		private void drain() {
+			while(true) {
+				ChangeBatch<T> batch;
+				Throwable error = null;
+				synchronized(this) {
+					if(this.cancelled) {
+						this.draining = false;
+						return;
+					}
+					if(this.error == null && this.demand > 0 && this.ready.isEmpty() && maxDelay == 0) {
+						this.seal();
+					}
+					if(this.error != null) {
+						error = this.error;
+						this.cancelled = true;
+						this.draining = false;
+						batch = null;
+					}else if(this.demand > 0 && !this.ready.isEmpty()) {
+						batch = this.ready.poll();
+						if(this.demand != Long.MAX_VALUE) {
+							this.demand--;
+						}
+					}else if(this.closing && this.ready.isEmpty()) {
+						this.cancelled = true;
+						this.draining = false;
+						batch = null;
+					}else {
+						this.draining = false;
+						return;
+					}
+				}
+				if(error != null) {
+					ChangePublisher.this.remove(this);
+					this.subscriber.onError(error);
+					return;
+				}
+				if(batch == null) {
+					this.subscriber.onComplete();
+					return;
+				}
+				try {
+					this.subscriber.onNext(batch);
+				}catch(RuntimeException e) {
+					//a throwing subscriber counts as cancelled
+					this.cancel();
+					return;
+				}
+			}
+		}
+
+		/**
+		 * Method designed to add to the number of
+		 * batches the subscriber can receive.
+		 * @param n long value containing the number of
+		 * batches requested, which must be positive.
+		 */
+		@Override
+		public void request(long n) {
+			synchronized(this) {
+				if(n <= 0) {
+					//delivered by the drain, which may be calling onNext right now
+					if(!this.cancelled && this.error == null) {
+						this.discard();
+						this.error = new IllegalArgumentException("request must be positive");
+						this.signal();
+					}
+					return;
+				}
+				this.demand = (this.demand + n < 0) ? Long.MAX_VALUE : this.demand + n;
+				this.signal();
+			}
+		}
+
+		/**
+		 * Method designed to stop delivery and drop
+		 * every pending change.
+		 */
+		@Override
+		public void cancel() {
+			synchronized(this) {
+				if(this.cancelled) {
+					return;
+				}
+				this.cancelled = true;
+				this.discard();
+			}
+			ChangePublisher.this.remove(this);
+		}
+
+		/**
+		 * Method designed to seal the current batch
+		 * and complete the subscriber once every sealed
+		 * batch has been delivered.
+		 */
+		public synchronized void close() {
+			this.seal();
+			this.closing = true;
+			this.signal();
+		}
+	}
+
+	private static final int DEFAULT_MAX_BATCH = 256;
+	private static final Duration DEFAULT_MAX_DELAY = Duration.ofMillis(10);
+	private static final int DEFAULT_MAX_BUFFERED = 64;
+
+	private final Executor executor;
+	private final int maxBatch;
+	private final long maxDelay;
+	private final int maxBuffered;
+	private volatile ChangeSubscription[] subscriptions;
+	private volatile Iterable<? extends T> source;
+	private boolean closed;
+
+	/**
+	 * Default constructor. When invoked, batches are
+	 * delivered on the common fork-join pool, hold up to
+	 * 256 changes over a window of 10 milliseconds, and
+	 * up to 64 are buffered per subscriber.
+	 */
+	public ChangePublisher() {
+		this(ForkJoinPool.commonPool(), ChangePublisher.DEFAULT_MAX_BATCH,
+				ChangePublisher.DEFAULT_MAX_DELAY, ChangePublisher.DEFAULT_MAX_BUFFERED);
+	}
+
+	/**
+	 * Constructor used to set how batches are formed
+	 * and delivered.
+	 * @param executor Executor reference running the
+	 * deliveries to subscribers.
+	 * @param maxBatch integer value containing the
+	 * largest number of changes in a batch.
+	 * @param maxDelay Duration a batch stays open after
+	 * its first change, or zero to seal batches whenever
+	 * the subscriber is ready.
+	 * @param maxBuffered integer value containing the
+	 * largest number of sealed batches held for a
+	 * subscriber before they are replaced by a RESET.
+	 * @throws IllegalArgumentException if maxBatch or
+	 * maxBuffered is not positive, or maxDelay is negative.
+	 */
+	public ChangePublisher(Executor executor, int maxBatch, Duration maxDelay, int maxBuffered)
+			throws IllegalArgumentException {
+		if(maxBatch <= 0 || maxBuffered <= 0 || maxDelay.isNegative()) {
+			throw new IllegalArgumentException("invalid batch settings");
+		}
+		this.executor = executor;
+		this.maxBatch = maxBatch;
+		this.maxDelay = maxDelay.toNanos();
+		this.maxBuffered = maxBuffered;
+		this.subscriptions = (ChangeSubscription[]) new ChangePublisher<?>.ChangeSubscription[0];
+	}
+
+	/**
+	 * Mutator method used to set the list whose
+	 * changes are published, copied into every RESET.
+	 * Without a source, a RESET holds no contents.
+	 * @param source Iterable reference of the list,
+	 * only read from inside publish.
+	 */
+	public void setSource(Iterable<? extends T> source) {
+		this.source = source;
+	}
+
+	/**
+	 * Private method used to copy the source list
+	 * for a RESET.
+	 * @return ArrayList object holding the elements,
+	 * or null if there is no source.
+	 */
+	private ArrayList<T> snapshot() {
+		Iterable<? extends T> source = this.source;
+		if(source == null) {
+			return null;
+		}
+		ArrayList<T> contents = new ArrayList<>();
+		for(T element : source) {
+			contents.add(element);
+		}
+		return contents;
+	}
+
+	/**
+	 * Method designed to check whether anyone is
+	 * subscribed, so callers can skip work needed
+	 * only to describe a change.
+	 * @return boolean value determining whether
+	 * there are subscribers.
+	 */
+	public boolean hasSubscribers() {
+		return (this.subscriptions.length != 0);
+	}
+
+	/**
+	 * Accessor method used to get the number of
+	 * subscribers.
+	 * @return integer value containing the number
+	 * of subscribers.
+	 */
+	public int getSubscriberCount() {
+		return this.subscriptions.length;
+	}
+
+	/**
+	 * Method designed to publish a change to every
+	 * subscriber, right after it is made. A RESET is
+	 * given a copy of the source list. Does nothing, and
+	 * allocates nothing, when there are no subscribers.
+	 * @param type Type of the change.
+	 * @param index integer value containing the index
+	 * of the change, or -1 for a RESET.
+	 * @param element Generic type reference containing
+	 * the element added, removed or set.
+	 * @param previous Generic type reference containing
+	 * the element replaced by a SET.
+	 */
+	public void publish(ListChange.Type type, int index, T element, T previous) {
+		ChangeSubscription[] subscriptions = this.subscriptions;
+		if(subscriptions.length == 0) {
+			return;
+		}
+		ListChange<T> change = (type == ListChange.Type.RESET)
+				? new ListChange<>(this.snapshot())
+				: new ListChange<>(type, index, element, previous);
+		for(ChangeSubscription subscription : subscriptions) {
+			subscription.offer(change);
+		}
+	}
+
+	/**
+	 * Method designed to add a subscriber. Changes
+	 * published from now on are batched for it, and
+	 * delivered as it requests them. A subscriber added
+	 * after close is completed straight away.
+	 * @param subscriber Subscriber reference to add.
+	 */
+	@Override
+	public void subscribe(Flow.Subscriber<? super ChangeBatch<T>> subscriber) {
+		ChangeSubscription subscription = new ChangeSubscription(subscriber);
+		boolean closed;
+		synchronized(this) {
+			closed = this.closed;
+			if(!closed) {
+				ChangeSubscription[] subscriptions = Arrays.copyOf(this.subscriptions,
+						this.subscriptions.length + 1);
+				subscriptions[subscriptions.length - 1] = subscription;
+				this.subscriptions = subscriptions;
+			}
+		}
+		subscriber.onSubscribe(subscription);
+		if(closed) {
+			subscription.close();
+		}
+	}
+
+	/**
+	 * Private method used to drop a cancelled
+	 * subscription.
+	 * @param subscription ChangeSubscription reference
+	 * to drop.
+	 */
+	private synchronized void remove(ChangeSubscription subscription) {
+		ChangeSubscription[] subscriptions = this.subscriptions;
+		for(int position = 0; position < subscriptions.length; position++) {
+			if(subscriptions[position] == subscription) {
+				ChangeSubscription[] remaining = Arrays.copyOf(subscriptions, subscriptions.length - 1);
+				System.arraycopy(subscriptions, position + 1, remaining, position,
+						subscriptions.length - position - 1);
+				this.subscriptions = remaining;
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Method designed to stop publishing. Pending
+	 * changes are sealed and delivered, and each
+	 * subscriber is then completed.
+	 */
+	@Override
+	public void close() {
+		ChangeSubscription[] subscriptions;
+		synchronized(this) {
+			this.closed = true;
+			subscriptions = this.subscriptions;
+			this.subscriptions = Arrays.copyOf(subscriptions, 0);
+		}
+		for(ChangeSubscription subscription : subscriptions) {
+			subscription.close();
+		}
+	}
+}
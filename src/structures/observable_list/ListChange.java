@@ -0,0 +1,148 @@
+package structures.observable_list;
+
+import structures.List;
+
+/**
+ * Immutable description of one change to a list.
+ * Applying the changes of a batch in order, each at
+ * its index, turns a copy of the list from before
+ * the batch into the list after it. A RESET change
+ * carries no index and instead holds the contents of
+ * the list when it was made, which replace the copy.
+ * @author Noah Teshima
+ *
+ * @param <T> Generic type of the elements.
+ */
+public final class ListChange<T> {
+
+	/**
+	 * Public enum used to describe the kind of change.
+	 * @author Noah Teshima
+	 */
+	public enum Type {
+		/**
+		 * An element was inserted at the index.
+		 */
+		ADD,
+		/**
+		 * The element at the index was removed.
+		 */
+		REMOVE,
+		/**
+		 * The element at the index was replaced.
+		 */
+		SET,
+		/**
+		 * The list was cleared, or changed in more
+		 * ways than the subscriber could be told about,
+		 * so its contents are sent in full.
+		 */
+		RESET
+	}
+
+	private final Type type;
+	private final int index;
+	private final T element;
+	private final T previous;
+	private final List<T> contents;
+
+	/**
+	 * Constructor used to set every field of
+	 * the change.
+	 * @param type Type of the change.
+	 * @param index integer value containing the index
+	 * of the change, or -1 for a RESET.
+	 * @param element Generic type reference containing
+	 * the element added, removed or set.
+	 * @param previous Generic type reference containing
+	 * the element replaced by a SET.
+	 */
+	public ListChange(Type type, int index, T element, T previous) {
+		this.type = type;
+		this.index = index;
+		this.element = element;
+		this.previous = previous;
+		this.contents = null;
+	}
+
+	/**
+	 * Constructor used to create a RESET holding
+	 * the contents of the list.
+	 * @param contents List reference holding a copy
+	 * of the list, never written again, or null if
+	 * the contents are not known.
+	 */
+	public ListChange(List<T> contents) {
+		this.type = Type.RESET;
+		this.index = -1;
+		this.element = null;
+		this.previous = null;
+		this.contents = contents;
+	}
+
+	/**
+	 * Accessor method used to get the kind of change.
+	 * @return Type of the change.
+	 */
+	public Type getType() {
+		return this.type;
+	}
+
+	/**
+	 * Accessor method used to get the index of
+	 * the change.
+	 * @return integer value containing the index, or
+	 * -1 for a RESET.
+	 */
+	public int getIndex() {
+		return this.index;
+	}
+
+	/**
+	 * Accessor method used to get the element added,
+	 * removed or set.
+	 * @return Generic type containing the element, or
+	 * null for a RESET.
+	 */
+	public T getElement() {
+		return this.element;
+	}
+
+	/**
+	 * Accessor method used to get the element
+	 * replaced by a SET.
+	 * @return Generic type containing the replaced
+	 * element, or null for other changes.
+	 */
+	public T getPrevious() {
+		return this.previous;
+	}
+
+	/**
+	 * Accessor method used to get the contents of
+	 * the list when a RESET was made. Changes delivered
+	 * after the RESET apply on top of these contents.
+	 * @return List object holding the elements in
+	 * order, which must not be changed, or null for
+	 * other changes and for a publisher with no source.
+	 */
+	public List<T> getContents() {
+		return this.contents;
+	}
+
+	/**
+	 * Method designed to describe the change.
+	 * @return String object describing the change.
+	 */
+	@Override
+	public String toString() {
+		switch(this.type) {
+		case RESET:
+			return (this.contents == null) ? "reset" : "reset: " + this.contents.size() + " elements";
+		case SET:
+			return "set " + this.index + ": " + this.previous + " -> " + this.element;
+		default:
+			return this.type.name().toLowerCase() + " " + this.index + ": " + this.element;
+		}
+	}
+}
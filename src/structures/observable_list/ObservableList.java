@@ -0,0 +1,267 @@
+package structures.observable_list;
+
+import java.util.Iterator;
+import java.util.concurrent.Flow;
+
+import structures.AbstractList;
+import structures.List;
+
+/**
+ * Wrapper around any list, such as an ArrayList
+ * or a SinglyLinkedList, publishing each add, remove
+ * and set through a ChangePublisher, so subscribers
+ * can keep a copy up to date without comparing whole
+ * lists. Clearing the list publishes a RESET. So that
+ * every change has an index, add, remove and set
+ * without an index act on the end of the list,
+ * whichever end the wrapped list would use. With no
+ * subscribers a change costs one volatile read. Like
+ * the wrapped list, the wrapper is not thread-safe,
+ * and it must not be changed directly once wrapped.
+ * @author Noah Teshima
+ *
+ * @param <T> Generic type containing
+ * the data being stored inside of the
+ * list.
+ */
+public class ObservableList<T> extends AbstractList<T> implements Flow.Publisher<ChangeBatch<T>> {
+	private final List<T> list;
+	private final ChangePublisher<T> publisher;
+
+	/**
+	 * Constructor used to wrap the given list, with
+	 * the default batch settings.
+	 * @param list List reference to observe.
+	 */
+	public ObservableList(List<T> list) {
+		this(list, new ChangePublisher<>());
+	}
+
+	/**
+	 * Constructor used to wrap the given list and
+	 * publish through the given publisher, which
+	 * then copies the list into every RESET.
+	 * @param list List reference to observe.
+	 * @param publisher ChangePublisher reference
+	 * setting how changes are batched.
+	 */
+	public ObservableList(List<T> list, ChangePublisher<T> publisher) {
+		this.list = list;
+		this.publisher = publisher;
+		publisher.setSource(list);
+	}
+
+	/**
+	 * Method designed to add the given element
+	 * to the end of the list.
+	 * @param element Generic type reference to add.
+	 */
+	@Override
+	public void add(T element) {
+		this.add(this.list.size(), element);
+	}
+
+	/**
+	 * Method designed to add the given element
+	 * at the given index.
+	 * @param index integer value containing the
+	 * index at which to add the element.
+	 * @param element Generic type reference to add.
+	 * @throws IndexOutOfBoundsException if the
+	 * index is out of range [0, size]
+	 */
+	@Override
+	public void add(int index, T element) throws IndexOutOfBoundsException {
+		this.list.add(index, element);
+		this.modCount++;
+		this.publisher.publish(ListChange.Type.ADD, index, element, null);
+	}
+
+	/**
+	 * Method designed to clear the list.
+	 */
+	@Override
+	public void clear() {
+		this.list.clear();
+		this.modCount++;
+		this.publisher.publish(ListChange.Type.RESET, -1, null, null);
+	}
+
+	/**
+	 * Method designed to check whether the
+	 * given reference is equal in value to any
+	 * element in the list.
+	 * @param object Object reference to check
+	 * @return boolean value determining whether
+	 * the list contains the reference.
+	 */
+	@Override
+	public boolean contains(Object object) {
+		return this.list.contains(object);
+	}
+
+	/**
+	 * Method designed to get the element
+	 * the wrapped list's get returns.
+	 * @return Generic type containing the element.
+	 * @throws IndexOutOfBoundsException if the list
+	 * is empty.
+	 */
+	@Override
+	public T get() throws IndexOutOfBoundsException {
+		return this.list.get();
+	}
+
+	/**
+	 * Method designed to get the element
+	 * at the given index.
+	 * @param index integer value containing
+	 * the index of the element.
+	 * @return Generic type containing the element.
+	 * @throws IndexOutOfBoundsException if the
+	 * index is out of range [0, size)
+	 */
+	@Override
+	public T get(int index) throws IndexOutOfBoundsException {
+		return this.list.get(index);
+	}
+
+	/**
+	 * Method designed to get the first index
+	 * of an element equal in value to the given
+	 * reference.
+	 * @param object Object reference to look for.
+	 * @return integer value containing the index,
+	 * or -1 if not found.
+	 */
+	@Override
+	public int indexOf(Object object) {
+		return this.list.indexOf(object);
+	}
+
+	/**
+	 * Method designed to check whether
+	 * the list has any elements.
+	 * @return boolean value determining
+	 * whether the list is empty.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return this.list.isEmpty();
+	}
+
+	/**
+	 * Method designed to iterate over the
+	 * wrapped list.
+	 * @return Iterator object with basetype T
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return this.list.iterator();
+	}
+
+	/**
+	 * Method designed to remove the last element
+	 * from the list.
+	 * @return Generic type containing the removed element.
+	 * @throws IndexOutOfBoundsException if the list is empty.
+	 */
+	@Override
+	public T remove() throws IndexOutOfBoundsException {
+		return this.remove(this.list.size() - 1);
+	}
+
+	/**
+	 * Method designed to remove the element at
+	 * the given index.
+	 * @param index integer value containing the
+	 * index of the element to remove.
+	 * @return Generic type containing the removed element.
+	 * @throws IndexOutOfBoundsException if the
+	 * index is out of range [0, size)
+	 */
+	@Override
+	public T remove(int index) throws IndexOutOfBoundsException {
+		T element = this.list.remove(index);
+		this.modCount++;
+		this.publisher.publish(ListChange.Type.REMOVE, index, element, null);
+		return element;
+	}
+
+	/**
+	 * Method designed to set the given element at
+	 * the end of the list.
+	 * @param element Generic type reference to set.
+	 * @return Generic type containing the replaced element.
+	 * @throws IndexOutOfBoundsException if the list is empty.
+	 */
+	@Override
+	public T set(T element) throws IndexOutOfBoundsException {
+		return this.set(this.list.size() - 1, element);
+	}
+
+	/**
+	 * Method designed to set the given element at
+	 * the given index.
+	 * @param index integer value containing the
+	 * index of the element to set.
+	 * @param element Generic type reference to set.
+	 * @return Generic type containing the replaced element.
+	 * @throws IndexOutOfBoundsException if the
+	 * index is out of range [0, size)
+	 */
+	@Override
+	public T set(int index, T element) throws IndexOutOfBoundsException {
+		T previous = this.list.set(index, element);
+		this.publisher.publish(ListChange.Type.SET, index, element, previous);
+		return previous;
+	}
+
+	/**
+	 * Accessor method used to get the size of
+	 * the list.
+	 * @return integer value containing the size.
+	 */
+	@Override
+	public int size() {
+		return this.list.size();
+	}
+
+	/**
+	 * Accessor method used to get the list
+	 * as an Array.
+	 * @return Array of basetype T.
+	 */
+	@Override
+	public T[] toArray() {
+		return this.list.toArray();
+	}
+
+	/**
+	 * Method designed to add a subscriber to the
+	 * changes of the list.
+	 * @param subscriber Subscriber reference to add.
+	 */
+	@Override
+	public void subscribe(Flow.Subscriber<? super ChangeBatch<T>> subscriber) {
+		this.publisher.subscribe(subscriber);
+	}
+
+	/**
+	 * Accessor method used to get the publisher
+	 * of the list's changes.
+	 * @return ChangePublisher object of the list.
+	 */
+	public ChangePublisher<T> getPublisher() {
+		return this.publisher;
+	}
+
+	/**
+	 * Method designed to describe the wrapped list.
+	 * @return String object describing the list.
+	 */
+	@Override
+	public String toString() {
+		return this.list.toString();
+	}
+}
@@ -0,0 +1,531 @@
+package structures.ring_deque;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import structures.AbstractList;
+
+/**
+ * Double-ended queue stored in a circular
+ * array. The array length is always a power
+ * of two, so the physical slot of an index is
+ * found by masking rather than by division.
+ * Adding and removing at either end is
+ * amortized O(1) and never allocates per
+ * element, indexed access is O(1), and an
+ * insert or removal in the middle shifts
+ * whichever side of the index is shorter.
+ * @author Noah Teshima
+ */
+public class RingDeque<T> extends AbstractList<T> implements RandomAccess {
+
+	/**
+	 * Private inner class used to iterate
+	 * over elements from front to back.
+	 * @author Noah Teshima
+	 */
+	private class RingIterator implements Iterator<T> {
+		private int index;
+
+		/**
+		 * Default constructor used to
+		 * create an iterator at the front
+		 * of the deque.
+		 */
+		public RingIterator() {
+			this.index = 0;
+		}
+
+		/**
+		 * Method designed to determine whether
+		 * there is another element to iterate
+		 * over.
+		 * @return boolean value determining whether
+		 * another element can be iterated over.
+		 */
+		@Override
+		public boolean hasNext() {
+			return this.index < size;
+		}
+
+		/**
+		 * Method designed to return the next
+		 * element in the deque.
+		 * @return Generic type object containing the
+		 * element iterated over.
+		 * @throws NoSuchElementException if there is
+		 * no next element.
+		 */
+		@Override
+		public T next() throws NoSuchElementException {
+			if(!this.hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return (T) elements[slot(this.index++)];
+		}
+	}
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private Object[] elements;
+	private int head;
+	private int size;
+
+	/**
+	 * Default constructor. When invoked, the
+	 * initial capacity is set to a default of
+	 * 16.
+	 */
+	public RingDeque() {
+		this(RingDeque.DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructor used to set the initial capacity,
+	 * which is rounded up to a power of two.
+	 * @param capacity integer value containing
+	 * the initial capacity of the deque.
+	 * @throws IllegalArgumentException if the capacity
+	 * is larger than 2^30.
+	 */
+	public RingDeque(int capacity) throws IllegalArgumentException {
+		if(capacity > (1 << 30)) {
+			throw new IllegalArgumentException();
+		}
+		int length = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+		this.elements = new Object[length];
+		this.head = 0;
+		this.size = 0;
+	}
+
+	/**
+	 * Private method used to get the physical
+	 * slot of the given index.
+	 * @param index integer value containing the
+	 * logical index.
+	 * @return integer value containing the slot
+	 * in the array.
+	 */
+	private int slot(int index) {
+		return (this.head + index) & (this.elements.length - 1);
+	}
+
+	/**
+	 * Private mutator method designed to double the
+	 * array when full, unwrapping the elements so the
+	 * front is at slot 0.
+	 */
+	private void growIfFull() {
+		if(this.size < this.elements.length) {
+			return;
+		}
+		Object[] grown = new Object[this.elements.length * 2];
+		int front = this.elements.length - this.head;
+		System.arraycopy(this.elements, this.head, grown, 0, front);
+		System.arraycopy(this.elements, 0, grown, front, this.head);
+		this.elements = grown;
+		this.head = 0;
+	}
+
+	/**
+	 * Private method used to check that the
+	 * given index refers to an element.
+	 * @param index integer value to check.
+	 * @throws IndexOutOfBoundsException if the
+	 * given index is out of range [0, size)
+	 */
+	private void checkIndex(int index) throws IndexOutOfBoundsException {
+		if(index < 0 || index >= this.size) {
+			throw new IndexOutOfBoundsException();
+		}
+	}
+
+	/**
+	 * Method designed to add the given
+	 * element to the back of the deque.
+	 * @param element Generic type reference
+	 * containing the element to add.
+	 */
+	@Override
+	public void add(T element) {
+		this.addLast(element);
+	}
+
+	/**
+	 * Method designed to add the given
+	 * element to the front of the deque.
+	 * @param element Generic type reference
+	 * containing the element to add.
+	 */
+	public void addFirst(T element) {
+		this.growIfFull();
+		this.head = (this.head - 1) & (this.elements.length - 1);
+		this.elements[this.head] = element;
+		this.size++;
+		this.modCount++;
+	}
+
+	/**
+	 * Method designed to add the given
+	 * element to the back of the deque.
+	 * @param element Generic type reference
+	 * containing the element to add.
+	 */
+	public void addLast(T element) {
+		this.growIfFull();
+		this.elements[this.slot(this.size)] = element;
+		this.size++;
+		this.modCount++;
+	}
+
+	/**
+	 * Method designed to add the element at the
+	 * specified index. The elements before the index
+	 * move one slot toward the front, or those after
+	 * it one slot toward the back, whichever are fewer.
+	 * @param index integer value containing
+	 * the index at which to add the element.
+	 * @param element Generic type reference
+	 * containing the element to add
+	 * @throws IndexOutOfBoundsException if the
+	 * given index is not in range [0, size]
+	 */
+	@Override
+	public void add(int index, T element) throws IndexOutOfBoundsException {
+		if(index < 0 || index > this.size) {
+			throw new IndexOutOfBoundsException();
+		}
+		this.growIfFull();
+		if(index < this.size - index) {
+			this.head = (this.head - 1) & (this.elements.length - 1);
+			for(int index2 = 0; index2 < index; index2++) {
+				this.elements[this.slot(index2)] = this.elements[this.slot(index2 + 1)];
+			}
+		}else {
+			for(int index2 = this.size; index2 > index; index2--) {
+				this.elements[this.slot(index2)] = this.elements[this.slot(index2 - 1)];
+			}
+		}
+		this.elements[this.slot(index)] = element;
+		this.size++;
+		this.modCount++;
+	}
+
+	/**
+	 * Method designed to clear all elements
+	 * from the deque, keeping its capacity.
+	 */
+	@Override
+	public void clear() {
+		Arrays.fill(this.elements, null);
+		this.head = 0;
+		this.size = 0;
+		this.modCount++;
+	}
+
+	/**
+	 * Method designed to check whether the
+	 * given reference is equal in value to any
+	 * element in the deque.
+	 * @param object Object reference to check
+	 * to be equal in value
+	 * @return boolean value determining whether
+	 * the given reference is equal in value to
+	 * any element in the deque
+	 */
+	@Override
+	public boolean contains(Object object) {
+		return (this.indexOf(object) != -1);
+	}
+
+	/**
+	 * Method designed to get the first element
+	 * of the deque.
+	 * @return Generic type containing the first
+	 * element.
+	 * @throws IndexOutOfBoundsException if the
+	 * deque is empty.
+	 */
+	@Override
+	public T get() throws IndexOutOfBoundsException {
+		return this.get(0);
+	}
+
+	/**
+	 * Method designed to get the last element
+	 * of the deque.
+	 * @return Generic type containing the last
+	 * element.
+	 * @throws IndexOutOfBoundsException if the
+	 * deque is empty.
+	 */
+	public T getLast() throws IndexOutOfBoundsException {
+		return this.get(this.size - 1);
+	}
+
+	/**
+	 * Method designed to get the element
+	 * at the specified index.
+	 * @param index integer value containing
+	 * the index at which to retrieve the element
+	 * @return Generic type containing the element
+	 * at the given index.
+	 * @throws IndexOutOfBoundsException if the
+	 * index is not in range [0, size)
+	 */
+	@Override
+	public T get(int index) throws IndexOutOfBoundsException {
+		this.checkIndex(index);
+		return (T) this.elements[this.slot(index)];
+	}
+
+	/**
+	 * Method designed to retrieve the
+	 * index of the first element equal
+	 * in value to the given reference.
+	 * @param object Object reference
+	 * used to check to be equal in value
+	 * @return integer value containing the
+	 * first index of the element equal in
+	 * value to the given reference, or -1
+	 * if there is none.
+	 */
+	@Override
+	public int indexOf(Object object) {
+		for(int index = 0; index < this.size; index++) {
+			if(Objects.equals(object, this.elements[this.slot(index)])) {
+				return index;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Method designed to check whether
+	 * the deque has any elements.
+	 * @return boolean value determining
+	 * whether the deque is empty.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return (this.size == 0);
+	}
+
+	/**
+	 * Method designed to instantiate
+	 * and return a new Iterator object
+	 * for iterating over each element
+	 * from front to back.
+	 * @return Iterator object with basetype
+	 * T
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new RingIterator();
+	}
+
+	/**
+	 * Method designed to remove the first element,
+	 * so that add and remove together form a FIFO queue.
+	 * @return Generic type containing the removed element.
+	 * @throws IndexOutOfBoundsException if the deque is empty.
+	 */
+	@Override
+	public T remove() throws IndexOutOfBoundsException {
+		return this.removeFirst();
+	}
+
+	/**
+	 * Method designed to remove the first element.
+	 * @return Generic type containing the removed element.
+	 * @throws IndexOutOfBoundsException if the deque is empty.
+	 */
+	public T removeFirst() throws IndexOutOfBoundsException {
+		this.checkIndex(0);
+		T element = (T) this.elements[this.head];
+		this.elements[this.head] = null;
+		this.head = (this.head + 1) & (this.elements.length - 1);
+		this.size--;
+		this.modCount++;
+
+		return element;
+	}
+
+	/**
+	 * Method designed to remove the last element.
+	 * @return Generic type containing the removed element.
+	 * @throws IndexOutOfBoundsException if the deque is empty.
+	 */
+	public T removeLast() throws IndexOutOfBoundsException {
+		this.checkIndex(0);
+		int last = this.slot(this.size - 1);
+		T element = (T) this.elements[last];
+		this.elements[last] = null;
+		this.size--;
+		this.modCount++;
+
+		return element;
+	}
+
+	/**
+	 * Method designed to remove the element at the
+	 * given index. The elements before the index move
+	 * one slot toward the back, or those after it one
+	 * slot toward the front, whichever are fewer.
+	 * @param index integer value containing the index of the
+	 * element to remove.
+	 * @return Generic type containing the removed element.
+	 * @throws IndexOutOfBoundsException if the given index is
+	 * out of range [0, size)
+	 */
+	@Override
+	public T remove(int index) throws IndexOutOfBoundsException {
+		this.checkIndex(index);
+		T element = (T) this.elements[this.slot(index)];
+		if(index < this.size - 1 - index) {
+			for(int index2 = index; index2 > 0; index2--) {
+				this.elements[this.slot(index2)] = this.elements[this.slot(index2 - 1)];
+			}
+			this.elements[this.head] = null;
+			this.head = (this.head + 1) & (this.elements.length - 1);
+		}else {
+			for(int index2 = index; index2 < this.size - 1; index2++) {
+				this.elements[this.slot(index2)] = this.elements[this.slot(index2 + 1)];
+			}
+			this.elements[this.slot(this.size - 1)] = null;
+		}
+		this.size--;
+		this.modCount++;
+
+		return element;
+	}
+
+	/**
+	 * Method designed to set the given element at the end of
+	 * the deque.
+	 * @param element generic reference type T
+	 * @return Generic type containing the replaced element.
+	 * @throws IndexOutOfBoundsException if the deque is empty
+	 */
+	@Override
+	public T set(T element) throws IndexOutOfBoundsException {
+		return this.set(this.size - 1, element);
+	}
+
+	/**
+	 * Method designed to set the given element at the given
+	 * index.
+	 * @param index integer value containing the index of the
+	 * element to set
+	 * @param element generic reference type T
+	 * @return Generic type containing the replaced element.
+	 * @throws IndexOutOfBoundsException if the given index is
+	 * out of range [0, size)
+	 */
+	@Override
+	public T set(int index, T element) throws IndexOutOfBoundsException {
+		this.checkIndex(index);
+		int slot = this.slot(index);
+		T returnElement = (T) this.elements[slot];
+		this.elements[slot] = element;
+
+		return returnElement;
+	}
+
+	/**
+	 * Accessor method used to get the size of the
+	 * deque.
+	 * @return integer value containing the size
+	 * of the deque.
+	 */
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Method designed to get an array
+	 * containing every element from front
+	 * to back.
+	 * @return Array of generic type T with
+	 * length equal to the size.
+	 */
+	@Override
+	public T[] toArray() {
+		T[] returnArray = (T[]) new Object[this.size];
+		int front = Math.min(this.size, this.elements.length - this.head);
+		System.arraycopy(this.elements, this.head, returnArray, 0, front);
+		System.arraycopy(this.elements, 0, returnArray, front, this.size - front);
+
+		return returnArray;
+	}
+
+	/**
+	 * Overridden method from Object class.
+	 * Used to check whether the given reference
+	 * has elements equal in value and order to
+	 * the current instance.
+	 * @param obj Object reference with actual type
+	 * RingDeque
+	 * @return boolean value determining whether the
+	 * given reference has elements equal in value
+	 * and order to the current instance.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if(!(obj instanceof RingDeque)) {
+			return false;
+		}
+		RingDeque<?> dequeObj = (RingDeque<?>) obj;
+
+		if(this.size != dequeObj.size()) {
+			return false;
+		}
+		for(int index = 0; index < this.size; index++) {
+			if(!Objects.equals(this.elements[this.slot(index)],
+					dequeObj.elements[dequeObj.slot(index)])) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Overridden method from Object class.
+	 * Used to get a hash code consistent with
+	 * equals, combining each element in order.
+	 * @return integer value containing the hash code.
+	 */
+	@Override
+	public int hashCode() {
+		int hash = 1;
+		for(int index = 0; index < this.size; index++) {
+			hash = 31 * hash + Objects.hashCode(this.elements[this.slot(index)]);
+		}
+		return hash;
+	}
+
+	/**
+	 * Overridden method from Object class.
+	 * Used to get a String object containing
+	 * information about each element in the
+	 * deque.
+	 * @return String object containing information
+	 * about each element in the deque.
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		for(int index = 0; index < this.size; index++) {
+			builder.append(this.elements[this.slot(index)]).append('\n');
+		}
+
+		return builder.append("Size: ")
+				.append(this.size)
+				.toString();
+	}
+}
@@ -0,0 +1,657 @@
+package structures.rope;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import structures.AbstractList;
+
+/**
+ * Rope data structure storing elements in
+ * small chunks held by the nodes of a treap
+ * ordered by position. Each node records the
+ * number of elements in its subtree, giving
+ * expected O(log n) indexed access, insertion,
+ * removal, concatenation and splitting.
+ * @author Noah Teshima
+ */
+public class Rope<T> extends AbstractList<T> {
+	/**
+	 * Private static inner class designed to
+	 * hold a chunk of elements and links to the
+	 * left and right subtrees.
+	 * @author Noah Teshima
+	 */
+	private static class Node {
+		private final Object[] items;
+		private final int priority;
+		private int count;
+		private int size;
+		private Node left;
+		private Node right;
+
+		/**
+		 * Constructor used to create a node
+		 * with an empty chunk of the given
+		 * capacity.
+		 * @param capacity integer value containing
+		 * the capacity of the chunk.
+		 */
+		public Node(int capacity) {
+			this.items = new Object[capacity];
+			this.priority = ThreadLocalRandom.current().nextInt();
+			this.count = 0;
+			this.size = 0;
+		}
+	}
+
+	/**
+	 * Private inner class designed to iterate
+	 * over the rope in order, chunk by chunk.
+	 * @author Noah Teshima
+	 */
+	private class RopeIterator implements Iterator<T> {
+		private final Deque<Node> stack;
+		private Node node;
+		private int offset;
+
+		/**
+		 * Default constructor used to
+		 * start at the first element.
+		 */
+		public RopeIterator() {
+			this.stack = new ArrayDeque<>();
+			this.descend(root);
+			this.node = this.stack.poll();
+			this.offset = 0;
+		}
+
+		/**
+		 * Private method used to push the given
+		 * node and its chain of left children.
+		 * @param node Node reference to descend from.
+		 */
+		private void descend(Node node) {
+			for(; node != null; node = node.left) {
+				this.stack.push(node);
+			}
+		}
+
+		/**
+		 * Method designed to determine whether
+		 * there is another element to iterate
+		 * over.
+		 * @return boolean value determining whether
+		 * another element can be iterated over.
+		 */
+		@Override
+		public boolean hasNext() {
+			return (this.node != null);
+		}
+
+		/**
+		 * Method designed to return the next
+		 * element in the rope.
+		 * @return Generic type object containing the
+		 * element iterated over.
+		 * @throws NoSuchElementException if there is
+		 * no next element.
+		 */
+		@Override
+		public T next() throws NoSuchElementException {
+			if(this.node == null) {
+				throw new NoSuchElementException();
+			}
+			T element = (T) this.node.items[this.offset++];
+			if(this.offset == this.node.count) {
+				this.descend(this.node.right);
+				this.node = this.stack.poll();
+				this.offset = 0;
+			}
+			return element;
+		}
+	}
+
+	private static final int DEFAULT_CHUNK_SIZE = 64;
+
+	private final int chunkSize;
+	private Node root;
+
+	/**
+	 * Default constructor. When invoked, each
+	 * chunk holds up to 64 elements.
+	 */
+	public Rope() {
+		this(Rope.DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * Constructor used to set the number
+	 * of elements held by each chunk.
+	 * @param chunkSize integer value containing
+	 * the chunk size.
+	 */
+	public Rope(int chunkSize) {
+		this.chunkSize = (chunkSize < 2) ? Rope.DEFAULT_CHUNK_SIZE : chunkSize;
+		this.root = null;
+	}
+
+	/**
+	 * Private static method used to get the
+	 * number of elements in a subtree.
+	 * @param node Node reference, or null.
+	 * @return integer value containing the size.
+	 */
+	private static int size(Node node) {
+		return (node == null) ? 0 : node.size;
+	}
+
+	/**
+	 * Private static method used to recompute
+	 * the size of the given node's subtree.
+	 * @param node Node reference to update.
+	 * @return the given node.
+	 */
+	private static Node update(Node node) {
+		node.size = Rope.size(node.left) + node.count + Rope.size(node.right);
+		return node;
+	}
+
+	/**
+	 * Private static method used to join two
+	 * treaps, every element of the first coming
+	 * before every element of the second.
+	 * @param first Node reference of the first treap.
+	 * @param second Node reference of the second treap.
+	 * @return Node object at the root of the result.
+	 */
+	private static Node merge(Node first, Node second) {
+		if(first == null) {
+			return second;
+		}
+		if(second == null) {
+			return first;
+		}
+		if(first.priority > second.priority) {
+			first.right = Rope.merge(first.right, second);
+			return Rope.update(first);
+		}
+		second.left = Rope.merge(first, second.left);
+		return Rope.update(second);
+	}
+
+	/**
+	 * Private method used to split a treap into
+	 * its first index elements and the rest. A
+	 * chunk straddling the split point is cut in two.
+	 * @param node Node reference of the treap.
+	 * @param index integer value containing the
+	 * number of elements in the first part.
+	 * @return Array of two Node objects holding the
+	 * first part and the rest.
+	 */
+	private Node[] split(Node node, int index) {
+		if(node == null) {
+			return new Node[] {null, null};
+		}
+		int leftSize = Rope.size(node.left);
+		if(index <= leftSize) {
+			Node[] parts = this.split(node.left, index);
+			node.left = parts[1];
+			parts[1] = Rope.update(node);
+			return parts;
+		}
+		if(index >= leftSize + node.count) {
+			Node[] parts = this.split(node.right, index - leftSize - node.count);
+			node.right = parts[0];
+			parts[0] = Rope.update(node);
+			return parts;
+		}
+		//cut the chunk, keeping the head in the current node
+		int cut = index - leftSize;
+		Node tail = new Node(this.chunkSize);
+		tail.count = node.count - cut;
+		System.arraycopy(node.items, cut, tail.items, 0, tail.count);
+		Arrays.fill(node.items, cut, node.count, null);
+		node.count = cut;
+
+		Node right = node.right;
+		node.right = null;
+		return new Node[] {Rope.update(node), Rope.merge(Rope.update(tail), right)};
+	}
+
+	/**
+	 * Private method used to find the node
+	 * holding the given index.
+	 * @param index integer value containing the
+	 * index, updated to the offset inside of the
+	 * returned node's chunk.
+	 * @return Node object holding the index.
+	 */
+	private Node find(int[] index) {
+		Node node = this.root;
+		while(true) {
+			int leftSize = Rope.size(node.left);
+			if(index[0] < leftSize) {
+				node = node.left;
+			}else if(index[0] < leftSize + node.count) {
+				index[0] -= leftSize;
+				return node;
+			}else {
+				index[0] -= leftSize + node.count;
+				node = node.right;
+			}
+		}
+	}
+
+	/**
+	 * Private method used to check that the
+	 * given index refers to an element.
+	 * @param index integer value to check.
+	 * @throws IndexOutOfBoundsException if the
+	 * given index is out of range [0, size)
+	 */
+	private void checkIndex(int index) throws IndexOutOfBoundsException {
+		if(index < 0 || index >= Rope.size(this.root)) {
+			throw new IndexOutOfBoundsException();
+		}
+	}
+
+	/**
+	 * Private method used to insert the element
+	 * into the subtree at the given index. A full
+	 * chunk is split in half, and the new node is
+	 * rotated into place to keep the heap order.
+	 * @param node Node reference of the subtree.
+	 * @param index integer value containing the
+	 * index inside of the subtree.
+	 * @param element Generic type reference to add.
+	 * @return Node object at the root of the subtree.
+	 */
+	private Node insert(Node node, int index, T element) {
+		if(node == null) {
+			node = new Node(this.chunkSize);
+			node.items[node.count++] = element;
+			return Rope.update(node);
+		}
+		int leftSize = Rope.size(node.left);
+		if(index < leftSize) {
+			node.left = this.insert(node.left, index, element);
+			return Rope.update((node.left.priority > node.priority)
+					? Rope.rotateRight(node) : node);
+		}
+		if(index > leftSize + node.count) {
+			node.right = this.insert(node.right, index - leftSize - node.count, element);
+			return Rope.update((node.right.priority > node.priority)
+					? Rope.rotateLeft(node) : node);
+		}
+
+		int offset = index - leftSize;
+		if(node.count < node.items.length) {
+			System.arraycopy(node.items, offset, node.items, offset + 1, node.count - offset);
+			node.items[offset] = element;
+			node.count++;
+			return Rope.update(node);
+		}
+
+		//move the upper half of the full chunk into a new successor
+		Node sibling = new Node(this.chunkSize);
+		int half = node.count / 2;
+		sibling.count = node.count - half;
+		System.arraycopy(node.items, half, sibling.items, 0, sibling.count);
+		Arrays.fill(node.items, half, node.count, null);
+		node.count = half;
+
+		Node target = (offset <= half) ? node : sibling;
+		int targetOffset = (offset <= half) ? offset : offset - half;
+		System.arraycopy(target.items, targetOffset, target.items, targetOffset + 1,
+				target.count - targetOffset);
+		target.items[targetOffset] = element;
+		target.count++;
+
+		node.right = Rope.insertFirst(node.right, Rope.update(sibling));
+		return Rope.update((node.right.priority > node.priority)
+				? Rope.rotateLeft(node) : node);
+	}
+
+	/**
+	 * Private static method used to insert a
+	 * node before every other node of a subtree.
+	 * @param node Node reference of the subtree.
+	 * @param first Node reference to insert.
+	 * @return Node object at the root of the subtree.
+	 */
+	private static Node insertFirst(Node node, Node first) {
+		if(node == null) {
+			return first;
+		}
+		node.left = Rope.insertFirst(node.left, first);
+		return Rope.update((node.left.priority > node.priority)
+				? Rope.rotateRight(node) : node);
+	}
+
+	/**
+	 * Private static method used to rotate the
+	 * left child of the given node above it.
+	 * @param node Node reference to rotate.
+	 * @return Node object taking the node's place.
+	 */
+	private static Node rotateRight(Node node) {
+		Node left = node.left;
+		node.left = left.right;
+		left.right = Rope.update(node);
+		return left;
+	}
+
+	/**
+	 * Private static method used to rotate the
+	 * right child of the given node above it.
+	 * @param node Node reference to rotate.
+	 * @return Node object taking the node's place.
+	 */
+	private static Node rotateLeft(Node node) {
+		Node right = node.right;
+		node.right = right.left;
+		right.left = Rope.update(node);
+		return right;
+	}
+
+	/**
+	 * Private method used to remove the element
+	 * at the given index of the subtree. Nodes left
+	 * with an empty chunk are unlinked.
+	 * @param node Node reference of the subtree.
+	 * @param index integer value containing the
+	 * index inside of the subtree.
+	 * @param removed Array used to return the removed
+	 * element.
+	 * @return Node object at the root of the subtree.
+	 */
+	private Node delete(Node node, int index, Object[] removed) {
+		int leftSize = Rope.size(node.left);
+		if(index < leftSize) {
+			node.left = this.delete(node.left, index, removed);
+			return Rope.update(node);
+		}
+		if(index >= leftSize + node.count) {
+			node.right = this.delete(node.right, index - leftSize - node.count, removed);
+			return Rope.update(node);
+		}
+		int offset = index - leftSize;
+		removed[0] = node.items[offset];
+		System.arraycopy(node.items, offset + 1, node.items, offset, node.count - offset - 1);
+		node.items[--node.count] = null;
+		if(node.count == 0) {
+			return Rope.merge(node.left, node.right);
+		}
+		return Rope.update(node);
+	}
+
+	/**
+	 * Method designed to add the
+	 * specified element to the end of
+	 * the rope.
+	 * @param element Generic type reference
+	 * containing the element to add.
+	 */
+	@Override
+	public void add(T element) {
+		this.add(Rope.size(this.root), element);
+	}
+
+	/**
+	 * Method designed to add the
+	 * element at the specified index.
+	 * @param index integer value containing
+	 * the index at which to add the element.
+	 * @param element Generic type reference
+	 * containing the element to add
+	 * @throws IndexOutOfBoundsException if the
+	 * given index is not in range [0, size]
+	 */
+	@Override
+	public void add(int index, T element) throws IndexOutOfBoundsException {
+		if(index < 0 || index > Rope.size(this.root)) {
+			throw new IndexOutOfBoundsException();
+		}
+		this.root = this.insert(this.root, index, element);
+		this.modCount++;
+	}
+
+	/**
+	 * Method designed to append every element
+	 * of the given rope, leaving it empty. No
+	 * elements are copied.
+	 * @param other Rope reference to append.
+	 */
+	public void concat(Rope<T> other) {
+		if(other == this) {
+			throw new IllegalArgumentException();
+		}
+		this.root = Rope.merge(this.root, other.root);
+		other.root = null;
+		this.modCount++;
+		other.modCount++;
+	}
+
+	/**
+	 * Method designed to split the rope at the
+	 * given index. The current instance keeps the
+	 * elements before the index, and the rest are
+	 * moved to the returned rope.
+	 * @param index integer value containing the
+	 * index of the first element moved.
+	 * @return Rope object containing the elements
+	 * from the given index on.
+	 * @throws IndexOutOfBoundsException if the
+	 * given index is not in range [0, size]
+	 */
+	public Rope<T> split(int index) throws IndexOutOfBoundsException {
+		if(index < 0 || index > Rope.size(this.root)) {
+			throw new IndexOutOfBoundsException();
+		}
+		Node[] parts = this.split(this.root, index);
+		Rope<T> suffix = new Rope<>(this.chunkSize);
+		this.root = parts[0];
+		suffix.root = parts[1];
+		this.modCount++;
+
+		return suffix;
+	}
+
+	/**
+	 * Method designed to clear all elements
+	 * from the current rope.
+	 */
+	@Override
+	public void clear() {
+		this.root = null;
+		this.modCount++;
+	}
+
+	/**
+	 * Method designed to check whether the
+	 * given reference is equal in value to any
+	 * element in the rope.
+	 * @param object Object reference to check
+	 * to be equal in value
+	 * @return boolean value determining whether
+	 * the given reference is equal in value to
+	 * any element in the rope
+	 */
+	@Override
+	public boolean contains(Object object) {
+		return (this.indexOf(object) != -1);
+	}
+
+	/**
+	 * Method designed to get the first element
+	 * inside of the rope.
+	 * @return Generic type containing the first
+	 * element inside of the rope.
+	 * @throws IndexOutOfBoundsException if the
+	 * rope is empty.
+	 */
+	@Override
+	public T get() throws IndexOutOfBoundsException {
+		return this.get(0);
+	}
+
+	/**
+	 * Method designed to get the element
+	 * at the specified index.
+	 * @param index integer value containing
+	 * the index at which to retrieve the element
+	 * @return Generic type containing the element
+	 * at the given index inside of the rope.
+	 * @throws IndexOutOfBoundsException if the
+	 * index is not in range [0, size)
+	 */
+	@Override
+	public T get(int index) throws IndexOutOfBoundsException {
+		this.checkIndex(index);
+		int[] offset = {index};
+		return (T) this.find(offset).items[offset[0]];
+	}
+
+	/**
+	 * Method designed to retrieve the
+	 * index of the first element equal
+	 * in value to the given reference.
+	 * @param object Object reference
+	 * used to check to be equal in value
+	 * @return integer value containing the
+	 * first index of the element equal in
+	 * value to the given reference, or -1 if
+	 * not found.
+	 */
+	@Override
+	public int indexOf(Object object) {
+		int index = 0;
+		for(T element : this) {
+			if(object.equals(element)) {
+				return index;
+			}
+			index++;
+		}
+		return -1;
+	}
+
+	/**
+	 * Method designed to check whether
+	 * the rope has any elements.
+	 * @return boolean value determining
+	 * whether the rope is empty.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return (this.root == null);
+	}
+
+	/**
+	 * Method designed to instantiate
+	 * and return a new Iterator object
+	 * for iterating over each element
+	 * in the current rope.
+	 * @return Iterator object with basetype
+	 * T
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new RopeIterator();
+	}
+
+	/**
+	 * Method designed to remove the last element from the
+	 * rope.
+	 * @return Generic type containing the removed element.
+	 * @throws IndexOutOfBoundsException if the rope is empty.
+	 */
+	@Override
+	public T remove() throws IndexOutOfBoundsException {
+		return this.remove(Rope.size(this.root) - 1);
+	}
+
+	/**
+	 * Method designed to remove the specified element in the
+	 * rope.
+	 * @param index integer value containing the index of the
+	 * element to remove.
+	 * @return Generic type containing the removed element.
+	 * @throws IndexOutOfBoundsException if the given index is
+	 * out of range [0, size)
+	 */
+	@Override
+	public T remove(int index) throws IndexOutOfBoundsException {
+		this.checkIndex(index);
+		Object[] removed = new Object[1];
+		this.root = this.delete(this.root, index, removed);
+		this.modCount++;
+
+		return (T) removed[0];
+	}
+
+	/**
+	 * Method designed to set the given element at the end of
+	 * the rope.
+	 * @param element generic reference type T
+	 * @return Generic type containing the replaced element.
+	 * @throws IndexOutOfBoundsException if the rope is empty
+	 */
+	@Override
+	public T set(T element) throws IndexOutOfBoundsException {
+		return this.set(Rope.size(this.root) - 1, element);
+	}
+
+	/**
+	 * Method designed to set the given element at the given
+	 * index.
+	 * @param index integer value containing the index of the
+	 * element to set
+	 * @param element generic reference type T
+	 * @return Generic type containing the replaced element.
+	 * @throws IndexOutOfBoundsException if the given index is
+	 * out of range [0, size)
+	 */
+	@Override
+	public T set(int index, T element) throws IndexOutOfBoundsException {
+		this.checkIndex(index);
+		int[] offset = {index};
+		Node node = this.find(offset);
+		T returnElement = (T) node.items[offset[0]];
+		node.items[offset[0]] = element;
+
+		return returnElement;
+	}
+
+	/**
+	 * Accessor method used to get the size of the
+	 * rope.
+	 * @return integer value containing the size
+	 * of the rope.
+	 */
+	@Override
+	public int size() {
+		return Rope.size(this.root);
+	}
+
+	/**
+	 * Accessor method used to get the rope
+	 * as an Array.
+	 * @return Array of basetype T, where
+	 * each element is a shallow copy.
+	 */
+	@Override
+	public T[] toArray() {
+		T[] returnArray = (T[]) new Object[this.size()];
+		int index = 0;
+		for(T element : this) {
+			returnArray[index++] = element;
+		}
+
+		return returnArray;
+	}
+}
@@ -0,0 +1,512 @@
+package structures.segmented_list;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+import structures.AbstractList;
+
+/**
+ * Segmented list data structure storing
+ * elements in fixed-size chunks held by a
+ * directory array. Growth only allocates a
+ * new chunk and, rarely, copies the directory
+ * of chunk references, so elements are never
+ * copied to grow the list. Indices are long
+ * values, allowing more than 2^31 elements.
+ * @author Noah Teshima
+ */
+public class SegmentedList<T> extends AbstractList<T> implements RandomAccess {
+
+	/**
+	 * Private inner class used to iterate
+	 * over elements chunk by chunk.
+	 * @author Noah Teshima
+	 */
+	private class SegmentIterator implements Iterator<T> {
+		private long index;
+
+		/**
+		 * Default constructor used to
+		 * create an iterator at the beginning
+		 * of the list.
+		 */
+		public SegmentIterator() {
+			this.index = 0;
+		}
+
+		/**
+		 * Method designed to determine whether
+		 * there is another element to iterate
+		 * over.
+		 * @return boolean value determining whether
+		 * another element can be iterated over.
+		 */
+		@Override
+		public boolean hasNext() {
+			return this.index < size;
+		}
+
+		/**
+		 * Method designed to return the next
+		 * element in the list.
+		 * @return Generic type object containing the
+		 * element iterated over.
+		 * @throws NoSuchElementException if there is
+		 * no next element.
+		 */
+		@Override
+		public T next() throws NoSuchElementException {
+			if(!this.hasNext()) {
+				throw new NoSuchElementException();
+			}
+			T element = (T) directory[chunk(this.index)][offset(this.index)];
+			this.index++;
+
+			return element;
+		}
+	}
+
+	private static final int DEFAULT_CHUNK_SIZE = 4096;
+	private static final int DEFAULT_DIRECTORY_SIZE = 8;
+
+	private final int shift;
+	private final int mask;
+	private Object[][] directory;
+	private int chunks;
+	private long size;
+
+	/**
+	 * Default constructor. When invoked, the
+	 * chunk size is set to a default of 4096.
+	 */
+	public SegmentedList() {
+		this(SegmentedList.DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * Constructor used to set the number of
+	 * elements held by each chunk.
+	 * @param chunkSize integer value containing
+	 * the chunk size, rounded up to a power of two.
+	 */
+	public SegmentedList(int chunkSize) {
+		if(chunkSize <= 1) {
+			chunkSize = SegmentedList.DEFAULT_CHUNK_SIZE;
+		}
+		this.shift = 32 - Integer.numberOfLeadingZeros(chunkSize - 1);
+		this.mask = (1 << this.shift) - 1;
+		this.directory = new Object[SegmentedList.DEFAULT_DIRECTORY_SIZE][];
+		this.chunks = 0;
+		this.size = 0;
+	}
+
+	/**
+	 * Private method used to get the chunk
+	 * holding the given index.
+	 * @param index long value containing the index.
+	 * @return integer value containing the chunk.
+	 */
+	private int chunk(long index) {
+		return (int) (index >>> this.shift);
+	}
+
+	/**
+	 * Private method used to get the offset
+	 * of the given index inside of its chunk.
+	 * @param index long value containing the index.
+	 * @return integer value containing the offset.
+	 */
+	private int offset(long index) {
+		return (int) index & this.mask;
+	}
+
+	/**
+	 * Private mutator method designed to make
+	 * room for one more element, allocating a
+	 * new chunk only when the last one is full.
+	 */
+	private void ensureCapacity() {
+		int needed = this.chunk(this.size) + 1;
+		if(needed <= this.chunks) {
+			return;
+		}
+		if(needed > this.directory.length) {
+			//only chunk references are copied
+			this.directory = Arrays.copyOf(this.directory, this.directory.length * 2);
+		}
+		this.directory[this.chunks++] = new Object[this.mask + 1];
+	}
+
+	/**
+	 * Private method used to check that the
+	 * given index refers to an element.
+	 * @param index long value to check.
+	 * @throws IndexOutOfBoundsException if the
+	 * given index is out of range [0, size)
+	 */
+	private void checkIndex(long index) throws IndexOutOfBoundsException {
+		if(index < 0 || index >= this.size) {
+			throw new IndexOutOfBoundsException();
+		}
+	}
+
+	/**
+	 * Method designed to add the
+	 * specified element to the end of
+	 * the list.
+	 * @param element Generic type reference
+	 * containing the element to add.
+	 */
+	@Override
+	public void add(T element) {
+		this.ensureCapacity();
+		this.directory[this.chunk(this.size)][this.offset(this.size)] = element;
+		this.size++;
+		this.modCount++;
+	}
+
+	/**
+	 * Method designed to add the
+	 * element at the specified index.
+	 * @param index integer value containing
+	 * the index at which to add the element.
+	 * @param element Generic type reference
+	 * containing the element to add
+	 * @throws IndexOutOfBoundsException if the
+	 * given index is not in range [0, size]
+	 */
+	@Override
+	public void add(int index, T element) throws IndexOutOfBoundsException {
+		this.add((long) index, element);
+	}
+
+	/**
+	 * Method designed to add the
+	 * element at the specified index,
+	 * shifting later elements one place
+	 * along, chunk by chunk.
+	 * @param index long value containing
+	 * the index at which to add the element.
+	 * @param element Generic type reference
+	 * containing the element to add
+	 * @throws IndexOutOfBoundsException if the
+	 * given index is not in range [0, size]
+	 */
+	public void add(long index, T element) throws IndexOutOfBoundsException {
+		if(index < 0 || index > this.size) {
+			throw new IndexOutOfBoundsException();
+		}
+		this.ensureCapacity();
+		int first = this.chunk(index),
+				last = this.chunk(this.size);
+
+		//carry the last element of each full chunk into the next
+		for(int chunk = last; chunk > first; chunk--) {
+			Object[] current = this.directory[chunk];
+			int end = (chunk == last) ? this.offset(this.size) : this.mask;
+			System.arraycopy(current, 0, current, 1, end);
+			current[0] = this.directory[chunk - 1][this.mask];
+		}
+		Object[] current = this.directory[first];
+		int offset = this.offset(index),
+				end = (first == last) ? this.offset(this.size) : this.mask;
+		System.arraycopy(current, offset, current, offset + 1, end - offset);
+		current[offset] = element;
+		this.size++;
+		this.modCount++;
+	}
+
+	/**
+	 * Method designed to clear all elements
+	 * from the current list, releasing every
+	 * chunk.
+	 */
+	@Override
+	public void clear() {
+		this.directory = new Object[SegmentedList.DEFAULT_DIRECTORY_SIZE][];
+		this.chunks = 0;
+		this.size = 0;
+		this.modCount++;
+	}
+
+	/**
+	 * Method designed to check whether the
+	 * given reference is equal in value to any
+	 * element in the list.
+	 * @param object Object reference to check
+	 * to be equal in value
+	 * @return boolean value determining whether
+	 * the given reference is equal in value to
+	 * any element in the list
+	 */
+	@Override
+	public boolean contains(Object object) {
+		return (this.longIndexOf(object) != -1);
+	}
+
+	/**
+	 * Method designed to get the first element
+	 * inside of the list.
+	 * @return Generic type containing the first
+	 * element inside of the list.
+	 * @throws IndexOutOfBoundsException if the
+	 * list is empty.
+	 */
+	@Override
+	public T get() throws IndexOutOfBoundsException {
+		return this.get(0L);
+	}
+
+	/**
+	 * Method designed to get the element
+	 * at the specified index.
+	 * @param index integer value containing
+	 * the index at which to retrieve the element
+	 * @return Generic type containing the element
+	 * at the given index inside of the list.
+	 * @throws IndexOutOfBoundsException if the
+	 * index is not in range [0, size)
+	 */
+	@Override
+	public T get(int index) throws IndexOutOfBoundsException {
+		return this.get((long) index);
+	}
+
+	/**
+	 * Method designed to get the element
+	 * at the specified index.
+	 * @param index long value containing
+	 * the index at which to retrieve the element
+	 * @return Generic type containing the element
+	 * at the given index inside of the list.
+	 * @throws IndexOutOfBoundsException if the
+	 * index is not in range [0, size)
+	 */
+	public T get(long index) throws IndexOutOfBoundsException {
+		this.checkIndex(index);
+		return (T) this.directory[this.chunk(index)][this.offset(index)];
+	}
+
+	/**
+	 * Method designed to retrieve the
+	 * index of the first element equal
+	 * in value to the given reference.
+	 * @param object Object reference
+	 * used to check to be equal in value
+	 * @return integer value containing the
+	 * first index of the element equal in
+	 * value to the given reference, or -1 if
+	 * not found or past the int range.
+	 */
+	@Override
+	public int indexOf(Object object) {
+		long index = this.longIndexOf(object);
+		return (index <= Integer.MAX_VALUE) ? (int) index : -1;
+	}
+
+	/**
+	 * Method designed to retrieve the
+	 * index of the first element equal
+	 * in value to the given reference.
+	 * @param object Object reference
+	 * used to check to be equal in value
+	 * @return long value containing the
+	 * first index of the element equal in
+	 * value to the given reference, or -1 if
+	 * not found.
+	 */
+	public long longIndexOf(Object object) {
+		long index = 0;
+		for(int chunk = 0; index < this.size; chunk++) {
+			Object[] current = this.directory[chunk];
+			int end = (int) Math.min(current.length, this.size - index);
+			for(int offset = 0; offset < end; offset++) {
+				if(object.equals(current[offset])) {
+					return index + offset;
+				}
+			}
+			index += end;
+		}
+		//if not found
+		return -1;
+	}
+
+	/**
+	 * Method designed to check whether
+	 * the list has any elements.
+	 * @return boolean value determining
+	 * whether the list is empty.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return (this.size == 0);
+	}
+
+	/**
+	 * Method designed to instantiate
+	 * and return a new Iterator object
+	 * for iterating over each element
+	 * in the current list.
+	 * @return Iterator object with basetype
+	 * T
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new SegmentIterator();
+	}
+
+	/**
+	 * Method designed to remove the last element from the
+	 * list.
+	 * @return Generic type containing the removed element.
+	 * @throws IndexOutOfBoundsException if the list is empty.
+	 */
+	@Override
+	public T remove() throws IndexOutOfBoundsException {
+		return this.remove(this.size - 1);
+	}
+
+	/**
+	 * Method designed to remove the specified element in the
+	 * list.
+	 * @param index integer value containing the index of the
+	 * element to remove.
+	 * @return Generic type containing the removed element.
+	 * @throws IndexOutOfBoundsException if the given index is
+	 * out of range [0, size)
+	 */
+	@Override
+	public T remove(int index) throws IndexOutOfBoundsException {
+		return this.remove((long) index);
+	}
+
+	/**
+	 * Method designed to remove the specified element in the
+	 * list, shifting later elements back one place, chunk by
+	 * chunk.
+	 * @param index long value containing the index of the
+	 * element to remove.
+	 * @return Generic type containing the removed element.
+	 * @throws IndexOutOfBoundsException if the given index is
+	 * out of range [0, size)
+	 */
+	public T remove(long index) throws IndexOutOfBoundsException {
+		this.checkIndex(index);
+		long lastIndex = this.size - 1;
+		int first = this.chunk(index),
+				last = this.chunk(lastIndex);
+
+		Object[] current = this.directory[first];
+		int offset = this.offset(index),
+				end = (first == last) ? this.offset(lastIndex) : this.mask;
+		T element = (T) current[offset];
+		System.arraycopy(current, offset + 1, current, offset, end - offset);
+
+		//pull the first element of each later chunk back
+		for(int chunk = first + 1; chunk <= last; chunk++) {
+			Object[] next = this.directory[chunk];
+			current[this.mask] = next[0];
+			end = (chunk == last) ? this.offset(lastIndex) : this.mask;
+			System.arraycopy(next, 1, next, 0, end);
+			current = next;
+		}
+		this.directory[last][this.offset(lastIndex)] = null;
+		this.size--;
+		this.modCount++;
+
+		return element;
+	}
+
+	/**
+	 * Method designed to set the given element at the end of
+	 * the list.
+	 * @param element generic reference type T
+	 * @return Generic type containing the replaced element.
+	 * @throws IndexOutOfBoundsException if the list is empty
+	 */
+	@Override
+	public T set(T element) throws IndexOutOfBoundsException {
+		return this.set(this.size - 1, element);
+	}
+
+	/**
+	 * Method designed to set the given element at the given
+	 * index.
+	 * @param index integer value containing the index of the
+	 * element to set
+	 * @param element generic reference type T
+	 * @return Generic type containing the replaced element.
+	 * @throws IndexOutOfBoundsException if the given index is
+	 * out of range [0, size)
+	 */
+	@Override
+	public T set(int index, T element) throws IndexOutOfBoundsException {
+		return this.set((long) index, element);
+	}
+
+	/**
+	 * Method designed to set the given element at the given
+	 * index.
+	 * @param index long value containing the index of the
+	 * element to set
+	 * @param element generic reference type T
+	 * @return Generic type containing the replaced element.
+	 * @throws IndexOutOfBoundsException if the given index is
+	 * out of range [0, size)
+	 */
+	public T set(long index, T element) throws IndexOutOfBoundsException {
+		this.checkIndex(index);
+		Object[] current = this.directory[this.chunk(index)];
+		T returnElement = (T) current[this.offset(index)];
+		current[this.offset(index)] = element;
+
+		return returnElement;
+	}
+
+	/**
+	 * Accessor method used to get the size of the
+	 * list, capped at Integer.MAX_VALUE.
+	 * @return integer value containing the size
+	 * of the list.
+	 */
+	@Override
+	public int size() {
+		return (int) Math.min(this.size, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Accessor method used to get the size of the
+	 * list.
+	 * @return long value containing the size
+	 * of the list.
+	 */
+	public long longSize() {
+		return this.size;
+	}
+
+	/**
+	 * Accessor method used to get the list
+	 * as an Array.
+	 * @return Array of basetype T, where
+	 * each element is a shallow copy.
+	 * @throws IllegalStateException if the list
+	 * is too large for an array.
+	 */
+	@Override
+	public T[] toArray() throws IllegalStateException {
+		if(this.size > Integer.MAX_VALUE - 8) {
+			throw new IllegalStateException("list too large for an array");
+		}
+		T[] returnArray = (T[]) new Object[(int) this.size];
+		int copied = 0;
+		for(int chunk = 0; copied < returnArray.length; chunk++) {
+			int length = Math.min(this.mask + 1, returnArray.length - copied);
+			System.arraycopy(this.directory[chunk], 0, returnArray, copied, length);
+			copied += length;
+		}
+
+		return returnArray;
+	}
+}
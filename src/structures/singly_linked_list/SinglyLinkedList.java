@@ -1,8 +1,12 @@
 package structures.singly_linked_list;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Iterator;
+import java.util.Objects;
 
-import structures.List;
+import structures.AbstractList;
+import structures.bloom_filter.CountingBloomFilter;
 
 /**
  * Singly linked list data structure
@@ -10,7 +14,7 @@ import structures.List;
  * insertion, removal, and retrieval.
  * @author Noah Teshima
  */
-public class SinglyLinkedList<T> implements List<T> {
+public class SinglyLinkedList<T> extends AbstractList<T> {
 	/**
 	 * Private inner class designed
 	 * to hold data and a link to each
@@ -176,26 +180,38 @@ public class SinglyLinkedList<T> implements List<T> {
 		/**
 		 * Overridden method stub from Iterable
 		 * interface. Used to remove the node
-		 * immediately front of the pointer.
+		 * immediately front of the pointer. Nothing
+		 * is removed when the pointer is on the tail.
 		 */
 		@Override
 		public void remove() {
-			if(this.hasNext()) {
+			if(this.hasNext() && this.pointer.next != null) {
+				if(filter != null) {
+					filter.remove(this.pointer.next.data);
+				}
 				this.pointer.next = this.pointer.next.next;
+				if(this.pointer.next == null) {
+					tail = this.pointer;
+				}
+				size--;
+				modCount++;
 			}
 		}
 	}
 	
 	private Node<T> head;
+	private Node<T> tail;
 	private int size;
+	private CountingBloomFilter filter;
 	
 	/**
 	 * Default constructor used to
-	 * set the head node to null
-	 * and the size to 0.
+	 * set the head and tail nodes
+	 * to null and the size to 0.
 	 */
 	public SinglyLinkedList() {
 		this.head = null;
+		this.tail = null;
 		this.size = 0;
 	}
 	
@@ -208,6 +224,7 @@ public class SinglyLinkedList<T> implements List<T> {
 	public SinglyLinkedList(T data) {
 		Node<T> node = new Node<>(data);
 		this.head = node;
+		this.tail = node;
 		this.size = 1;
 	}
 	
@@ -250,9 +267,14 @@ public class SinglyLinkedList<T> implements List<T> {
 		}
 		
 		Node<T> pointer = null;
-		for(int index2 = 0; index2 < index; index2++) {
-			pointer = (pointer == null)
-					? this.head : pointer.next;
+		//adding to the back starts from the tail
+		if(index == this.size) {
+			pointer = this.tail;
+		}else {
+			for(int index2 = 0; index2 < index; index2++) {
+				pointer = (pointer == null)
+						? this.head : pointer.next;
+			}
 		}
 		
 		//list is empty, so add to front
@@ -263,8 +285,15 @@ public class SinglyLinkedList<T> implements List<T> {
 			node.next = pointer.next;
 			pointer.next = node;
 		}
+		if(node.next == null) {
+			this.tail = node;
+		}
+		if(this.filter != null) {
+			this.filter.add(data);
+		}
 		
 		this.size++;
+		this.modCount++;
 	}
 	
 	/**
@@ -273,7 +302,12 @@ public class SinglyLinkedList<T> implements List<T> {
 	@Override
 	public void clear() {
 		this.head = null;
+		this.tail = null;
 		this.size = 0;
+		if(this.filter != null) {
+			this.filter.clear();
+		}
+		this.modCount++;
 	}
 	
 	/**
@@ -289,11 +323,18 @@ public class SinglyLinkedList<T> implements List<T> {
 	 */
 	@Override
 	public boolean contains(Object object) {
+		//a definite miss skips the scan
+		if(this.filter != null && !this.filter.mightContain(object)) {
+			return false;
+		}
 		for(T data : this) {
 			if(object.equals(data)) {
 				return true;
 			}
 		}
+		if(this.filter != null) {
+			this.filter.recordFalsePositive();
+		}
 		return false;
 	}
 	
@@ -323,7 +364,10 @@ public class SinglyLinkedList<T> implements List<T> {
 	 * for the list.
 	 */
 	public T getFromBack() throws IndexOutOfBoundsException {
-		return this.get(this.size - 1);
+		if(this.size == 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		return this.tail.data;
 	}
 	
 	/**
@@ -373,6 +417,9 @@ public class SinglyLinkedList<T> implements List<T> {
 	 */
 	@Override
 	public int indexOf(Object object) {
+		if(this.filter != null && !this.filter.mightContain(object)) {
+			return -1;
+		}
 		int index = 0;
 		for(T data : this) {
 			if(object.equals(data)) {
@@ -380,6 +427,9 @@ public class SinglyLinkedList<T> implements List<T> {
 			}
 			index++;
 		}
+		if(this.filter != null) {
+			this.filter.recordFalsePositive();
+		}
 		return -1;
 	}
 	
@@ -433,6 +483,90 @@ public class SinglyLinkedList<T> implements List<T> {
 		return this.remove(size - 1);
 	}
 	
+	/**
+	 * Mutator method designed to move every node
+	 * of the given list to the back of the current
+	 * list in O(1), leaving the given list empty.
+	 * No nodes are copied or reallocated.
+	 * @param other SinglyLinkedList reference whose
+	 * nodes are appended.
+	 * @throws IllegalArgumentException if the given
+	 * list is the current instance.
+	 */
+	public void appendAll(SinglyLinkedList<T> other) throws IllegalArgumentException {
+		if(other == this) {
+			throw new IllegalArgumentException();
+		}
+		if(other.isEmpty()) {
+			return;
+		}
+		if(this.filter != null) {
+			for(Node<T> pointer = other.head; pointer != null; pointer = pointer.next) {
+				this.filter.add(pointer.data);
+			}
+		}
+		if(this.head == null) {
+			this.head = other.head;
+		}else {
+			this.tail.next = other.head;
+		}
+		this.tail = other.tail;
+		this.size += other.size;
+		this.modCount++;
+		
+		other.clear();
+	}
+	
+	/**
+	 * Mutator method designed to split the list
+	 * at the given index. The current list keeps
+	 * the nodes before the index, and the remaining
+	 * nodes are moved to the returned list without
+	 * copying.
+	 * @param index integer value containing the index
+	 * of the first node moved.
+	 * @return SinglyLinkedList object containing the
+	 * nodes from the given index on.
+	 * @throws IndexOutOfBoundsException if the given
+	 * index is out of range [0, size]
+	 */
+	public SinglyLinkedList<T> splitAt(int index) throws IndexOutOfBoundsException {
+		if(index < 0 || index > this.size) {
+			throw new IndexOutOfBoundsException();
+		}
+		SinglyLinkedList<T> suffix = new SinglyLinkedList<>();
+		if(index == this.size) {
+			return suffix;
+		}
+		
+		Node<T> pointer = null;
+		for(int index2 = 0; index2 < index; index2++) {
+			pointer = (pointer == null)
+					? this.head : pointer.next;
+		}
+		
+		suffix.head = (pointer == null) ? this.head : pointer.next;
+		suffix.tail = this.tail;
+		suffix.size = this.size - index;
+		
+		//index 0, so every node moves
+		if(pointer == null) {
+			this.head = null;
+		}else {
+			pointer.next = null;
+		}
+		this.tail = pointer;
+		this.size = index;
+		if(this.filter != null) {
+			for(Node<T> node = suffix.head; node != null; node = node.next) {
+				this.filter.remove(node.data);
+			}
+		}
+		this.modCount++;
+		
+		return suffix;
+	}
+	
 	/**
 	 * Mutator method designed to remove the node at
 	 * the given index from the linked list.
@@ -460,11 +594,21 @@ public class SinglyLinkedList<T> implements List<T> {
 		if(pointer == null) {
 			returnData = this.head.data;
 			this.head = this.head.next;
+			if(this.head == null) {
+				this.tail = null;
+			}
 		}else {
 			returnData = pointer.next.data;
 			pointer.next = pointer.next.next;
+			if(pointer.next == null) {
+				this.tail = pointer;
+			}
+		}
+		if(this.filter != null) {
+			this.filter.remove(returnData);
 		}
 		this.size--;
+		this.modCount++;
 		
 		return returnData;
 	}
@@ -535,10 +679,67 @@ public class SinglyLinkedList<T> implements List<T> {
 			node.next = pointer.next.next;
 			pointer.next = node;
 		}
+		if(node.next == null) {
+			this.tail = node;
+		}
+		if(this.filter != null) {
+			this.filter.remove(returnData);
+			this.filter.add(element);
+		}
 		
 		return returnData;
 	}
 	
+	/**
+	 * Mutator method used to attach a counting Bloom
+	 * filter to the list. While attached, the filter is
+	 * kept up to date on every change to the list, and
+	 * contains and indexOf answer a definite miss without
+	 * walking the nodes.
+	 * @param expectedSize integer value containing the
+	 * number of elements the filter is sized for.
+	 * @param falsePositiveRate double value containing the
+	 * target probability that a miss still walks the list.
+	 * @throws IllegalArgumentException if either argument
+	 * is out of range.
+	 */
+	public void enableFilter(int expectedSize, double falsePositiveRate)
+			throws IllegalArgumentException {
+		this.enableFilter(new CountingBloomFilter(expectedSize, falsePositiveRate));
+	}
+	
+	/**
+	 * Mutator method used to attach the given filter,
+	 * for callers choosing the memory budget themselves.
+	 * Any elements the filter already holds are cleared.
+	 * @param filter CountingBloomFilter reference to attach.
+	 */
+	public void enableFilter(CountingBloomFilter filter) {
+		filter.clear();
+		for(Node<T> pointer = this.head; pointer != null; pointer = pointer.next) {
+			filter.add(pointer.data);
+		}
+		this.filter = filter;
+	}
+	
+	/**
+	 * Mutator method used to detach the filter,
+	 * so lookups walk the list again.
+	 */
+	public void disableFilter() {
+		this.filter = null;
+	}
+	
+	/**
+	 * Accessor method used to get the attached filter,
+	 * which exposes its size and lookup statistics.
+	 * @return CountingBloomFilter reference, or null if
+	 * no filter is attached.
+	 */
+	public CountingBloomFilter getFilter() {
+		return this.filter;
+	}
+	
 	/**
 	 * Accessor method used to get the
 	 * size of the linked list.
@@ -559,9 +760,10 @@ public class SinglyLinkedList<T> implements List<T> {
 	@Override
 	public T[] toArray() {
 		T[] returnArray = (T[]) new Object[this.size];
+		int index = 0;
 		
-		for(int index = 0; index < this.size; index++) {
-			returnArray[index] = this.get(index);
+		for(Node<T> pointer = this.head; pointer != null; pointer = pointer.next) {
+			returnArray[index++] = pointer.data;
 		}
 		
 		return returnArray;
@@ -571,7 +773,8 @@ public class SinglyLinkedList<T> implements List<T> {
 	 * Overridden method from Object class.
 	 * Used to check whether the given reference
 	 * has nodes equal in value and order to the
-	 * current instance.
+	 * current instance. Both lists are walked
+	 * once, side by side.
 	 * @param obj Object reference with actual type
 	 * SinglyLinkedList
 	 * @return boolean value determining whether the
@@ -589,15 +792,54 @@ public class SinglyLinkedList<T> implements List<T> {
 			return false;
 		}
 		
-		for(int index = 0; index < this.size; index++) {
-			if(!(this.get(index).equals(listObj.get(index)))) {
+		SinglyLinkedList<?>.Node<?> other = listObj.head;
+		for(Node<T> pointer = this.head; pointer != null; pointer = pointer.next) {
+			if(!Objects.equals(pointer.data, other.data)) {
 				return false;
 			}
+			other = other.next;
 		}
 		
 		return true;
 	}
 	
+	/**
+	 * Overridden method from Object class.
+	 * Used to get a hash code consistent with
+	 * equals, combining the hash code of each
+	 * element in order.
+	 * @return integer value containing the hash
+	 * code of the list.
+	 */
+	@Override
+	public int hashCode() {
+		int hash = 1;
+		for(Node<T> pointer = this.head; pointer != null; pointer = pointer.next) {
+			hash = 31 * hash + Objects.hashCode(pointer.data);
+		}
+		
+		return hash;
+	}
+	
+	/**
+	 * Method designed to write information about
+	 * each node to the given Appendable, in the same
+	 * form as toString, without building the whole
+	 * String first.
+	 * @param appendable Appendable reference to write to.
+	 * @param <A> Generic type of the Appendable.
+	 * @return the given Appendable.
+	 * @throws IOException if the Appendable fails.
+	 */
+	public <A extends Appendable> A appendTo(A appendable) throws IOException {
+		for(Node<T> pointer = this.head; pointer != null; pointer = pointer.next) {
+			appendable.append(String.valueOf(pointer.data)).append('\n');
+		}
+		appendable.append("Size: ").append(Integer.toString(this.size));
+		
+		return appendable;
+	}
+	
 	/**
 	 * Overridden method from Object class.
 	 * Used to get a String object containing 
@@ -608,15 +850,11 @@ public class SinglyLinkedList<T> implements List<T> {
 	 */
 	@Override
 	public String toString() {
-		String returnString = "";
-		for(T data : this) {
-			returnString += data + "\n";
+		try {
+			return this.appendTo(new StringBuilder()).toString();
+		}catch(IOException e) {
+			//StringBuilder never throws
+			throw new UncheckedIOException(e);
 		}
-		
-		returnString += String.format("Size: %d",
-				this.size);
-		
-		return returnString;
 	}
 }
-
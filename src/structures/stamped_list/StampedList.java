@@ -0,0 +1,369 @@
+package structures.stamped_list;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+import structures.AbstractList;
+import structures.List;
+
+/**
+ * Thread-safe wrapper around any list, such as
+ * an ArrayList or a SinglyLinkedList, guarded by
+ * a StampedLock. Reads first run without taking
+ * the lock and keep their result only if no write
+ * happened in the meantime, so readers never write
+ * to shared memory and do not slow each other
+ * down. A read that overlaps a write is retried
+ * once under the read lock. Writes take the write
+ * lock. Iterators walk a snapshot copied the same
+ * way. The wrapped list must not be used directly
+ * once wrapped, and a filter enabled on it will
+ * undercount its statistics under concurrent reads.
+ * @author Noah Teshima
+ *
+ * @param <T> Generic type containing
+ * the data being stored inside of the
+ * list.
+ */
+public class StampedList<T> extends AbstractList<T> {
+
+	/**
+	 * Private static inner class used to iterate
+	 * over a snapshot of the elements.
+	 * @author Noah Teshima
+	 * @param <E> Generic type of the elements.
+	 */
+	private static class SnapshotIterator<E> implements Iterator<E> {
+		private final E[] snapshot;
+		private int index;
+
+		/**
+		 * Constructor used to set the snapshot.
+		 * @param snapshot Array of elements to walk.
+		 */
+		public SnapshotIterator(E[] snapshot) {
+			this.snapshot = snapshot;
+		}
+
+		/**
+		 * Method designed to determine whether
+		 * there is another element to iterate
+		 * over.
+		 * @return boolean value determining whether
+		 * another element can be iterated over.
+		 */
+		@Override
+		public boolean hasNext() {
+			return (this.index < this.snapshot.length);
+		}
+
+		/**
+		 * Method designed to return the next
+		 * element in the snapshot.
+		 * @return Generic type object containing the
+		 * element iterated over.
+		 * @throws NoSuchElementException if there is
+		 * no next element.
+		 */
+		@Override
+		public E next() throws NoSuchElementException {
+			if(!this.hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return this.snapshot[this.index++];
+		}
+	}
+
+	private final List<T> list;
+	private final StampedLock lock;
+	private final LongAdder fallbackCount;
+
+	/**
+	 * Constructor used to wrap the given list.
+	 * @param list List reference to guard. Must
+	 * not be used directly afterwards.
+	 */
+	public StampedList(List<T> list) {
+		this.list = list;
+		this.lock = new StampedLock();
+		this.fallbackCount = new LongAdder();
+	}
+
+	/**
+	 * Private method used to run a read first under
+	 * an optimistic stamp, and again under the read
+	 * lock if a write overlapped it. An exception
+	 * thrown while a write overlapped is the result
+	 * of reading a list in the middle of a change,
+	 * so it is dropped and the read retried.
+	 * @param reader Supplier reference running the read.
+	 * @return Generic type containing the result.
+	 */
+	private <R> R read(Supplier<R> reader) {
+		long stamp = this.lock.tryOptimisticRead();
+		if(stamp != 0) {
+			try {
+				R result = reader.get();
+				if(this.lock.validate(stamp)) {
+					return result;
+				}
+			}catch(RuntimeException e) {
+				if(this.lock.validate(stamp)) {
+					throw e;
+				}
+			}
+		}
+		this.fallbackCount.increment();
+		stamp = this.lock.readLock();
+		try {
+			return reader.get();
+		}finally {
+			this.lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * Method designed to add the given element,
+	 * as the wrapped list's add does.
+	 * @param element Generic type reference to add.
+	 */
+	@Override
+	public void add(T element) {
+		long stamp = this.lock.writeLock();
+		try {
+			this.list.add(element);
+			this.modCount++;
+		}finally {
+			this.lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Method designed to add the given element at
+	 * the given index.
+	 * @param index integer value containing the index.
+	 * @param element Generic type reference to add.
+	 * @throws IndexOutOfBoundsException if the index
+	 * is out of range for the wrapped list.
+	 */
+	@Override
+	public void add(int index, T element) throws IndexOutOfBoundsException {
+		long stamp = this.lock.writeLock();
+		try {
+			this.list.add(index, element);
+			this.modCount++;
+		}finally {
+			this.lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Method designed to remove every element.
+	 */
+	@Override
+	public void clear() {
+		long stamp = this.lock.writeLock();
+		try {
+			this.list.clear();
+			this.modCount++;
+		}finally {
+			this.lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Method designed to check whether an element
+	 * equal to the given object is in the list.
+	 * @param object Object reference to look for.
+	 * @return boolean value determining whether
+	 * the list contains the object.
+	 */
+	@Override
+	public boolean contains(Object object) {
+		return this.read(() -> this.list.contains(object));
+	}
+
+	/**
+	 * Accessor method used to get the first element.
+	 * @return Generic type containing the first element.
+	 * @throws IndexOutOfBoundsException if the list
+	 * is empty.
+	 */
+	@Override
+	public T get() throws IndexOutOfBoundsException {
+		return this.read(() -> this.list.get());
+	}
+
+	/**
+	 * Accessor method used to get the element at
+	 * the given index.
+	 * @param index integer value containing the index.
+	 * @return Generic type containing the element.
+	 * @throws IndexOutOfBoundsException if the index
+	 * is out of range.
+	 */
+	@Override
+	public T get(int index) throws IndexOutOfBoundsException {
+		return this.read(() -> this.list.get(index));
+	}
+
+	/**
+	 * Method designed to get the index of the first
+	 * element equal to the given object.
+	 * @param object Object reference to look for.
+	 * @return integer value containing the index,
+	 * or -1 if there is none.
+	 */
+	@Override
+	public int indexOf(Object object) {
+		return this.read(() -> this.list.indexOf(object));
+	}
+
+	/**
+	 * Accessor method used to check whether
+	 * the list is empty.
+	 * @return boolean value determining whether
+	 * the list is empty.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return this.read(() -> this.list.isEmpty());
+	}
+
+	/**
+	 * Method designed to get an iterator over a
+	 * snapshot of the list taken when it is called.
+	 * The iterator does not see later writes and
+	 * does not support remove.
+	 * @return Iterator object over the snapshot.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new SnapshotIterator<>(this.toArray());
+	}
+
+	/**
+	 * Method designed to remove an element, as the
+	 * wrapped list's remove does.
+	 * @return Generic type containing the removed element.
+	 * @throws IndexOutOfBoundsException if the list
+	 * is empty.
+	 */
+	@Override
+	public T remove() throws IndexOutOfBoundsException {
+		long stamp = this.lock.writeLock();
+		try {
+			T element = this.list.remove();
+			this.modCount++;
+			return element;
+		}finally {
+			this.lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Method designed to remove the element at
+	 * the given index.
+	 * @param index integer value containing the index.
+	 * @return Generic type containing the removed element.
+	 * @throws IndexOutOfBoundsException if the index
+	 * is out of range.
+	 */
+	@Override
+	public T remove(int index) throws IndexOutOfBoundsException {
+		long stamp = this.lock.writeLock();
+		try {
+			T element = this.list.remove(index);
+			this.modCount++;
+			return element;
+		}finally {
+			this.lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Mutator method used to replace an element, as
+	 * the wrapped list's set does.
+	 * @param element Generic type reference to store.
+	 * @return Generic type containing the replaced element.
+	 * @throws IndexOutOfBoundsException if the list
+	 * is empty.
+	 */
+	@Override
+	public T set(T element) throws IndexOutOfBoundsException {
+		long stamp = this.lock.writeLock();
+		try {
+			return this.list.set(element);
+		}finally {
+			this.lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Mutator method used to replace the element
+	 * at the given index.
+	 * @param index integer value containing the index.
+	 * @param element Generic type reference to store.
+	 * @return Generic type containing the replaced element.
+	 * @throws IndexOutOfBoundsException if the index
+	 * is out of range.
+	 */
+	@Override
+	public T set(int index, T element) throws IndexOutOfBoundsException {
+		long stamp = this.lock.writeLock();
+		try {
+			return this.list.set(index, element);
+		}finally {
+			this.lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Accessor method used to get the number
+	 * of elements.
+	 * @return integer value containing the size.
+	 */
+	@Override
+	public int size() {
+		return this.read(() -> this.list.size());
+	}
+
+	/**
+	 * Method designed to copy the elements into
+	 * a new array, as one consistent snapshot.
+	 * @return Array containing the elements in order.
+	 */
+	@Override
+	public T[] toArray() {
+		return this.read(() -> this.list.toArray());
+	}
+
+	/**
+	 * Accessor method used to get the number of reads
+	 * that overlapped a write and had to be run again
+	 * under the read lock.
+	 * @return long value containing the fallback count.
+	 */
+	public long getFallbackCount() {
+		return this.fallbackCount.sum();
+	}
+
+	/**
+	 * Overridden method from Object class.
+	 * Used to get the wrapped list's String
+	 * representation, taken under the read lock.
+	 * @return String object describing the list.
+	 */
+	@Override
+	public String toString() {
+		long stamp = this.lock.readLock();
+		try {
+			return this.list.toString();
+		}finally {
+			this.lock.unlockRead(stamp);
+		}
+	}
+}
@@ -0,0 +1,53 @@
+package structures.unit_tests;
+
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+
+import structures.benchmarks.AllocationHarness;
+
+/**
+ * @author Noah Teshima
+ * Test suite for AllocationHarness class
+ */
+public class AllocationHarnessTest {
+	private static Object sink;
+
+	/**
+	 * Test method for {@link structures.benchmarks.AllocationHarness#measure(java.lang.String, double, long, structures.benchmarks.AllocationHarness.Operation)}.
+	 */
+	@Test
+	public void measureAllocationTest() {
+		AllocationHarness harness = new AllocationHarness(1000, 10000);
+
+		AllocationHarness.Result result = harness.measure("allocate", 1024, Long.MAX_VALUE,
+				iteration -> sink = new long[6]);
+
+		if(AllocationHarness.isSupported()) {
+			Assertions.assertTrue(result.getBytesPerOperation() >= 56,
+					"Allocation was not counted: " + result.getBytesPerOperation());
+		}
+		Assertions.assertTrue(result.getP50() <= result.getP99(), "Percentiles out of order");
+		Assertions.assertTrue(harness.passed(), "Budget should be met");
+	}
+
+	/**
+	 * Test method for {@link structures.benchmarks.AllocationHarness#passed()}.
+	 */
+	@Test
+	public void missedBudgetTest() {
+		AllocationHarness harness = new AllocationHarness(0, 1000);
+
+		harness.measure("allocate", 0, Long.MAX_VALUE, iteration -> sink = new long[64]);
+
+		Assertions.assertEquals(!AllocationHarness.isSupported(), harness.passed());
+		Assertions.assertTrue(harness.report().contains("allocate"), "Report is missing the operation");
+	}
+
+	/**
+	 * Test method for {@link structures.benchmarks.AllocationHarness#AllocationHarness(int, int)}.
+	 */
+	@Test (expected = IllegalArgumentException.class)
+	public void invalidIterationsTest() {
+		new AllocationHarness(0, 0);
+	}
+}
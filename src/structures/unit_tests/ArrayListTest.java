@@ -0,0 +1,148 @@
+package structures.unit_tests;
+
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+
+import structures.arraylist.ArrayList;
+
+/**
+ * @author Noah Teshima
+ * Test suite for ArrayList class
+ */
+public class ArrayListTest {
+
+	/**
+	 * Test method for {@link structures.arraylist.ArrayList#parallelReplaceAll(java.util.function.UnaryOperator)}.
+	 */
+	@Test
+	public void parallelReplaceAllTest() {
+		ArrayList<Integer> list = new ArrayList<>();
+
+		for(int index = 0; index < 1000; index++) {
+			list.add(index);
+		}
+		list.setParallelThreshold(64);
+		list.parallelReplaceAll(element -> element * 2);
+
+		Assertions.assertEquals(Integer.valueOf(0), list.get(0));
+		Assertions.assertEquals(Integer.valueOf(1998), list.get(999));
+	}
+
+	/**
+	 * Test method for {@link structures.arraylist.ArrayList#parallelReduce(java.lang.Object, java.util.function.BinaryOperator)}.
+	 */
+	@Test
+	public void parallelReduceTest() {
+		ArrayList<Integer> list = new ArrayList<>();
+
+		for(int index = 1; index <= 1000; index++) {
+			list.add(index);
+		}
+		list.setParallelThreshold(64);
+
+		Assertions.assertEquals(Integer.valueOf(500500), list.parallelReduce(0, Integer::sum));
+	}
+
+	/**
+	 * Test method for {@link structures.arraylist.ArrayList#parallelRemoveIf(java.util.function.Predicate)}.
+	 */
+	@Test
+	public void parallelRemoveIfTest() {
+		ArrayList<Integer> list = new ArrayList<>();
+
+		for(int index = 0; index < 1000; index++) {
+			list.add(index);
+		}
+		list.setParallelThreshold(64);
+
+		Assertions.assertEquals(500, list.parallelRemoveIf(element -> element % 2 == 1));
+		Assertions.assertEquals(500, list.size(), "Size should be 500");
+		Assertions.assertEquals(Integer.valueOf(998), list.get(499));
+		Assertions.assertEquals(Integer.valueOf(130), list.get(65));
+	}
+
+	/**
+	 * Test method for {@link structures.arraylist.ArrayList#add(int, java.lang.Object)}.
+	 */
+	@Test
+	public void addToMiddleTest() {
+		ArrayList<Integer> list = new ArrayList<>(2);
+
+		list.add(0);
+		list.add(2);
+		list.add(1, 1);
+		list.add(3, 3);
+
+		Assertions.assertArrayEquals(new Integer[] {0, 1, 2, 3}, list.toArray());
+		Assertions.assertEquals(4, list.size(), "Size should be 4");
+	}
+
+	/**
+	 * Test method for {@link structures.arraylist.ArrayList#remove(int)}.
+	 */
+	@Test
+	public void removeFromMiddleTest() {
+		ArrayList<Integer> list = new ArrayList<>();
+
+		for(int index = 0; index < 5; index++) {
+			list.add(index);
+		}
+
+		Assertions.assertEquals(Integer.valueOf(2), list.remove(2));
+		Assertions.assertEquals(Integer.valueOf(4), list.remove());
+		Assertions.assertArrayEquals(new Integer[] {0, 1, 3}, list.toArray());
+		Assertions.assertEquals(3, list.size(), "Size should be 3");
+	}
+
+	/**
+	 * Test method for {@link structures.arraylist.ArrayList#remove()}.
+	 */
+	@Test (expected = IndexOutOfBoundsException.class)
+	public void removeFromEmptyTest() {
+		ArrayList<Integer> list = new ArrayList<>();
+
+		list.add(0);
+		list.remove();
+		list.remove();
+	}
+
+	/**
+	 * Test method for {@link structures.arraylist.ArrayList#iterator()}.
+	 */
+	@Test
+	public void iteratorTest() {
+		ArrayList<Integer> list = new ArrayList<>();
+		int sum = 0;
+
+		Assertions.assertFalse(list.iterator().hasNext(), "Empty list has no elements");
+		for(int index = 0; index < 10; index++) {
+			list.add(index);
+		}
+		list.remove(5);
+		for(Integer element : list) {
+			sum += element;
+		}
+
+		Assertions.assertEquals(40, sum);
+	}
+
+	/**
+	 * Test method for {@link structures.arraylist.ArrayList#setCompacting(boolean)}.
+	 */
+	@Test
+	public void compactingTest() {
+		ArrayList<Integer> list = new ArrayList<>();
+
+		for(int index = 0; index < 1000; index++) {
+			list.add(index);
+		}
+		list.setCompacting(true);
+		Assertions.assertEquals(1000, list.capacity());
+		while(list.size() > 10) {
+			list.remove();
+		}
+
+		Assertions.assertTrue(list.capacity() < 100, "Capacity was not released");
+		Assertions.assertArrayEquals(new Integer[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, list.toArray());
+	}
+}
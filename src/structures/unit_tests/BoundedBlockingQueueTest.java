@@ -0,0 +1,130 @@
+package structures.unit_tests;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+
+import structures.blocking_queue.BoundedBlockingQueue;
+import structures.ring_deque.RingDeque;
+
+/**
+ * @author Noah Teshima
+ * Test suite for BoundedBlockingQueue class
+ */
+public class BoundedBlockingQueueTest {
+
+	/**
+	 * Test method for {@link structures.blocking_queue.BoundedBlockingQueue#offer(java.lang.Object, long, java.util.concurrent.TimeUnit)}.
+	 */
+	@Test
+	public void offerWhenFullTest() throws InterruptedException {
+		BoundedBlockingQueue<Integer> queue = new BoundedBlockingQueue<>(2);
+
+		Assertions.assertTrue(queue.offer(0), "Offer to empty queue failed");
+		Assertions.assertTrue(queue.offer(1), "Offer to queue with room failed");
+		Assertions.assertFalse(queue.offer(2), "Offer to full queue succeeded");
+		Assertions.assertFalse(queue.offer(2, 10, TimeUnit.MILLISECONDS), "Timed offer did not time out");
+		Assertions.assertEquals(Integer.valueOf(0), queue.poll());
+		Assertions.assertTrue(queue.offer(2, 10, TimeUnit.MILLISECONDS), "Timed offer failed with room");
+	}
+
+	/**
+	 * Test method for {@link structures.blocking_queue.BoundedBlockingQueue#drainTo(structures.List, int)}.
+	 */
+	@Test
+	public void drainToTest() {
+		BoundedBlockingQueue<Integer> queue = new BoundedBlockingQueue<>(4);
+		RingDeque<Integer> batch = new RingDeque<>();
+
+		//wrap the ring before draining
+		queue.offer(-1);
+		queue.poll();
+		for(int index = 0; index < 4; index++) {
+			queue.offer(index);
+		}
+
+		Assertions.assertEquals(3, queue.drainTo(batch, 3));
+		Assertions.assertArrayEquals(new Integer[] {0, 1, 2}, batch.toArray());
+		Assertions.assertEquals(1, queue.size(), "Size should be 1");
+		Assertions.assertEquals(3, queue.remainingCapacity());
+	}
+
+	/**
+	 * Test method for {@link structures.blocking_queue.BoundedBlockingQueue#drainTo(structures.List, int)}.
+	 */
+	@Test
+	public void drainToFailureTest() {
+		BoundedBlockingQueue<Integer> queue = new BoundedBlockingQueue<>(4);
+		RingDeque<Integer> batch = new RingDeque<Integer>() {
+			@Override
+			public void add(int index, Integer element) {
+				if(this.size() == 2) {
+					throw new IllegalStateException();
+				}
+				super.add(index, element);
+			}
+		};
+		for(int index = 0; index < 4; index++) {
+			queue.offer(index);
+		}
+
+		try {
+			queue.drainTo(batch, 4);
+			Assertions.fail("Refused element was not reported");
+		}catch(IllegalStateException e) {
+			//the two elements the list took are gone, the rest stay queued
+		}
+		Assertions.assertArrayEquals(new Integer[] {0, 1}, batch.toArray());
+		Assertions.assertEquals(2, queue.size(), "Size should be 2");
+		Assertions.assertEquals(2, queue.remainingCapacity());
+		Assertions.assertEquals(Integer.valueOf(2), queue.poll());
+		Assertions.assertTrue(queue.offer(4) && queue.offer(5) && queue.offer(6), "Freed room was lost");
+		Assertions.assertFalse(queue.offer(7), "Offer to full queue succeeded");
+	}
+
+	/**
+	 * Test method for {@link structures.blocking_queue.BoundedBlockingQueue#take()}.
+	 */
+	@Test
+	public void producerConsumerTest() throws InterruptedException {
+		BoundedBlockingQueue<Integer> queue = new BoundedBlockingQueue<>(8);
+		long[] sum = new long[1];
+		int[] mismatch = {-1};
+
+		Thread consumer = new Thread(() -> {
+			try {
+				for(int index = 0; index < 10000; index++) {
+					int element = queue.take();
+					//a single producer keeps its order
+					if(element != index) {
+						mismatch[0] = index;
+						return;
+					}
+					sum[0] += element;
+				}
+			}catch(InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		consumer.start();
+		//a timed offer, so a consumer that stopped early fails the test instead of hanging it
+		for(int index = 0; index < 10000; index++) {
+			Assertions.assertTrue(queue.offer(index, 5, TimeUnit.SECONDS),
+					"Consumer stopped, out of order at " + mismatch[0]);
+		}
+		consumer.join(10000);
+
+		Assertions.assertEquals(-1, mismatch[0], "Elements taken out of order");
+		Assertions.assertEquals(49995000L, sum[0]);
+		Assertions.assertTrue(queue.isEmpty(), "Queue should be empty");
+	}
+
+	/**
+	 * Test method for {@link structures.blocking_queue.BoundedBlockingQueue#offer(java.lang.Object)}.
+	 */
+	@Test (expected = NullPointerException.class)
+	public void offerNullTest() {
+		new BoundedBlockingQueue<Integer>(1).offer(null);
+	}
+}
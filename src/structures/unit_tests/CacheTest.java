@@ -0,0 +1,175 @@
+package structures.unit_tests;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+
+import structures.cache.Cache;
+import structures.cache.CacheStats;
+import structures.cache.LruCache;
+import structures.cache.StripedCache;
+import structures.cache.TinyLfuCache;
+
+/**
+ * @author Noah Teshima
+ * Test suite for LruCache, TinyLfuCache and StripedCache classes
+ */
+public class CacheTest {
+
+	/**
+	 * Private static method used to use 50 keys
+	 * five times each, then scan 10000 keys once.
+	 * @param cache Cache reference to use.
+	 */
+	private static void useThenScan(Cache<Integer, Integer> cache) {
+		for(int round = 0; round < 5; round++) {
+			for(int key = 0; key < 50; key++) {
+				if(cache.get(key) == null) {
+					cache.put(key, key);
+				}
+			}
+		}
+		for(int key = 1000; key < 11000; key++) {
+			cache.get(key);
+			cache.put(key, key);
+		}
+	}
+
+	/**
+	 * Test method for {@link structures.cache.LruCache#put(java.lang.Object, java.lang.Object)}.
+	 */
+	@Test
+	public void lruEvictionOrderTest() {
+		LruCache<Integer, String> cache = new LruCache<>(3);
+
+		cache.put(1, "one");
+		cache.put(2, "two");
+		cache.put(3, "three");
+		Assertions.assertEquals("one", cache.get(1));
+		cache.put(4, "four");
+
+		Assertions.assertFalse(cache.containsKey(2), "Least recently used entry was kept");
+		Assertions.assertTrue(cache.containsKey(1), "Recently used entry was evicted");
+		Assertions.assertNull(cache.get(2));
+		Assertions.assertEquals(3, cache.size());
+
+		CacheStats stats = cache.getStats();
+		Assertions.assertEquals(1, stats.getHitCount());
+		Assertions.assertEquals(1, stats.getMissCount());
+		Assertions.assertEquals(1, stats.getEvictionCount());
+		Assertions.assertEquals(0.5, stats.getHitRate());
+	}
+
+	/**
+	 * Test method for {@link structures.cache.LruCache#LruCache(long, structures.cache.Cache.Weigher)}.
+	 */
+	@Test
+	public void weightTest() {
+		LruCache<String, String> cache = new LruCache<>(10, (key, value) -> value.length());
+
+		cache.put("a", "aaaa");
+		cache.put("b", "bbbb");
+		Assertions.assertEquals(8, cache.getWeightedSize());
+		cache.put("a", "a");
+		Assertions.assertEquals(5, cache.getWeightedSize());
+		cache.put("c", "cccccc");
+
+		Assertions.assertFalse(cache.containsKey("b"), "Heaviest old entry was kept");
+		Assertions.assertEquals(7, cache.getWeightedSize());
+		Assertions.assertEquals(4, cache.getStats().getEvictionWeight());
+		Assertions.assertEquals("cccccc", cache.remove("c"));
+		Assertions.assertEquals(1, cache.getWeightedSize());
+	}
+
+	/**
+	 * Test method for {@link structures.cache.TinyLfuCache#put(java.lang.Object, java.lang.Object)}.
+	 */
+	@Test
+	public void tinyLfuScanResistanceTest() {
+		TinyLfuCache<Integer, Integer> tinyLfu = new TinyLfuCache<>(100);
+		LruCache<Integer, Integer> lru = new LruCache<>(100);
+
+		CacheTest.useThenScan(tinyLfu);
+		CacheTest.useThenScan(lru);
+		int tinyLfuKept = 0,
+				lruKept = 0;
+		for(int key = 0; key < 50; key++) {
+			tinyLfuKept += tinyLfu.containsKey(key) ? 1 : 0;
+			lruKept += lru.containsKey(key) ? 1 : 0;
+		}
+
+		Assertions.assertEquals(0, lruKept, "LRU kept entries older than the scan");
+		Assertions.assertTrue(tinyLfuKept >= 45, "Scan evicted frequently used entries: " + tinyLfuKept);
+		Assertions.assertTrue(tinyLfu.getWeightedSize() <= 100, "Cache exceeded its maximum");
+	}
+
+	/**
+	 * Test method for {@link structures.cache.TinyLfuCache#TinyLfuCache(long, structures.cache.Cache.Weigher)}.
+	 */
+	@Test
+	public void tinyLfuLargeWeightTest() {
+		TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>(1L << 28, (key, value) -> 1 << 20);
+
+		for(int key = 1000; key < 1300; key++) {
+			cache.get(key);
+			cache.put(key, key);
+		}
+		for(int round = 0; round < 5; round++) {
+			for(int key = 0; key < 50; key++) {
+				if(cache.get(key) == null) {
+					cache.put(key, key);
+				}
+			}
+		}
+		int kept = 0;
+		for(int key = 0; key < 50; key++) {
+			kept += cache.containsKey(key) ? 1 : 0;
+		}
+
+		Assertions.assertTrue(kept >= 45, "Frequently used entries were refused: " + kept);
+		Assertions.assertTrue(cache.getWeightedSize() <= 1L << 28, "Cache exceeded its maximum");
+	}
+
+	/**
+	 * Test method for {@link structures.cache.StripedCache#put(java.lang.Object, java.lang.Object)}.
+	 */
+	@Test
+	public void stripedConcurrentTest() throws InterruptedException {
+		Cache<Integer, Integer> cache = StripedCache.tinyLfu(8, 1000, Cache.Weigher.unit());
+		AtomicInteger failures = new AtomicInteger();
+		Thread[] threads = new Thread[4];
+
+		for(int thread = 0; thread < threads.length; thread++) {
+			int seed = thread;
+			threads[thread] = new Thread(() -> {
+				for(int operation = 0; operation < 20000; operation++) {
+					int key = (operation * 31 + seed) % 5000;
+					Integer value = cache.get(key);
+					if(value == null) {
+						cache.put(key, key);
+					}else if(value != key) {
+						failures.incrementAndGet();
+					}
+				}
+			});
+			threads[thread].start();
+		}
+		for(Thread thread : threads) {
+			thread.join();
+		}
+
+		Assertions.assertEquals(0, failures.get(), "Key mapped to another value");
+		Assertions.assertTrue(cache.getWeightedSize() <= cache.getMaximumWeight(),
+				"Cache exceeded its maximum");
+		Assertions.assertEquals(80000, cache.getStats().getRequestCount());
+	}
+
+	/**
+	 * Test method for {@link structures.cache.LruCache#put(java.lang.Object, java.lang.Object)}.
+	 */
+	@Test(expected=IllegalArgumentException.class)
+	public void nullValueTest() {
+		new LruCache<Integer, Integer>(10).put(1, null);
+	}
+}
@@ -0,0 +1,137 @@
+package structures.unit_tests;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+
+import structures.arraylist.ArrayList;
+import structures.checkpoint_list.CheckpointList;
+import structures.checkpoint_list.Checkpointer;
+
+/**
+ * @author Noah Teshima
+ * Test suite for CheckpointList and Checkpointer classes
+ */
+public class CheckpointListTest {
+
+	/**
+	 * Test method for {@link structures.checkpoint_list.CheckpointList#add(int, Object)}.
+	 */
+	@Test
+	public void splitChunksTest() {
+		CheckpointList<Integer> list = new CheckpointList<>(4);
+		for(int index = 0; index < 8; index++) {
+			list.add(index);
+		}
+		Assertions.assertEquals(2, list.getChunkCount());
+
+		//inserting into a full chunk splits it
+		list.add(1, 10);
+		Assertions.assertEquals(3, list.getChunkCount());
+		Assertions.assertEquals(Integer.valueOf(10), list.get(1));
+		Assertions.assertEquals(Integer.valueOf(7), list.get(8));
+		Assertions.assertEquals(9, list.size());
+
+		//emptied chunks are dropped
+		for(int index = 0; index < 3; index++) {
+			list.remove(0);
+		}
+		Assertions.assertEquals(2, list.getChunkCount());
+		Assertions.assertEquals(Integer.valueOf(2), list.get());
+		Assertions.assertEquals(5, list.indexOf(7));
+	}
+
+	/**
+	 * Test method for {@link structures.checkpoint_list.CheckpointList#get(int)}.
+	 */
+	@Test (expected = IndexOutOfBoundsException.class)
+	public void getOutOfBoundsTest() {
+		CheckpointList<Integer> list = new CheckpointList<>(4);
+		list.add(1);
+		list.get(1);
+	}
+
+	/**
+	 * Test method for {@link structures.checkpoint_list.Checkpointer#checkpoint(CheckpointList)}.
+	 */
+	@Test
+	public void deltaCheckpointTest() throws IOException, InterruptedException, ExecutionException {
+		Path directory = Files.createTempDirectory("checkpoint");
+		ArrayList<Integer> source = new ArrayList<>();
+		for(int index = 0; index < 100; index++) {
+			source.add(index);
+		}
+		CheckpointList<Integer> list = new CheckpointList<>(source);
+
+		try(Checkpointer<Integer> checkpointer = new Checkpointer<>(directory, Checkpointer.Codec.INTEGER)) {
+			Checkpointer.Result base = checkpointer.checkpoint(list).get();
+			Assertions.assertTrue(base.isBase(), "First checkpoint was not a base");
+			Assertions.assertEquals(list.getChunkCount(), base.getChunksWritten());
+
+			list.set(50, -1);
+			Checkpointer.Result delta = checkpointer.checkpoint(list).get();
+			Assertions.assertFalse(delta.isBase(), "Second checkpoint was not a delta");
+			Assertions.assertEquals(1, delta.getChunksWritten());
+		}finally {
+			this.delete(directory);
+		}
+	}
+
+	/**
+	 * Test method for {@link structures.checkpoint_list.Checkpointer#recover(int)}.
+	 */
+	@Test
+	public void recoverTest() throws IOException, InterruptedException, ExecutionException {
+		Path directory = Files.createTempDirectory("checkpoint");
+		CheckpointList<Integer> list = new CheckpointList<>(8);
+		for(int index = 0; index < 100; index++) {
+			list.add(index);
+		}
+
+		try {
+			try(Checkpointer<Integer> checkpointer = new Checkpointer<>(directory, Checkpointer.Codec.INTEGER)) {
+				checkpointer.checkpoint(list);
+				list.add(0, -1);
+				list.remove(list.size() - 1);
+				list.set(40, null);
+				//the snapshot is taken here, so later writes are not recovered
+				checkpointer.checkpoint(list);
+				list.add(1000);
+			}
+
+			try(Checkpointer<Integer> checkpointer = new Checkpointer<>(directory, Checkpointer.Codec.INTEGER)) {
+				CheckpointList<Integer> recovered = checkpointer.recover(4);
+				Assertions.assertEquals(100, recovered.size());
+				Assertions.assertEquals(Integer.valueOf(-1), recovered.get());
+				Assertions.assertNull(recovered.get(40));
+				Assertions.assertEquals(Integer.valueOf(98), recovered.get(99));
+
+				recovered.set(0, 0);
+				Assertions.assertFalse(checkpointer.checkpoint(recovered).get().isBase(),
+						"Recovered list was not checkpointed with a delta");
+			}
+		}finally {
+			this.delete(directory);
+		}
+	}
+
+	/**
+	 * Private method used to delete a directory
+	 * of checkpoints.
+	 * @param directory Path reference of the directory.
+	 * @throws IOException if a file cannot be deleted.
+	 */
+	private void delete(Path directory) throws IOException {
+		try(Stream<Path> files = Files.list(directory)) {
+			for(Path file : (Iterable<Path>) files::iterator) {
+				Files.delete(file);
+			}
+		}
+		Files.delete(directory);
+	}
+}
@@ -0,0 +1,192 @@
+package structures.unit_tests;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+
+import structures.concurrent_queue.MpscLinkedQueue;
+import structures.concurrent_queue.SpscArrayQueue;
+
+/**
+ * @author Noah Teshima
+ * Test suite for MpscLinkedQueue and SpscArrayQueue classes
+ */
+public class ConcurrentQueueTest {
+
+	/**
+	 * Private static method used to get the offset
+	 * of a field within its object, as the JVM laid
+	 * it out.
+	 * @param field Field reference to locate.
+	 * @return long value containing the offset in bytes.
+	 * @throws ReflectiveOperationException if the offset
+	 * cannot be read.
+	 */
+	private static long offset(Field field) throws ReflectiveOperationException {
+		Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+		Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+		theUnsafe.setAccessible(true);
+		return (Long) unsafeClass.getMethod("objectFieldOffset", Field.class)
+				.invoke(theUnsafe.get(null), field);
+	}
+
+	/**
+	 * Private static method used to check that a field
+	 * of a padded class has at least a cache line of
+	 * padding on either side within its object.
+	 * @param className String containing the binary name
+	 * of the padded class.
+	 * @param fieldName String containing the padded field.
+	 * @throws ReflectiveOperationException if the layout
+	 * cannot be read.
+	 */
+	private static void assertPadded(String className, String fieldName) throws ReflectiveOperationException {
+		Class<?> padded = Class.forName(className);
+		long offset = -1,
+				last = -1;
+		for(Class<?> type = padded; type != Object.class; type = type.getSuperclass()) {
+			for(Field field : type.getDeclaredFields()) {
+				if(Modifier.isStatic(field.getModifiers())) {
+					continue;
+				}
+				long fieldOffset = ConcurrentQueueTest.offset(field);
+				if(field.getName().equals(fieldName)) {
+					offset = fieldOffset;
+				}
+				last = Math.max(last, fieldOffset);
+			}
+		}
+
+		Assertions.assertTrue(offset >= 64, fieldName + " shares a cache line with the header: " + offset);
+		Assertions.assertTrue(last - offset >= 64, fieldName + " has too little padding after it: "
+				+ (last - offset));
+	}
+
+	/**
+	 * Test method for {@link structures.concurrent_queue.MpscLinkedQueue#MpscLinkedQueue()}.
+	 */
+	@Test
+	public void paddingTest() throws ReflectiveOperationException {
+		ConcurrentQueueTest.assertPadded("structures.concurrent_queue.MpscLinkedQueue$PaddedTail", "tail");
+		ConcurrentQueueTest.assertPadded("structures.concurrent_queue.MpscLinkedQueue$PaddedHead", "head");
+		ConcurrentQueueTest.assertPadded("structures.concurrent_queue.SpscArrayQueue$PaddedIndex", "index");
+	}
+
+	/**
+	 * Test method for {@link structures.concurrent_queue.MpscLinkedQueue#poll()}.
+	 */
+	@Test
+	public void mpscOrderTest() {
+		MpscLinkedQueue<Integer> queue = new MpscLinkedQueue<>();
+
+		Assertions.assertTrue(queue.isEmpty(), "New queue is not empty");
+		Assertions.assertNull(queue.poll(), "Poll of empty queue returned an element");
+		for(int index = 0; index < 5; index++) {
+			queue.offer(index);
+		}
+		Assertions.assertEquals(5, queue.size());
+		Assertions.assertEquals(Integer.valueOf(0), queue.peek());
+		for(int index = 0; index < 5; index++) {
+			Assertions.assertEquals(Integer.valueOf(index), queue.poll());
+		}
+		Assertions.assertTrue(queue.isEmpty(), "Drained queue is not empty");
+		Assertions.assertNull(queue.poll(), "Poll of drained queue returned an element");
+	}
+
+	/**
+	 * Test method for {@link structures.concurrent_queue.MpscLinkedQueue#offer(java.lang.Object)}.
+	 */
+	@Test
+	public void mpscConcurrentTest() throws InterruptedException {
+		MpscLinkedQueue<Integer> queue = new MpscLinkedQueue<>();
+		int producers = 4;
+		int perProducer = 50_000;
+		Thread[] threads = new Thread[producers];
+		for(int thread = 0; thread < producers; thread++) {
+			int id = thread;
+			threads[thread] = new Thread(() -> {
+				for(int item = 0; item < perProducer; item++) {
+					queue.offer(id * perProducer + item);
+				}
+			});
+			threads[thread].start();
+		}
+
+		//each producer's elements must come out in the order it sent them
+		int[] last = new int[producers];
+		Arrays.fill(last, -1);
+		for(int received = 0; received < producers * perProducer; ) {
+			Integer element = queue.poll();
+			if(element != null) {
+				int id = element / perProducer;
+				Assertions.assertTrue(element % perProducer > last[id], "Producer order was not kept");
+				last[id] = element % perProducer;
+				received++;
+			}
+		}
+		for(Thread thread : threads) {
+			thread.join();
+		}
+		Assertions.assertTrue(queue.isEmpty(), "Queue has extra elements");
+	}
+
+	/**
+	 * Test method for {@link structures.concurrent_queue.SpscArrayQueue#offer(java.lang.Object)}.
+	 */
+	@Test
+	public void spscCapacityTest() {
+		SpscArrayQueue<Integer> queue = new SpscArrayQueue<>(3);
+
+		Assertions.assertEquals(4, queue.capacity());
+		for(int index = 0; index < 4; index++) {
+			Assertions.assertTrue(queue.offer(index), "Offer to queue with room failed");
+		}
+		Assertions.assertFalse(queue.offer(4), "Offer to full queue succeeded");
+		Assertions.assertEquals(4, queue.size());
+		Assertions.assertEquals(Integer.valueOf(0), queue.poll());
+		Assertions.assertTrue(queue.offer(4), "Offer after poll failed");
+		for(int index = 1; index < 5; index++) {
+			Assertions.assertEquals(Integer.valueOf(index), queue.poll());
+		}
+		Assertions.assertNull(queue.poll(), "Poll of empty queue returned an element");
+		Assertions.assertTrue(queue.isEmpty(), "Drained queue is not empty");
+	}
+
+	/**
+	 * Test method for {@link structures.concurrent_queue.SpscArrayQueue#poll()}.
+	 */
+	@Test
+	public void spscConcurrentTest() throws InterruptedException {
+		SpscArrayQueue<Integer> queue = new SpscArrayQueue<>(64);
+		int items = 200_000;
+		Thread producer = new Thread(() -> {
+			for(int item = 0; item < items; item++) {
+				while(!queue.offer(item)) {
+					Thread.onSpinWait();
+				}
+			}
+		});
+		producer.start();
+
+		for(int expected = 0; expected < items; ) {
+			Integer element = queue.poll();
+			if(element != null) {
+				Assertions.assertEquals(Integer.valueOf(expected), element);
+				expected++;
+			}
+		}
+		producer.join();
+		Assertions.assertTrue(queue.isEmpty(), "Queue has extra elements");
+	}
+
+	/**
+	 * Test method for {@link structures.concurrent_queue.SpscArrayQueue#offer(java.lang.Object)}.
+	 */
+	@Test(expected=NullPointerException.class)
+	public void offerNullTest() {
+		new SpscArrayQueue<Integer>(4).offer(null);
+	}
+}
@@ -0,0 +1,87 @@
+package structures.unit_tests;
+
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+
+import structures.bloom_filter.CountingBloomFilter;
+import structures.singly_linked_list.SinglyLinkedList;
+
+/**
+ * @author Noah Teshima
+ * Test suite for CountingBloomFilter class
+ */
+public class CountingBloomFilterTest {
+
+	/**
+	 * Test method for {@link structures.bloom_filter.CountingBloomFilter#mightContain(java.lang.Object)}.
+	 */
+	@Test
+	public void noFalseNegativesTest() {
+		CountingBloomFilter filter = new CountingBloomFilter(1000, 0.01);
+
+		for(int index = 0; index < 1000; index++) {
+			filter.add(index);
+		}
+		for(int index = 0; index < 1000; index++) {
+			Assertions.assertTrue(filter.mightContain(index), "Added element was rejected");
+		}
+	}
+
+	/**
+	 * Test method for {@link structures.bloom_filter.CountingBloomFilter#remove(java.lang.Object)}.
+	 */
+	@Test
+	public void removeTest() {
+		CountingBloomFilter filter = new CountingBloomFilter(100, 0.01);
+
+		filter.add("first");
+		filter.add("second");
+		filter.remove("first");
+
+		Assertions.assertFalse(filter.mightContain("first"), "Removed element was found");
+		Assertions.assertTrue(filter.mightContain("second"), "Kept element was rejected");
+		Assertions.assertEquals(1, filter.getElementCount(), "Element count should be 1");
+	}
+
+	/**
+	 * Test method for {@link structures.bloom_filter.CountingBloomFilter#getObservedFalsePositiveRate()}.
+	 */
+	@Test
+	public void falsePositiveRateTest() {
+		CountingBloomFilter filter = new CountingBloomFilter(10000, 0.01);
+		int falsePositives = 0;
+
+		for(int index = 0; index < 10000; index++) {
+			filter.add(index);
+		}
+		for(int index = 10000; index < 110000; index++) {
+			if(filter.mightContain(index)) {
+				falsePositives++;
+			}
+		}
+
+		Assertions.assertTrue(falsePositives < 2000, "Too many false positives: " + falsePositives);
+		Assertions.assertEquals(100000, filter.getLookupCount());
+	}
+
+	/**
+	 * Test method for {@link structures.singly_linked_list.SinglyLinkedList#enableFilter(int, double)}.
+	 */
+	@Test
+	public void listFilterTest() {
+		SinglyLinkedList<Integer> list = new SinglyLinkedList<>();
+
+		list.addToBack(1);
+		list.addToBack(2);
+		list.enableFilter(100, 0.01);
+		list.addToBack(3);
+		list.remove(0);
+		list.set(0, 4);
+
+		Assertions.assertFalse(list.contains(1), "Removed element was found");
+		Assertions.assertFalse(list.contains(2), "Replaced element was found");
+		Assertions.assertTrue(list.contains(3), "Added element was not found");
+		Assertions.assertTrue(list.contains(4), "Set element was not found");
+		Assertions.assertTrue(list.getFilter().getRejectionCount() > 0, "No lookups were rejected");
+	}
+}
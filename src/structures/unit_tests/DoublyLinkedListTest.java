@@ -0,0 +1,155 @@
+package structures.unit_tests;
+
+import java.util.ListIterator;
+
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+
+import structures.doubly_linked_list.DoublyLinkedList;
+
+/**
+ * @author Noah Teshima
+ * Test suite for DoublyLinkedList class
+ */
+public class DoublyLinkedListTest {
+
+	/**
+	 * Test method for {@link structures.doubly_linked_list.DoublyLinkedList#add(int, java.lang.Object)}.
+	 */
+	@Test (expected = IndexOutOfBoundsException.class)
+	public void addInvalidIndexTest() {
+		DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+
+		list.add(1, 0);
+	}
+
+	/**
+	 * Test method for {@link structures.doubly_linked_list.DoublyLinkedList#add(int, java.lang.Object)}.
+	 */
+	@Test
+	public void addToMiddleTest() {
+		DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+
+		list.add(0);
+		list.add(1);
+		list.add(3);
+		list.add(4);
+		list.add(2, 2);
+		Assertions.assertArrayEquals(new Integer[] {4, 3, 2, 1, 0}, list.toArray());
+	}
+
+	/**
+	 * Test method for {@link structures.doubly_linked_list.DoublyLinkedList#addToBack(java.lang.Object)}.
+	 */
+	@Test
+	public void addToEndTest() {
+		DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+
+		list.addToBack(4);
+		list.addToBack(3);
+		list.addToBack(2);
+		Assertions.assertArrayEquals(new Integer[] {4, 3, 2}, list.toArray());
+	}
+
+	/**
+	 * Test method for {@link structures.doubly_linked_list.DoublyLinkedList#get(int)}.
+	 */
+	@Test
+	public void getFromEitherEndTest() {
+		DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+
+		for(int index = 0; index < 9; index++) {
+			list.addToBack(index);
+		}
+
+		Assertions.assertEquals(Integer.valueOf(1), list.get(1));
+		Assertions.assertEquals(Integer.valueOf(7), list.get(7));
+		Assertions.assertEquals(Integer.valueOf(8), list.getFromBack());
+	}
+
+	/**
+	 * Test method for {@link structures.doubly_linked_list.DoublyLinkedList#removeFromBack()}.
+	 */
+	@Test
+	public void removeFromBothEndsTest() {
+		DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+
+		list.add(5);
+		list.add(6);
+		list.add(7);
+
+		Assertions.assertEquals(Integer.valueOf(7), list.remove());
+		Assertions.assertEquals(Integer.valueOf(5), list.removeFromBack());
+		Assertions.assertArrayEquals(new Integer[] {6}, list.toArray());
+	}
+
+	/**
+	 * Test method for {@link structures.doubly_linked_list.DoublyLinkedList#removeFromBack()}.
+	 */
+	@Test (expected = IndexOutOfBoundsException.class)
+	public void removeFromEmptyTest() {
+		DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+
+		list.removeFromBack();
+	}
+
+	/**
+	 * Test method for {@link structures.doubly_linked_list.DoublyLinkedList#listIterator()}.
+	 */
+	@Test
+	public void iteratorRemoveLastReturnedTest() {
+		DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+
+		for(int index = 0; index < 6; index++) {
+			list.addToBack(index);
+		}
+
+		//single-pass filtered delete of odd elements
+		ListIterator<Integer> iterator = list.listIterator();
+		while(iterator.hasNext()) {
+			if(iterator.next() % 2 == 1) {
+				iterator.remove();
+			}
+		}
+
+		Assertions.assertArrayEquals(new Integer[] {0, 2, 4}, list.toArray());
+		Assertions.assertEquals(3, list.size(), "Size should be 3");
+	}
+
+	/**
+	 * Test method for {@link structures.doubly_linked_list.DoublyLinkedList#listIterator(int)}.
+	 */
+	@Test
+	public void iteratorBackwardsAddTest() {
+		DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+
+		list.addToBack(1);
+		list.addToBack(3);
+
+		ListIterator<Integer> iterator = list.listIterator(list.size());
+		Assertions.assertEquals(Integer.valueOf(3), iterator.previous());
+		iterator.add(2);
+		Assertions.assertEquals(Integer.valueOf(2), iterator.previous());
+		Assertions.assertEquals(Integer.valueOf(1), iterator.previous());
+		Assertions.assertFalse(iterator.hasPrevious(), "Iterator should be at the beginning");
+
+		Assertions.assertArrayEquals(new Integer[] {1, 2, 3}, list.toArray());
+	}
+
+	/**
+	 * Test method for {@link structures.doubly_linked_list.DoublyLinkedList#equals(java.lang.Object)}.
+	 */
+	@Test
+	public void equalsAndHashCodeTest() {
+		DoublyLinkedList<Integer> list = new DoublyLinkedList<>(),
+				other = new DoublyLinkedList<>();
+
+		list.add(1);
+		list.add(2);
+		other.addToBack(2);
+		other.addToBack(1);
+
+		Assertions.assertEquals(list, other);
+		Assertions.assertEquals(list.hashCode(), other.hashCode());
+	}
+}
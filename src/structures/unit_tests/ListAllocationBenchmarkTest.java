@@ -0,0 +1,30 @@
+package structures.unit_tests;
+
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+
+import structures.benchmarks.AllocationHarness;
+import structures.benchmarks.ListAllocationBenchmark;
+
+/**
+ * @author Noah Teshima
+ * Test suite for ListAllocationBenchmark class
+ */
+public class ListAllocationBenchmarkTest {
+
+	/**
+	 * Test method for {@link structures.benchmarks.ListAllocationBenchmark#measureAll(structures.benchmarks.AllocationHarness)}.
+	 */
+	@Test
+	public void byteBudgetTest() {
+		AllocationHarness harness = new AllocationHarness();
+
+		ListAllocationBenchmark.measureAll(harness);
+
+		//latency depends on the machine, so only the command line checks it
+		for(AllocationHarness.Result result : harness.getResults()) {
+			Assertions.assertTrue(result.withinByteBudget(), "Over its byte budget: " + result);
+		}
+		Assertions.assertEquals(24, harness.getResults().size());
+	}
+}
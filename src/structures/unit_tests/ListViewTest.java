@@ -0,0 +1,107 @@
+package structures.unit_tests;
+
+import java.util.ConcurrentModificationException;
+
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+
+import structures.List;
+import structures.doubly_linked_list.DoublyLinkedList;
+import structures.singly_linked_list.SinglyLinkedList;
+
+/**
+ * @author Noah Teshima
+ * Test suite for the views provided by AbstractList
+ */
+public class ListViewTest {
+
+	/**
+	 * Test method for {@link structures.AbstractList#subList(int, int)}.
+	 */
+	@Test
+	public void subListTest() {
+		SinglyLinkedList<Integer> list = new SinglyLinkedList<>();
+
+		for(int index = 0; index < 6; index++) {
+			list.addToBack(index);
+		}
+		List<Integer> view = list.subList(2, 5);
+
+		Assertions.assertArrayEquals(new Integer[] {2, 3, 4}, view.toArray());
+		Assertions.assertEquals(Integer.valueOf(3), view.get(1));
+		Assertions.assertEquals(1, view.indexOf(3));
+	}
+
+	/**
+	 * Test method for {@link structures.AbstractList#subList(int, int)}.
+	 */
+	@Test
+	public void subListWriteThroughTest() {
+		DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+
+		list.addToBack(0);
+		list.addToBack(1);
+		list.addToBack(2);
+		list.subList(1, 3).set(0, 10);
+
+		Assertions.assertArrayEquals(new Integer[] {0, 10, 2}, list.toArray());
+	}
+
+	/**
+	 * Test method for {@link structures.AbstractList#subList(int, int)}.
+	 */
+	@Test (expected = IndexOutOfBoundsException.class)
+	public void subListInvalidRangeTest() {
+		SinglyLinkedList<Integer> list = new SinglyLinkedList<>();
+
+		list.add(0);
+		list.subList(0, 2);
+	}
+
+	/**
+	 * Test method for {@link structures.AbstractList#mapView(java.util.function.Function)}.
+	 */
+	@Test
+	public void mapViewTest() {
+		SinglyLinkedList<Integer> list = new SinglyLinkedList<>();
+
+		list.addToBack(1);
+		list.addToBack(2);
+		List<String> view = list.mapView(element -> "#" + element);
+
+		Assertions.assertArrayEquals(new String[] {"#1", "#2"}, view.toArray());
+		Assertions.assertEquals("#2", view.get(1));
+	}
+
+	/**
+	 * Test method for {@link structures.AbstractList#filterView(java.util.function.Predicate)}.
+	 */
+	@Test
+	public void filterViewTest() {
+		SinglyLinkedList<Integer> list = new SinglyLinkedList<>();
+
+		for(int index = 0; index < 6; index++) {
+			list.addToBack(index);
+		}
+		List<Integer> view = list.filterView(element -> element % 2 == 0);
+
+		Assertions.assertArrayEquals(new Integer[] {0, 2, 4}, view.toArray());
+		Assertions.assertEquals(3, view.size(), "Size should be 3");
+		Assertions.assertEquals(Integer.valueOf(4), view.get(2));
+	}
+
+	/**
+	 * Test method for {@link structures.AbstractList#subList(int, int)}.
+	 */
+	@Test (expected = ConcurrentModificationException.class)
+	public void parentModifiedTest() {
+		SinglyLinkedList<Integer> list = new SinglyLinkedList<>();
+
+		list.add(0);
+		list.add(1);
+		List<Integer> view = list.subList(0, 2);
+		list.add(2);
+
+		view.get(0);
+	}
+}
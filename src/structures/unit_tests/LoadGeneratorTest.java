@@ -0,0 +1,93 @@
+package structures.unit_tests;
+
+import java.time.Duration;
+
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+
+import structures.benchmarks.LatencyHistogram;
+import structures.benchmarks.LoadGenerator;
+import structures.doubly_linked_list.DoublyLinkedList;
+
+/**
+ * @author Noah Teshima
+ * Test suite for LoadGenerator and LatencyHistogram classes
+ */
+public class LoadGeneratorTest {
+
+	/**
+	 * Test method for {@link structures.benchmarks.LatencyHistogram#getValueAtPercentile(double)}.
+	 */
+	@Test
+	public void histogramPercentileTest() {
+		LatencyHistogram histogram = new LatencyHistogram();
+
+		for(long value = 1; value <= 100_000; value++) {
+			histogram.recordValue(value * 1000);
+		}
+
+		Assertions.assertEquals(100_000, histogram.getTotalCount());
+		Assertions.assertEquals(50_000_000, histogram.getValueAtPercentile(50), 50_000_000 * 0.008);
+		Assertions.assertEquals(99_000_000, histogram.getValueAtPercentile(99), 99_000_000 * 0.008);
+		Assertions.assertEquals(100_000_000, histogram.getValueAtPercentile(100));
+	}
+
+	/**
+	 * Test method for {@link structures.benchmarks.LoadGenerator.Workload#parse(java.lang.String)}.
+	 */
+	@Test (expected = IllegalArgumentException.class)
+	public void parseInvalidWorkloadTest() {
+		LoadGenerator.Workload.parse("read:80,scan:20");
+	}
+
+	/**
+	 * Test method for {@link structures.benchmarks.LoadGenerator#run()}.
+	 */
+	@Test
+	public void runTest() throws InterruptedException {
+		DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+		for(int index = 0; index < 100; index++) {
+			list.addToBack(index);
+		}
+
+		LoadGenerator.Report report = new LoadGenerator(LoadGenerator.synchronizedTarget(list),
+				LoadGenerator.Workload.parse("read:50,append:25,remove:25"),
+				new LoadGenerator.Zipfian(100, 0.99), 100, 2, Duration.ofMillis(200)).run();
+
+		Assertions.assertTrue(report.getTotal().getTotalCount() > 0, "No operations were run");
+		Assertions.assertNull(report.getHistogram(LoadGenerator.Operation.INSERT));
+		Assertions.assertTrue(report.getThroughput() > 0, "Throughput should be positive");
+	}
+
+	/**
+	 * Test method for {@link structures.benchmarks.LoadGenerator#run()}.
+	 */
+	@Test
+	public void timesTargetOnlyTest() throws InterruptedException {
+		//a slow key draw must not show up in the latencies
+		LoadGenerator.Report report = new LoadGenerator((operation, key) -> {
+			Assertions.assertTrue(key >= 0 && key < 10, "Key outside the keyspace: " + key);
+		}, LoadGenerator.Workload.parse("read:100"), (random, bound) -> {
+			try {
+				Thread.sleep(2);
+			}catch(InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return random.nextInt(bound);
+		}, 10, 1, Duration.ofMillis(200)).run();
+
+		LatencyHistogram reads = report.getHistogram(LoadGenerator.Operation.READ);
+		Assertions.assertTrue(reads.getTotalCount() > 0, "No operations were run");
+		Assertions.assertTrue(reads.getValueAtPercentile(50) < 1_000_000,
+				"Median latency includes the key draw: " + reads.getValueAtPercentile(50));
+	}
+
+	/**
+	 * Test method for {@link structures.benchmarks.LoadGenerator#LoadGenerator(structures.benchmarks.LoadGenerator.Target, structures.benchmarks.LoadGenerator.Workload, structures.benchmarks.LoadGenerator.KeyDistribution, int, int, java.time.Duration)}.
+	 */
+	@Test (expected = IllegalArgumentException.class)
+	public void emptyKeyspaceTest() {
+		new LoadGenerator((operation, key) -> {}, LoadGenerator.Workload.parse("read:100"),
+				(random, bound) -> random.nextInt(bound), 0, 1, Duration.ofMillis(1));
+	}
+}
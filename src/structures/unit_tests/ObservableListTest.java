@@ -0,0 +1,240 @@
+package structures.unit_tests;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+
+import structures.arraylist.ArrayList;
+import structures.observable_list.ChangeBatch;
+import structures.observable_list.ChangePublisher;
+import structures.observable_list.ListChange;
+import structures.observable_list.ObservableList;
+
+/**
+ * @author Noah Teshima
+ * Test suite for ObservableList and ChangePublisher classes
+ */
+public class ObservableListTest {
+
+	/**
+	 * Private static inner class used to collect
+	 * batches, requesting a fixed number up front.
+	 * @author Noah Teshima
+	 */
+	private static class Collector implements Flow.Subscriber<ChangeBatch<Integer>> {
+		private final CopyOnWriteArrayList<ChangeBatch<Integer>> batches = new CopyOnWriteArrayList<>();
+		private final CountDownLatch completed = new CountDownLatch(1);
+		private final long initialDemand;
+		private Flow.Subscription subscription;
+		private volatile Throwable error;
+
+		/**
+		 * Constructor used to set the demand requested
+		 * on subscription.
+		 * @param initialDemand long value containing the
+		 * number of batches requested, or 0 for none.
+		 */
+		public Collector(long initialDemand) {
+			this.initialDemand = initialDemand;
+		}
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+			if(this.initialDemand > 0) {
+				subscription.request(this.initialDemand);
+			}
+		}
+
+		@Override
+		public void onNext(ChangeBatch<Integer> batch) {
+			this.batches.add(batch);
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			this.error = throwable;
+		}
+
+		@Override
+		public void onComplete() {
+			this.completed.countDown();
+		}
+	}
+
+	/**
+	 * Test method for {@link structures.observable_list.ObservableList#add(int, Object)}.
+	 */
+	@Test
+	public void publishChangesTest() throws InterruptedException {
+		ObservableList<Integer> list = new ObservableList<>(new ArrayList<>());
+		Collector collector = new Collector(Long.MAX_VALUE);
+		list.subscribe(collector);
+
+		list.add(1);
+		list.add(0, 2);
+		list.remove(1);
+		list.getPublisher().close();
+		Assertions.assertTrue(collector.completed.await(5, TimeUnit.SECONDS), "Subscriber was not completed");
+
+		Assertions.assertEquals(1, collector.batches.size());
+		ChangeBatch<Integer> batch = collector.batches.get(0);
+		Assertions.assertEquals(3, batch.size());
+		Assertions.assertEquals(ListChange.Type.ADD, batch.get(0).getType());
+		Assertions.assertEquals(0, batch.get(1).getIndex());
+		Assertions.assertEquals(ListChange.Type.REMOVE, batch.get(2).getType());
+		Assertions.assertEquals(Integer.valueOf(1), batch.get(2).getElement());
+	}
+
+	/**
+	 * Test method for {@link structures.observable_list.ObservableList#set(int, Object)}.
+	 */
+	@Test
+	public void coalesceTest() throws InterruptedException {
+		ObservableList<Integer> list = new ObservableList<>(new ArrayList<>());
+		Collector collector = new Collector(Long.MAX_VALUE);
+		list.add(0);
+		list.subscribe(collector);
+
+		for(int value = 1; value <= 100; value++) {
+			list.set(0, value);
+		}
+		list.add(5);
+		list.set(1, 6);
+		list.remove(1);
+		list.getPublisher().close();
+		Assertions.assertTrue(collector.completed.await(5, TimeUnit.SECONDS), "Subscriber was not completed");
+
+		//the sets fold into one, and the add, set and remove cancel out
+		ChangeBatch<Integer> batch = collector.batches.get(0);
+		Assertions.assertEquals(1, batch.size());
+		Assertions.assertEquals(Integer.valueOf(0), batch.get(0).getPrevious());
+		Assertions.assertEquals(Integer.valueOf(100), batch.get(0).getElement());
+	}
+
+	/**
+	 * Test method for {@link structures.observable_list.ChangePublisher#subscribe(Flow.Subscriber)}.
+	 */
+	@Test
+	public void backpressureTest() throws InterruptedException {
+		ChangePublisher<Integer> publisher = new ChangePublisher<>(Runnable::run, 4, Duration.ZERO, 2);
+		ObservableList<Integer> list = new ObservableList<>(new ArrayList<>(), publisher);
+		Collector collector = new Collector(0);
+		list.subscribe(collector);
+
+		for(int value = 0; value < 6; value++) {
+			list.add(value);
+		}
+		Assertions.assertTrue(collector.batches.isEmpty(), "Batch delivered without demand");
+		collector.subscription.request(1);
+		Assertions.assertEquals(4, collector.batches.get(0).size());
+
+		//more sealed batches than the buffer holds become a reset
+		for(int value = 0; value < 12; value++) {
+			list.add(value);
+		}
+		collector.subscription.request(1);
+		Assertions.assertTrue(collector.batches.get(1).isReset(), "Overflow did not reset");
+	}
+
+	/**
+	 * Private static method used to apply every
+	 * collected batch to a copy of a list.
+	 * @param collector Collector reference holding
+	 * the batches.
+	 * @return java.util.List object holding the copy.
+	 */
+	private static java.util.List<Integer> replay(Collector collector) {
+		java.util.List<Integer> copy = new java.util.ArrayList<>();
+		for(ChangeBatch<Integer> batch : collector.batches) {
+			for(ListChange<Integer> change : batch) {
+				switch(change.getType()) {
+				case RESET:
+					copy.clear();
+					for(Integer element : change.getContents()) {
+						copy.add(element);
+					}
+					break;
+				case ADD:
+					copy.add(change.getIndex(), change.getElement());
+					break;
+				case REMOVE:
+					copy.remove(change.getIndex());
+					break;
+				default:
+					copy.set(change.getIndex(), change.getElement());
+				}
+			}
+		}
+		return copy;
+	}
+
+	/**
+	 * Test method for {@link structures.observable_list.ListChange#getContents()}.
+	 */
+	@Test
+	public void resetReplayTest() {
+		ChangePublisher<Integer> publisher = new ChangePublisher<>(Runnable::run, 4, Duration.ZERO, 2);
+		ObservableList<Integer> list = new ObservableList<>(new ArrayList<>(), publisher);
+		Collector collector = new Collector(0);
+		list.add(-1);
+		list.subscribe(collector);
+
+		//overflow, then keep writing behind the reset
+		for(int value = 0; value < 20; value++) {
+			list.add(value);
+		}
+		list.remove(0);
+		list.set(0, 100);
+		collector.subscription.request(Long.MAX_VALUE);
+		Assertions.assertTrue(collector.batches.get(0).isReset(), "Overflow did not reset");
+		list.add(0, 200);
+		list.clear();
+		list.add(7);
+		list.add(8);
+
+		java.util.List<Integer> expected = new java.util.ArrayList<>();
+		for(Integer element : list) {
+			expected.add(element);
+		}
+		Assertions.assertEquals(expected, ObservableListTest.replay(collector));
+	}
+
+	/**
+	 * Test method for {@link structures.observable_list.ChangePublisher#subscribe(Flow.Subscriber)}.
+	 */
+	@Test
+	public void invalidRequestTest() {
+		ObservableList<Integer> list = new ObservableList<>(new ArrayList<>(),
+				new ChangePublisher<>(Runnable::run, 4, Duration.ZERO, 2));
+		Collector collector = new Collector(0);
+		list.subscribe(collector);
+
+		collector.subscription.request(0);
+		Assertions.assertTrue(collector.error instanceof IllegalArgumentException, "Error was not delivered");
+		Assertions.assertFalse(list.getPublisher().hasSubscribers());
+		list.add(1);
+		Assertions.assertTrue(collector.batches.isEmpty(), "Batch delivered after an error");
+	}
+
+	/**
+	 * Test method for {@link structures.observable_list.ChangePublisher#hasSubscribers()}.
+	 */
+	@Test
+	public void cancelTest() {
+		ObservableList<Integer> list = new ObservableList<>(new ArrayList<>());
+		Collector collector = new Collector(1);
+		list.subscribe(collector);
+		Assertions.assertTrue(list.getPublisher().hasSubscribers());
+
+		collector.subscription.cancel();
+		Assertions.assertFalse(list.getPublisher().hasSubscribers());
+		list.add(1);
+		Assertions.assertEquals(1, list.size());
+	}
+}
@@ -0,0 +1,77 @@
+package structures.unit_tests;
+
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+
+import structures.ring_deque.RingDeque;
+
+/**
+ * @author Noah Teshima
+ * Test suite for RingDeque class
+ */
+public class RingDequeTest {
+
+	/**
+	 * Test method for {@link structures.ring_deque.RingDeque#addFirst(java.lang.Object)}.
+	 */
+	@Test
+	public void addToBothEndsTest() {
+		RingDeque<Integer> deque = new RingDeque<>(2);
+
+		deque.addLast(2);
+		deque.addFirst(1);
+		deque.addFirst(0);
+		deque.addLast(3);
+
+		Assertions.assertArrayEquals(new Integer[] {0, 1, 2, 3}, deque.toArray());
+		Assertions.assertEquals(Integer.valueOf(3), deque.getLast());
+	}
+
+	/**
+	 * Test method for {@link structures.ring_deque.RingDeque#add(int, java.lang.Object)}.
+	 */
+	@Test
+	public void addToMiddleTest() {
+		RingDeque<Integer> deque = new RingDeque<>(4);
+
+		//wrap the front around the end of the array first
+		deque.addLast(3);
+		deque.addFirst(0);
+		deque.add(1, 1);
+		deque.add(2, 2);
+		deque.add(4, 4);
+
+		Assertions.assertArrayEquals(new Integer[] {0, 1, 2, 3, 4}, deque.toArray());
+		Assertions.assertEquals(Integer.valueOf(2), deque.get(2));
+	}
+
+	/**
+	 * Test method for {@link structures.ring_deque.RingDeque#remove(int)}.
+	 */
+	@Test
+	public void removeTest() {
+		RingDeque<Integer> deque = new RingDeque<>();
+
+		for(int index = 0; index < 8; index++) {
+			deque.add(index);
+		}
+
+		Assertions.assertEquals(Integer.valueOf(1), deque.remove(1));
+		Assertions.assertEquals(Integer.valueOf(6), deque.remove(5));
+		Assertions.assertEquals(Integer.valueOf(0), deque.removeFirst());
+		Assertions.assertEquals(Integer.valueOf(7), deque.removeLast());
+		Assertions.assertArrayEquals(new Integer[] {2, 3, 4, 5}, deque.toArray());
+	}
+
+	/**
+	 * Test method for {@link structures.ring_deque.RingDeque#removeFirst()}.
+	 */
+	@Test (expected = IndexOutOfBoundsException.class)
+	public void removeFromEmptyTest() {
+		RingDeque<Integer> deque = new RingDeque<>();
+
+		deque.addFirst(0);
+		deque.removeLast();
+		deque.removeFirst();
+	}
+}
@@ -0,0 +1,91 @@
+package structures.unit_tests;
+
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+
+import structures.rope.Rope;
+
+/**
+ * @author Noah Teshima
+ * Test suite for Rope class
+ */
+public class RopeTest {
+
+	/**
+	 * Test method for {@link structures.rope.Rope#add(int, java.lang.Object)}.
+	 */
+	@Test
+	public void addToMiddleTest() {
+		Rope<Integer> rope = new Rope<>(2);
+
+		rope.add(0);
+		rope.add(1);
+		rope.add(3);
+		rope.add(4);
+		rope.add(2, 2);
+
+		Assertions.assertArrayEquals(new Integer[] {0, 1, 2, 3, 4}, rope.toArray());
+		Assertions.assertEquals(Integer.valueOf(3), rope.get(3));
+	}
+
+	/**
+	 * Test method for {@link structures.rope.Rope#remove(int)}.
+	 */
+	@Test
+	public void removeTest() {
+		Rope<Integer> rope = new Rope<>(2);
+
+		for(int index = 0; index < 6; index++) {
+			rope.add(index);
+		}
+
+		Assertions.assertEquals(Integer.valueOf(2), rope.remove(2));
+		Assertions.assertEquals(Integer.valueOf(5), rope.remove());
+		Assertions.assertArrayEquals(new Integer[] {0, 1, 3, 4}, rope.toArray());
+	}
+
+	/**
+	 * Test method for {@link structures.rope.Rope#split(int)}.
+	 */
+	@Test
+	public void splitTest() {
+		Rope<Integer> rope = new Rope<>(4);
+
+		for(int index = 0; index < 10; index++) {
+			rope.add(index);
+		}
+		Rope<Integer> suffix = rope.split(3);
+
+		Assertions.assertArrayEquals(new Integer[] {0, 1, 2}, rope.toArray());
+		Assertions.assertArrayEquals(new Integer[] {3, 4, 5, 6, 7, 8, 9}, suffix.toArray());
+	}
+
+	/**
+	 * Test method for {@link structures.rope.Rope#concat(structures.rope.Rope)}.
+	 */
+	@Test
+	public void concatTest() {
+		Rope<Integer> rope = new Rope<>(4),
+				other = new Rope<>(4);
+
+		rope.add(0);
+		rope.add(1);
+		other.add(2);
+		other.add(3);
+		rope.concat(other);
+
+		Assertions.assertArrayEquals(new Integer[] {0, 1, 2, 3}, rope.toArray());
+		Assertions.assertTrue(other.isEmpty(), "Appended rope should be empty");
+	}
+
+	/**
+	 * Test method for {@link structures.rope.Rope#split(int)}.
+	 */
+	@Test (expected = IndexOutOfBoundsException.class)
+	public void splitInvalidIndexTest() {
+		Rope<Integer> rope = new Rope<>();
+
+		rope.add(0);
+		rope.split(2);
+	}
+}
@@ -0,0 +1,86 @@
+package structures.unit_tests;
+
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+
+import structures.segmented_list.SegmentedList;
+
+/**
+ * @author Noah Teshima
+ * Test suite for SegmentedList class
+ */
+public class SegmentedListTest {
+
+	/**
+	 * Test method for {@link structures.segmented_list.SegmentedList#add(java.lang.Object)}.
+	 */
+	@Test
+	public void addAcrossChunksTest() {
+		SegmentedList<Integer> list = new SegmentedList<>(4);
+
+		for(int index = 0; index < 10; index++) {
+			list.add(index);
+		}
+
+		Assertions.assertArrayEquals(new Integer[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, list.toArray());
+		Assertions.assertEquals(10L, list.longSize(), "Size should be 10");
+	}
+
+	/**
+	 * Test method for {@link structures.segmented_list.SegmentedList#add(long, java.lang.Object)}.
+	 */
+	@Test
+	public void addToMiddleTest() {
+		SegmentedList<Integer> list = new SegmentedList<>(2);
+
+		list.add(0);
+		list.add(1);
+		list.add(3);
+		list.add(4);
+		list.add(2L, 2);
+
+		Assertions.assertArrayEquals(new Integer[] {0, 1, 2, 3, 4}, list.toArray());
+	}
+
+	/**
+	 * Test method for {@link structures.segmented_list.SegmentedList#add(long, java.lang.Object)}.
+	 */
+	@Test (expected = IndexOutOfBoundsException.class)
+	public void addInvalidIndexTest() {
+		SegmentedList<Integer> list = new SegmentedList<>();
+
+		list.add(1L, 0);
+	}
+
+	/**
+	 * Test method for {@link structures.segmented_list.SegmentedList#remove(long)}.
+	 */
+	@Test
+	public void removeAcrossChunksTest() {
+		SegmentedList<Integer> list = new SegmentedList<>(2);
+
+		for(int index = 0; index < 6; index++) {
+			list.add(index);
+		}
+
+		Assertions.assertEquals(Integer.valueOf(1), list.remove(1L));
+		Assertions.assertEquals(Integer.valueOf(5), list.remove());
+		Assertions.assertArrayEquals(new Integer[] {0, 2, 3, 4}, list.toArray());
+	}
+
+	/**
+	 * Test method for {@link structures.segmented_list.SegmentedList#set(long, java.lang.Object)}.
+	 */
+	@Test
+	public void setAndGetTest() {
+		SegmentedList<Integer> list = new SegmentedList<>(4);
+
+		for(int index = 0; index < 9; index++) {
+			list.add(index);
+		}
+
+		Assertions.assertEquals(Integer.valueOf(6), list.set(6L, 60));
+		Assertions.assertEquals(Integer.valueOf(60), list.get(6L));
+		Assertions.assertEquals(6L, list.longIndexOf(60));
+	}
+}
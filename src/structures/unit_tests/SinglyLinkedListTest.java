@@ -1,6 +1,7 @@
 package structures.unit_tests;
 
 import java.util.Arrays;
+import java.util.Iterator;
 
 import org.junit.Test;
 import org.junit.jupiter.api.Assertions;
@@ -451,4 +452,144 @@ public class SinglyLinkedListTest {
 		
 		Assertions.assertEquals(2, list.size(), "Size should be 2");
 	}
+	
+	/**
+	 * Test method for {@link structures.singly_linked_list.SinglyLinkedList#appendAll(structures.singly_linked_list.SinglyLinkedList)}.
+	 */
+	@Test
+	public void appendAllTest() {
+		SinglyLinkedList<Integer> list = new SinglyLinkedList<>(),
+				other = new SinglyLinkedList<>();
+		
+		list.addToBack(1);
+		list.addToBack(2);
+		other.addToBack(3);
+		other.addToBack(4);
+		list.appendAll(other);
+		list.addToBack(5);
+		
+		Assertions.assertArrayEquals(new Integer[] {1, 2, 3, 4, 5}, list.toArray());
+		Assertions.assertEquals(5, list.size(), "Size should be 5");
+		Assertions.assertEquals(0, other.size(), "Size should be 0");
+	}
+	
+	/**
+	 * Test method for {@link structures.singly_linked_list.SinglyLinkedList#appendAll(structures.singly_linked_list.SinglyLinkedList)}.
+	 */
+	@Test
+	public void appendAllToEmptyTest() {
+		SinglyLinkedList<Integer> list = new SinglyLinkedList<>(),
+				other = new SinglyLinkedList<>();
+		
+		other.addToBack(3);
+		list.appendAll(other);
+		
+		Assertions.assertArrayEquals(new Integer[] {3}, list.toArray());
+		Assertions.assertEquals(new Integer(3), list.getFromBack());
+	}
+	
+	/**
+	 * Test method for {@link structures.singly_linked_list.SinglyLinkedList#splitAt(int)}.
+	 */
+	@Test
+	public void splitAtMiddleTest() {
+		SinglyLinkedList<Integer> list = new SinglyLinkedList<>();
+		
+		list.addToBack(1);
+		list.addToBack(2);
+		list.addToBack(3);
+		list.addToBack(4);
+		SinglyLinkedList<Integer> suffix = list.splitAt(1);
+		suffix.addToBack(5);
+		list.addToBack(6);
+		
+		Assertions.assertArrayEquals(new Integer[] {1, 6}, list.toArray());
+		Assertions.assertArrayEquals(new Integer[] {2, 3, 4, 5}, suffix.toArray());
+		Assertions.assertEquals(4, suffix.size(), "Size should be 4");
+	}
+	
+	/**
+	 * Test method for {@link structures.singly_linked_list.SinglyLinkedList#splitAt(int)}.
+	 */
+	@Test
+	public void splitAtBeginningTest() {
+		SinglyLinkedList<Integer> list = new SinglyLinkedList<>();
+		
+		list.addToBack(1);
+		list.addToBack(2);
+		SinglyLinkedList<Integer> suffix = list.splitAt(0);
+		
+		Assertions.assertTrue(list.isEmpty(), "List is not empty");
+		Assertions.assertArrayEquals(new Integer[] {1, 2}, suffix.toArray());
+	}
+	
+	/**
+	 * Test method for {@link structures.singly_linked_list.SinglyLinkedList#splitAt(int)}.
+	 */
+	@Test (expected = IndexOutOfBoundsException.class)
+	public void splitAtInvalidIndexTest() {
+		SinglyLinkedList<Integer> list = new SinglyLinkedList<>();
+		
+		list.add(1);
+		list.splitAt(2);
+	}
+	
+	/**
+	 * Test method for {@link structures.singly_linked_list.SinglyLinkedList#equals(java.lang.Object)}.
+	 */
+	@Test
+	public void equalsWithNullTest() {
+		SinglyLinkedList<Integer> list = new SinglyLinkedList<>(),
+				other = new SinglyLinkedList<>();
+		
+		list.addToBack(1);
+		list.addToBack(null);
+		other.addToBack(1);
+		other.addToBack(null);
+		
+		Assertions.assertEquals(list, other);
+		Assertions.assertEquals(list.hashCode(), other.hashCode());
+		other.set(1, 2);
+		Assertions.assertNotEquals(list, other);
+	}
+	
+	/**
+	 * Test method for {@link structures.singly_linked_list.SinglyLinkedList#appendTo(java.lang.Appendable)}.
+	 */
+	@Test
+	public void appendToTest() throws java.io.IOException {
+		SinglyLinkedList<Integer> list = new SinglyLinkedList<>();
+		
+		list.addToBack(1);
+		list.addToBack(2);
+		
+		Assertions.assertEquals("1\n2\nSize: 2", list.appendTo(new StringBuilder()).toString());
+		Assertions.assertEquals(list.toString(), list.appendTo(new StringBuilder()).toString());
+	}
+	
+	/**
+	 * Test method for {@link structures.singly_linked_list.SinglyLinkedList#iterator()}.
+	 */
+	@Test
+	public void iteratorRemoveAtTailTest() {
+		SinglyLinkedList<Integer> list = new SinglyLinkedList<>();
+		
+		list.addToBack(1);
+		list.addToBack(2);
+		list.addToBack(3);
+		list.enableFilter(10, 0.01);
+		Iterator<Integer> iterator = list.iterator();
+		
+		//the node after the pointer is the tail
+		iterator.next();
+		iterator.remove();
+		Assertions.assertArrayEquals(new Integer[] {1, 2}, list.toArray());
+		Assertions.assertFalse(list.contains(3));
+		
+		//the pointer is on the tail, so nothing follows it
+		iterator.remove();
+		Assertions.assertArrayEquals(new Integer[] {1, 2}, list.toArray());
+		list.addToBack(4);
+		Assertions.assertArrayEquals(new Integer[] {1, 2, 4}, list.toArray());
+	}
 }
@@ -0,0 +1,93 @@
+package structures.unit_tests;
+
+import java.util.Iterator;
+
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+
+import structures.arraylist.ArrayList;
+import structures.singly_linked_list.SinglyLinkedList;
+import structures.stamped_list.StampedList;
+
+/**
+ * @author Noah Teshima
+ * Test suite for StampedList class
+ */
+public class StampedListTest {
+
+	/**
+	 * Test method for {@link structures.stamped_list.StampedList#get(int)}.
+	 */
+	@Test
+	public void readWriteTest() {
+		StampedList<Integer> list = new StampedList<>(new SinglyLinkedList<>());
+
+		for(int index = 0; index < 5; index++) {
+			list.add(list.size(), index);
+		}
+		Assertions.assertEquals(5, list.size());
+		Assertions.assertEquals(Integer.valueOf(3), list.get(3));
+		Assertions.assertEquals(2, list.indexOf(2));
+		Assertions.assertTrue(list.contains(4), "List did not contain added element");
+		Assertions.assertEquals(Integer.valueOf(1), list.remove(1));
+		Assertions.assertEquals(Integer.valueOf(4), list.set(3, 9));
+		Assertions.assertFalse(list.contains(4), "List contained replaced element");
+		Assertions.assertEquals(0, list.getFallbackCount());
+	}
+
+	/**
+	 * Test method for {@link structures.stamped_list.StampedList#get(int)}.
+	 */
+	@Test (expected = IndexOutOfBoundsException.class)
+	public void getOutOfBoundsTest() {
+		StampedList<Integer> list = new StampedList<>(new ArrayList<>());
+		list.add(0, 1);
+		list.get(1);
+	}
+
+	/**
+	 * Test method for {@link structures.stamped_list.StampedList#iterator()}.
+	 */
+	@Test
+	public void snapshotIteratorTest() {
+		StampedList<Integer> list = new StampedList<>(new ArrayList<>());
+		for(int index = 0; index < 3; index++) {
+			list.add(list.size(), index);
+		}
+
+		Iterator<Integer> iterator = list.iterator();
+		list.add(list.size(), 3);
+		list.remove(0);
+		for(int index = 0; index < 3; index++) {
+			Assertions.assertEquals(Integer.valueOf(index), iterator.next());
+		}
+		Assertions.assertFalse(iterator.hasNext(), "Snapshot saw a later write");
+	}
+
+	/**
+	 * Test method for {@link structures.stamped_list.StampedList#get(int)}.
+	 */
+	@Test
+	public void concurrentReadsTest() throws InterruptedException {
+		StampedList<Integer> list = new StampedList<>(new ArrayList<>());
+		for(int index = 0; index < 64; index++) {
+			list.add(list.size(), index);
+		}
+
+		//the writer swaps the last element in and out, so the first 63 never change
+		Thread writer = new Thread(() -> {
+			for(int round = 0; round < 20_000; round++) {
+				list.remove(list.size() - 1);
+				list.add(list.size(), 63);
+			}
+		});
+		writer.start();
+		while(writer.isAlive()) {
+			for(int index = 0; index < 63; index++) {
+				Assertions.assertEquals(Integer.valueOf(index), list.get(index));
+			}
+		}
+		writer.join();
+		Assertions.assertEquals(64, list.size());
+	}
+}